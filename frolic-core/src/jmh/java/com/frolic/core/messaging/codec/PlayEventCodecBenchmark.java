@@ -0,0 +1,84 @@
+package com.frolic.core.messaging.codec;
+
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.util.IdGenerator;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the binary play event codec against the previous Spring JSON serde
+ * Run with: mvn -pl frolic-core -Pbenchmark verify
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayEventCodecBenchmark {
+    
+    @Param({"false", "true"})
+    public boolean withMetadata;
+    
+    private PlayEventDto event;
+    private PlayEventSerializer binarySerializer;
+    private PlayEventDeserializer binaryDeserializer;
+    private JsonSerializer<PlayEventDto> jsonSerializer;
+    private JsonDeserializer<PlayEventDto> jsonDeserializer;
+    private RecordHeaders binaryHeaders;
+    private RecordHeaders jsonHeaders;
+    private byte[] binaryBytes;
+    private byte[] jsonBytes;
+    
+    @Setup
+    public void setUp() {
+        event = PlayEventDto.builder()
+            .playId(IdGenerator.generateId())
+            .gameId(IdGenerator.generateId())
+            .userId(IdGenerator.generateId())
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+            .metadata(withMetadata ? Map.of("ip", "203.0.113.7", "device", "ios") : null)
+            .build();
+        
+        binarySerializer = new PlayEventSerializer();
+        binaryDeserializer = new PlayEventDeserializer();
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new JsonDeserializer<>(PlayEventDto.class, false);
+        jsonDeserializer.addTrustedPackages("*");
+        
+        binaryHeaders = new RecordHeaders();
+        jsonHeaders = new RecordHeaders();
+        binaryBytes = binarySerializer.serialize("play-events", binaryHeaders, event);
+        jsonBytes = jsonSerializer.serialize("play-events", jsonHeaders, event);
+        System.out.printf("%nbytes/event: binary=%d json=%d%n", binaryBytes.length, jsonBytes.length);
+    }
+    
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize("play-events", new RecordHeaders(), event);
+    }
+    
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize("play-events", new RecordHeaders(), event);
+    }
+    
+    @Benchmark
+    public PlayEventDto deserializeBinary() {
+        return binaryDeserializer.deserialize("play-events", binaryHeaders, binaryBytes);
+    }
+    
+    @Benchmark
+    public PlayEventDto deserializeJson() {
+        return jsonDeserializer.deserialize("play-events", jsonHeaders, jsonBytes);
+    }
+}
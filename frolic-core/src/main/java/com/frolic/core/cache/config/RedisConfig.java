@@ -68,4 +68,12 @@ public class RedisConfig {
         script.setResultType(Long.class);
         return script;
     }
+    
+    @Bean
+    public RedisScript<String> couponAllocateScript() {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("lua/coupon_allocate.lua"));
+        script.setResultType(String.class);
+        return script;
+    }
 }
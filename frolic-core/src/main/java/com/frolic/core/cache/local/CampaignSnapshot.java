@@ -0,0 +1,14 @@
+package com.frolic.core.cache.local;
+
+import com.frolic.core.common.enums.CampaignStatus;
+import com.frolic.core.repository.entity.CampaignEntity;
+
+/**
+ * Immutable view of the campaign state read on the play path
+ */
+public record CampaignSnapshot(String id, CampaignStatus status) {
+    
+    public static CampaignSnapshot of(CampaignEntity campaign) {
+        return new CampaignSnapshot(campaign.getId(), campaign.getStatus());
+    }
+}
@@ -0,0 +1,35 @@
+package com.frolic.core.cache.local;
+
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.GameEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable view of the game configuration read on the play path
+ */
+public record GameSnapshot(
+    String id,
+    String campaignId,
+    GameStatus status,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    Integer slotGranularitySeconds,
+    Integer keySpread,
+    List<String> brandIds
+) {
+    
+    public static GameSnapshot of(GameEntity game, List<String> brandIds) {
+        return new GameSnapshot(
+            game.getId(),
+            game.getCampaignId(),
+            game.getStatus(),
+            game.getStartTime(),
+            game.getEndTime(),
+            game.getSlotGranularitySeconds(),
+            game.getKeySpread(),
+            List.copyOf(brandIds)
+        );
+    }
+}
@@ -0,0 +1,113 @@
+package com.frolic.core.cache.local;
+
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local cache of game and campaign snapshots for the play path
+ * - Entries are dropped when a lifecycle event for the game or campaign arrives from any node
+ * - A TTL bounds staleness if an event is lost
+ * 
+ * Missing games and campaigns are not cached, so a newly created one is visible on first lookup.
+ * A snapshot read while any invalidation arrives is not kept, so a reload never outlives the event.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameSnapshotCache {
+    
+    private record Entry<T>(T value, long loadedAtMillis) {}
+    
+    private final GameRepository gameRepository;
+    private final CampaignRepository campaignRepository;
+    private final GameBrandBudgetRepository budgetRepository;
+    
+    private final Map<String, Entry<GameSnapshot>> games = new ConcurrentHashMap<>();
+    private final Map<String, Entry<CampaignSnapshot>> campaigns = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    @Value("${frolic.cache.game-snapshot.ttl-ms:30000}")
+    private long ttlMs;
+    
+    /**
+     * Get a game snapshot, loading it with its brand IDs on a miss
+     */
+    public Optional<GameSnapshot> getGame(String gameId) {
+        Entry<GameSnapshot> entry = games.get(gameId);
+        if (entry != null && !isExpired(entry)) {
+            return Optional.of(entry.value());
+        }
+        
+        long generation = invalidations.get();
+        Optional<GameSnapshot> loaded = gameRepository.findById(gameId)
+            .map(game -> GameSnapshot.of(game, budgetRepository.findByGameId(gameId).stream()
+                .map(GameBrandBudgetEntity::getBrandId)
+                .toList()));
+        loaded.ifPresent(snapshot -> cache(games, gameId, snapshot, generation));
+        return loaded;
+    }
+    
+    /**
+     * Get a campaign snapshot, loading it on a miss
+     */
+    public Optional<CampaignSnapshot> getCampaign(String campaignId) {
+        Entry<CampaignSnapshot> entry = campaigns.get(campaignId);
+        if (entry != null && !isExpired(entry)) {
+            return Optional.of(entry.value());
+        }
+        
+        long generation = invalidations.get();
+        Optional<CampaignSnapshot> loaded = campaignRepository.findById(campaignId).map(CampaignSnapshot::of);
+        loaded.ifPresent(snapshot -> cache(campaigns, campaignId, snapshot, generation));
+        return loaded;
+    }
+    
+    public void invalidateGame(String gameId) {
+        invalidations.incrementAndGet();
+        if (games.remove(gameId) != null) {
+            log.debug("Invalidated game snapshot: gameId={}", gameId);
+        }
+    }
+    
+    public void invalidateCampaign(String campaignId) {
+        invalidations.incrementAndGet();
+        if (campaigns.remove(campaignId) != null) {
+            log.debug("Invalidated campaign snapshot: campaignId={}", campaignId);
+        }
+    }
+    
+    /**
+     * Drop everything, e.g. after lifecycle events may have been missed
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        games.clear();
+        campaigns.clear();
+    }
+    
+    /**
+     * Keep a loaded snapshot unless an invalidation arrived while it was being read
+     */
+    private <T> void cache(Map<String, Entry<T>> entries, String id, T snapshot, long generation) {
+        entries.put(id, new Entry<>(snapshot, System.currentTimeMillis()));
+        if (invalidations.get() != generation) {
+            entries.remove(id);
+        }
+    }
+    
+    private boolean isExpired(Entry<?> entry) {
+        return System.currentTimeMillis() - entry.loadedAtMillis() >= ttlMs;
+    }
+}
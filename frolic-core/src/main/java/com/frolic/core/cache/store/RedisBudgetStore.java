@@ -1,11 +1,21 @@
 package com.frolic.core.cache.store;
 
 import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -16,6 +26,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RedisBudgetStore {
     
+    private static final int DELETE_BATCH_SIZE = 500;
+    
     private final StringRedisTemplate stringRedisTemplate;
     
     /**
@@ -27,6 +39,17 @@ public class RedisBudgetStore {
         log.info("Initialized budget for game={}, brand={}, amount={}", gameId, brandId, budget);
     }
     
+    /**
+     * Initialize several budget keys in one MSET, overwriting any existing values
+     * 
+     * @param budgets budget key to initial budget
+     */
+    public void initializeBudgets(Map<String, String> budgets) {
+        if (!budgets.isEmpty()) {
+            stringRedisTemplate.opsForValue().multiSet(budgets);
+        }
+    }
+    
     /**
      * Get remaining budget for a game-brand combination
      */
@@ -54,6 +77,106 @@ public class RedisBudgetStore {
         log.info("Cleared budget for game={}, brand={}", gameId, brandId);
     }
     
+    /**
+     * Delete several budget keys with multi-key DELs sent in one pipeline
+     * 
+     * @return number of keys that existed
+     */
+    public long clearBudgets(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        
+        RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+                List<String> batch = keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()));
+                connection.keyCommands().del(batch.stream().map(serializer::serialize).toArray(byte[][]::new));
+            }
+            return null;
+        });
+        
+        long deleted = 0;
+        for (Object result : results) {
+            if (result instanceof Long count) {
+                deleted += count;
+            }
+        }
+        return deleted;
+    }
+    
+    /**
+     * Atomically take up to count game-brand pairs whose budget changed since the last checkpoint
+     * Members are removed from the dirty set; use {@link #markDirty} to put them back on failure
+     */
+    public List<String> popDirtyBudgets(long count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(RedisKeys.BUDGET_DIRTY_SET_KEY, count);
+        return members != null ? members : Collections.emptyList();
+    }
+    
+    /**
+     * Re-flag game-brand pairs for the next checkpoint
+     */
+    public void markDirty(Collection<String> members) {
+        if (!members.isEmpty()) {
+            stringRedisTemplate.opsForSet().add(RedisKeys.BUDGET_DIRTY_SET_KEY, members.toArray(new String[0]));
+        }
+    }
+    
+    /**
+     * Read several budget keys in one MGET; missing keys come back as null
+     */
+    public List<String> getBudgetValues(List<String> keys) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+    
+    /**
+     * Restore several budget keys in one MSETNX
+     * Nothing is written if any of the keys already exists, so live counters are never overwritten
+     * 
+     * @param budgets budget key to remaining budget
+     * @return true if the keys were written
+     */
+    public boolean restoreBudgets(Map<String, String> budgets) {
+        Boolean written = stringRedisTemplate.opsForValue().multiSetIfAbsent(budgets);
+        return Boolean.TRUE.equals(written);
+    }
+    
+    /**
+     * Overwrite budget counters owned by an in-process allocator and flag them for the next checkpoint
+     * Uses SET XX in one pipeline, so counters deleted by a game stop are never recreated
+     * 
+     * @return the checkpoints whose budget key no longer exists
+     */
+    public List<BudgetCheckpoint> writeOwnedBudgets(List<BudgetCheckpoint> budgets) {
+        RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (BudgetCheckpoint budget : budgets) {
+                connection.stringCommands().set(
+                    serializer.serialize(RedisKeys.budgetKey(budget.gameId(), budget.brandId())),
+                    serializer.serialize(String.valueOf(budget.remainingBudget())),
+                    Expiration.persistent(),
+                    SetOption.ifPresent()
+                );
+            }
+            return null;
+        });
+        
+        List<String> written = new ArrayList<>(budgets.size());
+        List<BudgetCheckpoint> missing = new ArrayList<>();
+        for (int i = 0; i < budgets.size(); i++) {
+            BudgetCheckpoint budget = budgets.get(i);
+            if (Boolean.TRUE.equals(results.get(i))) {
+                written.add(RedisKeys.budgetDirtyMember(budget.gameId(), budget.brandId()));
+            } else {
+                missing.add(budget);
+            }
+        }
+        markDirty(written);
+        return missing;
+    }
+    
     /**
      * Set expiration for budget key
      */
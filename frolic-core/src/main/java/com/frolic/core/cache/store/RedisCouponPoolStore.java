@@ -0,0 +1,60 @@
+package com.frolic.core.cache.store;
+
+import com.frolic.core.common.constant.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis store for pre-staged coupon codes, one list per brand
+ * Codes are popped by the coupon allocate script, so issuing is O(1)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCouponPoolStore {
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    /**
+     * Append claimed coupon codes to the brand's pool
+     */
+    public void pushCodes(String brandId, Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return;
+        }
+        String key = RedisKeys.couponPoolKey(brandId);
+        stringRedisTemplate.opsForList().rightPushAll(key, codes);
+        log.debug("Staged {} coupons for brand={}", codes.size(), brandId);
+    }
+    
+    /**
+     * Pop one staged code without touching any budget, for allocators that track budget themselves
+     * 
+     * @return the code, or null if the pool is empty
+     */
+    public String popCode(String brandId) {
+        return stringRedisTemplate.opsForList().leftPop(RedisKeys.couponPoolKey(brandId));
+    }
+    
+    /**
+     * Get all coupon codes currently staged for a brand
+     */
+    public List<String> getStagedCodes(String brandId) {
+        List<String> codes = stringRedisTemplate.opsForList().range(RedisKeys.couponPoolKey(brandId), 0, -1);
+        return codes != null ? codes : List.of();
+    }
+    
+    /**
+     * Get number of coupon codes currently staged for a brand
+     */
+    public long getPoolSize(String brandId) {
+        String key = RedisKeys.couponPoolKey(brandId);
+        Long size = stringRedisTemplate.opsForList().size(key);
+        return size != null ? size : 0L;
+    }
+}
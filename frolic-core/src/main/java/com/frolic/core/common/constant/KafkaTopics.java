@@ -14,6 +14,11 @@ public final class KafkaTopics {
      */
     public static final String PLAY_EVENTS = "play-events";
     
+    /**
+     * Dead-letter topic for play events that exhausted their retries
+     */
+    public static final String PLAY_EVENTS_DLT = "play-events-dlt";
+    
     /**
      * Topic for allocation results (audit trail)
      */
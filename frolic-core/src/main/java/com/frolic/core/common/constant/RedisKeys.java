@@ -34,6 +34,29 @@ public final class RedisKeys {
      */
     public static final String GAME_CONFIG_KEY_PATTERN = "game_config:%s";
     
+    /**
+     * Coupon pool key pattern: coupon_pool:brand:{brandId}
+     */
+    public static final String COUPON_POOL_KEY_PATTERN = "coupon_pool:brand:%s";
+    
+    /**
+     * Set of game-brand pairs whose budget changed since the last checkpoint
+     * Members use the pattern {gameId}:{brandId}
+     */
+    public static final String BUDGET_DIRTY_SET_KEY = "budget:dirty";
+    
+    private static final String BUDGET_DIRTY_MEMBER_PATTERN = "%s:%s";
+    
+    /**
+     * Lock held by the node that runs lifecycle scheduling
+     */
+    public static final String SCHEDULER_LEADER_LOCK_KEY = "scheduler:leader";
+    
+    /**
+     * Fencing token, incremented every time a node takes scheduler leadership
+     */
+    public static final String SCHEDULER_LEADER_EPOCH_KEY = "scheduler:leader:epoch";
+    
     /**
      * Generate budget key for a game and brand
      */
@@ -68,4 +91,18 @@ public final class RedisKeys {
     public static String gameConfigKey(String gameId) {
         return String.format(GAME_CONFIG_KEY_PATTERN, gameId);
     }
+    
+    /**
+     * Generate coupon pool key for a brand
+     */
+    public static String couponPoolKey(String brandId) {
+        return String.format(COUPON_POOL_KEY_PATTERN, brandId);
+    }
+    
+    /**
+     * Generate dirty budget set member for a game and brand
+     */
+    public static String budgetDirtyMember(String gameId, String brandId) {
+        return String.format(BUDGET_DIRTY_MEMBER_PATTERN, gameId, brandId);
+    }
 }
@@ -0,0 +1,20 @@
+package com.frolic.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an allocation outcome published to the allocation results topic
+ * Carries the play it decided so downstream writers can record it without another lookup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationResultDto {
+    
+    private PlayEventDto play;
+    private PlayResultDto result;
+}
@@ -0,0 +1,31 @@
+package com.frolic.core.common.dto;
+
+import com.frolic.core.common.enums.CouponImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for bulk coupon import progress
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponImportDto {
+    
+    private String jobId;
+    private String brandId;
+    private String fileName;
+    private CouponImportStatus status;
+    private long rowsRead;
+    private long inserted;
+    private long duplicates;
+    private long rejected;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String error;
+}
@@ -0,0 +1,56 @@
+package com.frolic.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO for one page of a keyset (cursor) paginated listing
+ * The cursor is the sort key of the last returned row; null means no more rows
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    
+    /**
+     * Response header carrying the cursor of the next page
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+    
+    private List<T> items;
+    private String nextCursor;
+    
+    /**
+     * Build a page from rows fetched with limit + 1, trimming the probe row
+     */
+    public static <T> CursorPageDto<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPageDto<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPageDto<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+    
+    /**
+     * Clamp a requested page size into [1, MAX_LIMIT]
+     */
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+    
+    /**
+     * Cursor to start after; the empty string sorts before every ID
+     */
+    public static String startAfter(String cursor) {
+        return cursor != null ? cursor : "";
+    }
+}
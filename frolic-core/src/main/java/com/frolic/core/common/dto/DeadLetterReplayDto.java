@@ -0,0 +1,20 @@
+package com.frolic.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of a dead-letter replay
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayDto {
+    
+    private int replayed;
+    private int failed;
+    private int skipped;
+}
@@ -27,6 +27,7 @@ public class GameDto {
     private LocalDateTime endTime;
     private ProbabilityType probabilityType;
     private Integer slotGranularitySeconds;
+    private Integer keySpread;
     private List<GameBrandBudgetDto> brandBudgets;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
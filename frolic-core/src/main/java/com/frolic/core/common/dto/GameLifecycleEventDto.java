@@ -0,0 +1,23 @@
+package com.frolic.core.common.dto;
+
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a game or campaign lifecycle transition
+ * Only identifies what changed; consumers reload the current state themselves
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameLifecycleEventDto {
+    
+    private GameLifecycleEventType type;
+    private String gameId;
+    private String campaignId;
+    private long occurredAtMillis;
+}
@@ -0,0 +1,39 @@
+package com.frolic.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for game play statistics served from the minute rollup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameStatsDto {
+    
+    private String gameId;
+    private long totalPlays;
+    private long totalWinners;
+    private Map<String, Long> winnersByBrand;
+    private List<MinuteStats> minutes;
+    
+    /**
+     * Plays and winners for a single minute bucket
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MinuteStats {
+        private LocalDateTime bucketStart;
+        private long plays;
+        private long winners;
+    }
+}
@@ -0,0 +1,58 @@
+package com.frolic.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a game's budget burn: remaining budget against the ideal linear curve, slot by slot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PacingReportDto {
+    
+    private String gameId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private int slotGranularitySeconds;
+    private long totalBudget;
+    
+    /**
+     * Most recent samples, oldest first
+     */
+    private List<Sample> samples;
+    
+    /**
+     * State of the game at the end of one slot
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sample {
+        private LocalDateTime slotStart;
+        private LocalDateTime slotEnd;
+        
+        /**
+         * Plays and winners allocated on this node during the slot
+         */
+        private long plays;
+        private long winners;
+        
+        /**
+         * Remaining budget across all brands, read from Redis at the end of the slot
+         */
+        private long remainingBudget;
+        
+        /**
+         * Budget that would remain at the end of the slot if it were spent evenly over the game
+         */
+        private long idealRemainingBudget;
+    }
+}
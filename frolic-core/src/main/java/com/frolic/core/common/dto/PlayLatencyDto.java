@@ -0,0 +1,47 @@
+package com.frolic.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for a game's end-to-end play latency over the last completed window
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayLatencyDto {
+    
+    private String gameId;
+    private long windowMs;
+    private long reelDurationMs;
+    
+    /**
+     * Latency from submit to each point of the pipeline, keyed by leg: decided, stored, delivered
+     */
+    private Map<String, LegLatency> legs;
+    
+    /**
+     * Percentiles of one leg, in milliseconds since submit
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LegLatency {
+        private long count;
+        private long p50Ms;
+        private long p99Ms;
+        private long p999Ms;
+        private long maxMs;
+        
+        /**
+         * Share of plays that reached this leg within the reel duration
+         */
+        private double withinReelPercent;
+    }
+}
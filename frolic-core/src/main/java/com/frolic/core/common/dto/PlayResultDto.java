@@ -25,4 +25,14 @@ public class PlayResultDto {
     private String brandName;
     private LocalDateTime timestamp;
     private String message;
+    
+    /**
+     * Epoch millis the play was submitted at, carried through for end-to-end latency
+     */
+    private Long submittedAtMillis;
+    
+    /**
+     * Epoch millis the allocator decided the play at
+     */
+    private Long allocatedAtMillis;
 }
@@ -0,0 +1,26 @@
+package com.frolic.core.common.enums;
+
+/**
+ * Represents the lifecycle status of a bulk coupon import
+ */
+public enum CouponImportStatus {
+    /**
+     * Import file received, waiting to be processed
+     */
+    QUEUED,
+    
+    /**
+     * Rows are being read and written
+     */
+    RUNNING,
+    
+    /**
+     * All rows processed
+     */
+    COMPLETED,
+    
+    /**
+     * Import aborted on an unreadable file or database error
+     */
+    FAILED
+}
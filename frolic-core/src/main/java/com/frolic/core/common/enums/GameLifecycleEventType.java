@@ -0,0 +1,26 @@
+package com.frolic.core.common.enums;
+
+/**
+ * Lifecycle transitions of games and campaigns published on the game lifecycle topic
+ */
+public enum GameLifecycleEventType {
+    GAME_CREATED,
+    GAME_UPDATED,
+    GAME_DELETED,
+    GAME_STARTED,
+    GAME_PAUSED,
+    GAME_RESUMED,
+    GAME_STOPPED,
+    CAMPAIGN_CREATED,
+    CAMPAIGN_UPDATED,
+    CAMPAIGN_DELETED,
+    CAMPAIGN_ACTIVATED,
+    CAMPAIGN_ENDED;
+    
+    /**
+     * True for transitions of a single game, false for campaign transitions
+     */
+    public boolean isGameEvent() {
+        return name().startsWith("GAME_");
+    }
+}
@@ -0,0 +1,18 @@
+package com.frolic.core.common.exception;
+
+/**
+ * Exception thrown when a request is shed because downstream processing is saturated
+ */
+public class ServiceOverloadedException extends BusinessException {
+    
+    private final long retryAfterSeconds;
+    
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super("SERVICE_OVERLOADED", message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
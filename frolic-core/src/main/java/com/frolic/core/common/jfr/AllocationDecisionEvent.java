@@ -0,0 +1,115 @@
+package com.frolic.core.common.jfr;
+
+import com.frolic.core.common.dto.PlayResultDto;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one allocation decision, spanning the decision and the writes of its result
+ * Only decisions slower than the threshold are kept by default; set
+ * {@code com.frolic.AllocationDecision#threshold=0 ms} in the recording settings to keep every play.
+ */
+@Name(AllocationDecisionEvent.NAME)
+@Label("Allocation Decision")
+@Description("Outcome of one play, its odds, and the time the allocator spent in Redis and the database")
+@Category({"Frolic", "Allocation"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class AllocationDecisionEvent extends jdk.jfr.Event {
+    
+    public static final String NAME = "com.frolic.AllocationDecision";
+    
+    public static final String WIN = "WIN";
+    public static final String LOSE = "LOSE";
+    public static final String NO_BUDGET = "NO_BUDGET";
+    public static final String COUPON_UNAVAILABLE = "COUPON_UNAVAILABLE";
+    
+    @Label("Game ID")
+    private String gameId;
+    
+    @Label("Play ID")
+    private String playId;
+    
+    @Label("Probability")
+    @Description("Base win probability of the play: remaining budget over remaining slots")
+    private double probability;
+    
+    @Label("Remaining Budget")
+    @Description("Remaining budget across the game's brands when the play was decided")
+    private int remainingBudget;
+    
+    @Label("Decision")
+    private String decision;
+    
+    @Label("Brand ID")
+    private String brandId;
+    
+    @Label("Redis Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long redisTime;
+    
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long databaseTime;
+    
+    /**
+     * Start timing a decision
+     *
+     * @return null unless a recording has this event enabled, so nothing is allocated otherwise
+     */
+    public static AllocationDecisionEvent beginIfRecording() {
+        if (!Type.TYPE.isEnabled()) {
+            return null;
+        }
+        AllocationDecisionEvent event = new AllocationDecisionEvent();
+        event.begin();
+        return event;
+    }
+    
+    public void setOdds(double probability, int remainingBudget) {
+        this.probability = probability;
+        this.remainingBudget = remainingBudget;
+    }
+    
+    public void setDecision(String decision) {
+        this.decision = decision;
+    }
+    
+    public void addRedisTime(long nanos) {
+        this.redisTime += nanos;
+    }
+    
+    public void addDatabaseTime(long nanos) {
+        this.databaseTime += nanos;
+    }
+    
+    /**
+     * End the event and commit it with the play's outcome, if it passes the threshold
+     */
+    public void complete(String playId, PlayResultDto result) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.playId = playId;
+        this.gameId = result.getGameId();
+        this.brandId = result.getBrandId();
+        if (decision == null) {
+            decision = result.isWinner() ? WIN : LOSE;
+        }
+        commit();
+    }
+    
+    /**
+     * Looked up on first use rather than during the event's own class initialization
+     */
+    private static final class Type {
+        private static final EventType TYPE = EventType.getEventType(AllocationDecisionEvent.class);
+    }
+}
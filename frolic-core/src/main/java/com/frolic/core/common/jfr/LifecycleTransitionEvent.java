@@ -0,0 +1,50 @@
+package com.frolic.core.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a game or campaign lifecycle transition, recorded on the node that made it
+ */
+@Name(LifecycleTransitionEvent.NAME)
+@Label("Lifecycle Transition")
+@Description("A game or campaign was started, paused, resumed, stopped or ended")
+@Category({"Frolic", "Lifecycle"})
+@StackTrace(false)
+public class LifecycleTransitionEvent extends jdk.jfr.Event {
+    
+    public static final String NAME = "com.frolic.LifecycleTransition";
+    
+    @Label("Transition")
+    private String transition;
+    
+    @Label("Game ID")
+    private String gameId;
+    
+    @Label("Campaign ID")
+    private String campaignId;
+    
+    /**
+     * Commit a transition if a recording has this event enabled
+     *
+     * @param gameId Game ID, null for campaign transitions
+     */
+    public static void record(String transition, String gameId, String campaignId) {
+        if (!Type.TYPE.isEnabled()) {
+            return;
+        }
+        LifecycleTransitionEvent event = new LifecycleTransitionEvent();
+        event.transition = transition;
+        event.gameId = gameId;
+        event.campaignId = campaignId;
+        event.commit();
+    }
+    
+    private static final class Type {
+        private static final EventType TYPE = EventType.getEventType(LifecycleTransitionEvent.class);
+    }
+}
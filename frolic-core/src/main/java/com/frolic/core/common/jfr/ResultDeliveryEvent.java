@@ -0,0 +1,69 @@
+package com.frolic.core.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for pushing a play's result to its client, from the end of the reel until the push
+ */
+@Name(ResultDeliveryEvent.NAME)
+@Label("Result Delivery")
+@Description("Polling the result store for a play after the reel and pushing the outcome over WebSocket")
+@Category({"Frolic", "Delivery"})
+@StackTrace(false)
+public class ResultDeliveryEvent extends jdk.jfr.Event {
+    
+    public static final String NAME = "com.frolic.ResultDelivery";
+    
+    @Label("Play ID")
+    private String playId;
+    
+    @Label("Game ID")
+    private String gameId;
+    
+    @Label("Winner")
+    private boolean winner;
+    
+    @Label("Timed Out")
+    @Description("The result was not in the store in time and the client was sent a timeout message")
+    private boolean timedOut;
+    
+    /**
+     * Start timing a delivery
+     *
+     * @return null unless a recording has this event enabled, so nothing is allocated otherwise
+     */
+    public static ResultDeliveryEvent beginIfRecording() {
+        if (!Type.TYPE.isEnabled()) {
+            return null;
+        }
+        ResultDeliveryEvent event = new ResultDeliveryEvent();
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * End the event and commit it, if it passes the threshold
+     *
+     * @param gameId Game ID, null when the delivery timed out
+     */
+    public void complete(String playId, String gameId, boolean winner, boolean timedOut) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.playId = playId;
+        this.gameId = gameId;
+        this.winner = winner;
+        this.timedOut = timedOut;
+        commit();
+    }
+    
+    private static final class Type {
+        private static final EventType TYPE = EventType.getEventType(ResultDeliveryEvent.class);
+    }
+}
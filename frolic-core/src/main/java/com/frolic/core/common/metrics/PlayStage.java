@@ -0,0 +1,69 @@
+package com.frolic.core.common.metrics;
+
+/**
+ * Stages of the play pipeline timed by {@link PlayStageMetrics}, in the order a play passes them
+ */
+public enum PlayStage {
+    /**
+     * Admission, user, game and campaign checks in submitPlay
+     */
+    VALIDATION("validation"),
+    
+    /**
+     * Kafka send until the broker acknowledges the play event
+     */
+    PUBLISH_ACK("publish-ack"),
+    
+    /**
+     * Event timestamp until an allocator consumes the play
+     */
+    DEQUEUE_DELAY("dequeue-delay"),
+    
+    /**
+     * Marking the play as processed
+     */
+    IDEMPOTENCY("idempotency"),
+    
+    /**
+     * Reading the remaining budget of every brand of the game
+     */
+    BUDGET_READ("budget-read"),
+    
+    /**
+     * Atomic budget decrement and coupon pop from the Redis pool for a winning play
+     */
+    DECREMENT("decrement"),
+    
+    /**
+     * Marking the winner's coupon issued in PostgreSQL
+     */
+    COUPON_ISSUE("coupon-issue"),
+    
+    /**
+     * Writing the result to the Redis result store
+     */
+    RESULT_STORE("result-store"),
+    
+    /**
+     * Saving the play row to PostgreSQL
+     */
+    DB_PERSIST("db-persist"),
+    
+    /**
+     * Pushing the result to the client over WebSocket
+     */
+    WEBSOCKET_DELIVERY("websocket-delivery");
+    
+    private final String tag;
+    
+    PlayStage(String tag) {
+        this.tag = tag;
+    }
+    
+    /**
+     * Value of the {@code stage} tag
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,179 @@
+package com.frolic.core.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timers for each stage of the play pipeline
+ * - {@code frolic.play.stage.all} is tagged by stage only and carries the percentile histogram,
+ *   its buckets bounded to the expected range of a stage so each stage adds a few dozen series
+ * - {@code frolic.play.stage} is tagged by stage and game and keeps only count, sum and max,
+ *   so tagging another game costs a handful of series rather than a full histogram per stage
+ * - The first {@code frolic.metrics.stages.max-tagged-games} games get their own timers, later
+ *   ones share the {@value #OTHER_GAME} timers so a burst of games cannot explode the series count
+ * - A game's timers are registered together on its first play and removed when it stops. Plays still
+ *   queued or being delivered after the stop register them again, so timers that recorded nothing
+ *   between two sweeps {@code frolic.metrics.stages.idle-ms} apart are removed as well
+ * - Recording takes a primitive duration and looks the timer up in an array, so the hot path
+ *   allocates nothing once a game's timers exist
+ */
+@Component
+public class PlayStageMetrics {
+    
+    public static final String METER_NAME = "frolic.play.stage";
+    
+    public static final String AGGREGATE_METER_NAME = "frolic.play.stage.all";
+    
+    static final String OTHER_GAME = "other";
+    
+    static final Duration MIN_EXPECTED = Duration.ofNanos(100_000);
+    
+    static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+    
+    private static final PlayStage[] STAGES = PlayStage.values();
+    
+    private final MeterRegistry meterRegistry;
+    private final Timer[] stageTimers;
+    private final Timer[] otherGameTimers;
+    private final Map<String, Timer[]> gameTimers = new ConcurrentHashMap<>();
+    private final Map<String, Long> sweptCounts = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+    private final ZoneRules zoneRules = ZoneId.systemDefault().getRules();
+    
+    @Value("${frolic.metrics.stages.max-tagged-games:100}")
+    private int maxTaggedGames;
+    
+    @Value("${frolic.metrics.stages.idle-ms:600000}")
+    private long idleMs;
+    
+    public PlayStageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.stageTimers = registerAggregate();
+        this.otherGameTimers = register(OTHER_GAME);
+    }
+    
+    /**
+     * Record a stage that started at the given {@link System#nanoTime()} reading
+     *
+     * @return the recorded duration in nanoseconds
+     */
+    public long recordSince(PlayStage stage, String gameId, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        record(stage, gameId, nanos);
+        return nanos;
+    }
+    
+    /**
+     * Record a stage duration in nanoseconds
+     */
+    public void record(PlayStage stage, String gameId, long nanos) {
+        stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        timers(gameId)[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Record how long a play waited in Kafka, from its event timestamp until now
+     */
+    public void recordDequeueDelay(String gameId, LocalDateTime eventTime) {
+        if (eventTime == null) {
+            return;
+        }
+        long eventMillis = eventTime.toEpochSecond(zoneRules.getOffset(eventTime)) * 1000
+            + eventTime.getNano() / 1_000_000;
+        long delayMillis = Math.max(0, System.currentTimeMillis() - eventMillis);
+        record(PlayStage.DEQUEUE_DELAY, gameId, TimeUnit.MILLISECONDS.toNanos(delayMillis));
+    }
+    
+    /**
+     * Remove a stopped game's timers, freeing its slot for another game
+     */
+    public void evictGame(String gameId) {
+        Timer[] timers = gameTimers.remove(gameId);
+        sweptCounts.remove(gameId);
+        if (timers != null) {
+            for (Timer timer : timers) {
+                meterRegistry.remove(timer);
+            }
+        }
+    }
+    
+    /**
+     * Number of games with their own timers
+     */
+    public int taggedGameCount() {
+        return gameTimers.size();
+    }
+    
+    /**
+     * Remove the timers of games that recorded nothing since the previous sweep, at most once per idle-ms and on one thread
+     * An idle-ms of 0 disables the sweep.
+     */
+    void sweepIdle(long nowMillis) {
+        long lastSweep = lastSweepMillis.get();
+        if (idleMs <= 0 || nowMillis - lastSweep < idleMs || !lastSweepMillis.compareAndSet(lastSweep, nowMillis)) {
+            return;
+        }
+        gameTimers.forEach((gameId, timers) -> {
+            long count = 0;
+            for (Timer timer : timers) {
+                count += timer.count();
+            }
+            Long previous = sweptCounts.put(gameId, count);
+            if (previous != null && previous == count) {
+                evictGame(gameId);
+            }
+        });
+    }
+    
+    private Timer[] timers(String gameId) {
+        if (gameId == null) {
+            return otherGameTimers;
+        }
+        sweepIdle(System.currentTimeMillis());
+        Timer[] timers = gameTimers.get(gameId);
+        if (timers != null) {
+            return timers;
+        }
+        if (gameTimers.size() >= maxTaggedGames) {
+            return otherGameTimers;
+        }
+        return gameTimers.computeIfAbsent(gameId, this::register);
+    }
+    
+    private Timer[] register(String gameId) {
+        Timer[] timers = new Timer[STAGES.length];
+        for (PlayStage stage : STAGES) {
+            timers[stage.ordinal()] = Timer.builder(METER_NAME)
+                .description("Time spent by a play in one stage of the pipeline")
+                .tag("stage", stage.tag())
+                .tag("game", gameId)
+                .register(meterRegistry);
+        }
+        return timers;
+    }
+    
+    private Timer[] registerAggregate() {
+        Timer[] timers = new Timer[STAGES.length];
+        for (PlayStage stage : STAGES) {
+            timers[stage.ordinal()] = Timer.builder(AGGREGATE_METER_NAME)
+                .description("Time spent by a play in one stage of the pipeline, across all games")
+                .tag("stage", stage.tag())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+        }
+        return timers;
+    }
+}
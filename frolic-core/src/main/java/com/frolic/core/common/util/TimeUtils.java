@@ -2,6 +2,7 @@ package com.frolic.core.common.util;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 
 /**
@@ -41,6 +42,13 @@ public final class TimeUtils {
         return Duration.between(start, end);
     }
     
+    /**
+     * Convert a local time in the system zone to epoch millis
+     */
+    public static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
     /**
      * Check if current time is between start and end
      */
@@ -0,0 +1,101 @@
+package com.frolic.core.engine.affinity;
+
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+
+import java.util.List;
+
+/**
+ * In-memory budgets of one game, held by the consumer that owns the game's partition
+ * Not thread-safe: only the owning consumer thread may read or change it
+ * 
+ * Only budgets live here; the game's schedule is read from the node's game snapshot on every play,
+ * so admin changes apply without waiting for a rebalance.
+ */
+public class GameBudgetState {
+    
+    private final List<GameBrandBudgetEntity> budgets;
+    private final int[] remaining;
+    
+    /**
+     * @param remaining remaining budget per brand, in the same order as budgets
+     */
+    public GameBudgetState(List<GameBrandBudgetEntity> budgets, int[] remaining) {
+        if (budgets.size() != remaining.length) {
+            throw new IllegalArgumentException("Expected one remaining budget per brand");
+        }
+        this.budgets = List.copyOf(budgets);
+        this.remaining = remaining.clone();
+    }
+    
+    /**
+     * Sum of remaining budget across all brands
+     */
+    public int totalRemaining() {
+        int total = 0;
+        for (int value : remaining) {
+            total += Math.max(0, value);
+        }
+        return total;
+    }
+    
+    /**
+     * Number of brands with remaining budget
+     */
+    public int availableBrandCount() {
+        int count = 0;
+        for (int value : remaining) {
+            if (value > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * The n-th brand (zero-based) among those with remaining budget
+     */
+    public GameBrandBudgetEntity availableBrand(int n) {
+        int seen = 0;
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] > 0 && seen++ == n) {
+                return budgets.get(i);
+            }
+        }
+        throw new IndexOutOfBoundsException("No available brand at position " + n);
+    }
+    
+    /**
+     * Take one unit of a brand's budget
+     * 
+     * @return remaining budget after the take, or -1 if there was none left
+     */
+    public int take(String brandId) {
+        int index = indexOf(brandId);
+        if (index < 0 || remaining[index] <= 0) {
+            return -1;
+        }
+        return --remaining[index];
+    }
+    
+    /**
+     * Return one unit taken by {@link #take} that could not be used
+     * 
+     * @return remaining budget after the return
+     */
+    public int giveBack(String brandId) {
+        int index = indexOf(brandId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown brand: " + brandId);
+        }
+        return ++remaining[index];
+    }
+    
+    private int indexOf(String brandId) {
+        for (int i = 0; i < budgets.size(); i++) {
+            if (budgets.get(i).getBrandId().equals(brandId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
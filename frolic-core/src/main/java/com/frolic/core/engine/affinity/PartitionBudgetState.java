@@ -0,0 +1,139 @@
+package com.frolic.core.engine.affinity;
+
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.PlayResultDto;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Allocation state of one play-events partition, owned by a single consumer thread
+ * - Game budgets and the recent play window are touched only by the owner, without locks
+ * - The recent play window keeps a winner's decided result next to its mark, so a redelivery can record it
+ * - Budget changes are published to a concurrent map for the background checkpointer to drain
+ * - The checkpointer reports stopped games back through a concurrent set; the owner evicts them
+ */
+public class PartitionBudgetState {
+    
+    private final int partition;
+    private final Map<String, GameBudgetState> games = new HashMap<>();
+    private final Map<String, PlayResultDto> recentPlays;
+    private final ConcurrentMap<String, BudgetCheckpoint> pendingCheckpoints = new ConcurrentHashMap<>();
+    private final Set<String> stoppedGames = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * @param dedupeWindow number of most recent play IDs remembered to drop redeliveries
+     */
+    public PartitionBudgetState(int partition, int dedupeWindow) {
+        this.partition = partition;
+        this.recentPlays = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PlayResultDto> eldest) {
+                return size() > dedupeWindow;
+            }
+        };
+    }
+    
+    public int getPartition() {
+        return partition;
+    }
+    
+    /**
+     * Remember a play; owner thread only
+     * 
+     * @return false if the play was already seen within the dedupe window
+     */
+    public boolean markProcessed(String playId) {
+        if (recentPlays.containsKey(playId)) {
+            return false;
+        }
+        recentPlays.put(playId, null);
+        return true;
+    }
+    
+    /**
+     * Keep the decided result of a remembered play, so a redelivery can record it; owner thread only
+     */
+    public void keepDecided(PlayResultDto result) {
+        recentPlays.replace(result.getPlayId(), result);
+    }
+    
+    /**
+     * Get the result kept for a remembered play, or null if none was kept; owner thread only
+     */
+    public PlayResultDto getDecided(String playId) {
+        return recentPlays.get(playId);
+    }
+    
+    /**
+     * Forget a play whose processing failed, so a replay is not dropped as a redelivery; owner thread only
+     */
+    public void forgetPlay(String playId) {
+        recentPlays.remove(playId);
+    }
+    
+    /**
+     * Get the loaded budgets of a game, or null if they must be loaded first; owner thread only
+     * Games stopped since the last call are evicted here so they are reloaded from Redis
+     */
+    public GameBudgetState getGame(String gameId) {
+        if (stoppedGames.remove(gameId)) {
+            games.remove(gameId);
+            return null;
+        }
+        return games.get(gameId);
+    }
+    
+    /**
+     * Install freshly loaded budgets of a game; owner thread only
+     */
+    public void putGame(String gameId, GameBudgetState state) {
+        games.put(gameId, state);
+    }
+    
+    /**
+     * Publish the latest remaining budget of a game-brand pair for the next checkpoint
+     */
+    public void recordBudget(String gameId, String brandId, int remainingBudget) {
+        pendingCheckpoints.put(RedisKeys.budgetDirtyMember(gameId, brandId),
+            new BudgetCheckpoint(gameId, brandId, remainingBudget));
+    }
+    
+    /**
+     * Take all pending checkpoints; values published concurrently stay for the next drain
+     */
+    public List<BudgetCheckpoint> drainPendingCheckpoints() {
+        List<BudgetCheckpoint> drained = new ArrayList<>(pendingCheckpoints.size());
+        for (Map.Entry<String, BudgetCheckpoint> entry : pendingCheckpoints.entrySet()) {
+            if (pendingCheckpoints.remove(entry.getKey(), entry.getValue())) {
+                drained.add(entry.getValue());
+            }
+        }
+        return drained;
+    }
+    
+    /**
+     * Put back checkpoints that failed to write, unless a newer value was published meanwhile
+     */
+    public void requeue(Collection<BudgetCheckpoint> checkpoints) {
+        for (BudgetCheckpoint checkpoint : checkpoints) {
+            pendingCheckpoints.putIfAbsent(
+                RedisKeys.budgetDirtyMember(checkpoint.gameId(), checkpoint.brandId()), checkpoint);
+        }
+    }
+    
+    /**
+     * Flag a game whose Redis budget no longer exists, so the owner drops its in-memory copy
+     */
+    public void markStopped(String gameId) {
+        stoppedGames.add(gameId);
+    }
+}
@@ -0,0 +1,79 @@
+package com.frolic.core.engine.concurrency;
+
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.exception.ConcurrencyException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Atomic budget decrement and coupon pop using a single Redis Lua script
+ * A winner either gets both a budget unit and a real coupon code, or neither
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AtomicCouponAllocator {
+    
+    /**
+     * Outcome of a coupon allocation attempt
+     */
+    public enum Outcome {
+        ALLOCATED,
+        NO_BUDGET,
+        POOL_EMPTY
+    }
+    
+    /**
+     * Result of a coupon allocation attempt; code is only set when ALLOCATED
+     */
+    public record Allocation(Outcome outcome, String code) {
+        
+        public boolean isAllocated() {
+            return outcome == Outcome.ALLOCATED;
+        }
+    }
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<String> couponAllocateScript;
+    
+    /**
+     * Atomically decrement one unit of budget and pop one coupon code for a game-brand combination
+     * 
+     * @param gameId Game ID
+     * @param brandId Brand ID
+     * @return allocation outcome with the popped coupon code when successful
+     */
+    public Allocation allocate(String gameId, String brandId) {
+        List<String> keys = List.of(
+            RedisKeys.budgetKey(gameId, brandId),
+            RedisKeys.couponPoolKey(brandId),
+            RedisKeys.BUDGET_DIRTY_SET_KEY
+        );
+        
+        try {
+            String code = stringRedisTemplate.execute(
+                couponAllocateScript, keys, "1", RedisKeys.budgetDirtyMember(gameId, brandId));
+            
+            if (code == null) {
+                log.debug("Insufficient budget for game={}, brand={}", gameId, brandId);
+                return new Allocation(Outcome.NO_BUDGET, null);
+            }
+            if (code.isEmpty()) {
+                log.debug("Coupon pool empty for brand={}", brandId);
+                return new Allocation(Outcome.POOL_EMPTY, null);
+            }
+            
+            log.debug("Allocated coupon for game={}, brand={}", gameId, brandId);
+            return new Allocation(Outcome.ALLOCATED, code);
+            
+        } catch (Exception e) {
+            log.error("Error executing coupon allocate script for game={}, brand={}", gameId, brandId, e);
+            throw new ConcurrencyException("Failed to allocate coupon atomically", e);
+        }
+    }
+}
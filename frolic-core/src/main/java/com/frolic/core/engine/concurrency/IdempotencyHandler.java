@@ -1,6 +1,7 @@
 package com.frolic.core.engine.concurrency;
 
 import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.PlayResultDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -36,6 +37,35 @@ public class IdempotencyHandler {
         log.debug("Marked play as processed: playId={}", playId);
     }
     
+    /**
+     * Remove the processed mark so a retry or replay can process the play again
+     */
+    public void clearProcessed(String playId) {
+        String key = RedisKeys.idempotencyKey(playId);
+        redisTemplate.delete(key);
+        log.debug("Cleared processed mark: playId={}", playId);
+    }
+    
+    /**
+     * Keep a decided result in the play's processed mark, so a retry can record it instead of skipping the play
+     */
+    public void keepDecided(PlayResultDto result) {
+        String key = RedisKeys.idempotencyKey(result.getPlayId());
+        redisTemplate.opsForValue().set(key, result, IDEMPOTENCY_TTL_HOURS, TimeUnit.HOURS);
+        log.debug("Kept decided result with processed mark: playId={}", result.getPlayId());
+    }
+    
+    /**
+     * Get the result kept in the play's processed mark
+     * 
+     * @return the kept result, or null if the play is unmarked or was only marked as processed
+     */
+    public PlayResultDto getDecided(String playId) {
+        String key = RedisKeys.idempotencyKey(playId);
+        Object value = redisTemplate.opsForValue().get(key);
+        return value instanceof PlayResultDto result ? result : null;
+    }
+    
     /**
      * Try to mark as processed atomically (set if not exists)
      * Returns true if successfully set (not processed before), false otherwise
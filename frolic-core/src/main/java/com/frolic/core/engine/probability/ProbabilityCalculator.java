@@ -5,7 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Probability calculator for reward allocation
@@ -15,8 +15,6 @@ import java.util.Random;
 @Slf4j
 public class ProbabilityCalculator {
     
-    private final Random random = new Random();
-    
     /**
      * Calculate probability for a play event
      * 
@@ -49,12 +47,12 @@ public class ProbabilityCalculator {
         
         if (pBase < 1.0) {
             // Probabilistic allocation
-            return random.nextDouble() < pBase ? 1 : 0;
+            return ThreadLocalRandom.current().nextDouble() < pBase ? 1 : 0;
         } else {
             // Deterministic + fractional allocation
             int fixedWinners = (int) Math.floor(pBase);
             double fractional = pBase - fixedWinners;
-            int additionalWinner = random.nextDouble() < fractional ? 1 : 0;
+            int additionalWinner = ThreadLocalRandom.current().nextDouble() < fractional ? 1 : 0;
             int totalAllocation = fixedWinners + additionalWinner;
             
             // Cap at remaining budget
@@ -62,6 +60,19 @@ public class ProbabilityCalculator {
         }
     }
     
+    /**
+     * Base win probability of a play, P_base = remainingBudget / remainingSlots
+     * Values of 1 or more mean the play wins floor(P_base) coupons or one more; with no slots left the whole
+     * remaining budget is allocated, reported as P_base = remainingBudget
+     */
+    public double calculateBaseProbability(int remainingBudget, LocalDateTime startTime, LocalDateTime endTime, int slotGranularitySeconds) {
+        if (remainingBudget <= 0) {
+            return 0.0;
+        }
+        long remainingSlots = calculateRemainingSlots(startTime, endTime, slotGranularitySeconds);
+        return remainingSlots > 0 ? (double) remainingBudget / remainingSlots : remainingBudget;
+    }
+    
     /**
      * Calculate remaining time slots until game end
      */
@@ -79,6 +90,6 @@ public class ProbabilityCalculator {
      * Check if allocation should be made based on probability
      */
     public boolean shouldAllocate(double probability) {
-        return random.nextDouble() < probability;
+        return ThreadLocalRandom.current().nextDouble() < probability;
     }
 }
@@ -0,0 +1,127 @@
+package com.frolic.core.engine.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory per-game, per-minute rollup of plays and winners
+ * 
+ * The allocator records every decision here with striped (LongAdder) counters,
+ * so the hot path never contends on a single cache line. Counters are cumulative;
+ * each drain reports only what changed since the previous drain, so increments
+ * racing with a drain are picked up by the next one instead of being lost.
+ */
+@Component
+@Slf4j
+public class PlayStatsAggregator {
+    
+    /**
+     * Buckets older than this (and with nothing left to flush) are evicted on drain
+     */
+    private static final long RETENTION_MINUTES = 10;
+    
+    private record BucketKey(String gameId, String brandId, LocalDateTime bucketStart) {}
+    
+    private static final class BucketCounters {
+        private final LongAdder plays = new LongAdder();
+        private final LongAdder winners = new LongAdder();
+        private long flushedPlays;
+        private long flushedWinners;
+    }
+    
+    private final Map<BucketKey, BucketCounters> buckets = new ConcurrentHashMap<>();
+    
+    /**
+     * Record the outcome of a single play
+     * 
+     * @param gameId Game ID
+     * @param timestamp Play timestamp (bucketed by minute)
+     * @param winner Whether the play won
+     * @param brandId Brand that funded the win, ignored for losers
+     */
+    public void recordPlay(String gameId, LocalDateTime timestamp, boolean winner, String brandId) {
+        LocalDateTime bucketStart = bucketOf(timestamp);
+        
+        BucketCounters gameCounters = buckets.computeIfAbsent(
+            new BucketKey(gameId, null, bucketStart), k -> new BucketCounters());
+        gameCounters.plays.increment();
+        
+        if (winner) {
+            gameCounters.winners.increment();
+            if (brandId != null) {
+                buckets.computeIfAbsent(new BucketKey(gameId, brandId, bucketStart), k -> new BucketCounters())
+                    .winners.increment();
+            }
+        }
+    }
+    
+    /**
+     * Collect counter increments since the last drain
+     * Must only be called from a single flushing thread
+     */
+    public synchronized List<PlayStatsDelta> drainDeltas() {
+        List<PlayStatsDelta> deltas = new ArrayList<>();
+        LocalDateTime evictBefore = bucketOf(LocalDateTime.now()).minusMinutes(RETENTION_MINUTES);
+        
+        Iterator<Map.Entry<BucketKey, BucketCounters>> it = buckets.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<BucketKey, BucketCounters> entry = it.next();
+            BucketKey key = entry.getKey();
+            BucketCounters counters = entry.getValue();
+            
+            long plays = counters.plays.sum();
+            long winners = counters.winners.sum();
+            long playsDelta = plays - counters.flushedPlays;
+            long winnersDelta = winners - counters.flushedWinners;
+            
+            if (playsDelta != 0 || winnersDelta != 0) {
+                deltas.add(new PlayStatsDelta(key.gameId(), key.brandId(), key.bucketStart(), playsDelta, winnersDelta));
+                counters.flushedPlays = plays;
+                counters.flushedWinners = winners;
+            } else if (key.bucketStart().isBefore(evictBefore)) {
+                it.remove();
+                // A late writer may still hold the evicted counters; pick up anything it added
+                long latePlays = counters.plays.sum() - plays;
+                long lateWinners = counters.winners.sum() - winners;
+                if (latePlays != 0 || lateWinners != 0) {
+                    deltas.add(new PlayStatsDelta(key.gameId(), key.brandId(), key.bucketStart(), latePlays, lateWinners));
+                }
+            }
+        }
+        
+        return deltas;
+    }
+    
+    /**
+     * Put deltas back after a failed flush so they are retried on the next cycle
+     */
+    public synchronized void restore(List<PlayStatsDelta> deltas) {
+        for (PlayStatsDelta delta : deltas) {
+            BucketCounters counters = buckets.computeIfAbsent(
+                new BucketKey(delta.gameId(), delta.brandId(), delta.bucketStart()), k -> new BucketCounters());
+            counters.flushedPlays -= delta.plays();
+            counters.flushedWinners -= delta.winners();
+        }
+        log.warn("Restored {} unflushed play stats deltas", deltas.size());
+    }
+    
+    /**
+     * Number of buckets currently held in memory
+     */
+    public int bucketCount() {
+        return buckets.size();
+    }
+    
+    public static LocalDateTime bucketOf(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(ChronoUnit.MINUTES);
+    }
+}
@@ -0,0 +1,19 @@
+package com.frolic.core.engine.stats;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counter increments for one game (or game-brand) minute bucket since the last flush
+ *
+ * @param gameId Game ID
+ * @param brandId Brand ID, or null for the game-level row
+ * @param bucketStart Start of the minute bucket
+ * @param plays Plays recorded in the bucket (always 0 for brand rows)
+ * @param winners Winners recorded in the bucket
+ */
+public record PlayStatsDelta(String gameId, String brandId, LocalDateTime bucketStart, long plays, long winners) {
+    
+    public boolean isBrandLevel() {
+        return brandId != null;
+    }
+}
@@ -0,0 +1,248 @@
+package com.frolic.core.messaging.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.exception.TechnicalException;
+import com.frolic.core.common.util.JsonUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link PlayEventDto} for Kafka
+ * 
+ * Layout (version 1):
+ * <pre>
+ * version:u8  flags:u8  playId  gameId  userId  status:u8  [timestamp:i64]  [metadataLength:varint metadata]
+ * </pre>
+ * - IDs are tagged: canonical lowercase UUIDs as 16 raw bytes, anything else as length-prefixed UTF-8
+ * - Status is the PlayStatus ordinal plus one, zero meaning null; new constants must be appended
+ * - Timestamp is epoch milliseconds of the LocalDateTime read as UTC, so sub-millisecond precision is dropped
+ * - Metadata is length-prefixed JSON, since its values are arbitrary
+ * 
+ * A play event with UUID IDs and no metadata is 62 bytes, against roughly 210 as JSON.
+ */
+public final class PlayEventCodec {
+    
+    /**
+     * Record header marking a value written by this codec; its value is the format version
+     */
+    public static final String CODEC_HEADER = "frolic-codec";
+    
+    public static final byte VERSION = 1;
+    
+    private static final byte FLAG_TIMESTAMP = 1;
+    private static final byte FLAG_METADATA = 1 << 1;
+    
+    private static final byte ID_NULL = 0;
+    private static final byte ID_UUID = 1;
+    private static final byte ID_STRING = 2;
+    
+    private static final PlayStatus[] STATUSES = PlayStatus.values();
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {};
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private PlayEventCodec() {
+        // Utility class
+    }
+    
+    /**
+     * Encode a play event
+     */
+    public static byte[] encode(PlayEventDto event) {
+        byte[] playId = idBytes(event.getPlayId());
+        byte[] gameId = idBytes(event.getGameId());
+        byte[] userId = idBytes(event.getUserId());
+        byte[] metadata = event.getMetadata() != null ? metadataBytes(event.getMetadata()) : null;
+        
+        byte flags = 0;
+        int size = 2 + playId.length + gameId.length + userId.length + 1;
+        if (event.getTimestamp() != null) {
+            flags |= FLAG_TIMESTAMP;
+            size += Long.BYTES;
+        }
+        if (metadata != null) {
+            flags |= FLAG_METADATA;
+            size += varIntSize(metadata.length) + metadata.length;
+        }
+        
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        buffer.put(flags);
+        buffer.put(playId);
+        buffer.put(gameId);
+        buffer.put(userId);
+        buffer.put((byte) (event.getStatus() != null ? event.getStatus().ordinal() + 1 : 0));
+        if (event.getTimestamp() != null) {
+            buffer.putLong(event.getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        if (metadata != null) {
+            putVarInt(buffer, metadata.length);
+            buffer.put(metadata);
+        }
+        return buffer.array();
+    }
+    
+    /**
+     * Decode a play event
+     * 
+     * @throws TechnicalException if the version is unknown or the payload is malformed
+     */
+    public static PlayEventDto decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new TechnicalException("KAFKA_CODEC_ERROR", "Unsupported play event version: " + version);
+            }
+            byte flags = buffer.get();
+            
+            PlayEventDto event = new PlayEventDto();
+            event.setPlayId(readId(buffer));
+            event.setGameId(readId(buffer));
+            event.setUserId(readId(buffer));
+            int status = buffer.get();
+            event.setStatus(status > 0 ? STATUSES[status - 1] : null);
+            if ((flags & FLAG_TIMESTAMP) != 0) {
+                event.setTimestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC));
+            }
+            if ((flags & FLAG_METADATA) != 0) {
+                int length = getVarInt(buffer);
+                event.setMetadata(JsonUtils.getObjectMapper()
+                    .readValue(data, buffer.position(), length, METADATA_TYPE));
+            }
+            return event;
+        } catch (TechnicalException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new TechnicalException("KAFKA_CODEC_ERROR", "Malformed play event payload", e);
+        }
+    }
+    
+    private static byte[] idBytes(String id) {
+        if (id == null) {
+            return new byte[]{ID_NULL};
+        }
+        if (isCanonicalUuid(id)) {
+            ByteBuffer buffer = ByteBuffer.allocate(17);
+            buffer.put(ID_UUID);
+            buffer.putLong(parseHex(id, 0, 8) << 32 | parseHex(id, 9, 13) << 16 | parseHex(id, 14, 18));
+            buffer.putLong(parseHex(id, 19, 23) << 48 | parseHex(id, 24, 36));
+            return buffer.array();
+        }
+        byte[] utf8 = id.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + varIntSize(utf8.length) + utf8.length);
+        buffer.put(ID_STRING);
+        putVarInt(buffer, utf8.length);
+        buffer.put(utf8);
+        return buffer.array();
+    }
+    
+    private static String readId(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case ID_NULL:
+                return null;
+            case ID_UUID:
+                return formatUuid(buffer.getLong(), buffer.getLong());
+            case ID_STRING:
+                int length = getVarInt(buffer);
+                String id = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return id;
+            default:
+                throw new TechnicalException("KAFKA_CODEC_ERROR", "Unknown ID tag: " + tag);
+        }
+    }
+    
+    /**
+     * True only for the lowercase hyphenated form, so decoding gives back the exact same string
+     */
+    private static boolean isCanonicalUuid(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static long parseHex(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value << 4 | Character.digit(s.charAt(i), 16);
+        }
+        return value;
+    }
+    
+    private static String formatUuid(long msb, long lsb) {
+        char[] out = new char[36];
+        writeHex(out, 0, msb >>> 32, 8);
+        out[8] = '-';
+        writeHex(out, 9, msb >>> 16, 4);
+        out[13] = '-';
+        writeHex(out, 14, msb, 4);
+        out[18] = '-';
+        writeHex(out, 19, lsb >>> 48, 4);
+        out[23] = '-';
+        writeHex(out, 24, lsb, 12);
+        return new String(out);
+    }
+    
+    private static void writeHex(char[] out, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+    
+    private static byte[] metadataBytes(Map<String, Object> metadata) {
+        try {
+            return JsonUtils.getObjectMapper().writeValueAsBytes(metadata);
+        } catch (IOException e) {
+            throw new TechnicalException("KAFKA_CODEC_ERROR", "Failed to encode play metadata", e);
+        }
+    }
+    
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+    
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    private static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new TechnicalException("KAFKA_CODEC_ERROR", "Malformed length prefix");
+    }
+}
@@ -0,0 +1,38 @@
+package com.frolic.core.messaging.codec;
+
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.exception.TechnicalException;
+import com.frolic.core.common.util.JsonUtils;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Kafka deserializer for play events
+ * Reads {@link PlayEventCodec} payloads, falling back to JSON for records without the codec header
+ * so events produced before the switch still drain. JSON is bound straight to PlayEventDto, so no
+ * type headers or trusted packages are involved.
+ */
+public class PlayEventDeserializer implements Deserializer<PlayEventDto> {
+    
+    @Override
+    public PlayEventDto deserialize(String topic, byte[] data) {
+        return data != null ? PlayEventCodec.decode(data) : null;
+    }
+    
+    @Override
+    public PlayEventDto deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (headers.lastHeader(PlayEventCodec.CODEC_HEADER) != null) {
+            return PlayEventCodec.decode(data);
+        }
+        try {
+            return JsonUtils.getObjectMapper().readValue(data, PlayEventDto.class);
+        } catch (IOException e) {
+            throw new TechnicalException("KAFKA_CODEC_ERROR", "Malformed JSON play event", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.frolic.core.messaging.codec;
+
+import com.frolic.core.common.dto.PlayEventDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka serializer writing play events with {@link PlayEventCodec}
+ * Marks each record with the codec header and records the encoded size per event
+ */
+public class PlayEventSerializer implements Serializer<PlayEventDto> {
+    
+    private static final byte[] VERSION_HEADER = {PlayEventCodec.VERSION};
+    
+    // Kafka instantiates serializers itself, so use the global registry Spring Boot feeds into
+    private final DistributionSummary bytesPerEvent = DistributionSummary.builder("frolic.kafka.play-event.bytes")
+        .description("Encoded size of a play event on the wire")
+        .baseUnit("bytes")
+        .register(Metrics.globalRegistry);
+    
+    @Override
+    public byte[] serialize(String topic, PlayEventDto data) {
+        if (data == null) {
+            return null;
+        }
+        byte[] bytes = PlayEventCodec.encode(data);
+        bytesPerEvent.record(bytes.length);
+        return bytes;
+    }
+    
+    @Override
+    public byte[] serialize(String topic, Headers headers, PlayEventDto data) {
+        if (data != null) {
+            // Records re-sent to retry topics and the DLT already carry the header
+            headers.remove(PlayEventCodec.CODEC_HEADER);
+            headers.add(PlayEventCodec.CODEC_HEADER, VERSION_HEADER);
+        }
+        return serialize(topic, data);
+    }
+}
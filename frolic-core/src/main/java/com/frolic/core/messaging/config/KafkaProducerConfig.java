@@ -1,43 +1,89 @@
 package com.frolic.core.messaging.config;
 
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.messaging.codec.PlayEventSerializer;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Kafka producer configuration
+ * Play events use the compact binary codec; any other payload is written as JSON
+ * 
+ * The exactly-once allocation mode adds a transactional producer for the allocator, used only inside
+ * consumer transactions; everything else keeps using the plain template.
  */
 @Configuration
 public class KafkaProducerConfig {
     
+    public static final String TRANSACTIONAL_PRODUCER_FACTORY = "transactionalProducerFactory";
+    public static final String TRANSACTIONAL_KAFKA_TEMPLATE = "transactionalKafkaTemplate";
+    
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
     
+    @Value("${frolic.kafka.exactly-once.transaction-id-prefix:frolic-allocator-}")
+    private String transactionIdPrefix;
+    
     @Bean
+    @Primary
     public ProducerFactory<String, Object> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfig(), new StringSerializer(), valueSerializer());
+    }
+    
+    @Bean
+    @Primary
+    public KafkaTemplate<String, Object> kafkaTemplate() {
+        return new KafkaTemplate<>(producerFactory());
+    }
+    
+    @Bean(TRANSACTIONAL_PRODUCER_FACTORY)
+    @ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "exactly-once")
+    public ProducerFactory<String, Object> transactionalProducerFactory() {
+        Map<String, Object> config = producerConfig();
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        
+        DefaultKafkaProducerFactory<String, Object> factory =
+            new DefaultKafkaProducerFactory<>(config, new StringSerializer(), valueSerializer());
+        factory.setTransactionIdPrefix(transactionIdPrefix);
+        return factory;
+    }
+    
+    @Bean(TRANSACTIONAL_KAFKA_TEMPLATE)
+    @ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "exactly-once")
+    public KafkaTemplate<String, Object> transactionalKafkaTemplate() {
+        return new KafkaTemplate<>(transactionalProducerFactory());
+    }
+    
+    private Map<String, Object> producerConfig() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         config.put(ProducerConfig.LINGER_MS_CONFIG, 1);
         config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
-        
-        return new DefaultKafkaProducerFactory<>(config);
+        return config;
     }
     
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    private Serializer<Object> valueSerializer() {
+        // Exact type first, then the JSON catch-all
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(PlayEventDto.class, new PlayEventSerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>());
+        return new DelegatingByTypeSerializer(valueSerializers, true);
     }
 }
@@ -0,0 +1,71 @@
+package com.frolic.core.messaging.producer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.GameLifecycleEventDto;
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import com.frolic.core.common.jfr.LifecycleTransitionEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Kafka producer for game and campaign lifecycle events
+ * Inside a transaction the event is sent after commit, so nodes that reload on receipt see the new state
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameLifecycleProducer {
+    
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    
+    /**
+     * Publish a game transition, keyed by game ID so a game's events stay in order
+     */
+    public void publishGameEvent(GameLifecycleEventType type, String gameId, String campaignId) {
+        publish(gameId, GameLifecycleEventDto.builder()
+            .type(type)
+            .gameId(gameId)
+            .campaignId(campaignId)
+            .occurredAtMillis(System.currentTimeMillis())
+            .build());
+    }
+    
+    /**
+     * Publish a campaign transition, keyed by campaign ID
+     */
+    public void publishCampaignEvent(GameLifecycleEventType type, String campaignId) {
+        publish(campaignId, GameLifecycleEventDto.builder()
+            .type(type)
+            .campaignId(campaignId)
+            .occurredAtMillis(System.currentTimeMillis())
+            .build());
+    }
+    
+    private void publish(String key, GameLifecycleEventDto event) {
+        LifecycleTransitionEvent.record(event.getType().name(), event.getGameId(), event.getCampaignId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(key, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(key, event);
+            }
+        });
+    }
+    
+    private void send(String key, GameLifecycleEventDto event) {
+        kafkaTemplate.send(KafkaTopics.GAME_LIFECYCLE, key, event).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("Failed to publish lifecycle event: type={}, key={}", event.getType(), key, ex);
+            } else {
+                log.debug("Published lifecycle event: type={}, key={}", event.getType(), key);
+            }
+        });
+    }
+}
@@ -2,6 +2,8 @@ package com.frolic.core.messaging.producer;
 
 import com.frolic.core.common.constant.KafkaTopics;
 import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.metrics.PlayStage;
+import com.frolic.core.common.metrics.PlayStageMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -19,19 +21,33 @@ import java.util.concurrent.CompletableFuture;
 public class PlayEventProducer {
     
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PlayKeySpreader keySpreader;
+    private final PlayStageMetrics stageMetrics;
     
     /**
-     * Publish play event to Kafka
-     * Uses gameId as partition key for ordering
+     * Publish play event to Kafka with an automatically sized key spread
      */
     public void publishPlayEvent(PlayEventDto event) {
+        publishPlayEvent(event, null);
+    }
+    
+    /**
+     * Publish play event to Kafka
+     * Keyed by gameId, or by one of its sub-keys while the game is spread over several partitions
+     * 
+     * @param keySpread Sub-key count configured for the game, or null to size it from the observed rate
+     */
+    public void publishPlayEvent(PlayEventDto event, Integer keySpread) {
+        String key = keySpreader.keyFor(event.getGameId(), event.getPlayId(), keySpread);
+        long sendNanos = System.nanoTime();
         CompletableFuture<SendResult<String, Object>> future = 
-            kafkaTemplate.send(KafkaTopics.PLAY_EVENTS, event.getGameId(), event);
+            kafkaTemplate.send(KafkaTopics.PLAY_EVENTS, key, event);
         
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.debug("Published play event: playId={}, gameId={}, partition={}", 
-                    event.getPlayId(), event.getGameId(), result.getRecordMetadata().partition());
+                stageMetrics.recordSince(PlayStage.PUBLISH_ACK, event.getGameId(), sendNanos);
+                log.debug("Published play event: playId={}, gameId={}, key={}, partition={}", 
+                    event.getPlayId(), event.getGameId(), key, result.getRecordMetadata().partition());
             } else {
                 log.error("Failed to publish play event: playId={}", event.getPlayId(), ex);
             }
@@ -0,0 +1,174 @@
+package com.frolic.core.messaging.producer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses the Kafka key for a play event so a hot game can use more than one partition
+ * - Sub-key 0 is the bare game ID, sub-key i is gameId#i, so unspread games keep their partition
+ * - A play always maps to the same sub-key, so redeliveries and replays land where the original did
+ * - K is the game's configured key spread, or derived from its observed publish rate when unset
+ * - The observed rate is this node's own: with N ingestion nodes behind a load balancer each sees
+ *   about 1/N of a game's plays, so {@code events-per-sub-key} is a per-node threshold and should be
+ *   set to the cluster-wide rate per partition divided by the node count
+ * - A game's rate is dropped when it stops, and any game idle for {@code idle-ms} is swept so the
+ *   map only holds games that are still publishing
+ *
+ * Spreading is only safe while the allocator is correct with several consumers on one game. Redis
+ * mode is: budgets are decremented atomically in Lua and idempotency is a shared SETNX. Partition-
+ * affine mode keeps each game's budgets in the memory of a single partition owner, so it always uses K=1.
+ */
+@Component
+@Slf4j
+public class PlayKeySpreader {
+    
+    static final String SUB_KEY_SEPARATOR = "#";
+    
+    private static final String PARTITION_AFFINE_MODE = "partition-affine";
+    
+    private final Map<String, GameRate> rates = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+    
+    @Value("${frolic.kafka.key-spread.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${frolic.kafka.key-spread.events-per-sub-key:500}")
+    private double eventsPerSubKey;
+    
+    @Value("${frolic.kafka.key-spread.max-sub-keys:8}")
+    private int maxSubKeys;
+    
+    @Value("${frolic.kafka.key-spread.window-ms:1000}")
+    private long windowMs;
+    
+    @Value("${frolic.kafka.key-spread.idle-ms:600000}")
+    private long idleMs;
+    
+    @Value("${frolic.allocation.mode:redis}")
+    private String allocationMode;
+    
+    /**
+     * Key for a play, counting it towards its game's publish rate
+     *
+     * @param configuredSpread Per-game sub-key count, or null to size it from the observed rate
+     */
+    public String keyFor(String gameId, String playId, Integer configuredSpread) {
+        return keyFor(gameId, playId, configuredSpread, System.currentTimeMillis());
+    }
+    
+    String keyFor(String gameId, String playId, Integer configuredSpread, long nowMillis) {
+        if (!spreadingAllowed()) {
+            return gameId;
+        }
+        
+        sweepIdle(nowMillis);
+        GameRate rate = rates.computeIfAbsent(gameId, id -> new GameRate(id, nowMillis));
+        rate.record(nowMillis);
+        
+        int spread = configuredSpread != null && configuredSpread > 0 ? configuredSpread : rate.autoSpread;
+        rate.currentSpread = spread;
+        return subKey(gameId, Math.floorMod(playId.hashCode(), spread));
+    }
+    
+    /**
+     * Forget a stopped game's publish rate
+     */
+    public void evictGame(String gameId) {
+        rates.remove(gameId);
+    }
+    
+    /**
+     * Number of sub-keys the game was last published under
+     */
+    public int currentSpread(String gameId) {
+        GameRate rate = rates.get(gameId);
+        return rate == null || !spreadingAllowed() ? 1 : rate.currentSpread;
+    }
+    
+    /**
+     * All keys the game was last published under
+     */
+    public List<String> keysFor(String gameId) {
+        int spread = currentSpread(gameId);
+        List<String> keys = new ArrayList<>(spread);
+        for (int i = 0; i < spread; i++) {
+            keys.add(subKey(gameId, i));
+        }
+        return keys;
+    }
+    
+    /**
+     * Key of the given sub-key index of a game
+     */
+    public static String subKey(String gameId, int index) {
+        return index == 0 ? gameId : gameId + SUB_KEY_SEPARATOR + index;
+    }
+    
+    /**
+     * Drop games with no play for idle-ms, at most once per idle-ms and on one thread
+     * A game's window only rolls on its next play, so its window start is at most one window older than its last play
+     */
+    private void sweepIdle(long nowMillis) {
+        long lastSweep = lastSweepMillis.get();
+        if (nowMillis - lastSweep < idleMs || !lastSweepMillis.compareAndSet(lastSweep, nowMillis)) {
+            return;
+        }
+        rates.values().removeIf(rate -> nowMillis - rate.windowStart > idleMs);
+    }
+    
+    /**
+     * Number of games whose publish rate is tracked
+     */
+    int trackedGameCount() {
+        return rates.size();
+    }
+    
+    private boolean spreadingAllowed() {
+        return enabled && !PARTITION_AFFINE_MODE.equals(allocationMode);
+    }
+    
+    /**
+     * Publish rate of one game over a tumbling window
+     */
+    private final class GameRate {
+        
+        private final String gameId;
+        private final LongAdder count = new LongAdder();
+        private volatile long windowStart;
+        private volatile int autoSpread = 1;
+        private volatile int currentSpread = 1;
+        
+        private GameRate(String gameId, long nowMillis) {
+            this.gameId = gameId;
+            this.windowStart = nowMillis;
+        }
+        
+        private void record(long nowMillis) {
+            count.increment();
+            if (nowMillis - windowStart < windowMs) {
+                return;
+            }
+            synchronized (this) {
+                long elapsed = nowMillis - windowStart;
+                if (elapsed < windowMs) {
+                    return;
+                }
+                double perSecond = count.sumThenReset() * 1000.0 / elapsed;
+                int spread = (int) Math.max(1, Math.min(maxSubKeys, Math.ceil(perSecond / eventsPerSubKey)));
+                if (spread != autoSpread) {
+                    log.info("Resized play key spread: gameId={}, spread={}, ratePerSecond={}", gameId, spread, Math.round(perSecond));
+                }
+                autoSpread = spread;
+                windowStart = nowMillis;
+            }
+        }
+    }
+}
@@ -1,22 +1,27 @@
 package com.frolic.core.repository.entity;
 
+import com.frolic.core.common.util.IdGenerator;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 /**
  * Base entity class with common audit fields
+ * Implements Persistable so save() on a freshly built entity with an assigned ID issues a plain
+ * INSERT (persist) instead of a merge that first SELECTs the row
  */
 @MappedSuperclass
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Persistable<String> {
     
     @Id
     @Column(name = "id", nullable = false, length = 36)
@@ -30,10 +35,23 @@ public abstract class BaseEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * True until the entity has been persisted or loaded
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+    
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+    
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = java.util.UUID.randomUUID().toString();
+            id = IdGenerator.generateId();
         }
         LocalDateTime now = LocalDateTime.now();
         if (createdAt == null) {
@@ -46,4 +64,10 @@ public abstract class BaseEntity {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+    
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
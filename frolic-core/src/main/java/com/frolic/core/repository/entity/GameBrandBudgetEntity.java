@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 /**
  * Game brand budget allocation entity
  */
@@ -36,6 +38,12 @@ public class GameBrandBudgetEntity extends BaseEntity {
     @Column(name = "remaining_budget", nullable = false)
     private Integer remainingBudget;
     
+    /**
+     * When remaining_budget was last copied from Redis by the checkpointer
+     */
+    @Column(name = "checkpointed_at")
+    private LocalDateTime checkpointedAt;
+    
     @PrePersist
     @PreUpdate
     protected void calculateRemainingBudget() {
@@ -0,0 +1,40 @@
+package com.frolic.core.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-game, per-brand, per-minute rollup of winners (read model)
+ */
+@Entity
+@Table(name = "game_brand_stats")
+@IdClass(GameBrandStatsId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameBrandStatsEntity {
+    
+    @Id
+    @Column(name = "game_id", nullable = false, length = 36)
+    private String gameId;
+    
+    @Id
+    @Column(name = "brand_id", nullable = false, length = 36)
+    private String brandId;
+    
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "winners", nullable = false)
+    private long winners;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
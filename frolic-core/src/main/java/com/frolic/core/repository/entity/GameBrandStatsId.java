@@ -0,0 +1,25 @@
+package com.frolic.core.repository.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Composite key for game-brand minute stats
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GameBrandStatsId implements Serializable {
+    
+    private String gameId;
+    private String brandId;
+    private LocalDateTime bucketStart;
+}
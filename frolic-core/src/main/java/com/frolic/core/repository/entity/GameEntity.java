@@ -50,6 +50,12 @@ public class GameEntity extends BaseEntity {
     @Column(name = "slot_granularity_seconds", nullable = false)
     private Integer slotGranularitySeconds;
     
+    /**
+     * Number of Kafka sub-keys plays are spread over; null sizes it from the observed play rate
+     */
+    @Column(name = "key_spread")
+    private Integer keySpread;
+    
     @OneToMany(mappedBy = "gameId", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<GameBrandBudgetEntity> brandBudgets = new ArrayList<>();
 }
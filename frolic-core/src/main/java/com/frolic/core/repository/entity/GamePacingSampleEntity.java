@@ -0,0 +1,49 @@
+package com.frolic.core.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Remaining budget against the ideal linear burn at the end of one slot of a game
+ * Plays and winners are summed over every node that sampled the slot; the budgets are global
+ */
+@Entity
+@Table(name = "game_pacing_samples")
+@IdClass(GamePacingSampleId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GamePacingSampleEntity {
+    
+    @Id
+    @Column(name = "game_id", nullable = false, length = 36)
+    private String gameId;
+    
+    @Id
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+    
+    @Column(name = "slot_end", nullable = false)
+    private LocalDateTime slotEnd;
+    
+    @Column(name = "plays", nullable = false)
+    private long plays;
+    
+    @Column(name = "winners", nullable = false)
+    private long winners;
+    
+    @Column(name = "remaining_budget", nullable = false)
+    private long remainingBudget;
+    
+    @Column(name = "ideal_remaining_budget", nullable = false)
+    private long idealRemainingBudget;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
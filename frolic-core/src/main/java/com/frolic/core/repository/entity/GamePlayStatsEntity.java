@@ -0,0 +1,40 @@
+package com.frolic.core.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-game, per-minute rollup of plays and winners (read model)
+ * Maintained incrementally by the allocator, never written row-by-row per play
+ */
+@Entity
+@Table(name = "game_play_stats")
+@IdClass(GamePlayStatsId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GamePlayStatsEntity {
+    
+    @Id
+    @Column(name = "game_id", nullable = false, length = 36)
+    private String gameId;
+    
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "plays", nullable = false)
+    private long plays;
+    
+    @Column(name = "winners", nullable = false)
+    private long winners;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.frolic.core.repository.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Composite key for game minute stats
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GamePlayStatsId implements Serializable {
+    
+    private String gameId;
+    private LocalDateTime bucketStart;
+}
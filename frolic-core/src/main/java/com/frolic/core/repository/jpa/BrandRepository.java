@@ -1,7 +1,11 @@
 package com.frolic.core.repository.jpa;
 
+import com.frolic.core.common.dto.BrandDto;
 import com.frolic.core.repository.entity.BrandEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +22,8 @@ public interface BrandRepository extends JpaRepository<BrandEntity, String> {
     List<BrandEntity> findByActive(boolean active);
     
     List<BrandEntity> findByActiveOrderByNameAsc(boolean active);
+    
+    @Query("SELECT new com.frolic.core.common.dto.BrandDto(b.id, b.name, b.description, b.logoUrl, b.active, b.createdAt, b.updatedAt) " +
+           "FROM BrandEntity b WHERE b.id > :after ORDER BY b.id ASC")
+    List<BrandDto> findPageAfter(@Param("after") String after, Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.frolic.core.repository.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom repository fragment for checkpointing Redis budgets into PostgreSQL
+ */
+public interface BudgetCheckpointRepository {
+    
+    /**
+     * Remaining budget of one game-brand pair as read from Redis
+     */
+    record BudgetCheckpoint(String gameId, String brandId, int remainingBudget) {}
+    
+    /**
+     * Write all checkpoints in a single statement, updating remaining/allocated budget and checkpointed_at
+     * 
+     * @return number of budget rows updated
+     */
+    int applyCheckpoints(List<BudgetCheckpoint> checkpoints, LocalDateTime checkpointedAt);
+}
@@ -0,0 +1,56 @@
+package com.frolic.core.repository.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of budget checkpoints using one UPDATE ... FROM unnest() per cycle
+ */
+@RequiredArgsConstructor
+public class BudgetCheckpointRepositoryImpl implements BudgetCheckpointRepository {
+    
+    private static final String CHECKPOINT_SQL =
+        "UPDATE game_brand_budgets b SET " +
+        "remaining_budget = t.remaining, " +
+        "allocated_budget = b.total_budget - t.remaining, " +
+        "checkpointed_at = ?, updated_at = ? " +
+        "FROM unnest(?::varchar[], ?::varchar[], ?::int[]) AS t(game_id, brand_id, remaining) " +
+        "WHERE b.game_id = t.game_id AND b.brand_id = t.brand_id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public int applyCheckpoints(List<BudgetCheckpoint> checkpoints, LocalDateTime checkpointedAt) {
+        if (checkpoints.isEmpty()) {
+            return 0;
+        }
+        
+        int size = checkpoints.size();
+        String[] gameIds = new String[size];
+        String[] brandIds = new String[size];
+        Integer[] remaining = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            BudgetCheckpoint checkpoint = checkpoints.get(i);
+            gameIds[i] = checkpoint.gameId();
+            brandIds[i] = checkpoint.brandId();
+            remaining[i] = checkpoint.remainingBudget();
+        }
+        
+        Timestamp checkpointTime = Timestamp.valueOf(checkpointedAt);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(CHECKPOINT_SQL);
+            ps.setTimestamp(1, checkpointTime);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, con.createArrayOf("varchar", gameIds));
+            ps.setArray(4, con.createArrayOf("varchar", brandIds));
+            ps.setArray(5, con.createArrayOf("int4", remaining));
+            return ps;
+        });
+    }
+}
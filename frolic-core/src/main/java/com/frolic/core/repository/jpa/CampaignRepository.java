@@ -1,7 +1,9 @@
 package com.frolic.core.repository.jpa;
 
+import com.frolic.core.common.dto.CampaignDto;
 import com.frolic.core.common.enums.CampaignStatus;
 import com.frolic.core.repository.entity.CampaignEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +27,8 @@ public interface CampaignRepository extends JpaRepository<CampaignEntity, String
     
     @Query("SELECT c FROM CampaignEntity c WHERE c.status = com.frolic.core.common.enums.CampaignStatus.ACTIVE AND c.endDate < :now")
     List<CampaignEntity> findActiveCampaignsReadyToEnd(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT new com.frolic.core.common.dto.CampaignDto(c.id, c.name, c.description, c.status, c.startDate, c.endDate, c.createdAt, c.updatedAt) " +
+           "FROM CampaignEntity c WHERE c.id > :after ORDER BY c.id ASC")
+    List<CampaignDto> findPageAfter(@Param("after") String after, Pageable pageable);
 }
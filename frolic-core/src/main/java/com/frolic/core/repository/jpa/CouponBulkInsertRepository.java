@@ -0,0 +1,22 @@
+package com.frolic.core.repository.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom repository fragment for bulk coupon imports
+ */
+public interface CouponBulkInsertRepository {
+    
+    /**
+     * A single coupon row read from an import file
+     */
+    record CouponRow(String code, Double value, LocalDateTime expiresAt, String description) {}
+    
+    /**
+     * Insert a batch of AVAILABLE coupons for a brand in one statement, skipping codes that already exist
+     * 
+     * @return number of rows actually inserted
+     */
+    int insertIgnoringDuplicates(String brandId, List<CouponRow> rows);
+}
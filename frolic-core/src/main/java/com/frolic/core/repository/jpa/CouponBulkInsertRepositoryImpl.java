@@ -0,0 +1,65 @@
+package com.frolic.core.repository.jpa;
+
+import com.frolic.core.common.util.IdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of bulk coupon inserts
+ * Each batch is sent as column arrays expanded with unnest(), so a batch costs one round trip and one statement
+ * while ON CONFLICT (code) DO NOTHING deduplicates against the unique code index
+ */
+@RequiredArgsConstructor
+public class CouponBulkInsertRepositoryImpl implements CouponBulkInsertRepository {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO coupons (id, code, brand_id, status, value, expires_at, description, created_at, updated_at) " +
+        "SELECT t.id, t.code, ?, 'AVAILABLE', t.value, t.expires_at, t.description, ?, ? " +
+        "FROM unnest(?::varchar[], ?::varchar[], ?::float8[], ?::timestamp[], ?::text[]) " +
+        "AS t(id, code, value, expires_at, description) " +
+        "ON CONFLICT (code) DO NOTHING";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public int insertIgnoringDuplicates(String brandId, List<CouponRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        
+        int size = rows.size();
+        String[] ids = new String[size];
+        String[] codes = new String[size];
+        Double[] values = new Double[size];
+        Timestamp[] expiresAt = new Timestamp[size];
+        String[] descriptions = new String[size];
+        
+        for (int i = 0; i < size; i++) {
+            CouponRow row = rows.get(i);
+            ids[i] = IdGenerator.generateId();
+            codes[i] = row.code();
+            values[i] = row.value();
+            expiresAt[i] = row.expiresAt() != null ? Timestamp.valueOf(row.expiresAt()) : null;
+            descriptions[i] = row.description();
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL);
+            ps.setString(1, brandId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setArray(4, con.createArrayOf("varchar", ids));
+            ps.setArray(5, con.createArrayOf("varchar", codes));
+            ps.setArray(6, con.createArrayOf("float8", values));
+            ps.setArray(7, con.createArrayOf("timestamp", expiresAt));
+            ps.setArray(8, con.createArrayOf("text", descriptions));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.frolic.core.repository.jpa;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for claiming coupons into the Redis pool
+ */
+public interface CouponClaimRepository {
+    
+    /**
+     * Move up to limit AVAILABLE coupons of a brand to RESERVED and return their codes
+     * Uses FOR UPDATE SKIP LOCKED so concurrent refillers never claim the same rows
+     */
+    List<String> claimAvailableCodes(String brandId, int limit);
+}
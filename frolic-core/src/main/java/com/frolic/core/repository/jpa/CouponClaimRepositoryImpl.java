@@ -0,0 +1,29 @@
+package com.frolic.core.repository.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of coupon claiming using UPDATE ... RETURNING over a SKIP LOCKED subselect
+ */
+@RequiredArgsConstructor
+public class CouponClaimRepositoryImpl implements CouponClaimRepository {
+    
+    private static final String CLAIM_SQL =
+        "UPDATE coupons SET status = 'RESERVED', updated_at = ? WHERE id IN (" +
+        "SELECT id FROM coupons WHERE brand_id = ? AND status = 'AVAILABLE' " +
+        "LIMIT ? FOR UPDATE SKIP LOCKED) " +
+        "RETURNING code";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<String> claimAvailableCodes(String brandId, int limit) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.queryForList(CLAIM_SQL, String.class, now, brandId, limit);
+    }
+}
@@ -3,10 +3,13 @@ package com.frolic.core.repository.jpa;
 import com.frolic.core.common.enums.CouponStatus;
 import com.frolic.core.repository.entity.CouponEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +17,16 @@ import java.util.Optional;
  * Repository for Coupon entity
  */
 @Repository
-public interface CouponRepository extends JpaRepository<CouponEntity, String> {
+public interface CouponRepository extends JpaRepository<CouponEntity, String>, CouponClaimRepository, CouponBulkInsertRepository {
+    
+    /**
+     * Reserved coupon code projection
+     */
+    interface ReservedCoupon {
+        String getBrandId();
+        
+        String getCode();
+    }
     
     Optional<CouponEntity> findByCode(String code);
     
@@ -22,8 +34,24 @@ public interface CouponRepository extends JpaRepository<CouponEntity, String> {
     
     List<CouponEntity> findByUserId(String userId);
     
-    @Query("SELECT c FROM CouponEntity c WHERE c.brandId = :brandId AND c.status = :status ORDER BY RANDOM() LIMIT 1")
-    Optional<CouponEntity> findRandomAvailableCoupon(@Param("brandId") String brandId, @Param("status") CouponStatus status);
+    @Modifying
+    @Query("UPDATE CouponEntity c SET c.status = com.frolic.core.common.enums.CouponStatus.ISSUED, c.userId = :userId, " +
+           "c.issuedAt = :issuedAt, c.updatedAt = :issuedAt " +
+           "WHERE c.code = :code AND c.status = com.frolic.core.common.enums.CouponStatus.RESERVED")
+    int markIssued(@Param("code") String code, @Param("userId") String userId, @Param("issuedAt") LocalDateTime issuedAt);
     
     long countByBrandIdAndStatus(String brandId, CouponStatus status);
+    
+    @Query("SELECT c.brandId AS brandId, c.code AS code FROM CouponEntity c " +
+           "WHERE c.status = com.frolic.core.common.enums.CouponStatus.RESERVED")
+    List<ReservedCoupon> findReservedCoupons();
+    
+    /**
+     * Return RESERVED coupons that no play recorded back to AVAILABLE
+     */
+    @Modifying
+    @Query("UPDATE CouponEntity c SET c.status = com.frolic.core.common.enums.CouponStatus.AVAILABLE, c.updatedAt = :now " +
+           "WHERE c.code IN :codes AND c.status = com.frolic.core.common.enums.CouponStatus.RESERVED " +
+           "AND NOT EXISTS (SELECT p.id FROM PlayEventEntity p WHERE p.couponId = c.code)")
+    int releaseUnissued(@Param("codes") Collection<String> codes, @Param("now") LocalDateTime now);
 }
@@ -1,5 +1,6 @@
 package com.frolic.core.repository.jpa;
 
+import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.repository.entity.GameBrandBudgetEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +16,17 @@ import java.util.Optional;
  * Repository for GameBrandBudget entity
  */
 @Repository
-public interface GameBrandBudgetRepository extends JpaRepository<GameBrandBudgetEntity, String> {
+public interface GameBrandBudgetRepository extends JpaRepository<GameBrandBudgetEntity, String>, BudgetCheckpointRepository {
     
     List<GameBrandBudgetEntity> findByGameId(String gameId);
     
+    List<GameBrandBudgetEntity> findByGameIdIn(Collection<String> gameIds);
+    
     Optional<GameBrandBudgetEntity> findByGameIdAndBrandId(String gameId, String brandId);
     
+    @Query("SELECT DISTINCT b.brandId FROM GameBrandBudgetEntity b, GameEntity g WHERE g.id = b.gameId AND g.status = :status")
+    List<String> findBrandIdsByGameStatus(@Param("status") GameStatus status);
+    
     @Modifying
     @Query("UPDATE GameBrandBudgetEntity g SET g.allocatedBudget = g.allocatedBudget + :amount WHERE g.gameId = :gameId AND g.brandId = :brandId")
     int incrementAllocatedBudget(@Param("gameId") String gameId, @Param("brandId") String brandId, @Param("amount") int amount);
@@ -0,0 +1,29 @@
+package com.frolic.core.repository.jpa;
+
+import com.frolic.core.repository.entity.GameBrandStatsEntity;
+import com.frolic.core.repository.entity.GameBrandStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the per-game, per-brand minute stats rollup
+ */
+@Repository
+public interface GameBrandStatsRepository extends JpaRepository<GameBrandStatsEntity, GameBrandStatsId> {
+    
+    /**
+     * Winners per brand projection
+     */
+    interface BrandWinners {
+        String getBrandId();
+        
+        Long getWinners();
+    }
+    
+    @Query("SELECT s.brandId AS brandId, SUM(s.winners) AS winners FROM GameBrandStatsEntity s WHERE s.gameId = :gameId GROUP BY s.brandId")
+    List<BrandWinners> sumWinnersByBrand(@Param("gameId") String gameId);
+}
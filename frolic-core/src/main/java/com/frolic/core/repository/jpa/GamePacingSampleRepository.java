@@ -0,0 +1,17 @@
+package com.frolic.core.repository.jpa;
+
+import com.frolic.core.repository.entity.GamePacingSampleEntity;
+import com.frolic.core.repository.entity.GamePacingSampleId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for persisted pacing samples
+ */
+@Repository
+public interface GamePacingSampleRepository extends JpaRepository<GamePacingSampleEntity, GamePacingSampleId>, PacingSampleUpsertRepository {
+    
+    List<GamePacingSampleEntity> findByGameIdOrderBySlotStartAsc(String gameId);
+}
@@ -0,0 +1,17 @@
+package com.frolic.core.repository.jpa;
+
+import com.frolic.core.repository.entity.GamePlayStatsEntity;
+import com.frolic.core.repository.entity.GamePlayStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the per-game minute stats rollup
+ */
+@Repository
+public interface GamePlayStatsRepository extends JpaRepository<GamePlayStatsEntity, GamePlayStatsId>, GameStatsUpsertRepository {
+    
+    List<GamePlayStatsEntity> findByGameIdOrderByBucketStartAsc(String gameId);
+}
@@ -2,12 +2,15 @@ package com.frolic.core.repository.jpa;
 
 import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.repository.entity.GameEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,4 +33,12 @@ public interface GameRepository extends JpaRepository<GameEntity, String> {
     
     @Query("SELECT g FROM GameEntity g WHERE g.status = com.frolic.core.common.enums.GameStatus.ACTIVE AND g.endTime < :now")
     List<GameEntity> findActiveGamesReadyToEnd(@Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE GameEntity g SET g.status = :to, g.updatedAt = :now WHERE g.id IN :ids AND g.status = :from")
+    int updateStatus(@Param("ids") Collection<String> ids, @Param("from") GameStatus from,
+                     @Param("to") GameStatus to, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT g FROM GameEntity g WHERE g.id > :after ORDER BY g.id ASC")
+    List<GameEntity> findPageAfter(@Param("after") String after, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.frolic.core.repository.jpa;
+
+import com.frolic.core.engine.stats.PlayStatsDelta;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for incremental stats upserts
+ */
+public interface GameStatsUpsertRepository {
+    
+    /**
+     * Add the given deltas onto the stats rollup tables in one JDBC batch per table
+     */
+    void upsertDeltas(List<PlayStatsDelta> deltas);
+}
@@ -0,0 +1,55 @@
+package com.frolic.core.repository.jpa;
+
+import com.frolic.core.engine.stats.PlayStatsDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of stats upserts using INSERT ... ON CONFLICT increments
+ */
+@RequiredArgsConstructor
+public class GameStatsUpsertRepositoryImpl implements GameStatsUpsertRepository {
+    
+    private static final String UPSERT_GAME_SQL =
+        "INSERT INTO game_play_stats (game_id, bucket_start, plays, winners, updated_at) VALUES (?, ?, ?, ?, ?) " +
+        "ON CONFLICT (game_id, bucket_start) DO UPDATE SET " +
+        "plays = game_play_stats.plays + EXCLUDED.plays, " +
+        "winners = game_play_stats.winners + EXCLUDED.winners, " +
+        "updated_at = EXCLUDED.updated_at";
+    
+    private static final String UPSERT_BRAND_SQL =
+        "INSERT INTO game_brand_stats (game_id, brand_id, bucket_start, winners, updated_at) VALUES (?, ?, ?, ?, ?) " +
+        "ON CONFLICT (game_id, brand_id, bucket_start) DO UPDATE SET " +
+        "winners = game_brand_stats.winners + EXCLUDED.winners, " +
+        "updated_at = EXCLUDED.updated_at";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void upsertDeltas(List<PlayStatsDelta> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> gameRows = new ArrayList<>();
+        List<Object[]> brandRows = new ArrayList<>();
+        
+        for (PlayStatsDelta delta : deltas) {
+            Timestamp bucketStart = Timestamp.valueOf(delta.bucketStart());
+            if (delta.isBrandLevel()) {
+                brandRows.add(new Object[]{delta.gameId(), delta.brandId(), bucketStart, delta.winners(), now});
+            } else {
+                gameRows.add(new Object[]{delta.gameId(), bucketStart, delta.plays(), delta.winners(), now});
+            }
+        }
+        
+        if (!gameRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_GAME_SQL, gameRows);
+        }
+        if (!brandRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_BRAND_SQL, brandRows);
+        }
+    }
+}
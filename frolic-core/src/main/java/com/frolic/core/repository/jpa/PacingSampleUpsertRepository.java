@@ -0,0 +1,22 @@
+package com.frolic.core.repository.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom repository fragment for persisting pacing samples
+ */
+public interface PacingSampleUpsertRepository {
+    
+    /**
+     * One node's pacing sample for a slot of a game
+     */
+    record PacingSampleRow(String gameId, LocalDateTime slotStart, LocalDateTime slotEnd, long plays, long winners,
+                           long remainingBudget, long idealRemainingBudget) {}
+    
+    /**
+     * Write the samples in one JDBC batch
+     * Plays and winners add onto what other nodes wrote for the same slot; the budgets are overwritten
+     */
+    void upsertSamples(List<PacingSampleRow> samples);
+}
@@ -0,0 +1,40 @@
+package com.frolic.core.repository.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of pacing sample upserts using INSERT ... ON CONFLICT
+ */
+@RequiredArgsConstructor
+public class PacingSampleUpsertRepositoryImpl implements PacingSampleUpsertRepository {
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO game_pacing_samples (game_id, slot_start, slot_end, plays, winners, remaining_budget, " +
+        "ideal_remaining_budget, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (game_id, slot_start) DO UPDATE SET " +
+        "slot_end = GREATEST(game_pacing_samples.slot_end, EXCLUDED.slot_end), " +
+        "plays = game_pacing_samples.plays + EXCLUDED.plays, " +
+        "winners = game_pacing_samples.winners + EXCLUDED.winners, " +
+        "remaining_budget = EXCLUDED.remaining_budget, " +
+        "ideal_remaining_budget = EXCLUDED.ideal_remaining_budget, " +
+        "updated_at = EXCLUDED.updated_at";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void upsertSamples(List<PacingSampleRow> samples) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(samples.size());
+        for (PacingSampleRow sample : samples) {
+            rows.add(new Object[]{sample.gameId(), Timestamp.valueOf(sample.slotStart()), Timestamp.valueOf(sample.slotEnd()),
+                sample.plays(), sample.winners(), sample.remainingBudget(), sample.idealRemainingBudget(), now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,15 +15,28 @@ import java.util.List;
 @Repository
 public interface PlayEventRepository extends JpaRepository<PlayEventEntity, String> {
     
+    /**
+     * Winner count per brand projection
+     */
+    interface BrandWinnerCount {
+        String getBrandId();
+        
+        Long getWinners();
+    }
+    
     List<PlayEventEntity> findByGameId(String gameId);
     
     List<PlayEventEntity> findByUserId(String userId);
     
     List<PlayEventEntity> findByGameIdAndStatus(String gameId, PlayStatus status);
     
-    @Query("SELECT COUNT(p) FROM PlayEventEntity p WHERE p.gameId = :gameId AND p.winner = true")
-    long countWinnersByGameId(@Param("gameId") String gameId);
-    
-    @Query("SELECT COUNT(p) FROM PlayEventEntity p WHERE p.gameId = :gameId AND p.timestamp BETWEEN :start AND :end")
-    long countPlaysInTimeRange(@Param("gameId") String gameId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    /**
+     * Count winners per brand recorded after each game-brand budget's last checkpoint
+     * (all winners when the budget was never checkpointed)
+     */
+    @Query("SELECT p.brandId AS brandId, COUNT(p) AS winners FROM PlayEventEntity p, GameBrandBudgetEntity b " +
+           "WHERE p.gameId = :gameId AND p.winner = true AND b.gameId = p.gameId AND b.brandId = p.brandId " +
+           "AND (b.checkpointedAt IS NULL OR p.createdAt > b.checkpointedAt) " +
+           "GROUP BY p.brandId")
+    List<BrandWinnerCount> countWinnersSinceCheckpoint(@Param("gameId") String gameId);
 }
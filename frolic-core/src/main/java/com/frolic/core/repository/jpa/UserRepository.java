@@ -1,9 +1,14 @@
 package com.frolic.core.repository.jpa;
 
+import com.frolic.core.common.dto.UserDto;
 import com.frolic.core.repository.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +20,8 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
     Optional<UserEntity> findByEmail(String email);
     
     boolean existsByEmail(String email);
+    
+    @Query("SELECT new com.frolic.core.common.dto.UserDto(u.id, u.email, u.name, u.phone, u.active, u.createdAt, u.updatedAt) " +
+           "FROM UserEntity u WHERE u.id > :after ORDER BY u.id ASC")
+    List<UserDto> findPageAfter(@Param("after") String after, Pageable pageable);
 }
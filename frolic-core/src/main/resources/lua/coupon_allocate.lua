@@ -0,0 +1,25 @@
+-- coupon_allocate.lua
+-- Atomic budget decrement + coupon pop for Redis
+-- KEYS[1] = budget key (budget:game:{gameId}:brand:{brandId})
+-- KEYS[2] = coupon pool key (coupon_pool:brand:{brandId})
+-- KEYS[3] = dirty budget set (budget:dirty), read by the budget checkpointer
+-- ARGV[1] = decrement amount (number of coupons to allocate)
+-- ARGV[2] = dirty set member for this game-brand ({gameId}:{brandId})
+-- Returns: the popped coupon code, '' if the pool is empty, or nil if insufficient budget
+-- Nothing is changed unless both the budget and a coupon are available
+
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+local amount = tonumber(ARGV[1])
+
+if current < amount then
+    return nil
+end
+
+local code = redis.call('LPOP', KEYS[2])
+if not code then
+    return ''
+end
+
+redis.call('DECRBY', KEYS[1], amount)
+redis.call('SADD', KEYS[3], ARGV[2])
+return code
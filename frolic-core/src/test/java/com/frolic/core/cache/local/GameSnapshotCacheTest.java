@@ -0,0 +1,150 @@
+package com.frolic.core.cache.local;
+
+import com.frolic.core.common.enums.CampaignStatus;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.CampaignEntity;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameSnapshotCache
+ */
+@ExtendWith(MockitoExtension.class)
+class GameSnapshotCacheTest {
+    
+    @Mock
+    private GameRepository gameRepository;
+    
+    @Mock
+    private CampaignRepository campaignRepository;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    private GameSnapshotCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new GameSnapshotCache(gameRepository, campaignRepository, budgetRepository);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+    }
+    
+    @Test
+    void testGetGame_Miss_LoadsGameWithBrandIds() {
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(createGame(GameStatus.ACTIVE)));
+        when(budgetRepository.findByGameId("game-1")).thenReturn(List.of(createBudget("brand-1"), createBudget("brand-2")));
+        
+        GameSnapshot snapshot = cache.getGame("game-1").orElseThrow();
+        
+        assertEquals(GameStatus.ACTIVE, snapshot.status());
+        assertEquals("campaign-1", snapshot.campaignId());
+        assertEquals(List.of("brand-1", "brand-2"), snapshot.brandIds());
+    }
+    
+    @Test
+    void testGetGame_Hit_DoesNotReload() {
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(createGame(GameStatus.ACTIVE)));
+        
+        cache.getGame("game-1");
+        cache.getGame("game-1");
+        
+        verify(gameRepository, times(1)).findById("game-1");
+    }
+    
+    @Test
+    void testInvalidateGame_NextLookupReloads() {
+        when(gameRepository.findById("game-1"))
+            .thenReturn(Optional.of(createGame(GameStatus.ACTIVE)))
+            .thenReturn(Optional.of(createGame(GameStatus.PAUSED)));
+        
+        cache.getGame("game-1");
+        cache.invalidateGame("game-1");
+        
+        assertEquals(GameStatus.PAUSED, cache.getGame("game-1").orElseThrow().status());
+    }
+    
+    @Test
+    void testGetGame_InvalidatedWhileLoading_NotCached() {
+        when(gameRepository.findById("game-1")).thenAnswer(invocation -> {
+            cache.invalidateGame("game-1");
+            return Optional.of(createGame(GameStatus.ACTIVE));
+        });
+        
+        cache.getGame("game-1");
+        cache.getGame("game-1");
+        
+        verify(gameRepository, times(2)).findById("game-1");
+    }
+    
+    @Test
+    void testGetGame_Expired_Reloads() {
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(createGame(GameStatus.ACTIVE)));
+        
+        cache.getGame("game-1");
+        cache.getGame("game-1");
+        
+        verify(gameRepository, times(2)).findById("game-1");
+    }
+    
+    @Test
+    void testGetGame_Missing_NotCached() {
+        when(gameRepository.findById("game-1")).thenReturn(Optional.empty());
+        
+        assertTrue(cache.getGame("game-1").isEmpty());
+        assertTrue(cache.getGame("game-1").isEmpty());
+        
+        verify(gameRepository, times(2)).findById("game-1");
+    }
+    
+    @Test
+    void testInvalidateCampaign_NextLookupReloads() {
+        CampaignEntity active = new CampaignEntity();
+        active.setId("campaign-1");
+        active.setStatus(CampaignStatus.ACTIVE);
+        CampaignEntity ended = new CampaignEntity();
+        ended.setId("campaign-1");
+        ended.setStatus(CampaignStatus.ENDED);
+        when(campaignRepository.findById("campaign-1")).thenReturn(Optional.of(active)).thenReturn(Optional.of(ended));
+        
+        assertEquals(CampaignStatus.ACTIVE, cache.getCampaign("campaign-1").orElseThrow().status());
+        assertEquals(CampaignStatus.ACTIVE, cache.getCampaign("campaign-1").orElseThrow().status());
+        cache.invalidateCampaign("campaign-1");
+        
+        assertEquals(CampaignStatus.ENDED, cache.getCampaign("campaign-1").orElseThrow().status());
+    }
+    
+    private GameEntity createGame(GameStatus status) {
+        GameEntity game = new GameEntity();
+        game.setId("game-1");
+        game.setCampaignId("campaign-1");
+        game.setStatus(status);
+        game.setStartTime(LocalDateTime.now().minusHours(1));
+        game.setEndTime(LocalDateTime.now().plusHours(1));
+        game.setSlotGranularitySeconds(5);
+        return game;
+    }
+    
+    private GameBrandBudgetEntity createBudget(String brandId) {
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId("game-1");
+        budget.setBrandId(brandId);
+        return budget;
+    }
+}
@@ -1,14 +1,20 @@
 package com.frolic.core.cache.store;
 
 import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,11 +33,15 @@ class RedisBudgetStoreTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
     
+    @Mock
+    private SetOperations<String, String> setOperations;
+    
     private RedisBudgetStore redisBudgetStore;
     
     @BeforeEach
     void setUp() {
         lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
         redisBudgetStore = new RedisBudgetStore(stringRedisTemplate);
     }
     
@@ -178,4 +188,88 @@ class RedisBudgetStoreTest {
         verify(valueOperations).set(RedisKeys.budgetKey(gameId, brand1), "100");
         verify(valueOperations).set(RedisKeys.budgetKey(gameId, brand2), "200");
     }
+    
+    @Test
+    void testPopDirtyBudgets_ReturnsPoppedMembers() {
+        when(setOperations.pop(RedisKeys.BUDGET_DIRTY_SET_KEY, 100)).thenReturn(List.of("game-1:brand-1"));
+        
+        List<String> members = redisBudgetStore.popDirtyBudgets(100);
+        
+        assertEquals(List.of("game-1:brand-1"), members);
+    }
+    
+    @Test
+    void testPopDirtyBudgets_WhenSetMissing_ReturnsEmpty() {
+        when(setOperations.pop(RedisKeys.BUDGET_DIRTY_SET_KEY, 100)).thenReturn(null);
+        
+        assertTrue(redisBudgetStore.popDirtyBudgets(100).isEmpty());
+    }
+    
+    @Test
+    void testMarkDirty_AddsMembersBack() {
+        redisBudgetStore.markDirty(List.of("game-1:brand-1", "game-1:brand-2"));
+        
+        verify(setOperations).add(RedisKeys.BUDGET_DIRTY_SET_KEY, "game-1:brand-1", "game-1:brand-2");
+    }
+    
+    @Test
+    void testGetBudgetValues_UsesSingleMultiGet() {
+        List<String> keys = List.of(RedisKeys.budgetKey("game-1", "brand-1"), RedisKeys.budgetKey("game-1", "brand-2"));
+        when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList("10", null));
+        
+        List<String> values = redisBudgetStore.getBudgetValues(keys);
+        
+        assertEquals(Arrays.asList("10", null), values);
+        verify(valueOperations, never()).get(anyString());
+    }
+    
+    @Test
+    void testRestoreBudgets_UsesMultiSetIfAbsent() {
+        Map<String, String> budgets = Map.of(RedisKeys.budgetKey("game-1", "brand-1"), "42");
+        when(valueOperations.multiSetIfAbsent(budgets)).thenReturn(true);
+        
+        assertTrue(redisBudgetStore.restoreBudgets(budgets));
+        verify(valueOperations, never()).multiSet(anyMap());
+    }
+    
+    @Test
+    void testWriteOwnedBudgets_MarksWrittenDirtyAndReportsMissing() {
+        List<BudgetCheckpoint> budgets = List.of(
+            new BudgetCheckpoint("game-1", "brand-1", 7),
+            new BudgetCheckpoint("game-2", "brand-1", 3)
+        );
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false));
+        
+        List<BudgetCheckpoint> missing = redisBudgetStore.writeOwnedBudgets(budgets);
+        
+        assertEquals(List.of(budgets.get(1)), missing);
+        verify(setOperations).add(RedisKeys.BUDGET_DIRTY_SET_KEY, "game-1:brand-1");
+    }
+    
+    @Test
+    void testInitializeBudgets_UsesSingleMultiSet() {
+        Map<String, String> budgets = Map.of(
+            RedisKeys.budgetKey("game-1", "brand-1"), "100",
+            RedisKeys.budgetKey("game-1", "brand-2"), "50");
+        
+        redisBudgetStore.initializeBudgets(budgets);
+        
+        verify(valueOperations).multiSet(budgets);
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+    
+    @Test
+    void testClearBudgets_SumsPipelinedDeletes() {
+        List<String> keys = List.of(RedisKeys.budgetKey("game-1", "brand-1"), RedisKeys.budgetKey("game-1", "brand-2"));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(2L));
+        
+        assertEquals(2L, redisBudgetStore.clearBudgets(keys));
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+    
+    @Test
+    void testClearBudgets_NoKeys_SkipsRedis() {
+        assertEquals(0L, redisBudgetStore.clearBudgets(List.of()));
+        verifyNoInteractions(stringRedisTemplate);
+    }
 }
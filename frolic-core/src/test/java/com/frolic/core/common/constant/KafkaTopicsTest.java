@@ -14,6 +14,11 @@ class KafkaTopicsTest {
         assertEquals("play-events", KafkaTopics.PLAY_EVENTS);
     }
     
+    @Test
+    void testPlayEventsDlt_HasCorrectValue() {
+        assertEquals("play-events-dlt", KafkaTopics.PLAY_EVENTS_DLT);
+    }
+    
     @Test
     void testAllocationResults_HasCorrectValue() {
         assertEquals("allocation-results", KafkaTopics.ALLOCATION_RESULTS);
@@ -33,6 +38,7 @@ class KafkaTopicsTest {
     void testAllTopics_AreUnique() {
         String[] topics = {
             KafkaTopics.PLAY_EVENTS,
+            KafkaTopics.PLAY_EVENTS_DLT,
             KafkaTopics.ALLOCATION_RESULTS,
             KafkaTopics.COUPON_ISSUED,
             KafkaTopics.GAME_LIFECYCLE
@@ -77,6 +77,22 @@ class RedisKeysTest {
         assertEquals("game_config:game-config-1", key);
     }
     
+    @Test
+    void testCouponPoolKey_GeneratesCorrectPattern() {
+        String brandId = "brand-42";
+        
+        String key = RedisKeys.couponPoolKey(brandId);
+        
+        assertEquals("coupon_pool:brand:brand-42", key);
+    }
+    
+    @Test
+    void testBudgetDirtyMember_GeneratesCorrectPattern() {
+        String member = RedisKeys.budgetDirtyMember("game-1", "brand-2");
+        
+        assertEquals("game-1:brand-2", member);
+    }
+    
     @Test
     void testAllKeys_Unique() {
         String gameId = "game-1";
@@ -111,5 +127,6 @@ class RedisKeysTest {
         assertEquals("slots:game:%s", RedisKeys.SLOTS_KEY_PATTERN);
         assertEquals("play_processed:%s", RedisKeys.IDEMPOTENCY_KEY_PATTERN);
         assertEquals("game_config:%s", RedisKeys.GAME_CONFIG_KEY_PATTERN);
+        assertEquals("coupon_pool:brand:%s", RedisKeys.COUPON_POOL_KEY_PATTERN);
     }
 }
@@ -0,0 +1,86 @@
+package com.frolic.core.common.jfr;
+
+import com.frolic.core.common.dto.PlayResultDto;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AllocationDecisionEvent
+ */
+class AllocationDecisionEventTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testBeginIfRecording_NoRecording_ReturnsNull() {
+        assertThat(AllocationDecisionEvent.beginIfRecording()).isNull();
+    }
+    
+    @Test
+    void testComplete_Recording_CommitsOutcomeAndTimings() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(AllocationDecisionEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            
+            AllocationDecisionEvent decision = AllocationDecisionEvent.beginIfRecording();
+            assertThat(decision).isNotNull();
+            decision.setOdds(0.25, 40);
+            decision.addRedisTime(1_000);
+            decision.addRedisTime(2_000);
+            decision.addDatabaseTime(5_000);
+            decision.complete("play-1", PlayResultDto.builder().gameId("game-1").brandId("brand-1").winner(true).build());
+            
+            recording.stop();
+            events = read(recording);
+        }
+        
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("playId")).isEqualTo("play-1");
+        assertThat(event.getString("gameId")).isEqualTo("game-1");
+        assertThat(event.getString("brandId")).isEqualTo("brand-1");
+        assertThat(event.getString("decision")).isEqualTo(AllocationDecisionEvent.WIN);
+        assertThat(event.getDouble("probability")).isEqualTo(0.25);
+        assertThat(event.getInt("remainingBudget")).isEqualTo(40);
+        assertThat(event.getDuration("redisTime")).isEqualTo(Duration.ofNanos(3_000));
+        assertThat(event.getDuration("databaseTime")).isEqualTo(Duration.ofNanos(5_000));
+    }
+    
+    @Test
+    void testComplete_ExplicitDecision_KeptOverResult() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(AllocationDecisionEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            
+            AllocationDecisionEvent decision = AllocationDecisionEvent.beginIfRecording();
+            decision.setDecision(AllocationDecisionEvent.NO_BUDGET);
+            decision.complete("play-1", PlayResultDto.builder().gameId("game-1").winner(false).build());
+            
+            recording.stop();
+            events = read(recording);
+        }
+        
+        assertThat(events).extracting(e -> e.getString("decision")).containsExactly(AllocationDecisionEvent.NO_BUDGET);
+    }
+    
+    private List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(AllocationDecisionEvent.NAME))
+            .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.frolic.core.common.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for LifecycleTransitionEvent
+ */
+class LifecycleTransitionEventTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testRecord_Recording_CommitsTransition() throws IOException {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(LifecycleTransitionEvent.NAME);
+            recording.start();
+            
+            LifecycleTransitionEvent.record("GAME_STARTED", "game-1", "campaign-1");
+            
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(LifecycleTransitionEvent.NAME))
+            .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("transition")).isEqualTo("GAME_STARTED");
+        assertThat(events.get(0).getString("gameId")).isEqualTo("game-1");
+        assertThat(events.get(0).getString("campaignId")).isEqualTo("campaign-1");
+    }
+    
+    @Test
+    void testRecord_NoRecording_DoesNothing() {
+        assertThatCode(() -> LifecycleTransitionEvent.record("CAMPAIGN_ENDED", null, "campaign-1"))
+            .doesNotThrowAnyException();
+    }
+}
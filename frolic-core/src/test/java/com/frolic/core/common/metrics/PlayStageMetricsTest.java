@@ -0,0 +1,137 @@
+package com.frolic.core.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PlayStageMetrics
+ */
+class PlayStageMetricsTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private PlayStageMetrics stageMetrics;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stageMetrics = new PlayStageMetrics(meterRegistry);
+        ReflectionTestUtils.setField(stageMetrics, "maxTaggedGames", 2);
+        ReflectionTestUtils.setField(stageMetrics, "idleMs", 60_000L);
+    }
+    
+    @Test
+    void testRecord_TaggedGame_RecordsOnGameTimer() {
+        stageMetrics.record(PlayStage.DECREMENT, "game-1", TimeUnit.MILLISECONDS.toNanos(3));
+        
+        Timer timer = timer("decrement", "game-1");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+        assertThat(timer("decrement", PlayStageMetrics.OTHER_GAME).count()).isZero();
+    }
+    
+    @Test
+    void testRecord_FirstPlayOfGame_RegistersEveryStage() {
+        stageMetrics.record(PlayStage.VALIDATION, "game-1", 1000);
+        
+        assertThat(meterRegistry.find(PlayStageMetrics.METER_NAME).tag("game", "game-1").timers())
+            .hasSize(PlayStage.values().length);
+    }
+    
+    @Test
+    void testRecord_TagLimitReached_FallsBackToOther() {
+        stageMetrics.record(PlayStage.VALIDATION, "game-1", 1000);
+        stageMetrics.record(PlayStage.VALIDATION, "game-2", 1000);
+        stageMetrics.record(PlayStage.VALIDATION, "game-3", 1000);
+        stageMetrics.record(PlayStage.VALIDATION, null, 1000);
+        
+        assertThat(stageMetrics.taggedGameCount()).isEqualTo(2);
+        assertThat(meterRegistry.find(PlayStageMetrics.METER_NAME).tag("game", "game-3").timers()).isEmpty();
+        assertThat(timer("validation", PlayStageMetrics.OTHER_GAME).count()).isEqualTo(2);
+    }
+    
+    @Test
+    void testEvictGame_RemovesTimersAndFreesSlot() {
+        stageMetrics.record(PlayStage.VALIDATION, "game-1", 1000);
+        stageMetrics.record(PlayStage.VALIDATION, "game-2", 1000);
+        
+        stageMetrics.evictGame("game-1");
+        stageMetrics.record(PlayStage.VALIDATION, "game-3", 1000);
+        
+        assertThat(meterRegistry.find(PlayStageMetrics.METER_NAME).tag("game", "game-1").timers()).isEmpty();
+        assertThat(timer("validation", "game-3").count()).isEqualTo(1);
+    }
+    
+    @Test
+    void testRecord_AnyGame_RecordsOnAggregateTimer() {
+        stageMetrics.record(PlayStage.DECREMENT, "game-1", 1000);
+        stageMetrics.record(PlayStage.DECREMENT, "game-2", 1000);
+        stageMetrics.record(PlayStage.DECREMENT, "game-3", 1000);
+        
+        assertThat(meterRegistry.get(PlayStageMetrics.AGGREGATE_METER_NAME).tag("stage", "decrement").timer().count())
+            .isEqualTo(3);
+    }
+    
+    @Test
+    void testRecord_AfterEvict_IdleGameSweptAndSlotFreed() {
+        stageMetrics.record(PlayStage.VALIDATION, "game-1", 1000);
+        stageMetrics.evictGame("game-1");
+        
+        // A play dequeued after the stop registers the game again
+        stageMetrics.recordDequeueDelay("game-1", LocalDateTime.now());
+        long now = System.currentTimeMillis();
+        stageMetrics.sweepIdle(now + 60_000);
+        stageMetrics.sweepIdle(now + 120_000);
+        
+        assertThat(stageMetrics.taggedGameCount()).isZero();
+        assertThat(meterRegistry.find(PlayStageMetrics.METER_NAME).tag("game", "game-1").timers()).isEmpty();
+    }
+    
+    @Test
+    void testSweepIdle_GameStillRecording_KeepsTimers() {
+        stageMetrics.record(PlayStage.VALIDATION, "game-1", 1000);
+        long now = System.currentTimeMillis();
+        stageMetrics.sweepIdle(now + 60_000);
+        stageMetrics.record(PlayStage.VALIDATION, "game-1", 1000);
+        stageMetrics.sweepIdle(now + 120_000);
+        
+        assertThat(stageMetrics.taggedGameCount()).isEqualTo(1);
+        assertThat(timer("validation", "game-1").count()).isEqualTo(2);
+    }
+    
+    @Test
+    void testRecordSince_ReturnsRecordedDuration() {
+        long nanos = stageMetrics.recordSince(PlayStage.RESULT_STORE, "game-1", System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+        
+        assertThat(nanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(timer("result-store", "game-1").totalTime(TimeUnit.NANOSECONDS)).isEqualTo((double) nanos);
+    }
+    
+    @Test
+    void testRecordDequeueDelay_PastEvent_RecordsElapsedTime() {
+        stageMetrics.recordDequeueDelay("game-1", LocalDateTime.now().minusSeconds(2));
+        
+        assertThat(timer("dequeue-delay", "game-1").totalTime(TimeUnit.MILLISECONDS)).isBetween(2000.0, 3000.0);
+    }
+    
+    @Test
+    void testRecordDequeueDelay_FutureEvent_RecordsZero() {
+        stageMetrics.recordDequeueDelay("game-1", LocalDateTime.now().plusSeconds(5));
+        
+        Timer timer = timer("dequeue-delay", "game-1");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isZero();
+    }
+    
+    private Timer timer(String stage, String gameId) {
+        return meterRegistry.get(PlayStageMetrics.METER_NAME).tags("stage", stage, "game", gameId).timer();
+    }
+}
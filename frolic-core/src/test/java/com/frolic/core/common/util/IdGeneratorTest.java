@@ -2,9 +2,16 @@ package com.frolic.core.common.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +39,66 @@ class IdGeneratorTest {
         assertEquals(1000, ids.size(), "All generated IDs should be unique");
     }
     
+    @Test
+    void testGenerateId_IsVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UUID.fromString(IdGenerator.generateId());
+        long after = System.currentTimeMillis();
+        
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before, "Timestamp should not precede generation");
+        assertTrue(timestamp <= after + 1, "Timestamp should be close to wall clock");
+    }
+    
+    @Test
+    void testGenerateId_IsMonotonicInSequence() {
+        String previous = IdGenerator.generateId();
+        for (int i = 0; i < 100_000; i++) {
+            String next = IdGenerator.generateId();
+            assertTrue(next.compareTo(previous) > 0, "IDs should be strictly increasing: " + previous + " -> " + next);
+            assertTrue(UUID.fromString(next).compareTo(UUID.fromString(previous)) > 0);
+            previous = next;
+        }
+    }
+    
+    @Test
+    void testGenerateId_IsMonotonicAndUniqueUnderConcurrency() throws Exception {
+        int threads = 8;
+        int idsPerThread = 20_000;
+        Set<String> allIds = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    String previous = "";
+                    boolean ordered = true;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        String id = IdGenerator.generateId();
+                        ordered &= id.compareTo(previous) > 0;
+                        allIds.add(id);
+                        previous = id;
+                    }
+                    return ordered;
+                }));
+            }
+            start.countDown();
+            
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(), "Each thread should observe strictly increasing IDs");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertEquals(threads * idsPerThread, allIds.size(), "IDs should be unique across threads");
+    }
+    
     @Test
     void testGenerateShortId_ReturnsValidUUIDWithoutHyphens() {
         String id = IdGenerator.generateShortId();
@@ -132,6 +132,15 @@ class TimeUtilsTest {
         assertFalse(result, "Current time should not be in past range");
     }
     
+    @Test
+    void testToEpochMillis_MatchesSystemZone() {
+        LocalDateTime time = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 250_000_000);
+        
+        long millis = TimeUtils.toEpochMillis(time);
+        
+        assertEquals(time, LocalDateTime.ofInstant(java.time.Instant.ofEpochMilli(millis), java.time.ZoneId.systemDefault()));
+    }
+    
     @Test
     void testIsBetween_AtStartTime() {
         LocalDateTime start = LocalDateTime.now();
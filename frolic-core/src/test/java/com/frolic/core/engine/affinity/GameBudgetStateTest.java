@@ -0,0 +1,64 @@
+package com.frolic.core.engine.affinity;
+
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameBudgetState
+ */
+class GameBudgetStateTest {
+    
+    @Test
+    void testTotalAndAvailable_SkipExhaustedBrands() {
+        GameBudgetState state = createState(new int[]{3, 0, 2});
+        
+        assertEquals(5, state.totalRemaining());
+        assertEquals(2, state.availableBrandCount());
+        assertEquals("brand-0", state.availableBrand(0).getBrandId());
+        assertEquals("brand-2", state.availableBrand(1).getBrandId());
+        assertThrows(IndexOutOfBoundsException.class, () -> state.availableBrand(2));
+    }
+    
+    @Test
+    void testTake_DecrementsUntilExhausted() {
+        GameBudgetState state = createState(new int[]{1});
+        
+        assertEquals(0, state.take("brand-0"));
+        assertEquals(-1, state.take("brand-0"));
+        assertEquals(0, state.availableBrandCount());
+    }
+    
+    @Test
+    void testGiveBack_RestoresUnit() {
+        GameBudgetState state = createState(new int[]{1});
+        state.take("brand-0");
+        
+        assertEquals(1, state.giveBack("brand-0"));
+        assertEquals(1, state.totalRemaining());
+    }
+    
+    @Test
+    void testTake_UnknownBrand_ReturnsMinusOne() {
+        assertEquals(-1, createState(new int[]{1}).take("brand-x"));
+    }
+    
+    @Test
+    void testConstructor_MismatchedSizes_Throws() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameBudgetState(List.of(), new int[]{1}));
+    }
+    
+    private GameBudgetState createState(int[] remaining) {
+        GameBrandBudgetEntity[] budgets = new GameBrandBudgetEntity[remaining.length];
+        for (int i = 0; i < remaining.length; i++) {
+            budgets[i] = new GameBrandBudgetEntity();
+            budgets[i].setGameId("game-1");
+            budgets[i].setBrandId("brand-" + i);
+        }
+        return new GameBudgetState(List.of(budgets), remaining);
+    }
+}
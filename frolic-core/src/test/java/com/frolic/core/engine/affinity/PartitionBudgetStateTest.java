@@ -0,0 +1,99 @@
+package com.frolic.core.engine.affinity;
+
+import com.frolic.core.common.dto.PlayResultDto;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionBudgetState
+ */
+class PartitionBudgetStateTest {
+    
+    @Test
+    void testMarkProcessed_RejectsDuplicatesWithinWindow() {
+        PartitionBudgetState state = new PartitionBudgetState(3, 2);
+        
+        assertTrue(state.markProcessed("play-1"));
+        assertFalse(state.markProcessed("play-1"));
+        assertTrue(state.markProcessed("play-2"));
+        assertTrue(state.markProcessed("play-3"));
+        
+        // play-1 has fallen out of the two-entry window
+        assertTrue(state.markProcessed("play-1"));
+    }
+    
+    @Test
+    void testRecordBudget_KeepsLatestValuePerPair() {
+        PartitionBudgetState state = new PartitionBudgetState(0, 10);
+        state.recordBudget("game-1", "brand-1", 9);
+        state.recordBudget("game-1", "brand-1", 8);
+        state.recordBudget("game-1", "brand-2", 4);
+        
+        List<BudgetCheckpoint> drained = state.drainPendingCheckpoints();
+        
+        assertEquals(2, drained.size());
+        assertTrue(drained.contains(new BudgetCheckpoint("game-1", "brand-1", 8)));
+        assertTrue(state.drainPendingCheckpoints().isEmpty());
+    }
+    
+    @Test
+    void testRequeue_DoesNotOverwriteNewerValue() {
+        PartitionBudgetState state = new PartitionBudgetState(0, 10);
+        state.recordBudget("game-1", "brand-1", 9);
+        List<BudgetCheckpoint> failed = state.drainPendingCheckpoints();
+        state.recordBudget("game-1", "brand-1", 8);
+        
+        state.requeue(failed);
+        
+        assertEquals(List.of(new BudgetCheckpoint("game-1", "brand-1", 8)), state.drainPendingCheckpoints());
+    }
+    
+    @Test
+    void testMarkStopped_EvictsGameOnNextLookup() {
+        PartitionBudgetState state = new PartitionBudgetState(0, 10);
+        state.putGame("game-1", new GameBudgetState(List.of(), new int[0]));
+        
+        state.markStopped("game-1");
+        
+        assertNull(state.getGame("game-1"));
+        assertNull(state.getGame("game-1"));
+    }
+    
+    @Test
+    void testForgetPlay_AllowsReprocessing() {
+        PartitionBudgetState state = new PartitionBudgetState(0, 10);
+        state.markProcessed("play-1");
+        
+        state.forgetPlay("play-1");
+        
+        assertTrue(state.markProcessed("play-1"));
+    }
+    
+    @Test
+    void testKeepDecided_RememberedPlay_KeepsResultUntilForgotten() {
+        PartitionBudgetState state = new PartitionBudgetState(0, 10);
+        state.markProcessed("play-1");
+        PlayResultDto result = PlayResultDto.builder().playId("play-1").winner(true).couponId("CODE-1").build();
+        
+        state.keepDecided(result);
+        
+        assertFalse(state.markProcessed("play-1"));
+        assertSame(result, state.getDecided("play-1"));
+        state.forgetPlay("play-1");
+        assertNull(state.getDecided("play-1"));
+    }
+    
+    @Test
+    void testKeepDecided_UnknownPlay_KeepsNothing() {
+        PartitionBudgetState state = new PartitionBudgetState(0, 10);
+        
+        state.keepDecided(PlayResultDto.builder().playId("play-1").winner(true).build());
+        
+        assertNull(state.getDecided("play-1"));
+        assertTrue(state.markProcessed("play-1"));
+    }
+}
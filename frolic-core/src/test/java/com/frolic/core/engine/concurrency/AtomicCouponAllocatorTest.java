@@ -0,0 +1,83 @@
+package com.frolic.core.engine.concurrency;
+
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.exception.ConcurrencyException;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Allocation;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AtomicCouponAllocator
+ */
+@ExtendWith(MockitoExtension.class)
+class AtomicCouponAllocatorTest {
+    
+    private static final String GAME_ID = "game-123";
+    private static final String BRAND_ID = "brand-456";
+    private static final List<String> KEYS = List.of(
+        RedisKeys.budgetKey(GAME_ID, BRAND_ID), RedisKeys.couponPoolKey(BRAND_ID), RedisKeys.BUDGET_DIRTY_SET_KEY);
+    private static final String DIRTY_MEMBER = RedisKeys.budgetDirtyMember(GAME_ID, BRAND_ID);
+    
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    
+    @Mock
+    private RedisScript<String> couponAllocateScript;
+    
+    private AtomicCouponAllocator couponAllocator;
+    
+    @BeforeEach
+    void setUp() {
+        couponAllocator = new AtomicCouponAllocator(stringRedisTemplate, couponAllocateScript);
+    }
+    
+    @Test
+    void testAllocate_CodePopped_ReturnsAllocated() {
+        when(stringRedisTemplate.execute(eq(couponAllocateScript), eq(KEYS), eq("1"), eq(DIRTY_MEMBER))).thenReturn("CODE-1");
+        
+        Allocation allocation = couponAllocator.allocate(GAME_ID, BRAND_ID);
+        
+        assertTrue(allocation.isAllocated());
+        assertEquals("CODE-1", allocation.code());
+    }
+    
+    @Test
+    void testAllocate_NullResult_ReturnsNoBudget() {
+        when(stringRedisTemplate.execute(eq(couponAllocateScript), eq(KEYS), eq("1"), eq(DIRTY_MEMBER))).thenReturn(null);
+        
+        Allocation allocation = couponAllocator.allocate(GAME_ID, BRAND_ID);
+        
+        assertEquals(Outcome.NO_BUDGET, allocation.outcome());
+        assertNull(allocation.code());
+    }
+    
+    @Test
+    void testAllocate_EmptyResult_ReturnsPoolEmpty() {
+        when(stringRedisTemplate.execute(eq(couponAllocateScript), eq(KEYS), eq("1"), eq(DIRTY_MEMBER))).thenReturn("");
+        
+        Allocation allocation = couponAllocator.allocate(GAME_ID, BRAND_ID);
+        
+        assertEquals(Outcome.POOL_EMPTY, allocation.outcome());
+        assertFalse(allocation.isAllocated());
+    }
+    
+    @Test
+    void testAllocate_RedisError_ThrowsConcurrencyException() {
+        when(stringRedisTemplate.execute(eq(couponAllocateScript), anyList(), any(), any()))
+            .thenThrow(new RuntimeException("Redis down"));
+        
+        assertThrows(ConcurrencyException.class, () -> couponAllocator.allocate(GAME_ID, BRAND_ID));
+    }
+}
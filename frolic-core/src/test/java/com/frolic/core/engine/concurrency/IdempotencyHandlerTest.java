@@ -1,6 +1,7 @@
 package com.frolic.core.engine.concurrency;
 
 import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.PlayResultDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -137,4 +138,35 @@ class IdempotencyHandlerTest {
         verify(valueOperations).set(eq(RedisKeys.idempotencyKey(playId2)), 
             eq(true), eq(24L), eq(TimeUnit.HOURS));
     }
+    
+    @Test
+    void testClearProcessed_DeletesKey() {
+        idempotencyHandler.clearProcessed("play-123");
+        
+        verify(redisTemplate).delete(RedisKeys.idempotencyKey("play-123"));
+    }
+    
+    @Test
+    void testKeepDecided_StoresResultUnderProcessedMark() {
+        PlayResultDto result = PlayResultDto.builder().playId("play-123").winner(true).couponId("CODE-1").build();
+        
+        idempotencyHandler.keepDecided(result);
+        
+        verify(valueOperations).set(eq(RedisKeys.idempotencyKey("play-123")), eq(result), eq(24L), eq(TimeUnit.HOURS));
+    }
+    
+    @Test
+    void testGetDecided_KeptResult_ReturnsIt() {
+        PlayResultDto result = PlayResultDto.builder().playId("play-123").winner(true).build();
+        when(valueOperations.get(RedisKeys.idempotencyKey("play-123"))).thenReturn(result);
+        
+        assertSame(result, idempotencyHandler.getDecided("play-123"));
+    }
+    
+    @Test
+    void testGetDecided_PlainMark_ReturnsNull() {
+        when(valueOperations.get(RedisKeys.idempotencyKey("play-123"))).thenReturn(true);
+        
+        assertNull(idempotencyHandler.getDecided("play-123"));
+    }
 }
@@ -113,6 +113,24 @@ class ProbabilityCalculatorTest {
             "Allocation should never exceed remaining budget");
     }
     
+    @Test
+    void testCalculateBaseProbability_RemainingSlots_ReturnsBudgetPerSlot() {
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime end = start.plusSeconds(3630);
+        
+        // 60 slots of 60s remain
+        assertEquals(0.5, calculator.calculateBaseProbability(30, start, end, 60), 1e-9);
+    }
+    
+    @Test
+    void testCalculateBaseProbability_NoRemainingSlots_ReturnsBudget() {
+        LocalDateTime start = LocalDateTime.now().minusHours(2);
+        LocalDateTime end = LocalDateTime.now().minusHours(1);
+        
+        assertEquals(7.0, calculator.calculateBaseProbability(7, start, end, 60), 1e-9);
+        assertEquals(0.0, calculator.calculateBaseProbability(0, start, end, 60), 1e-9);
+    }
+    
     @ParameterizedTest
     @CsvSource({
         "3600, 60, 60",      // 1 hour, 60s slots = 60 slots
@@ -0,0 +1,134 @@
+package com.frolic.core.engine.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PlayStatsAggregator
+ */
+class PlayStatsAggregatorTest {
+    
+    private PlayStatsAggregator aggregator;
+    
+    @BeforeEach
+    void setUp() {
+        aggregator = new PlayStatsAggregator();
+    }
+    
+    @Test
+    void testRecordPlay_LoserCountsPlayOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        aggregator.recordPlay("game-1", now, false, null);
+        
+        List<PlayStatsDelta> deltas = aggregator.drainDeltas();
+        assertEquals(1, deltas.size());
+        PlayStatsDelta delta = deltas.get(0);
+        assertEquals("game-1", delta.gameId());
+        assertNull(delta.brandId());
+        assertEquals(PlayStatsAggregator.bucketOf(now), delta.bucketStart());
+        assertEquals(1, delta.plays());
+        assertEquals(0, delta.winners());
+    }
+    
+    @Test
+    void testRecordPlay_WinnerCountsGameAndBrand() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        aggregator.recordPlay("game-1", now, true, "brand-1");
+        
+        List<PlayStatsDelta> deltas = aggregator.drainDeltas();
+        assertEquals(2, deltas.size());
+        PlayStatsDelta brandDelta = deltas.stream().filter(PlayStatsDelta::isBrandLevel).findFirst().orElseThrow();
+        assertEquals("brand-1", brandDelta.brandId());
+        assertEquals(1, brandDelta.winners());
+        assertEquals(0, brandDelta.plays());
+    }
+    
+    @Test
+    void testDrainDeltas_ReportsOnlyChangesSinceLastDrain() {
+        LocalDateTime now = LocalDateTime.now();
+        aggregator.recordPlay("game-1", now, false, null);
+        aggregator.recordPlay("game-1", now, false, null);
+        
+        assertEquals(2, aggregator.drainDeltas().get(0).plays());
+        assertTrue(aggregator.drainDeltas().isEmpty());
+        
+        aggregator.recordPlay("game-1", now, false, null);
+        assertEquals(1, aggregator.drainDeltas().get(0).plays());
+    }
+    
+    @Test
+    void testDrainDeltas_SeparatesMinuteBuckets() {
+        LocalDateTime minute = LocalDateTime.of(2025, 1, 1, 12, 0, 30);
+        aggregator.recordPlay("game-1", minute, false, null);
+        aggregator.recordPlay("game-1", minute.plusMinutes(1), false, null);
+        
+        assertEquals(2, aggregator.drainDeltas().size());
+    }
+    
+    @Test
+    void testDrainDeltas_EvictsOldIdleBuckets() {
+        aggregator.recordPlay("game-1", LocalDateTime.now().minusHours(1), false, null);
+        
+        aggregator.drainDeltas();
+        assertEquals(1, aggregator.bucketCount());
+        
+        aggregator.drainDeltas();
+        assertEquals(0, aggregator.bucketCount());
+    }
+    
+    @Test
+    void testRestore_RedeliversDeltasOnNextDrain() {
+        LocalDateTime now = LocalDateTime.now();
+        aggregator.recordPlay("game-1", now, false, null);
+        
+        List<PlayStatsDelta> failed = aggregator.drainDeltas();
+        aggregator.restore(failed);
+        aggregator.recordPlay("game-1", now, false, null);
+        
+        List<PlayStatsDelta> retried = aggregator.drainDeltas();
+        assertEquals(1, retried.size());
+        assertEquals(2, retried.get(0).plays());
+    }
+    
+    @Test
+    void testRecordPlay_ConcurrentWritersLoseNothing() throws InterruptedException {
+        int threads = 8;
+        int playsPerThread = 10_000;
+        LocalDateTime now = LocalDateTime.now();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < playsPerThread; i++) {
+                    aggregator.recordPlay("game-1", now, i % 10 == 0, "brand-1");
+                }
+                done.countDown();
+            });
+        }
+        
+        long plays = 0;
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            plays += sumGamePlays(aggregator.drainDeltas());
+        }
+        plays += sumGamePlays(aggregator.drainDeltas());
+        executor.shutdown();
+        
+        assertEquals((long) threads * playsPerThread, plays);
+    }
+    
+    private long sumGamePlays(List<PlayStatsDelta> deltas) {
+        return deltas.stream().filter(d -> !d.isBrandLevel()).mapToLong(PlayStatsDelta::plays).sum();
+    }
+}
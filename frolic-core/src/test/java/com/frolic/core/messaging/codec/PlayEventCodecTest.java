@@ -0,0 +1,111 @@
+package com.frolic.core.messaging.codec;
+
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.exception.TechnicalException;
+import com.frolic.core.common.util.IdGenerator;
+import com.frolic.core.common.util.JsonUtils;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PlayEventCodec and its Kafka serializer/deserializer
+ */
+class PlayEventCodecTest {
+    
+    @Test
+    void testRoundTrip_UuidIds_PreservesAllFields() {
+        PlayEventDto event = createEvent(IdGenerator.generateId(), IdGenerator.generateId(), IdGenerator.generateId());
+        event.setMetadata(Map.of("ip", "127.0.0.1", "attempt", 2));
+        
+        PlayEventDto decoded = PlayEventCodec.decode(PlayEventCodec.encode(event));
+        
+        assertEquals(event, decoded);
+    }
+    
+    @Test
+    void testRoundTrip_NonUuidIdsAndNulls() {
+        PlayEventDto event = createEvent("play-1", "GAME-ÄÖ", null);
+        event.setStatus(null);
+        event.setTimestamp(null);
+        
+        assertEquals(event, PlayEventCodec.decode(PlayEventCodec.encode(event)));
+    }
+    
+    @Test
+    void testRoundTrip_UppercaseUuidKeptAsString() {
+        String upper = IdGenerator.generateId().toUpperCase();
+        PlayEventDto event = createEvent(upper, "game-1", "user-1");
+        
+        assertEquals(upper, PlayEventCodec.decode(PlayEventCodec.encode(event)).getPlayId());
+    }
+    
+    @Test
+    void testEncode_MuchSmallerThanJson() throws Exception {
+        PlayEventDto event = createEvent(IdGenerator.generateId(), IdGenerator.generateId(), IdGenerator.generateId());
+        
+        int binary = PlayEventCodec.encode(event).length;
+        int json = JsonUtils.getObjectMapper().writeValueAsBytes(event).length;
+        
+        assertEquals(62, binary);
+        assertTrue(binary * 3 < json, "binary=" + binary + ", json=" + json);
+    }
+    
+    @Test
+    void testDecode_UnknownVersion_Throws() {
+        byte[] bytes = PlayEventCodec.encode(createEvent("p", "g", "u"));
+        bytes[0] = 9;
+        
+        assertThrows(TechnicalException.class, () -> PlayEventCodec.decode(bytes));
+    }
+    
+    @Test
+    void testDecode_Truncated_Throws() {
+        byte[] bytes = PlayEventCodec.encode(createEvent(IdGenerator.generateId(), "g", "u"));
+        
+        assertThrows(TechnicalException.class, () -> PlayEventCodec.decode(java.util.Arrays.copyOf(bytes, 10)));
+    }
+    
+    @Test
+    void testSerializer_AddsSingleCodecHeader() {
+        PlayEventSerializer serializer = new PlayEventSerializer();
+        RecordHeaders headers = new RecordHeaders();
+        PlayEventDto event = createEvent("p", "g", "u");
+        
+        serializer.serialize("play-events", headers, event);
+        serializer.serialize("play-events-dlt", headers, event);
+        
+        assertEquals(1, headers.toArray().length);
+        assertArrayEquals(new byte[]{PlayEventCodec.VERSION}, headers.lastHeader(PlayEventCodec.CODEC_HEADER).value());
+    }
+    
+    @Test
+    void testDeserializer_BinaryWithHeader_JsonWithout() throws Exception {
+        PlayEventDeserializer deserializer = new PlayEventDeserializer();
+        PlayEventDto event = createEvent(IdGenerator.generateId(), "game-1", "user-1");
+        
+        RecordHeaders binaryHeaders = new RecordHeaders();
+        byte[] binary = new PlayEventSerializer().serialize("play-events", binaryHeaders, event);
+        byte[] json = JsonUtils.getObjectMapper().writeValueAsBytes(event);
+        
+        assertEquals(event, deserializer.deserialize("play-events", binaryHeaders, binary));
+        assertEquals(event, deserializer.deserialize("play-events", new RecordHeaders(), json));
+        assertNull(deserializer.deserialize("play-events", new RecordHeaders(), (byte[]) null));
+    }
+    
+    private PlayEventDto createEvent(String playId, String gameId, String userId) {
+        return PlayEventDto.builder()
+            .playId(playId)
+            .gameId(gameId)
+            .userId(userId)
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+            .build();
+    }
+}
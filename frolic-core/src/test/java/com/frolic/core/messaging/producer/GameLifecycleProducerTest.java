@@ -0,0 +1,72 @@
+package com.frolic.core.messaging.producer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.GameLifecycleEventDto;
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameLifecycleProducer
+ */
+@ExtendWith(MockitoExtension.class)
+class GameLifecycleProducerTest {
+    
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    
+    private GameLifecycleProducer producer;
+    
+    @BeforeEach
+    void setUp() {
+        producer = new GameLifecycleProducer(kafkaTemplate);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    void testPublishGameEvent_NoTransaction_SendsKeyedByGame() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        
+        producer.publishGameEvent(GameLifecycleEventType.GAME_STOPPED, "game-1", "campaign-1");
+        
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(KafkaTopics.GAME_LIFECYCLE), eq("game-1"), captor.capture());
+        GameLifecycleEventDto event = (GameLifecycleEventDto) captor.getValue();
+        assertEquals(GameLifecycleEventType.GAME_STOPPED, event.getType());
+        assertEquals("campaign-1", event.getCampaignId());
+    }
+    
+    @Test
+    void testPublishCampaignEvent_InTransaction_SendsAfterCommit() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        TransactionSynchronizationManager.initSynchronization();
+        
+        producer.publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_ENDED, "campaign-1");
+        
+        verifyNoInteractions(kafkaTemplate);
+        
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        
+        verify(kafkaTemplate).send(eq(KafkaTopics.GAME_LIFECYCLE), eq("campaign-1"), any(GameLifecycleEventDto.class));
+    }
+}
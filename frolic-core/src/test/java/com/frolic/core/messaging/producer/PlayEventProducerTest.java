@@ -3,6 +3,8 @@ package com.frolic.core.messaging.producer;
 import com.frolic.core.common.constant.KafkaTopics;
 import com.frolic.core.common.dto.PlayEventDto;
 import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
@@ -30,11 +33,20 @@ class PlayEventProducerTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
     
+    private SimpleMeterRegistry meterRegistry;
+    
     private PlayEventProducer playEventProducer;
     
     @BeforeEach
     void setUp() {
-        playEventProducer = new PlayEventProducer(kafkaTemplate);
+        PlayKeySpreader keySpreader = new PlayKeySpreader();
+        ReflectionTestUtils.setField(keySpreader, "enabled", true);
+        ReflectionTestUtils.setField(keySpreader, "eventsPerSubKey", 500.0);
+        ReflectionTestUtils.setField(keySpreader, "maxSubKeys", 8);
+        ReflectionTestUtils.setField(keySpreader, "windowMs", 1000L);
+        ReflectionTestUtils.setField(keySpreader, "allocationMode", "redis");
+        meterRegistry = new SimpleMeterRegistry();
+        playEventProducer = new PlayEventProducer(kafkaTemplate, keySpreader, new PlayStageMetrics(meterRegistry));
     }
     
     @Test
@@ -61,6 +73,7 @@ class PlayEventProducerTest {
         playEventProducer.publishPlayEvent(event);
         
         verify(kafkaTemplate).send(KafkaTopics.PLAY_EVENTS, "game-456", event);
+        assertEquals(1, meterRegistry.get(PlayStageMetrics.METER_NAME).tag("stage", "publish-ack").timer().count());
     }
     
     @Test
@@ -195,4 +208,22 @@ class PlayEventProducerTest {
         
         verify(kafkaTemplate).send(eq(KafkaTopics.PLAY_EVENTS), eq("game-meta"), eq(event));
     }
+    
+    @Test
+    void testPublishPlayEvent_ConfiguredSpread_UsesGameSubKey() {
+        PlayEventDto event = PlayEventDto.builder()
+            .playId("play-spread")
+            .gameId("game-hot")
+            .userId("user-1")
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        
+        playEventProducer.publishPlayEvent(event, 4);
+        
+        String expectedKey = PlayKeySpreader.subKey("game-hot", Math.floorMod("play-spread".hashCode(), 4));
+        verify(kafkaTemplate).send(KafkaTopics.PLAY_EVENTS, expectedKey, event);
+    }
 }
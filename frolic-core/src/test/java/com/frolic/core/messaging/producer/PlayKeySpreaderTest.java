@@ -0,0 +1,137 @@
+package com.frolic.core.messaging.producer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PlayKeySpreader
+ */
+class PlayKeySpreaderTest {
+    
+    private PlayKeySpreader keySpreader;
+    
+    @BeforeEach
+    void setUp() {
+        keySpreader = new PlayKeySpreader();
+        ReflectionTestUtils.setField(keySpreader, "enabled", true);
+        ReflectionTestUtils.setField(keySpreader, "eventsPerSubKey", 100.0);
+        ReflectionTestUtils.setField(keySpreader, "maxSubKeys", 4);
+        ReflectionTestUtils.setField(keySpreader, "windowMs", 1000L);
+        ReflectionTestUtils.setField(keySpreader, "idleMs", 60000L);
+        ReflectionTestUtils.setField(keySpreader, "allocationMode", "redis");
+    }
+    
+    @Test
+    void testKeyFor_QuietGame_UsesGameId() {
+        for (int i = 0; i < 50; i++) {
+            assertEquals("game-1", keySpreader.keyFor("game-1", "play-" + i, null, 0));
+        }
+        
+        assertEquals(1, keySpreader.currentSpread("game-1"));
+        assertEquals(List.of("game-1"), keySpreader.keysFor("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_HotGame_SpreadsOverSubKeys() {
+        // 250 plays in the first second size the game to three sub-keys
+        for (int i = 0; i < 250; i++) {
+            keySpreader.keyFor("game-1", "play-" + i, null, 0);
+        }
+        keySpreader.keyFor("game-1", "play-250", null, 1000);
+        
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            keys.add(keySpreader.keyFor("game-1", "next-" + i, null, 1100));
+        }
+        
+        assertEquals(3, keySpreader.currentSpread("game-1"));
+        assertEquals(Set.of("game-1", "game-1#1", "game-1#2"), keys);
+        assertEquals(List.of("game-1", "game-1#1", "game-1#2"), keySpreader.keysFor("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_RateAboveMax_CapsSpread() {
+        for (int i = 0; i < 5000; i++) {
+            keySpreader.keyFor("game-1", "play-" + i, null, 0);
+        }
+        keySpreader.keyFor("game-1", "play-last", null, 1000);
+        
+        assertEquals(4, keySpreader.currentSpread("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_RateDrops_ShrinksSpread() {
+        for (int i = 0; i < 400; i++) {
+            keySpreader.keyFor("game-1", "play-" + i, null, 0);
+        }
+        keySpreader.keyFor("game-1", "play-a", null, 1000);
+        keySpreader.keyFor("game-1", "play-b", null, 2000);
+        
+        assertEquals(1, keySpreader.currentSpread("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_ConfiguredSpread_OverridesObservedRate() {
+        String key = keySpreader.keyFor("game-1", "play-1", 6, 0);
+        
+        assertEquals(PlayKeySpreader.subKey("game-1", Math.floorMod("play-1".hashCode(), 6)), key);
+        assertEquals(6, keySpreader.currentSpread("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_SamePlay_SameKey() {
+        String first = keySpreader.keyFor("game-1", "play-1", 8, 0);
+        String second = keySpreader.keyFor("game-1", "play-1", 8, 10);
+        
+        assertEquals(first, second);
+    }
+    
+    @Test
+    void testKeyFor_PartitionAffineMode_NeverSpreads() {
+        ReflectionTestUtils.setField(keySpreader, "allocationMode", "partition-affine");
+        
+        assertEquals("game-1", keySpreader.keyFor("game-1", "play-7", 8, 0));
+        assertEquals(1, keySpreader.currentSpread("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_Disabled_UsesGameId() {
+        ReflectionTestUtils.setField(keySpreader, "enabled", false);
+        
+        assertEquals("game-1", keySpreader.keyFor("game-1", "play-7", 8, 0));
+    }
+    
+    @Test
+    void testEvictGame_HotGame_ResetsSpread() {
+        keySpreader.keyFor("game-1", "play-1", 6, 0);
+        
+        keySpreader.evictGame("game-1");
+        
+        assertEquals(0, keySpreader.trackedGameCount());
+        assertEquals(1, keySpreader.currentSpread("game-1"));
+    }
+    
+    @Test
+    void testKeyFor_GameIdle_SweptOnLaterPlay() {
+        keySpreader.keyFor("game-1", "play-1", null, 1);
+        keySpreader.keyFor("game-2", "play-1", null, 50000);
+        
+        keySpreader.keyFor("game-2", "play-2", null, 70000);
+        
+        assertEquals(1, keySpreader.trackedGameCount());
+        assertEquals(1, keySpreader.currentSpread("game-1"));
+    }
+    
+    @Test
+    void testSubKey_IndexZero_IsGameId() {
+        assertEquals("game-1", PlayKeySpreader.subKey("game-1", 0));
+        assertEquals("game-1#3", PlayKeySpreader.subKey("game-1", 3));
+    }
+}
@@ -0,0 +1,70 @@
+package com.frolic.services.config;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.exception.BusinessException;
+import com.frolic.core.messaging.config.KafkaProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+
+/**
+ * Listener container for the exactly-once allocation mode
+ * - Each play is consumed in a Kafka transaction that also carries its allocation result and offset
+ * - A failed play is rolled back and redelivered with backoff, then dead-lettered in a committed transaction
+ * 
+ * The transaction manager is attached to the container only, not registered as a bean, so JPA keeps
+ * the application's default transaction manager. No JPA transaction is open while a play is decided,
+ * so database writes made during the decision, such as marking the coupon issued, run in their own.
+ */
+@Configuration
+@ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "exactly-once")
+public class ExactlyOnceKafkaConfig {
+    
+    public static final String CONTAINER_FACTORY = "exactlyOnceListenerContainerFactory";
+    
+    @Value("${frolic.kafka.retry.attempts:4}")
+    private int attempts;
+    
+    @Value("${frolic.kafka.retry.initial-delay-ms:1000}")
+    private long initialDelayMs;
+    
+    @Value("${frolic.kafka.retry.multiplier:5}")
+    private double multiplier;
+    
+    @Bean(CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> exactlyOnceListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            @Qualifier(KafkaProducerConfig.TRANSACTIONAL_PRODUCER_FACTORY) ProducerFactory<String, Object> producerFactory,
+            @Qualifier(KafkaProducerConfig.TRANSACTIONAL_KAFKA_TEMPLATE) KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setKafkaAwareTransactionManager(new KafkaTransactionManager<>(producerFactory));
+        
+        // Retries happen in place, so a failing play holds its partition while it backs off
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(0, attempts - 1));
+        backOff.setInitialInterval(initialDelayMs);
+        backOff.setMultiplier(multiplier);
+        
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+            (record, ex) -> new TopicPartition(KafkaTopics.PLAY_EVENTS_DLT, -1));
+        DefaultAfterRollbackProcessor<Object, Object> rollbackProcessor =
+            new DefaultAfterRollbackProcessor<>(recoverer, backOff, kafkaTemplate, true);
+        rollbackProcessor.addNotRetryableExceptions(BusinessException.class);
+        factory.setAfterRollbackProcessor(rollbackProcessor);
+        
+        return factory;
+    }
+}
@@ -0,0 +1,38 @@
+package com.frolic.services.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Async appender that never blocks the logging thread and counts what it drops
+ * - Events are only dropped when the queue is full, never by level
+ * - The count is process-wide and exported by PlayEventLogger as {@code frolic.logging.play.dropped};
+ *   an event that loses a race for the last queue slot is dropped without being counted
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+    
+    private static final LongAdder DROPPED = new LongAdder();
+    
+    public MeteredAsyncAppender() {
+        setNeverBlock(true);
+        setDiscardingThreshold(0);
+    }
+    
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isStarted() && getRemainingCapacity() == 0) {
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+    
+    /**
+     * Events dropped since startup by every instance of this appender
+     */
+    public static long droppedEvents() {
+        return DROPPED.sum();
+    }
+}
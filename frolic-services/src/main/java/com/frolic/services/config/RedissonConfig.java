@@ -0,0 +1,22 @@
+package com.frolic.services.config;
+
+import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redisson client tuning
+ */
+@Configuration
+public class RedissonConfig {
+    
+    /**
+     * Lock lease kept alive by the watchdog; bounds how long a crashed scheduler leader blocks failover
+     */
+    @Bean
+    public RedissonAutoConfigurationCustomizer lockWatchdogCustomizer(
+            @Value("${frolic.scheduler.leader.lease-ms:10000}") long leaseMs) {
+        return config -> config.setLockWatchdogTimeout(leaseMs);
+    }
+}
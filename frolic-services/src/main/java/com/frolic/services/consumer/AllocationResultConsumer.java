@@ -0,0 +1,44 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.AllocationResultDto;
+import com.frolic.services.service.allocation.RewardAllocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer for allocation results in exactly-once allocation mode
+ * Writes committed outcomes to the Redis result store, the database and the live stats.
+ * Reads with read_committed isolation, so outcomes of aborted allocator transactions are never seen.
+ */
+@Component
+@ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "exactly-once")
+@RequiredArgsConstructor
+@Slf4j
+public class AllocationResultConsumer {
+    
+    public static final String GROUP_ID = "allocation-result-writer-group";
+    
+    private final RewardAllocationService rewardAllocationService;
+    
+    @KafkaListener(
+        topics = KafkaTopics.ALLOCATION_RESULTS,
+        groupId = GROUP_ID,
+        concurrency = "${frolic.kafka.exactly-once.writer-concurrency:4}",
+        properties = {
+            "isolation.level=read_committed",
+            "value.deserializer=org.springframework.kafka.support.serializer.JsonDeserializer",
+            "spring.json.value.default.type=com.frolic.core.common.dto.AllocationResultDto",
+            "spring.json.use.type.headers=false"
+        }
+    )
+    public void consumeAllocationResult(AllocationResultDto outcome) {
+        log.debug("Recording allocation result: playId={}, winner={}",
+            outcome.getPlay().getPlayId(), outcome.getResult().isWinner());
+        
+        rewardAllocationService.recordAllocationResult(outcome);
+    }
+}
@@ -0,0 +1,72 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.AllocationResultDto;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.messaging.config.KafkaProducerConfig;
+import com.frolic.services.config.ExactlyOnceKafkaConfig;
+import com.frolic.services.service.allocation.RewardAllocationService;
+import com.frolic.services.service.play.PlayEventLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer for play events in exactly-once allocation mode
+ * Decides each play and publishes the outcome to {@link KafkaTopics#ALLOCATION_RESULTS} in the same
+ * Kafka transaction as the play's offset, so a play's outcome is committed exactly when the play is.
+ * {@link AllocationResultConsumer} writes committed outcomes to Redis and the database.
+ * 
+ * The Redis budget decrement and coupon pop cannot join the transaction. If a transaction aborts
+ * after a win, the play is decided again and that coupon is stranded: the budget can be under-spent
+ * by one but never over-spent or awarded twice.
+ */
+@Component
+@ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "exactly-once")
+@Slf4j
+public class ExactlyOncePlayEventConsumer {
+    
+    private final RewardAllocationService rewardAllocationService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayEventLogger playLog;
+    private final Timer processingTimer;
+    
+    public ExactlyOncePlayEventConsumer(RewardAllocationService rewardAllocationService,
+                                        @Qualifier(KafkaProducerConfig.TRANSACTIONAL_KAFKA_TEMPLATE)
+                                        KafkaTemplate<String, Object> kafkaTemplate,
+                                        PlayStageMetrics stageMetrics,
+                                        PlayEventLogger playLog,
+                                        MeterRegistry meterRegistry) {
+        this.rewardAllocationService = rewardAllocationService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.stageMetrics = stageMetrics;
+        this.playLog = playLog;
+        this.processingTimer = PlayListenerScaler.processingTimer(meterRegistry);
+    }
+    
+    @KafkaListener(
+        id = PlayEventConsumer.LISTENER_ID,
+        idIsGroup = false,
+        topics = KafkaTopics.PLAY_EVENTS,
+        groupId = PlayEventConsumer.GROUP_ID,
+        concurrency = "${frolic.kafka.listener.concurrency:10}",
+        containerFactory = ExactlyOnceKafkaConfig.CONTAINER_FACTORY
+    )
+    public void consumePlayEvent(PlayEventDto event) {
+        playLog.consumed(event.getPlayId(), event.getGameId(), event.getUserId());
+        stageMetrics.recordDequeueDelay(event.getGameId(), event.getTimestamp());
+        
+        processingTimer.record(() -> {
+            AllocationResultDto outcome = rewardAllocationService.decidePlayEvent(event);
+            // Joins the container's transaction and is only visible once the offset commits with it
+            kafkaTemplate.send(KafkaTopics.ALLOCATION_RESULTS, event.getGameId(), outcome);
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.GameLifecycleEventDto;
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.messaging.producer.PlayKeySpreader;
+import com.frolic.services.service.allocation.PartitionBudgetRegistry;
+import com.frolic.services.service.scheduler.LifecycleTimerService;
+import com.frolic.services.service.stats.PacingTelemetryService;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer for game and campaign lifecycle events
+ * Every node consumes every event: the group ID is unique per instance, and only events published
+ * after startup matter because the local caches start empty.
+ * - Drops the node's snapshot of the changed game or campaign, so the next play reloads it;
+ *   a started game's snapshot is reloaded right away so its first plays hit a warm cache, and its pacing is sampled from then on
+ * - Evicts stopped games from partition-affine budget state, the play stage timers, the latency recorder,
+ *   the pacing telemetry and the play key spreader's rates
+ * - Replaces the game's or campaign's start/end timer, including after edits made on other nodes
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameLifecycleConsumer {
+    
+    private final GameSnapshotCache gameSnapshotCache;
+    private final ObjectProvider<PartitionBudgetRegistry> partitionBudgetRegistry;
+    private final LifecycleTimerService lifecycleTimerService;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayLatencyRecorder latencyRecorder;
+    private final PacingTelemetryService pacingTelemetry;
+    private final PlayKeySpreader keySpreader;
+    
+    @KafkaListener(
+        topics = KafkaTopics.GAME_LIFECYCLE,
+        groupId = "game-lifecycle-${random.uuid}",
+        properties = {
+            "auto.offset.reset=latest",
+            "value.deserializer=org.springframework.kafka.support.serializer.JsonDeserializer",
+            "spring.json.value.default.type=com.frolic.core.common.dto.GameLifecycleEventDto",
+            "spring.json.use.type.headers=false"
+        }
+    )
+    public void consumeLifecycleEvent(GameLifecycleEventDto event) {
+        log.debug("Consuming lifecycle event: type={}, gameId={}, campaignId={}",
+            event.getType(), event.getGameId(), event.getCampaignId());
+        
+        if (event.getType().isGameEvent()) {
+            gameSnapshotCache.invalidateGame(event.getGameId());
+            lifecycleTimerService.rescheduleGame(event.getGameId());
+        } else {
+            gameSnapshotCache.invalidateCampaign(event.getCampaignId());
+            lifecycleTimerService.rescheduleCampaign(event.getCampaignId());
+        }
+        
+        if (event.getType() == GameLifecycleEventType.GAME_STARTED) {
+            gameSnapshotCache.getGame(event.getGameId());
+            pacingTelemetry.track(event.getGameId());
+        }
+        
+        if (event.getType() == GameLifecycleEventType.GAME_STOPPED) {
+            partitionBudgetRegistry.ifAvailable(registry -> registry.evictGame(event.getGameId()));
+            stageMetrics.evictGame(event.getGameId());
+            latencyRecorder.evictGame(event.getGameId());
+            pacingTelemetry.evictGame(event.getGameId());
+            keySpreader.evictGame(event.getGameId());
+        }
+    }
+}
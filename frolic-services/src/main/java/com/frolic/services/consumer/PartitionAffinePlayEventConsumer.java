@@ -0,0 +1,121 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.exception.TechnicalException;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.services.service.allocation.PartitionBudgetRegistry;
+import com.frolic.services.service.allocation.RewardAllocationService;
+import com.frolic.services.service.play.PlayEventLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka consumer for play events in partition-affine allocation mode
+ * Plays are keyed by game ID, so the thread that owns a partition is the single writer for
+ * the budgets of its games; ownership follows the consumer group's assignment
+ * 
+ * Failed plays go straight to {@link KafkaTopics#PLAY_EVENTS_DLT}: retry topics would be consumed by
+ * threads that do not own the partition's budgets. Replays are routed back through the main topic.
+ */
+@Component
+@ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "partition-affine")
+@Slf4j
+public class PartitionAffinePlayEventConsumer implements ConsumerSeekAware {
+    
+    private final RewardAllocationService rewardAllocationService;
+    private final PartitionBudgetRegistry partitionBudgetRegistry;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayEventLogger playLog;
+    private final Timer processingTimer;
+    
+    public PartitionAffinePlayEventConsumer(RewardAllocationService rewardAllocationService,
+                                            PartitionBudgetRegistry partitionBudgetRegistry,
+                                            KafkaTemplate<String, Object> kafkaTemplate,
+                                            PlayStageMetrics stageMetrics,
+                                            PlayEventLogger playLog,
+                                            MeterRegistry meterRegistry) {
+        this.rewardAllocationService = rewardAllocationService;
+        this.partitionBudgetRegistry = partitionBudgetRegistry;
+        this.kafkaTemplate = kafkaTemplate;
+        this.stageMetrics = stageMetrics;
+        this.playLog = playLog;
+        this.processingTimer = PlayListenerScaler.processingTimer(meterRegistry);
+    }
+    
+    @KafkaListener(
+        id = PlayEventConsumer.LISTENER_ID,
+        idIsGroup = false,
+        topics = KafkaTopics.PLAY_EVENTS,
+        groupId = PlayEventConsumer.GROUP_ID,
+        concurrency = "${frolic.kafka.listener.concurrency:10}"
+    )
+    public void consumePlayEvent(PlayEventDto event, @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
+        log.debug("Consuming play event: playId={}, gameId={}, partition={}",
+            event.getPlayId(), event.getGameId(), partition);
+        stageMetrics.recordDequeueDelay(event.getGameId(), event.getTimestamp());
+        
+        long start = System.nanoTime();
+        try {
+            rewardAllocationService.processOwnedPlayEvent(event, partitionBudgetRegistry.acquire(partition));
+            processingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            playLog.failed(event.getPlayId(), event.getGameId(), "dead-lettered", e);
+            deadLetter(event, e);
+        }
+    }
+    
+    private void deadLetter(PlayEventDto event, Exception cause) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(
+            KafkaTopics.PLAY_EVENTS_DLT, event.getGameId(), event);
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN,
+            cause.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE,
+            String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+        // Wait for the send: if it fails the listener throws and the container redelivers the play
+        // instead of committing its offset
+        try {
+            kafkaTemplate.send(record).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException("Interrupted dead-lettering play: " + event.getPlayId(), e);
+        } catch (ExecutionException e) {
+            throw new TechnicalException("Failed to dead-letter play: " + event.getPlayId(), e.getCause());
+        }
+    }
+    
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        partitionBudgetRegistry.assign(playPartitions(assignments.keySet()));
+    }
+    
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitionBudgetRegistry.revoke(playPartitions(partitions));
+    }
+    
+    private static List<Integer> playPartitions(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+            .filter(tp -> KafkaTopics.PLAY_EVENTS.equals(tp.topic()))
+            .map(TopicPartition::partition)
+            .toList();
+    }
+}
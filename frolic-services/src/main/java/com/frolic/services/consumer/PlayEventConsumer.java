@@ -2,37 +2,81 @@ package com.frolic.services.consumer;
 
 import com.frolic.core.common.constant.KafkaTopics;
 import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.common.exception.BusinessException;
 import com.frolic.services.service.allocation.RewardAllocationService;
-import lombok.RequiredArgsConstructor;
+import com.frolic.services.service.play.PlayEventLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 /**
  * Kafka consumer for play events
  * Processes play events and allocates rewards
+ * 
+ * Failed plays move to retry topics with growing delays and finally to {@link KafkaTopics#PLAY_EVENTS_DLT},
+ * so a failing record never holds up its partition. Business errors such as a deleted game skip the retries.
  */
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "redis", matchIfMissing = true)
 @Slf4j
 public class PlayEventConsumer {
     
+    public static final String GROUP_ID = "reward-allocator-group";
+    
+    /**
+     * Listener container ID shared by both allocation modes, used to resize the container at runtime
+     */
+    public static final String LISTENER_ID = "play-events-listener";
+    
     private final RewardAllocationService rewardAllocationService;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayEventLogger playLog;
+    private final Timer processingTimer;
+    
+    public PlayEventConsumer(RewardAllocationService rewardAllocationService,
+                             PlayStageMetrics stageMetrics,
+                             PlayEventLogger playLog,
+                             MeterRegistry meterRegistry) {
+        this.rewardAllocationService = rewardAllocationService;
+        this.stageMetrics = stageMetrics;
+        this.playLog = playLog;
+        this.processingTimer = PlayListenerScaler.processingTimer(meterRegistry);
+    }
     
+    @RetryableTopic(
+        attempts = "${frolic.kafka.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${frolic.kafka.retry.initial-delay-ms:1000}",
+            multiplierExpression = "${frolic.kafka.retry.multiplier:5}"
+        ),
+        exclude = BusinessException.class,
+        traversingCauses = "true",
+        kafkaTemplate = "kafkaTemplate"
+    )
     @KafkaListener(
+        id = LISTENER_ID,
+        idIsGroup = false,
         topics = KafkaTopics.PLAY_EVENTS,
-        groupId = "reward-allocator-group",
-        concurrency = "10"
+        groupId = GROUP_ID,
+        concurrency = "${frolic.kafka.listener.concurrency:10}"
     )
     public void consumePlayEvent(PlayEventDto event) {
-        log.info("Consuming play event: playId={}, gameId={}, userId={}", 
-            event.getPlayId(), event.getGameId(), event.getUserId());
+        playLog.consumed(event.getPlayId(), event.getGameId(), event.getUserId());
+        stageMetrics.recordDequeueDelay(event.getGameId(), event.getTimestamp());
         
-        try {
-            rewardAllocationService.processPlayEvent(event);
-        } catch (Exception e) {
-            log.error("Error processing play event: playId={}", event.getPlayId(), e);
-            // In production, this would go to a dead letter queue
-        }
+        processingTimer.record(() -> rewardAllocationService.processPlayEvent(event));
+    }
+    
+    @DltHandler
+    public void handleDeadLetter(PlayEventDto event) {
+        // Replay from the admin API
+        playLog.failed(event.getPlayId(), event.getGameId(), "dead-lettered", null);
     }
 }
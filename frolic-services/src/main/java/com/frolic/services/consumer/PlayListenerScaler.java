@@ -0,0 +1,202 @@
+package com.frolic.services.consumer;
+
+import com.frolic.services.service.play.KafkaLoadSampler;
+import com.frolic.services.service.play.KafkaLoadSampler.LoadSample;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the play-events listener container from measured lag and processing latency
+ * - Arrival rate is the consumed rate plus the change in lag; latency is the mean of the processing timer
+ * - Threads needed to keep up follow Little's law at the target utilization, plus enough to drain the
+ *   current backlog within the target drain time
+ * - Scaling up applies at once; scaling down waits for several intervals in a row to avoid flapping
+ * 
+ * Concurrency never exceeds the partition count (extra threads would sit idle) nor the Hikari pool
+ * minus a headroom for web and scheduler work, since each allocation holds a connection while it runs.
+ * Resizing restarts the container, which triggers a consumer group rebalance.
+ */
+@Component
+@Slf4j
+public class PlayListenerScaler {
+    
+    static final String PROCESSING_TIMER = "frolic.play.processing";
+    
+    private final KafkaLoadSampler loadSampler;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final DataSource dataSource;
+    private final Timer processingTimer;
+    
+    @Value("${frolic.kafka.listener.autoscale-enabled:true}")
+    private boolean enabled;
+    
+    @Value("${frolic.kafka.listener.min-concurrency:2}")
+    private int minConcurrency;
+    
+    @Value("${frolic.kafka.listener.max-concurrency:16}")
+    private int maxConcurrency;
+    
+    @Value("${frolic.kafka.listener.db-pool-headroom:4}")
+    private int dbPoolHeadroom;
+    
+    @Value("${frolic.kafka.listener.target-utilization:0.75}")
+    private double targetUtilization;
+    
+    @Value("${frolic.kafka.listener.target-drain-seconds:30}")
+    private double targetDrainSeconds;
+    
+    @Value("${frolic.kafka.listener.scale-down-stable-intervals:3}")
+    private int scaleDownStableIntervals;
+    
+    private LoadSample previousSample;
+    private long previousCount;
+    private double previousTotalNanos;
+    private double latencySeconds;
+    private int scaleDownVotes;
+    
+    private volatile long lag;
+    private volatile double recordsPerSecond;
+    
+    public PlayListenerScaler(KafkaLoadSampler loadSampler,
+                              KafkaListenerEndpointRegistry listenerRegistry,
+                              DataSource dataSource,
+                              MeterRegistry meterRegistry) {
+        this.loadSampler = loadSampler;
+        this.listenerRegistry = listenerRegistry;
+        this.dataSource = dataSource;
+        this.processingTimer = processingTimer(meterRegistry);
+        
+        Gauge.builder("frolic.kafka.listener.lag", this, s -> s.lag)
+            .description("Reward allocator consumer lag on play events")
+            .register(meterRegistry);
+        Gauge.builder("frolic.kafka.listener.records-per-second", this, s -> s.recordsPerSecond)
+            .description("Play events consumed per second by the reward allocator group")
+            .register(meterRegistry);
+        Gauge.builder("frolic.kafka.listener.concurrency", this, PlayListenerScaler::currentConcurrency)
+            .description("Current play-events listener concurrency")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Timer recorded around each play event by the play consumers
+     */
+    static Timer processingTimer(MeterRegistry meterRegistry) {
+        return Timer.builder(PROCESSING_TIMER)
+            .description("Time to allocate one play event")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Sample load and resize the listener container if needed
+     */
+    @Scheduled(fixedDelayString = "${frolic.kafka.listener.scale-interval-ms:10000}")
+    public void scale() {
+        if (!enabled) {
+            return;
+        }
+        
+        ConcurrentMessageListenerContainer<?, ?> container = playContainer();
+        if (container == null) {
+            return;
+        }
+        
+        LoadSample sample;
+        try {
+            sample = loadSampler.sample();
+        } catch (Exception e) {
+            log.warn("Failed to sample play event lag, keeping concurrency: {}", e.getMessage());
+            return;
+        }
+        
+        LoadSample previous = previousSample;
+        previousSample = sample;
+        updateLatency();
+        lag = sample.totalLag();
+        if (previous == null || sample.sampledAtMillis() <= previous.sampledAtMillis()) {
+            return;
+        }
+        
+        double seconds = (sample.sampledAtMillis() - previous.sampledAtMillis()) / 1000.0;
+        recordsPerSecond = Math.max(0, sample.committedTotal() - previous.committedTotal()) / seconds;
+        double arrivalRate = Math.max(0, recordsPerSecond + (sample.totalLag() - previous.totalLag()) / seconds);
+        
+        int current = container.getConcurrency();
+        int desired = desiredConcurrency(arrivalRate, sample.totalLag(), maxAllowed(sample.partitionCount()));
+        
+        if (desired > current) {
+            scaleDownVotes = 0;
+            resize(container, current, desired, arrivalRate);
+        } else if (desired < current && ++scaleDownVotes >= scaleDownStableIntervals) {
+            scaleDownVotes = 0;
+            resize(container, current, desired, arrivalRate);
+        } else if (desired == current) {
+            scaleDownVotes = 0;
+        }
+    }
+    
+    /**
+     * Threads needed for the given arrival rate and backlog, clamped to [min, maxAllowed]
+     */
+    int desiredConcurrency(double arrivalRate, long backlog, int maxAllowed) {
+        double needed = arrivalRate * latencySeconds / targetUtilization;
+        if (backlog > 0) {
+            needed += backlog / targetDrainSeconds * latencySeconds;
+        }
+        int desired = (int) Math.ceil(needed);
+        return Math.max(Math.min(minConcurrency, maxAllowed), Math.min(desired, maxAllowed));
+    }
+    
+    /**
+     * Upper bound from configuration, partition count and database pool size
+     */
+    int maxAllowed(int partitionCount) {
+        int max = maxConcurrency;
+        if (partitionCount > 0) {
+            max = Math.min(max, partitionCount);
+        }
+        if (dataSource instanceof HikariDataSource hikari) {
+            max = Math.min(max, Math.max(1, hikari.getMaximumPoolSize() - dbPoolHeadroom));
+        }
+        return max;
+    }
+    
+    private void updateLatency() {
+        long count = processingTimer.count();
+        double totalNanos = processingTimer.totalTime(TimeUnit.NANOSECONDS);
+        if (count > previousCount) {
+            latencySeconds = (totalNanos - previousTotalNanos) / (count - previousCount) / 1_000_000_000.0;
+        }
+        previousCount = count;
+        previousTotalNanos = totalNanos;
+    }
+    
+    private void resize(ConcurrentMessageListenerContainer<?, ?> container, int from, int to, double arrivalRate) {
+        log.info("Resizing play listener: concurrency {} -> {}, lag={}, arrival={}/s, latency={}ms",
+            from, to, lag, Math.round(arrivalRate), Math.round(latencySeconds * 1000));
+        container.stop();
+        container.setConcurrency(to);
+        container.start();
+    }
+    
+    private ConcurrentMessageListenerContainer<?, ?> playContainer() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(PlayEventConsumer.LISTENER_ID);
+        return container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent ? concurrent : null;
+    }
+    
+    private int currentConcurrency() {
+        ConcurrentMessageListenerContainer<?, ?> container = playContainer();
+        return container != null ? container.getConcurrency() : 0;
+    }
+}
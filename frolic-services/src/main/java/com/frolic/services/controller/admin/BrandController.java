@@ -1,6 +1,7 @@
 package com.frolic.services.controller.admin;
 
 import com.frolic.core.common.dto.BrandDto;
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.services.service.admin.BrandService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,17 +24,20 @@ public class BrandController {
     private final BrandService brandService;
     
     /**
-     * Get all brands
+     * Get brands, one keyset page at a time
+     * The cursor for the next page is returned in the X-Next-Cursor header
      */
     @GetMapping
     public ResponseEntity<List<BrandDto>> getAllBrands(
-            @RequestParam(required = false, defaultValue = "false") boolean activeOnly) {
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit) {
         
-        List<BrandDto> brands = activeOnly 
-            ? brandService.getActiveBrands()
-            : brandService.getAllBrands();
+        if (activeOnly) {
+            return ResponseEntity.ok(brandService.getActiveBrands());
+        }
         
-        return ResponseEntity.ok(brands);
+        return PageResponses.ok(brandService.getAllBrands(cursor, limit));
     }
     
     /**
@@ -1,6 +1,8 @@
 package com.frolic.services.controller.admin;
 
 import com.frolic.core.common.dto.CampaignDto;
+import com.frolic.core.common.dto.CursorPageDto;
+import com.frolic.core.common.dto.GameDto;
 import com.frolic.core.common.enums.CampaignStatus;
 import com.frolic.services.service.admin.CampaignService;
 import jakarta.validation.Valid;
@@ -24,17 +26,20 @@ public class CampaignController {
     private final CampaignService campaignService;
     
     /**
-     * Get all campaigns
+     * Get campaigns, one keyset page at a time unless filtered by status
+     * The cursor for the next page is returned in the X-Next-Cursor header
      */
     @GetMapping
     public ResponseEntity<List<CampaignDto>> getAllCampaigns(
-            @RequestParam(required = false) CampaignStatus status) {
+            @RequestParam(required = false) CampaignStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit) {
         
-        List<CampaignDto> campaigns = status != null 
-            ? campaignService.getCampaignsByStatus(status)
-            : campaignService.getAllCampaigns();
+        if (status != null) {
+            return ResponseEntity.ok(campaignService.getCampaignsByStatus(status));
+        }
         
-        return ResponseEntity.ok(campaigns);
+        return PageResponses.ok(campaignService.getAllCampaigns(cursor, limit));
     }
     
     /**
@@ -89,6 +94,16 @@ public class CampaignController {
         return ResponseEntity.ok(activated);
     }
     
+    /**
+     * Start all DRAFT games of a campaign
+     */
+    @PostMapping("/{id}/games/start")
+    public ResponseEntity<List<GameDto>> startGames(@PathVariable String id) {
+        log.info("Starting games of campaign: id={}", id);
+        List<GameDto> games = campaignService.startGames(id);
+        return ResponseEntity.ok(games);
+    }
+    
     /**
      * End campaign
      */
@@ -0,0 +1,45 @@
+package com.frolic.services.controller.admin;
+
+import com.frolic.core.common.dto.CouponImportDto;
+import com.frolic.services.service.coupon.CouponImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Admin controller for coupon inventory management
+ */
+@RestController
+@RequestMapping("/api/v1/admin/coupons")
+@RequiredArgsConstructor
+@Slf4j
+public class CouponController {
+    
+    private final CouponImportService couponImportService;
+    
+    /**
+     * Bulk import coupon codes for a brand from a CSV or XLSX file
+     * The import runs in the background; poll the returned job for progress
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CouponImportDto> importCoupons(
+            @RequestParam String brandId,
+            @RequestParam("file") MultipartFile file) {
+        
+        log.info("Importing coupons: brandId={}, file={}", brandId, file.getOriginalFilename());
+        CouponImportDto job = couponImportService.startImport(brandId, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+    
+    /**
+     * Get progress of a coupon import
+     */
+    @GetMapping("/imports/{jobId}")
+    public ResponseEntity<CouponImportDto> getImport(@PathVariable String jobId) {
+        return ResponseEntity.ok(couponImportService.getImport(jobId));
+    }
+}
@@ -1,8 +1,15 @@
 package com.frolic.services.controller.admin;
 
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.dto.GameDto;
+import com.frolic.core.common.dto.GameStatsDto;
+import com.frolic.core.common.dto.PacingReportDto;
+import com.frolic.core.common.dto.PlayLatencyDto;
 import com.frolic.core.common.enums.GameStatus;
 import com.frolic.services.service.admin.GameService;
+import com.frolic.services.service.stats.GameStatsService;
+import com.frolic.services.service.stats.PacingTelemetryService;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,22 +29,24 @@ import java.util.List;
 public class GameController {
     
     private final GameService gameService;
+    private final GameStatsService gameStatsService;
+    private final PlayLatencyRecorder playLatencyRecorder;
+    private final PacingTelemetryService pacingTelemetryService;
     
     @GetMapping
     public ResponseEntity<List<GameDto>> getAllGames(
             @RequestParam(required = false) String campaignId,
-            @RequestParam(required = false) GameStatus status) {
+            @RequestParam(required = false) GameStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit) {
         
-        List<GameDto> games;
         if (campaignId != null) {
-            games = gameService.getGamesByCampaign(campaignId);
+            return ResponseEntity.ok(gameService.getGamesByCampaign(campaignId));
         } else if (status != null) {
-            games = gameService.getGamesByStatus(status);
-        } else {
-            games = gameService.getAllGames();
+            return ResponseEntity.ok(gameService.getGamesByStatus(status));
         }
         
-        return ResponseEntity.ok(games);
+        return PageResponses.ok(gameService.getAllGames(cursor, limit));
     }
     
     @GetMapping("/{id}")
@@ -46,6 +55,28 @@ public class GameController {
         return ResponseEntity.ok(game);
     }
     
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<GameStatsDto> getGameStats(@PathVariable String id) {
+        GameStatsDto stats = gameStatsService.getGameStats(id);
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * End-to-end latency percentiles of the game on this node, over the last completed window
+     */
+    @GetMapping("/{id}/latency")
+    public ResponseEntity<PlayLatencyDto> getGameLatency(@PathVariable String id) {
+        return ResponseEntity.ok(playLatencyRecorder.getLatency(id));
+    }
+    
+    /**
+     * Remaining budget against the ideal linear burn, slot by slot, as sampled by this node
+     */
+    @GetMapping("/{id}/pacing")
+    public ResponseEntity<PacingReportDto> getGamePacing(@PathVariable String id) {
+        return ResponseEntity.ok(pacingTelemetryService.getReport(id));
+    }
+    
     @PostMapping
     public ResponseEntity<GameDto> createGame(@Valid @RequestBody GameDto dto) {
         log.info("Creating game: name={}", dto.getName());
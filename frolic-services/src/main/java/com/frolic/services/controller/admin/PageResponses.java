@@ -0,0 +1,25 @@
+package com.frolic.services.controller.admin;
+
+import com.frolic.core.common.dto.CursorPageDto;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Helper for returning keyset pages from admin list endpoints
+ * The body stays a plain JSON array; the next cursor travels in a header
+ */
+final class PageResponses {
+    
+    private PageResponses() {
+        // Utility class
+    }
+    
+    static <T> ResponseEntity<List<T>> ok(CursorPageDto<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            builder.header(CursorPageDto.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(page.getItems());
+    }
+}
@@ -0,0 +1,29 @@
+package com.frolic.services.controller.admin;
+
+import com.frolic.core.common.dto.DeadLetterReplayDto;
+import com.frolic.services.service.allocation.DeadLetterReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin controller for play event operations
+ */
+@RestController
+@RequestMapping("/api/v1/admin/play-events")
+@RequiredArgsConstructor
+@Slf4j
+public class PlayEventController {
+    
+    private final DeadLetterReplayService deadLetterReplayService;
+    
+    /**
+     * Re-drive dead-lettered play events through reward allocation
+     */
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<DeadLetterReplayDto> replayDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        log.info("Replaying dead-lettered play events: limit={}", limit);
+        return ResponseEntity.ok(deadLetterReplayService.replay(limit));
+    }
+}
@@ -1,5 +1,6 @@
 package com.frolic.services.controller.admin;
 
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.dto.UserDto;
 import com.frolic.services.service.admin.UserService;
 import jakarta.validation.Valid;
@@ -23,12 +24,16 @@ public class UserController {
     private final UserService userService;
     
     /**
-     * Get all users
+     * Get users, one keyset page at a time
+     * The cursor for the next page is returned in the X-Next-Cursor header
      */
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDto>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + CursorPageDto.DEFAULT_LIMIT) int limit) {
+        
+        CursorPageDto<UserDto> page = userService.getAllUsers(cursor, limit);
+        return PageResponses.ok(page);
     }
     
     /**
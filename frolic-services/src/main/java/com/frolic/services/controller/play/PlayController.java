@@ -27,7 +27,7 @@ public class PlayController {
      */
     @PostMapping
     public ResponseEntity<PlayResponse> submitPlay(@Valid @RequestBody PlayRequest request) {
-        log.info("Received play request: userId={}, gameId={}", request.getUserId(), request.getGameId());
+        log.debug("Received play request: userId={}, gameId={}", request.getUserId(), request.getGameId());
         
         PlayResponse response = playIngestionService.submitPlay(request);
         
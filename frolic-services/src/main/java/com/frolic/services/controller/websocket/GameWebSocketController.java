@@ -24,7 +24,7 @@ public class GameWebSocketController {
      */
     @MessageMapping("/subscribe/{playId}")
     public void subscribeToResult(@DestinationVariable String playId) {
-        log.info("Client subscribed to result: playId={}", playId);
+        log.debug("Client subscribed to result: playId={}", playId);
         
         // Start polling for result (non-blocking with virtual threads)
         resultPollingService.pollAndPushResult(playId);
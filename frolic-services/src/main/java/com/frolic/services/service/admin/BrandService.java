@@ -1,11 +1,13 @@
 package com.frolic.services.service.admin;
 
 import com.frolic.core.common.dto.BrandDto;
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.exception.ResourceNotFoundException;
 import com.frolic.core.repository.entity.BrandEntity;
 import com.frolic.core.repository.jpa.BrandRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,12 +25,13 @@ public class BrandService {
     private final BrandRepository brandRepository;
     
     /**
-     * Get all brands
+     * Get one page of brands, ordered by ID, starting after the given cursor
      */
-    public List<BrandDto> getAllBrands() {
-        return brandRepository.findAll().stream()
-            .map(this::toDto)
-            .collect(Collectors.toList());
+    public CursorPageDto<BrandDto> getAllBrands(String cursor, int limit) {
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<BrandDto> rows = brandRepository.findPageAfter(
+            CursorPageDto.startAfter(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPageDto.of(rows, pageSize, BrandDto::getId);
     }
     
     /**
@@ -1,15 +1,19 @@
 package com.frolic.services.service.admin;
 
 import com.frolic.core.common.dto.CampaignDto;
+import com.frolic.core.common.dto.CursorPageDto;
+import com.frolic.core.common.dto.GameDto;
 import com.frolic.core.common.enums.CampaignStatus;
-import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.common.enums.GameLifecycleEventType;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
 import com.frolic.core.repository.entity.CampaignEntity;
 import com.frolic.core.repository.entity.GameEntity;
 import com.frolic.core.repository.jpa.CampaignRepository;
 import com.frolic.core.repository.jpa.GameRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,14 +31,17 @@ public class CampaignService {
     private final CampaignRepository campaignRepository;
     private final GameRepository gameRepository;
     private final GameService gameService;
+    private final GameBulkLifecycleService gameBulkLifecycleService;
+    private final GameLifecycleProducer lifecycleProducer;
     
     /**
-     * Get all campaigns
+     * Get one page of campaigns, ordered by ID, starting after the given cursor
      */
-    public List<CampaignDto> getAllCampaigns() {
-        return campaignRepository.findAll().stream()
-            .map(this::toDto)
-            .collect(Collectors.toList());
+    public CursorPageDto<CampaignDto> getAllCampaigns(String cursor, int limit) {
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<CampaignDto> rows = campaignRepository.findPageAfter(
+            CursorPageDto.startAfter(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPageDto.of(rows, pageSize, CampaignDto::getId);
     }
     
     /**
@@ -69,6 +76,7 @@ public class CampaignService {
         
         entity = campaignRepository.save(entity);
         log.info("Created campaign: id={}, name={}", entity.getId(), entity.getName());
+        lifecycleProducer.publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_CREATED, entity.getId());
         
         return toDto(entity);
     }
@@ -89,6 +97,7 @@ public class CampaignService {
         
         entity = campaignRepository.save(entity);
         log.info("Updated campaign: id={}, name={}", entity.getId(), entity.getName());
+        lifecycleProducer.publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_UPDATED, id);
         
         return toDto(entity);
     }
@@ -103,6 +112,7 @@ public class CampaignService {
         }
         campaignRepository.deleteById(id);
         log.info("Deleted campaign: id={}", id);
+        lifecycleProducer.publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_DELETED, id);
     }
     
     /**
@@ -116,10 +126,26 @@ public class CampaignService {
         entity.setStatus(CampaignStatus.ACTIVE);
         entity = campaignRepository.save(entity);
         log.info("Activated campaign: id={}", id);
+        lifecycleProducer.publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_ACTIVATED, id);
         
         return toDto(entity);
     }
     
+    /**
+     * Start all DRAFT games of a campaign together
+     */
+    @Transactional
+    public List<GameDto> startGames(String id) {
+        if (!campaignRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Campaign", id);
+        }
+        
+        List<String> started = gameBulkLifecycleService.startGames(gameRepository.findByCampaignId(id));
+        log.info("Started {} games of campaign: id={}", started.size(), id);
+        
+        return gameService.getGamesByCampaign(id);
+    }
+    
     /**
      * End campaign - cascade to all games
      */
@@ -128,22 +154,16 @@ public class CampaignService {
         CampaignEntity entity = campaignRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Campaign", id));
         
-        // End all active games in this campaign
+        // End all active games in this campaign together; if that fails the campaign stays ACTIVE
+        // and the scheduler retries, since the shared transaction can no longer commit
         List<GameEntity> games = gameRepository.findByCampaignId(id);
-        for (GameEntity game : games) {
-            if (game.getStatus() == GameStatus.ACTIVE) {
-                try {
-                    gameService.stopGame(game.getId());
-                    log.info("Stopped game: id={} as part of campaign completion", game.getId());
-                } catch (Exception e) {
-                    log.error("Failed to stop game: id={} during campaign completion", game.getId(), e);
-                }
-            }
-        }
+        List<String> stopped = gameBulkLifecycleService.stopGames(games);
+        log.info("Stopped {} games as part of campaign completion: campaignId={}", stopped.size(), id);
         
         entity.setStatus(CampaignStatus.ENDED);
         entity = campaignRepository.save(entity);
         log.info("Ended campaign: id={}, all games stopped", id);
+        lifecycleProducer.publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_ENDED, id);
         
         return toDto(entity);
     }
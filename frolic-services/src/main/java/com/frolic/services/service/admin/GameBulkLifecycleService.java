@@ -0,0 +1,198 @@
+package com.frolic.services.service.admin;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Starts and stops many games at once, e.g. every game of a campaign
+ * - Budget rows of all games are split into at most {@code parallelism} slices handled concurrently
+ * - Each slice is one MSET on start, or one MGET plus one pipelined DEL on stop
+ * - On stop the budget keys are deleted only after the ENDED status has committed
+ * - Final budgets and game statuses are written with one statement each
+ *
+ * Same semantics as GameService.startGame/stopGame, which remain the single-game path.
+ */
+@Service
+@Slf4j
+public class GameBulkLifecycleService {
+    
+    private final GameRepository gameRepository;
+    private final GameBrandBudgetRepository budgetRepository;
+    private final RedisBudgetStore redisBudgetStore;
+    private final GameLifecycleProducer lifecycleProducer;
+    private final AsyncTaskExecutor taskExecutor;
+    
+    @Value("${frolic.lifecycle.bulk.parallelism:8}")
+    private int parallelism;
+    
+    public GameBulkLifecycleService(GameRepository gameRepository,
+                                    GameBrandBudgetRepository budgetRepository,
+                                    RedisBudgetStore redisBudgetStore,
+                                    GameLifecycleProducer lifecycleProducer,
+                                    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                    AsyncTaskExecutor taskExecutor) {
+        this.gameRepository = gameRepository;
+        this.budgetRepository = budgetRepository;
+        this.redisBudgetStore = redisBudgetStore;
+        this.lifecycleProducer = lifecycleProducer;
+        this.taskExecutor = taskExecutor;
+    }
+    
+    /**
+     * Start every DRAFT game in the list and load its budgets to Redis
+     *
+     * @return IDs of the games started
+     */
+    @Transactional
+    public List<String> startGames(List<GameEntity> games) {
+        List<GameEntity> drafts = withStatus(games, GameStatus.DRAFT);
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+        
+        long startNanos = System.nanoTime();
+        List<String> gameIds = ids(drafts);
+        List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameIdIn(gameIds);
+        
+        inSlices(budgets, slice -> {
+            redisBudgetStore.initializeBudgets(slice.stream().collect(Collectors.toMap(
+                budget -> RedisKeys.budgetKey(budget.getGameId(), budget.getBrandId()),
+                budget -> String.valueOf(budget.getTotalBudget()))));
+            return List.of();
+        });
+        
+        int updated = gameRepository.updateStatus(gameIds, GameStatus.DRAFT, GameStatus.ACTIVE, LocalDateTime.now());
+        drafts.forEach(game -> lifecycleProducer.publishGameEvent(
+            GameLifecycleEventType.GAME_STARTED, game.getId(), game.getCampaignId()));
+        
+        log.info("Bulk started games: games={}, updated={}, budgets={}, elapsedMs={}",
+            gameIds.size(), updated, budgets.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        return gameIds;
+    }
+    
+    /**
+     * Stop every ACTIVE game in the list, syncing its final Redis budgets to PostgreSQL
+     *
+     * @return IDs of the games stopped
+     */
+    @Transactional
+    public List<String> stopGames(List<GameEntity> games) {
+        List<GameEntity> active = withStatus(games, GameStatus.ACTIVE);
+        if (active.isEmpty()) {
+            return List.of();
+        }
+        
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<String> gameIds = ids(active);
+        List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameIdIn(gameIds);
+        
+        // Final counters, read with one MGET per slice
+        List<BudgetCheckpoint> finalBudgets = inSlices(budgets, this::readBudgets);
+        int synced = budgetRepository.applyCheckpoints(finalBudgets, now);
+        
+        int updated = gameRepository.updateStatus(gameIds, GameStatus.ACTIVE, GameStatus.ENDED, now);
+        afterCommit(() -> inSlices(budgets, slice -> {
+            redisBudgetStore.clearBudgets(budgetKeys(slice));
+            return List.of();
+        }));
+        active.forEach(game -> lifecycleProducer.publishGameEvent(
+            GameLifecycleEventType.GAME_STOPPED, game.getId(), game.getCampaignId()));
+        
+        log.info("Bulk stopped games: games={}, updated={}, budgetsSynced={}, elapsedMs={}",
+            gameIds.size(), updated, synced, (System.nanoTime() - startNanos) / 1_000_000);
+        return gameIds;
+    }
+    
+    /**
+     * Run the action once the surrounding transaction commits, or now when there is none
+     * Budget keys must outlive the ACTIVE status in PostgreSQL, or budget rehydration would recreate them.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private List<BudgetCheckpoint> readBudgets(List<GameBrandBudgetEntity> slice) {
+        List<String> values = redisBudgetStore.getBudgetValues(budgetKeys(slice));
+        List<BudgetCheckpoint> checkpoints = new ArrayList<>(slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            GameBrandBudgetEntity budget = slice.get(i);
+            if (values.get(i) != null) {
+                checkpoints.add(new BudgetCheckpoint(budget.getGameId(), budget.getBrandId(), Integer.parseInt(values.get(i))));
+            } else {
+                log.warn("No Redis budget found for game={}, brand={}, skipping sync", budget.getGameId(), budget.getBrandId());
+            }
+        }
+        return checkpoints;
+    }
+    
+    /**
+     * Run the task over at most {@code parallelism} slices of the budgets concurrently and collect the results
+     */
+    private <T> List<T> inSlices(List<GameBrandBudgetEntity> budgets, Function<List<GameBrandBudgetEntity>, List<T>> task) {
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+        
+        int sliceCount = Math.max(1, Math.min(parallelism, budgets.size()));
+        int sliceSize = (budgets.size() + sliceCount - 1) / sliceCount;
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(sliceCount);
+        for (int from = 0; from < budgets.size(); from += sliceSize) {
+            List<GameBrandBudgetEntity> slice = budgets.subList(from, Math.min(from + sliceSize, budgets.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(slice), taskExecutor));
+        }
+        
+        List<T> results = new ArrayList<>();
+        for (CompletableFuture<List<T>> future : futures) {
+            results.addAll(future.join());
+        }
+        return results;
+    }
+    
+    private static List<GameEntity> withStatus(List<GameEntity> games, GameStatus status) {
+        return games.stream().filter(game -> game.getStatus() == status).collect(Collectors.toList());
+    }
+    
+    private static List<String> ids(List<GameEntity> games) {
+        return games.stream().map(GameEntity::getId).collect(Collectors.toList());
+    }
+    
+    private static List<String> budgetKeys(List<GameBrandBudgetEntity> budgets) {
+        return budgets.stream()
+            .map(budget -> RedisKeys.budgetKey(budget.getGameId(), budget.getBrandId()))
+            .collect(Collectors.toList());
+    }
+}
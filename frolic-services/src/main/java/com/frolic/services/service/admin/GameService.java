@@ -1,12 +1,16 @@
 package com.frolic.services.service.admin;
 
 import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.dto.GameBrandBudgetDto;
 import com.frolic.core.common.dto.GameDto;
+import com.frolic.core.common.enums.GameLifecycleEventType;
 import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.common.enums.ProbabilityType;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
 import com.frolic.core.repository.entity.CampaignEntity;
 import com.frolic.core.repository.entity.GameBrandBudgetEntity;
 import com.frolic.core.repository.entity.GameEntity;
@@ -16,10 +20,13 @@ import com.frolic.core.repository.jpa.GameRepository;
 import com.frolic.services.service.budget.BudgetSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,14 +42,16 @@ public class GameService {
     private final GameBrandBudgetRepository budgetRepository;
     private final RedisBudgetStore redisBudgetStore;
     private final BudgetSyncService budgetSyncService;
+    private final GameLifecycleProducer lifecycleProducer;
     
     /**
-     * Get all games
+     * Get one page of games, ordered by ID, starting after the given cursor
      */
-    public List<GameDto> getAllGames() {
-        return gameRepository.findAll().stream()
-            .map(this::toDto)
-            .collect(Collectors.toList());
+    public CursorPageDto<GameDto> getAllGames(String cursor, int limit) {
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<GameEntity> rows = gameRepository.findPageAfter(
+            CursorPageDto.startAfter(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPageDto.of(toDtos(rows), pageSize, GameDto::getId);
     }
     
     /**
@@ -58,18 +67,14 @@ public class GameService {
      * Get games by campaign
      */
     public List<GameDto> getGamesByCampaign(String campaignId) {
-        return gameRepository.findByCampaignId(campaignId).stream()
-            .map(this::toDto)
-            .collect(Collectors.toList());
+        return toDtos(gameRepository.findByCampaignId(campaignId));
     }
     
     /**
      * Get games by status
      */
     public List<GameDto> getGamesByStatus(GameStatus status) {
-        return gameRepository.findByStatusOrderByCreatedAtDesc(status).stream()
-            .map(this::toDto)
-            .collect(Collectors.toList());
+        return toDtos(gameRepository.findByStatusOrderByCreatedAtDesc(status));
     }
     
     /**
@@ -82,6 +87,10 @@ public class GameService {
             throw new InvalidRequestException("End time must be after start time");
         }
         
+        if (dto.getKeySpread() != null && dto.getKeySpread() < 1) {
+            throw new InvalidRequestException("Key spread must be at least 1");
+        }
+        
         // Validate game times are within campaign date range
         CampaignEntity campaign = campaignRepository.findById(dto.getCampaignId())
             .orElseThrow(() -> new ResourceNotFoundException("Campaign", dto.getCampaignId()));
@@ -102,25 +111,35 @@ public class GameService {
         entity.setEndTime(dto.getEndTime());
         entity.setProbabilityType(dto.getProbabilityType() != null ? dto.getProbabilityType() : ProbabilityType.TIME_BASED);
         entity.setSlotGranularitySeconds(dto.getSlotGranularitySeconds() != null ? dto.getSlotGranularitySeconds() : 5);
+        entity.setKeySpread(dto.getKeySpread());
         
         entity = gameRepository.save(entity);
         
-        // Create brand budgets
+        // Create brand budgets in one batched insert
+        List<GameBrandBudgetDto> budgetDtos = Collections.emptyList();
         if (dto.getBrandBudgets() != null && !dto.getBrandBudgets().isEmpty()) {
-            for (GameBrandBudgetDto budgetDto : dto.getBrandBudgets()) {
-                GameBrandBudgetEntity budgetEntity = new GameBrandBudgetEntity();
-                budgetEntity.setGameId(entity.getId());
-                budgetEntity.setBrandId(budgetDto.getBrandId());
-                budgetEntity.setTotalBudget(budgetDto.getTotalBudget());
-                budgetEntity.setAllocatedBudget(0);
-                budgetEntity.setRemainingBudget(budgetDto.getTotalBudget());
-                budgetRepository.save(budgetEntity);
-            }
+            String gameId = entity.getId();
+            List<GameBrandBudgetEntity> budgets = dto.getBrandBudgets().stream()
+                .map(budgetDto -> {
+                    GameBrandBudgetEntity budgetEntity = new GameBrandBudgetEntity();
+                    budgetEntity.setGameId(gameId);
+                    budgetEntity.setBrandId(budgetDto.getBrandId());
+                    budgetEntity.setTotalBudget(budgetDto.getTotalBudget());
+                    budgetEntity.setAllocatedBudget(0);
+                    budgetEntity.setRemainingBudget(budgetDto.getTotalBudget());
+                    return budgetEntity;
+                })
+                .collect(Collectors.toList());
+            
+            budgetDtos = budgetRepository.saveAll(budgets).stream()
+                .map(this::toBudgetDto)
+                .collect(Collectors.toList());
         }
         
         log.info("Created game: id={}, name={}, campaign={}", entity.getId(), entity.getName(), entity.getCampaignId());
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_CREATED, entity.getId(), entity.getCampaignId());
         
-        return toDto(entity);
+        return toDto(entity, budgetDtos);
     }
     
     /**
@@ -141,6 +160,10 @@ public class GameService {
             throw new InvalidRequestException("End time must be after start time");
         }
         
+        if (dto.getKeySpread() != null && dto.getKeySpread() < 1) {
+            throw new InvalidRequestException("Key spread must be at least 1");
+        }
+        
         // Validate game times are within campaign date range
         String campaignId=entity.getCampaignId();
         CampaignEntity campaign = campaignRepository.findById(campaignId)
@@ -159,9 +182,11 @@ public class GameService {
         entity.setEndTime(dto.getEndTime());
         entity.setProbabilityType(dto.getProbabilityType());
         entity.setSlotGranularitySeconds(dto.getSlotGranularitySeconds());
+        entity.setKeySpread(dto.getKeySpread());
         
         entity = gameRepository.save(entity);
         log.info("Updated game: id={}, name={}", entity.getId(), entity.getName());
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_UPDATED, id, entity.getCampaignId());
         
         return toDto(entity);
     }
@@ -181,6 +206,7 @@ public class GameService {
         
         gameRepository.deleteById(id);
         log.info("Deleted game: id={}", id);
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_DELETED, id, entity.getCampaignId());
     }
     
     /**
@@ -195,16 +221,17 @@ public class GameService {
             throw new InvalidRequestException("Can only start games in DRAFT status");
         }
         
-        // Load budgets to Redis
+        // Load budgets to Redis in one MSET
         List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameId(id);
-        for (GameBrandBudgetEntity budget : budgets) {
-            redisBudgetStore.initializeBudget(id, budget.getBrandId(), budget.getTotalBudget());
-        }
+        redisBudgetStore.initializeBudgets(budgets.stream().collect(Collectors.toMap(
+            budget -> RedisKeys.budgetKey(id, budget.getBrandId()),
+            budget -> String.valueOf(budget.getTotalBudget()))));
         
         entity.setStatus(GameStatus.ACTIVE);
         entity = gameRepository.save(entity);
         
         log.info("Started game: id={}, budgets loaded to Redis", id);
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_STARTED, id, entity.getCampaignId());
         
         return toDto(entity);
     }
@@ -226,14 +253,15 @@ public class GameService {
         
         // Clear budgets from Redis
         List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameId(id);
-        for (GameBrandBudgetEntity budget : budgets) {
-            redisBudgetStore.clearBudget(id, budget.getBrandId());
-        }
+        redisBudgetStore.clearBudgets(budgets.stream()
+            .map(budget -> RedisKeys.budgetKey(id, budget.getBrandId()))
+            .collect(Collectors.toList()));
         
         entity.setStatus(GameStatus.ENDED);
         entity = gameRepository.save(entity);
         
         log.info("Stopped game: id={}, budgets synced to PostgreSQL", id);
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_STOPPED, id, entity.getCampaignId());
         
         return toDto(entity);
     }
@@ -254,6 +282,7 @@ public class GameService {
         entity = gameRepository.save(entity);
         
         log.info("Paused game: id={}", id);
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_PAUSED, id, entity.getCampaignId());
         
         return toDto(entity);
     }
@@ -274,22 +303,49 @@ public class GameService {
         entity = gameRepository.save(entity);
         
         log.info("Resumed game: id={}", id);
+        lifecycleProducer.publishGameEvent(GameLifecycleEventType.GAME_RESUMED, id, entity.getCampaignId());
         
         return toDto(entity);
     }
     
     private GameDto toDto(GameEntity entity) {
         List<GameBrandBudgetDto> budgetDtos = budgetRepository.findByGameId(entity.getId()).stream()
-            .map(b -> GameBrandBudgetDto.builder()
-                .id(b.getId())
-                .gameId(b.getGameId())
-                .brandId(b.getBrandId())
-                .totalBudget(b.getTotalBudget())
-                .allocatedBudget(b.getAllocatedBudget())
-                .remainingBudget(b.getRemainingBudget())
-                .build())
+            .map(this::toBudgetDto)
             .collect(Collectors.toList());
         
+        return toDto(entity, budgetDtos);
+    }
+    
+    /**
+     * Map a list of games loading all their budgets with a single IN query
+     */
+    private List<GameDto> toDtos(List<GameEntity> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        List<String> gameIds = entities.stream().map(GameEntity::getId).collect(Collectors.toList());
+        Map<String, List<GameBrandBudgetDto>> budgetsByGame = budgetRepository.findByGameIdIn(gameIds).stream()
+            .map(this::toBudgetDto)
+            .collect(Collectors.groupingBy(GameBrandBudgetDto::getGameId));
+        
+        return entities.stream()
+            .map(e -> toDto(e, budgetsByGame.getOrDefault(e.getId(), Collections.emptyList())))
+            .collect(Collectors.toList());
+    }
+    
+    private GameBrandBudgetDto toBudgetDto(GameBrandBudgetEntity b) {
+        return GameBrandBudgetDto.builder()
+            .id(b.getId())
+            .gameId(b.getGameId())
+            .brandId(b.getBrandId())
+            .totalBudget(b.getTotalBudget())
+            .allocatedBudget(b.getAllocatedBudget())
+            .remainingBudget(b.getRemainingBudget())
+            .build();
+    }
+    
+    private GameDto toDto(GameEntity entity, List<GameBrandBudgetDto> budgetDtos) {
         return GameDto.builder()
             .id(entity.getId())
             .name(entity.getName())
@@ -299,6 +355,7 @@ public class GameService {
             .endTime(entity.getEndTime())
             .probabilityType(entity.getProbabilityType())
             .slotGranularitySeconds(entity.getSlotGranularitySeconds())
+            .keySpread(entity.getKeySpread())
             .brandBudgets(budgetDtos)
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
@@ -1,5 +1,6 @@
 package com.frolic.services.service.admin;
 
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.dto.UserDto;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
@@ -7,11 +8,11 @@ import com.frolic.core.repository.entity.UserEntity;
 import com.frolic.core.repository.jpa.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for user management
@@ -24,12 +25,13 @@ public class UserService {
     private final UserRepository userRepository;
     
     /**
-     * Get all users
+     * Get one page of users, ordered by ID, starting after the given cursor
      */
-    public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
-            .map(this::toDto)
-            .collect(Collectors.toList());
+    public CursorPageDto<UserDto> getAllUsers(String cursor, int limit) {
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<UserDto> rows = userRepository.findPageAfter(
+            CursorPageDto.startAfter(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPageDto.of(rows, pageSize, UserDto::getId);
     }
     
     /**
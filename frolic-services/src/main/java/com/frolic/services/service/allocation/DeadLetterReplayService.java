@@ -0,0 +1,145 @@
+package com.frolic.services.service.allocation;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.DeadLetterReplayDto;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.exception.InvalidRequestException;
+import com.frolic.core.common.exception.TechnicalException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Service for re-driving dead-lettered play events
+ * - Reads the DLT with its own consumer group, so each replay continues where the last one stopped
+ * - Redis mode processes each play directly through RewardAllocationService, counting it as replayed only
+ *   when its play was recorded and as skipped when it was already processed
+ * - Partition-affine and exactly-once modes republish to the main topic, so the partition owner or
+ *   the transactional allocator decides
+ * 
+ * Plays that fail again are appended to the DLT and can be replayed later. If that append fails the
+ * replay stops there and the play's offset stays uncommitted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterReplayService {
+    
+    static final String REPLAY_GROUP_ID = "play-events-dlt-replay";
+    private static final String REDIS_MODE = "redis";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final RewardAllocationService rewardAllocationService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    
+    @Value("${frolic.allocation.mode:redis}")
+    private String allocationMode;
+    
+    /**
+     * Replay up to limit dead-lettered play events
+     */
+    public synchronized DeadLetterReplayDto replay(int limit) {
+        if (limit <= 0) {
+            throw new InvalidRequestException("Replay limit must be positive");
+        }
+        
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, limit);
+        
+        DeadLetterReplayDto result = new DeadLetterReplayDto();
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(REPLAY_GROUP_ID, null, null, overrides)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(KafkaTopics.PLAY_EVENTS_DLT).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+            consumer.assign(partitions);
+            
+            // Only records that were replayed or safely returned to the DLT are committed, so a play
+            // whose return failed is read again by the next replay
+            Map<TopicPartition, OffsetAndMetadata> done = new HashMap<>();
+            int handled = 0;
+            try {
+                while (handled < limit) {
+                    ConsumerRecords<Object, Object> records = consumer.poll(POLL_TIMEOUT);
+                    if (records.isEmpty()) {
+                        break;
+                    }
+                    for (ConsumerRecord<Object, Object> record : records) {
+                        if (handled == limit) {
+                            break;
+                        }
+                        redrive(record, result);
+                        done.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                        handled++;
+                    }
+                }
+            } finally {
+                if (!done.isEmpty()) {
+                    consumer.commitSync(done);
+                }
+            }
+        }
+        
+        log.info("Replayed dead-lettered plays: replayed={}, failed={}, skipped={}",
+            result.getReplayed(), result.getFailed(), result.getSkipped());
+        return result;
+    }
+    
+    private void redrive(ConsumerRecord<Object, Object> record, DeadLetterReplayDto result) {
+        if (!(record.value() instanceof PlayEventDto event)) {
+            log.warn("Skipping unreadable dead letter: partition={}, offset={}", record.partition(), record.offset());
+            result.setSkipped(result.getSkipped() + 1);
+            return;
+        }
+        
+        try {
+            if (REDIS_MODE.equals(allocationMode)) {
+                if (!rewardAllocationService.processPlayEvent(event)) {
+                    // Already recorded, e.g. by an earlier replay; nothing was written this time
+                    result.setSkipped(result.getSkipped() + 1);
+                    return;
+                }
+            } else {
+                kafkaTemplate.send(KafkaTopics.PLAY_EVENTS, event.getGameId(), event).get();
+            }
+            result.setReplayed(result.getReplayed() + 1);
+        } catch (Exception e) {
+            log.error("Replay failed, returning play to the DLT: playId={}", event.getPlayId(), e);
+            returnToDeadLetters(event);
+            result.setFailed(result.getFailed() + 1);
+        }
+    }
+    
+    /**
+     * Append the play to the DLT again, waiting for the send so its offset is only committed once it is safe
+     */
+    private void returnToDeadLetters(PlayEventDto event) {
+        try {
+            kafkaTemplate.send(KafkaTopics.PLAY_EVENTS_DLT, event.getGameId(), event).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException("Interrupted returning play to the DLT: " + event.getPlayId(), e);
+        } catch (ExecutionException e) {
+            throw new TechnicalException("Failed to return play to the DLT: " + event.getPlayId(), e.getCause());
+        }
+    }
+}
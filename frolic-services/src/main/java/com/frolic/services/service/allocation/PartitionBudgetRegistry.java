@@ -0,0 +1,110 @@
+package com.frolic.services.service.allocation;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.engine.affinity.PartitionBudgetState;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of play-events partitions owned by this instance in partition-affine allocation mode
+ * - Assigned partitions get a fresh state; game budgets are loaded from Redis on first play
+ * - Changed budgets are written back to Redis on a short interval, off the allocation path
+ * - Revoked partitions are flushed synchronously before the rebalance completes, so the next
+ *   owner reads up-to-date counters from Redis
+ * 
+ * Redis stays the hand-off point and the source for the PostgreSQL checkpoint. All instances in
+ * the consumer group must run the same allocation mode, since the Redis-mode script decrements
+ * the same counters these writes overwrite.
+ */
+@Component
+@ConditionalOnProperty(name = "frolic.allocation.mode", havingValue = "partition-affine")
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionBudgetRegistry {
+    
+    private final RedisBudgetStore redisBudgetStore;
+    private final Map<Integer, PartitionBudgetState> ownedPartitions = new ConcurrentHashMap<>();
+    
+    @Value("${frolic.allocation.affine.dedupe-window:50000}")
+    private int dedupeWindow;
+    
+    /**
+     * Get the state of an owned partition, creating it if the assignment callback has not run yet
+     */
+    public PartitionBudgetState acquire(int partition) {
+        return ownedPartitions.computeIfAbsent(partition, p -> new PartitionBudgetState(p, dedupeWindow));
+    }
+    
+    /**
+     * Take ownership of newly assigned partitions
+     */
+    public void assign(Collection<Integer> partitions) {
+        partitions.forEach(this::acquire);
+        log.info("Assigned play partitions: {}", partitions);
+    }
+    
+    /**
+     * Give up revoked partitions, writing their pending budgets back to Redis first
+     */
+    public void revoke(Collection<Integer> partitions) {
+        for (Integer partition : partitions) {
+            PartitionBudgetState state = ownedPartitions.remove(partition);
+            if (state != null) {
+                flush(state);
+            }
+        }
+        log.info("Revoked play partitions: {}", partitions);
+    }
+    
+    /**
+     * Write changed budgets of all owned partitions back to Redis
+     */
+    @Scheduled(fixedDelayString = "${frolic.allocation.affine.checkpoint-interval-ms:200}")
+    public void checkpoint() {
+        ownedPartitions.values().forEach(this::flush);
+    }
+    
+    /**
+     * Drop a stopped game from every owned partition so its budgets are not decided in memory any more
+     */
+    public void evictGame(String gameId) {
+        ownedPartitions.values().forEach(state -> state.markStopped(gameId));
+    }
+    
+    /**
+     * Number of partitions currently owned
+     */
+    public int getOwnedPartitionCount() {
+        return ownedPartitions.size();
+    }
+    
+    private void flush(PartitionBudgetState state) {
+        // Serialises the scheduled checkpoint and a revoke so an older drain never overwrites a newer one
+        synchronized (state) {
+            List<BudgetCheckpoint> checkpoints = state.drainPendingCheckpoints();
+            if (checkpoints.isEmpty()) {
+                return;
+            }
+            
+            try {
+                List<BudgetCheckpoint> missing = redisBudgetStore.writeOwnedBudgets(checkpoints);
+                missing.forEach(checkpoint -> state.markStopped(checkpoint.gameId()));
+                log.debug("Flushed partition budgets: partition={}, written={}, stopped={}",
+                    state.getPartition(), checkpoints.size() - missing.size(), missing.size());
+            } catch (Exception e) {
+                log.error("Failed to flush partition budgets, will retry: partition={}", state.getPartition(), e);
+                state.requeue(checkpoints);
+            }
+        }
+    }
+}
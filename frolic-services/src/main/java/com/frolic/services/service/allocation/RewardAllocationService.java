@@ -1,19 +1,31 @@
 package com.frolic.services.service.allocation;
 
+import com.frolic.core.cache.local.GameSnapshot;
+import com.frolic.core.cache.local.GameSnapshotCache;
 import com.frolic.core.cache.store.RedisResultStore;
+import com.frolic.core.common.dto.AllocationResultDto;
 import com.frolic.core.common.dto.PlayEventDto;
 import com.frolic.core.common.dto.PlayResultDto;
 import com.frolic.core.common.enums.PlayStatus;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.common.jfr.AllocationDecisionEvent;
+import com.frolic.core.common.metrics.PlayStage;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.common.util.TimeUtils;
+import com.frolic.core.engine.affinity.GameBudgetState;
+import com.frolic.core.engine.affinity.PartitionBudgetState;
 import com.frolic.core.engine.concurrency.AtomicBudgetDecrementer;
 import com.frolic.core.engine.concurrency.IdempotencyHandler;
 import com.frolic.core.engine.probability.ProbabilityCalculator;
+import com.frolic.core.engine.stats.PlayStatsAggregator;
 import com.frolic.core.repository.entity.GameBrandBudgetEntity;
-import com.frolic.core.repository.entity.GameEntity;
 import com.frolic.core.repository.entity.PlayEventEntity;
 import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
-import com.frolic.core.repository.jpa.GameRepository;
 import com.frolic.core.repository.jpa.PlayEventRepository;
+import com.frolic.services.service.coupon.CouponPoolService;
+import com.frolic.services.service.play.PlayEventLogger;
+import com.frolic.services.service.stats.PacingTelemetryService;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -35,54 +49,125 @@ public class RewardAllocationService {
     /**
      * Helper record to store brand budget information
      */
-    private record BrandBudgetInfo(GameBrandBudgetEntity budget, int remainingBudget) {}
+    private record BrandBudgetInfo(String brandId, int remainingBudget) {}
     
     private final IdempotencyHandler idempotencyHandler;
     private final ProbabilityCalculator probabilityCalculator;
     private final AtomicBudgetDecrementer budgetDecrementer;
-    private final GameRepository gameRepository;
     private final GameBrandBudgetRepository gameBrandBudgetRepository;
     private final PlayEventRepository playEventRepository;
     private final RedisResultStore redisResultStore;
-    private final Random random = new Random();
+    private final PlayStatsAggregator playStatsAggregator;
+    private final CouponPoolService couponPoolService;
+    private final GameSnapshotCache gameSnapshotCache;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayLatencyRecorder latencyRecorder;
+    private final PacingTelemetryService pacingTelemetry;
+    private final PlayEventLogger playLog;
     
     /**
      * Process a play event and allocate rewards
+     * A redelivered winner whose recording failed is recorded from the result kept with its processed mark.
+     * Not transactional: a winner's coupon is marked issued in its own committed transaction before the result
+     * is stored anywhere, so a failed play write can never leave a code the winner has seen returnable to the pool.
+     * 
+     * @return true if the play was recorded, false if it was skipped as already processed
      */
-    @Transactional
-    public void processPlayEvent(PlayEventDto event) {
+    public boolean processPlayEvent(PlayEventDto event) {
+        AllocationDecisionEvent decision = AllocationDecisionEvent.beginIfRecording();
+        
         // Check idempotency
-        if (!idempotencyHandler.tryMarkAsProcessed(event.getPlayId())) {
-            log.warn("Play already processed: playId={}", event.getPlayId());
+        long idempotencyStart = System.nanoTime();
+        boolean firstDelivery = idempotencyHandler.tryMarkAsProcessed(event.getPlayId());
+        long idempotencyNanos = stageMetrics.recordSince(PlayStage.IDEMPOTENCY, event.getGameId(), idempotencyStart);
+        if (!firstDelivery) {
+            return recordKept(event, idempotencyHandler.getDecided(event.getPlayId()));
+        }
+        if (decision != null) {
+            decision.addRedisTime(idempotencyNanos);
+        }
+        
+        PlayResultDto result;
+        try {
+            result = decide(event, decision);
+        } catch (RuntimeException e) {
+            // Nothing was spent yet, so let the retry topics or a dead-letter replay process the play again
+            idempotencyHandler.clearProcessed(event.getPlayId());
+            throw e;
+        }
+        recordDecided(event, result, decision, idempotencyHandler::keepDecided,
+            () -> idempotencyHandler.clearProcessed(event.getPlayId()));
+        return true;
+    }
+    
+    /**
+     * Decide a play without recording it, for the exactly-once pipeline
+     * The outcome is published in the consumer's Kafka transaction instead of being written here, so
+     * there is no per-play idempotency key: a play whose transaction aborted is simply decided again.
+     */
+    public AllocationResultDto decidePlayEvent(PlayEventDto event) {
+        AllocationDecisionEvent decision = AllocationDecisionEvent.beginIfRecording();
+        PlayResultDto result = decide(event, decision);
+        if (decision != null) {
+            decision.complete(event.getPlayId(), result);
+        }
+        return AllocationResultDto.builder()
+            .play(event)
+            .result(result)
+            .build();
+    }
+    
+    /**
+     * Record a committed allocation outcome in Redis, the database and the live stats
+     * Results are redelivered if the writer stops before committing its offset, so plays already
+     * in the database are skipped.
+     */
+    @Transactional
+    public void recordAllocationResult(AllocationResultDto outcome) {
+        PlayEventDto event = outcome.getPlay();
+        if (playEventRepository.existsById(event.getPlayId())) {
+            log.warn("Allocation result already recorded: playId={}", event.getPlayId());
             return;
         }
         
-        // Load game configuration
-        GameEntity game = gameRepository.findById(event.getGameId())
+        recordResult(event, outcome.getResult(), null);
+    }
+    
+    /**
+     * Decide the outcome of a play against the shared Redis budgets, issuing the coupon on a win
+     * 
+     * @param decision Flight Recorder event of the play, null when not recording
+     */
+    private PlayResultDto decide(PlayEventDto event, AllocationDecisionEvent decision) {
+        // Load game configuration and its brands from the node's snapshot
+        GameSnapshot game = gameSnapshotCache.getGame(event.getGameId())
             .orElseThrow(() -> new ResourceNotFoundException("Game", event.getGameId()));
         
-        // Get brand budgets for this game
-        List<GameBrandBudgetEntity> brandBudgets = gameBrandBudgetRepository.findByGameId(event.getGameId());
-        
-        if (brandBudgets.isEmpty()) {
+        if (game.brandIds().isEmpty()) {
             log.warn("No brand budgets configured for game: gameId={}", event.getGameId());
-            createLoserResult(event, game);
-            return;
+            if (decision != null) {
+                decision.setDecision(AllocationDecisionEvent.NO_BUDGET);
+            }
+            return loserResult(event);
         }
         
         // Check all brand budgets and filter those with remaining coupons
-        List<BrandBudgetInfo> availableBrands = brandBudgets.stream()
-            .map(budget -> {
-                int remaining = budgetDecrementer.getCurrentBudget(event.getGameId(), budget.getBrandId());
-                return new BrandBudgetInfo(budget, remaining);
-            })
+        long budgetReadStart = System.nanoTime();
+        List<BrandBudgetInfo> availableBrands = game.brandIds().stream()
+            .map(brandId -> new BrandBudgetInfo(brandId, budgetDecrementer.getCurrentBudget(event.getGameId(), brandId)))
             .filter(info -> info.remainingBudget > 0)
             .collect(Collectors.toList());
+        long budgetReadNanos = stageMetrics.recordSince(PlayStage.BUDGET_READ, event.getGameId(), budgetReadStart);
+        if (decision != null) {
+            decision.addRedisTime(budgetReadNanos);
+        }
         
         if (availableBrands.isEmpty()) {
-            log.info("No remaining budget across all brands for game: gameId={}", event.getGameId());
-            createLoserResult(event, game);
-            return;
+            log.debug("No remaining budget across all brands for game: gameId={}", event.getGameId());
+            if (decision != null) {
+                decision.setDecision(AllocationDecisionEvent.NO_BUDGET);
+            }
+            return loserResult(event);
         }
         
         // Calculate TOTAL remaining budget across all brands
@@ -96,94 +181,291 @@ public class RewardAllocationService {
         // Step 1: Calculate allocation based on TOTAL game budget
         int allocation = probabilityCalculator.calculateAllocation(
             totalRemainingBudget,
-            game.getStartTime(),
-            game.getEndTime(),
-            game.getSlotGranularitySeconds()
+            game.startTime(),
+            game.endTime(),
+            game.slotGranularitySeconds()
         );
+        if (decision != null) {
+            decision.setOdds(probabilityCalculator.calculateBaseProbability(totalRemainingBudget,
+                game.startTime(), game.endTime(), game.slotGranularitySeconds()), totalRemainingBudget);
+        }
         
         // Step 2: If user wins, select a random brand and allocate
         if (allocation > 0) {
             // Randomly select a brand from those with available budget
-            BrandBudgetInfo selectedBrandInfo = availableBrands.get(random.nextInt(availableBrands.size()));
-            GameBrandBudgetEntity selectedBudget = selectedBrandInfo.budget;
+            BrandBudgetInfo selectedBrandInfo = availableBrands.get(ThreadLocalRandom.current().nextInt(availableBrands.size()));
+            String brandId = selectedBrandInfo.brandId;
             
             log.debug("User won! Selected brand: brandId={}, brandBudget={}", 
-                selectedBudget.getBrandId(), selectedBrandInfo.remainingBudget);
+                brandId, selectedBrandInfo.remainingBudget);
             
             // For winner, we allocate exactly 1 coupon from the selected brand
             // (allocation quantity is based on total budget, but we give 1 coupon per win)
-            boolean success = budgetDecrementer.decrementBudget(
-                event.getGameId(),
-                selectedBudget.getBrandId(),
-                1  // Allocate 1 coupon from selected brand
-            );
+            // Budget decrement and coupon pop happen atomically in Redis
+            long decrementStart = System.nanoTime();
+            Optional<String> couponCode = couponPoolService.allocateCoupon(event.getGameId(), brandId);
+            long decrementNanos = stageMetrics.recordSince(PlayStage.DECREMENT, event.getGameId(), decrementStart);
+            if (decision != null) {
+                decision.addRedisTime(decrementNanos);
+            }
             
-            if (success) {
-                createWinnerResult(event, game, selectedBudget, 1);
+            if (couponCode.isPresent()) {
+                issueCoupon(event, brandId, couponCode.get(), decision);
+                return winnerResult(event, brandId, couponCode.get(), 1);
+            }
+            log.debug("Failed to issue coupon (budget race or empty pool): playId={}", event.getPlayId());
+            if (decision != null) {
+                decision.setDecision(AllocationDecisionEvent.COUPON_UNAVAILABLE);
+            }
+        }
+        return loserResult(event);
+    }
+    
+    /**
+     * Process a play event against the in-memory budgets of the partition that owns its game
+     * Used in partition-affine mode: the caller is the only thread deciding for this partition, so
+     * idempotency, budget reads and the decrement never leave the process. Budgets are loaded from
+     * Redis on first use and written back asynchronously by the partition checkpointer. Not transactional,
+     * for the same reason as processPlayEvent.
+     * 
+     * @return true if the play was recorded, false if it was skipped as already processed
+     */
+    public boolean processOwnedPlayEvent(PlayEventDto event, PartitionBudgetState partitionState) {
+        AllocationDecisionEvent decision = AllocationDecisionEvent.beginIfRecording();
+        long idempotencyStart = System.nanoTime();
+        boolean firstDelivery = partitionState.markProcessed(event.getPlayId());
+        stageMetrics.recordSince(PlayStage.IDEMPOTENCY, event.getGameId(), idempotencyStart);
+        if (!firstDelivery) {
+            return recordKept(event, partitionState.getDecided(event.getPlayId()));
+        }
+        
+        PlayResultDto result;
+        try {
+            result = decideOwned(event, partitionState, decision);
+        } catch (RuntimeException e) {
+            partitionState.forgetPlay(event.getPlayId());
+            throw e;
+        }
+        recordDecided(event, result, decision, partitionState::keepDecided, () -> partitionState.forgetPlay(event.getPlayId()));
+        return true;
+    }
+    
+    /**
+     * Decide a play against the partition's in-memory budgets, taking the budget unit and issuing the coupon on a win
+     */
+    private PlayResultDto decideOwned(PlayEventDto event, PartitionBudgetState partitionState, AllocationDecisionEvent decision) {
+        // The schedule comes from the snapshot, which lifecycle events refresh; only budgets are partition-owned
+        GameSnapshot game = gameSnapshotCache.getGame(event.getGameId())
+            .orElseThrow(() -> new ResourceNotFoundException("Game", event.getGameId()));
+        
+        long budgetReadStart = System.nanoTime();
+        GameBudgetState gameState = partitionState.getGame(event.getGameId());
+        if (gameState == null) {
+            gameState = loadGameBudgets(event.getGameId());
+            partitionState.putGame(event.getGameId(), gameState);
+        }
+        
+        int totalRemainingBudget = gameState.totalRemaining();
+        stageMetrics.recordSince(PlayStage.BUDGET_READ, event.getGameId(), budgetReadStart);
+        if (totalRemainingBudget == 0) {
+            if (decision != null) {
+                decision.setDecision(AllocationDecisionEvent.NO_BUDGET);
+            }
+            return loserResult(event);
+        }
+        
+        int allocation = probabilityCalculator.calculateAllocation(
+            totalRemainingBudget,
+            game.startTime(),
+            game.endTime(),
+            game.slotGranularitySeconds()
+        );
+        if (decision != null) {
+            decision.setOdds(probabilityCalculator.calculateBaseProbability(totalRemainingBudget,
+                game.startTime(), game.endTime(), game.slotGranularitySeconds()), totalRemainingBudget);
+        }
+        
+        if (allocation <= 0) {
+            return loserResult(event);
+        }
+        
+        GameBrandBudgetEntity selectedBudget = gameState.availableBrand(ThreadLocalRandom.current().nextInt(gameState.availableBrandCount()));
+        String brandId = selectedBudget.getBrandId();
+        long decrementStart = System.nanoTime();
+        int remaining = gameState.take(brandId);
+        
+        Optional<String> couponCode;
+        try {
+            couponCode = couponPoolService.popReservedCoupon(brandId);
+        } catch (RuntimeException e) {
+            gameState.giveBack(brandId);
+            throw e;
+        }
+        long decrementNanos = stageMetrics.recordSince(PlayStage.DECREMENT, event.getGameId(), decrementStart);
+        if (decision != null) {
+            // The budget is taken in memory; the time is the coupon pop from the Redis pool
+            decision.addRedisTime(decrementNanos);
+        }
+        if (couponCode.isEmpty()) {
+            gameState.giveBack(brandId);
+            log.debug("Failed to issue coupon (empty pool): playId={}", event.getPlayId());
+            if (decision != null) {
+                decision.setDecision(AllocationDecisionEvent.COUPON_UNAVAILABLE);
+            }
+            return loserResult(event);
+        }
+        
+        try {
+            issueCoupon(event, brandId, couponCode.get(), decision);
+        } catch (RuntimeException e) {
+            // The play is decided again on retry; the popped code is released by the orphan sweep
+            gameState.giveBack(brandId);
+            throw e;
+        }
+        partitionState.recordBudget(event.getGameId(), brandId, remaining);
+        return winnerResult(event, brandId, couponCode.get(), 1);
+    }
+    
+    /**
+     * Mark a winner's popped coupon issued, timed apart from the Redis pop as it is a PostgreSQL write
+     */
+    private void issueCoupon(PlayEventDto event, String brandId, String couponCode, AllocationDecisionEvent decision) {
+        long issueStart = System.nanoTime();
+        couponPoolService.markIssued(couponCode, brandId, event.getUserId());
+        long issueNanos = stageMetrics.recordSince(PlayStage.COUPON_ISSUE, event.getGameId(), issueStart);
+        if (decision != null) {
+            decision.addDatabaseTime(issueNanos);
+        }
+    }
+    
+    /**
+     * Record a decided play, forgetting its processed mark on failure only if nothing was spent
+     * A winner's budget unit and coupon are already taken, so its result is kept with the mark first: a retry
+     * records that result rather than deciding the play again or skipping it.
+     */
+    private void recordDecided(PlayEventDto event, PlayResultDto result, AllocationDecisionEvent decision,
+                               Consumer<PlayResultDto> keepDecided, Runnable forgetPlay) {
+        if (result.isWinner()) {
+            try {
+                keepDecided.accept(result);
+            } catch (RuntimeException e) {
+                log.warn("Failed to keep decided result of winning play: playId={}", event.getPlayId(), e);
+            }
+        }
+        try {
+            recordResult(event, result, decision);
+        } catch (RuntimeException e) {
+            if (result.isWinner()) {
+                log.error("Failed to record winning play, keeping its result for a retry: playId={}, gameId={}, couponId={}",
+                    event.getPlayId(), event.getGameId(), result.getCouponId());
             } else {
-                log.info("Failed to decrement budget (race condition): playId={}", event.getPlayId());
-                createLoserResult(event, game);
+                forgetPlay.run();
             }
-        } else {
-            createLoserResult(event, game);
+            throw e;
+        }
+    }
+    
+    /**
+     * Handle a redelivered play: record the kept result of a winner that is not in the database yet, skip anything else
+     * 
+     * @return true if the play was recorded
+     */
+    private boolean recordKept(PlayEventDto event, PlayResultDto kept) {
+        if (kept == null || playEventRepository.existsById(event.getPlayId())) {
+            log.warn("Play already processed: playId={}", event.getPlayId());
+            return false;
         }
+        log.warn("Recording kept result of winning play: playId={}, gameId={}, couponId={}",
+            event.getPlayId(), event.getGameId(), kept.getCouponId());
+        recordResult(event, kept, null);
+        return true;
     }
     
-    private void createWinnerResult(PlayEventDto event, GameEntity game, GameBrandBudgetEntity budget, int allocation) {
-        PlayResultDto result = PlayResultDto.builder()
+    private GameBudgetState loadGameBudgets(String gameId) {
+        List<GameBrandBudgetEntity> brandBudgets = gameBrandBudgetRepository.findByGameId(gameId);
+        
+        int[] remaining = new int[brandBudgets.size()];
+        for (int i = 0; i < brandBudgets.size(); i++) {
+            remaining[i] = budgetDecrementer.getCurrentBudget(gameId, brandBudgets.get(i).getBrandId());
+        }
+        
+        log.info("Loaded game budgets into partition state: gameId={}, brands={}", gameId, brandBudgets.size());
+        return new GameBudgetState(brandBudgets, remaining);
+    }
+    
+    private PlayResultDto winnerResult(PlayEventDto event, String brandId, String couponCode, int allocation) {
+        return PlayResultDto.builder()
             .playId(event.getPlayId())
             .gameId(event.getGameId())
             .userId(event.getUserId())
             .winner(true)
-            .couponId(java.util.UUID.randomUUID().toString()) // Simplified - would fetch actual coupon
-            .brandId(budget.getBrandId())
-            .brandName("Brand-" + budget.getBrandId()) // Simplified - would fetch from DB
+            .couponId(couponCode)
+            .brandId(brandId)
+            .brandName("Brand-" + brandId) // Simplified - would fetch from DB
             .timestamp(LocalDateTime.now())
             .message("Congratulations! You won " + allocation + " coupon(s)!")
+            .submittedAtMillis(submittedAtMillis(event))
+            .allocatedAtMillis(System.currentTimeMillis())
             .build();
-        
-        // Store in Redis
-        redisResultStore.storeResult(result);
-        
-        // Save to database
-        PlayEventEntity playEntity = new PlayEventEntity();
-        playEntity.setId(event.getPlayId());
-        playEntity.setGameId(event.getGameId());
-        playEntity.setUserId(event.getUserId());
-        playEntity.setStatus(PlayStatus.WINNER);
-        playEntity.setTimestamp(event.getTimestamp());
-        playEntity.setWinner(true);
-        playEntity.setBrandId(budget.getBrandId());
-        playEntity.setCouponId(result.getCouponId());
-        playEventRepository.save(playEntity);
-        
-        log.info("Winner: playId={}, userId={}, brandId={}, allocation={}", 
-            event.getPlayId(), event.getUserId(), budget.getBrandId(), allocation);
     }
     
-    private void createLoserResult(PlayEventDto event, GameEntity game) {
-        PlayResultDto result = PlayResultDto.builder()
+    private PlayResultDto loserResult(PlayEventDto event) {
+        return PlayResultDto.builder()
             .playId(event.getPlayId())
             .gameId(event.getGameId())
             .userId(event.getUserId())
             .winner(false)
             .timestamp(LocalDateTime.now())
             .message("Better luck next time!")
+            .submittedAtMillis(submittedAtMillis(event))
+            .allocatedAtMillis(System.currentTimeMillis())
             .build();
-        
+    }
+    
+    private static Long submittedAtMillis(PlayEventDto event) {
+        return event.getTimestamp() != null ? TimeUtils.toEpochMillis(event.getTimestamp()) : null;
+    }
+    
+    /**
+     * @param decision Flight Recorder event of the play, committed once the result is written; null when not recording
+     */
+    private void recordResult(PlayEventDto event, PlayResultDto result, AllocationDecisionEvent decision) {
         // Store in Redis
+        long resultStoreStart = System.nanoTime();
         redisResultStore.storeResult(result);
+        long resultStoreNanos = stageMetrics.recordSince(PlayStage.RESULT_STORE, event.getGameId(), resultStoreStart);
+        if (result.getSubmittedAtMillis() != null && result.getAllocatedAtMillis() != null) {
+            latencyRecorder.record(event.getGameId(), PlayLatencyRecorder.Leg.DECIDED,
+                result.getAllocatedAtMillis() - result.getSubmittedAtMillis());
+        }
+        latencyRecorder.recordSinceSubmit(event.getGameId(), PlayLatencyRecorder.Leg.STORED, result.getSubmittedAtMillis());
         
         // Save to database
         PlayEventEntity playEntity = new PlayEventEntity();
         playEntity.setId(event.getPlayId());
         playEntity.setGameId(event.getGameId());
         playEntity.setUserId(event.getUserId());
-        playEntity.setStatus(PlayStatus.LOSER);
+        playEntity.setStatus(result.isWinner() ? PlayStatus.WINNER : PlayStatus.LOSER);
         playEntity.setTimestamp(event.getTimestamp());
-        playEntity.setWinner(false);
+        playEntity.setWinner(result.isWinner());
+        playEntity.setBrandId(result.getBrandId());
+        playEntity.setCouponId(result.getCouponId());
+        long persistStart = System.nanoTime();
         playEventRepository.save(playEntity);
+        long persistNanos = stageMetrics.recordSince(PlayStage.DB_PERSIST, event.getGameId(), persistStart);
+        if (decision != null) {
+            decision.addRedisTime(resultStoreNanos);
+            decision.addDatabaseTime(persistNanos);
+            decision.complete(event.getPlayId(), result);
+        }
         
-        log.info("Loser: playId={}, userId={}", event.getPlayId(), event.getUserId());
+        playStatsAggregator.recordPlay(event.getGameId(), event.getTimestamp(), result.isWinner(), result.getBrandId());
+        pacingTelemetry.recordPlay(event.getGameId(), result.isWinner());
+        
+        if (result.isWinner()) {
+            playLog.winner(event.getPlayId(), event.getGameId(), event.getUserId(), result.getBrandId());
+        } else {
+            playLog.loser(event.getPlayId(), event.getGameId(), event.getUserId());
+        }
     }
 }
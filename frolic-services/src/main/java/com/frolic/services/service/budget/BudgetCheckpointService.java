@@ -0,0 +1,87 @@
+package com.frolic.services.service.budget;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for periodic checkpoints of Redis budgets into PostgreSQL
+ * - The allocate script flags each game-brand pair it decrements in a Redis dirty set
+ * - Each cycle drains that set, MGETs the flagged counters and writes them with one UPDATE
+ * 
+ * Only pairs that changed since the last cycle are written, so an idle game costs nothing and
+ * PostgreSQL lags Redis by at most one interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetCheckpointService {
+    
+    private static final int POP_BATCH_SIZE = 1000;
+    
+    private final RedisBudgetStore redisBudgetStore;
+    private final GameBrandBudgetRepository budgetRepository;
+    
+    /**
+     * Copy changed budgets from Redis to PostgreSQL
+     */
+    @Scheduled(fixedDelayString = "${frolic.budget.checkpoint-interval-ms:5000}")
+    public void checkpoint() {
+        // Taken before reading Redis so later winner counts since this time never miss a decrement
+        LocalDateTime checkpointedAt = LocalDateTime.now();
+        
+        List<String> members = new ArrayList<>();
+        List<String> popped;
+        do {
+            popped = redisBudgetStore.popDirtyBudgets(POP_BATCH_SIZE);
+            members.addAll(popped);
+        } while (popped.size() == POP_BATCH_SIZE);
+        
+        if (members.isEmpty()) {
+            return;
+        }
+        
+        try {
+            List<BudgetCheckpoint> checkpoints = readCheckpoints(members);
+            int updated = budgetRepository.applyCheckpoints(checkpoints, checkpointedAt);
+            log.debug("Checkpointed budgets: changed={}, updated={}", members.size(), updated);
+        } catch (Exception e) {
+            log.error("Failed to checkpoint budgets, will retry next cycle: pairs={}", members.size(), e);
+            redisBudgetStore.markDirty(members);
+        }
+    }
+    
+    private List<BudgetCheckpoint> readCheckpoints(List<String> members) {
+        List<String> gameIds = new ArrayList<>(members.size());
+        List<String> brandIds = new ArrayList<>(members.size());
+        List<String> keys = new ArrayList<>(members.size());
+        
+        for (String member : members) {
+            int separator = member.indexOf(':');
+            String gameId = member.substring(0, separator);
+            String brandId = member.substring(separator + 1);
+            gameIds.add(gameId);
+            brandIds.add(brandId);
+            keys.add(RedisKeys.budgetKey(gameId, brandId));
+        }
+        
+        List<String> values = redisBudgetStore.getBudgetValues(keys);
+        List<BudgetCheckpoint> checkpoints = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            // A missing key means the game was stopped and already synced in full
+            if (values.get(i) != null) {
+                checkpoints.add(new BudgetCheckpoint(gameIds.get(i), brandIds.get(i), Integer.parseInt(values.get(i))));
+            }
+        }
+        return checkpoints;
+    }
+}
@@ -0,0 +1,164 @@
+package com.frolic.services.service.budget;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import com.frolic.core.repository.jpa.PlayEventRepository;
+import com.frolic.core.repository.jpa.PlayEventRepository.BrandWinnerCount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Service for rebuilding Redis budgets after a Redis restart or failover
+ * - Detects ACTIVE games whose budget keys are missing with a single MGET
+ * - Rebuilds each game from its last PostgreSQL checkpoint minus winners recorded since then
+ * - Games are rebuilt in parallel and restored with one MSETNX per game
+ */
+@Service
+@Slf4j
+public class BudgetRehydrationService {
+    
+    private final GameRepository gameRepository;
+    private final GameBrandBudgetRepository budgetRepository;
+    private final PlayEventRepository playEventRepository;
+    private final RedisBudgetStore redisBudgetStore;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Timer rehydrationTimer;
+    private final Counter restoredKeysCounter;
+    
+    public BudgetRehydrationService(GameRepository gameRepository,
+                                    GameBrandBudgetRepository budgetRepository,
+                                    PlayEventRepository playEventRepository,
+                                    RedisBudgetStore redisBudgetStore,
+                                    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                    AsyncTaskExecutor taskExecutor,
+                                    MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        this.budgetRepository = budgetRepository;
+        this.playEventRepository = playEventRepository;
+        this.redisBudgetStore = redisBudgetStore;
+        this.taskExecutor = taskExecutor;
+        this.rehydrationTimer = Timer.builder("frolic.budget.rehydration")
+            .description("Time taken to rebuild missing Redis budgets")
+            .register(meterRegistry);
+        this.restoredKeysCounter = Counter.builder("frolic.budget.rehydration.keys")
+            .description("Budget keys restored into Redis")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Rebuild any missing budgets as soon as the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrateOnStartup() {
+        rehydrateMissingBudgets();
+    }
+    
+    /**
+     * Check ACTIVE games for missing budget keys and rebuild them
+     * 
+     * @return number of budget keys restored
+     */
+    @Scheduled(fixedDelayString = "${frolic.budget.rehydration-check-interval-ms:10000}",
+               initialDelayString = "${frolic.budget.rehydration-check-interval-ms:10000}")
+    public int rehydrateMissingBudgets() {
+        List<GameEntity> activeGames = gameRepository.findByStatus(GameStatus.ACTIVE);
+        if (activeGames.isEmpty()) {
+            return 0;
+        }
+        
+        Map<String, List<GameBrandBudgetEntity>> missingByGame = findMissingBudgets(activeGames);
+        if (missingByGame.isEmpty()) {
+            return 0;
+        }
+        
+        log.warn("Redis budgets missing for {} active games, rehydrating", missingByGame.size());
+        Timer.Sample sample = Timer.start();
+        
+        List<CompletableFuture<Integer>> futures = missingByGame.entrySet().stream()
+            .map(entry -> CompletableFuture.supplyAsync(
+                () -> rehydrateGame(entry.getKey(), entry.getValue()), taskExecutor))
+            .collect(Collectors.toList());
+        
+        int restored = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                restored += future.join();
+            } catch (Exception e) {
+                log.error("Failed to rehydrate game budgets", e);
+            }
+        }
+        
+        long elapsedNanos = sample.stop(rehydrationTimer);
+        restoredKeysCounter.increment(restored);
+        log.info("Rehydrated budgets: games={}, keys={}, elapsedMs={}", 
+            missingByGame.size(), restored, elapsedNanos / 1_000_000);
+        return restored;
+    }
+    
+    private Map<String, List<GameBrandBudgetEntity>> findMissingBudgets(List<GameEntity> activeGames) {
+        List<String> gameIds = activeGames.stream().map(GameEntity::getId).collect(Collectors.toList());
+        List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameIdIn(gameIds);
+        if (budgets.isEmpty()) {
+            return Map.of();
+        }
+        
+        List<String> keys = budgets.stream()
+            .map(b -> RedisKeys.budgetKey(b.getGameId(), b.getBrandId()))
+            .collect(Collectors.toList());
+        List<String> values = redisBudgetStore.getBudgetValues(keys);
+        
+        Map<String, List<GameBrandBudgetEntity>> missingByGame = new LinkedHashMap<>();
+        for (int i = 0; i < budgets.size(); i++) {
+            if (values.get(i) == null) {
+                GameBrandBudgetEntity budget = budgets.get(i);
+                missingByGame.computeIfAbsent(budget.getGameId(), id -> new ArrayList<>()).add(budget);
+            }
+        }
+        return missingByGame;
+    }
+    
+    private int rehydrateGame(String gameId, List<GameBrandBudgetEntity> missingBudgets) {
+        Map<String, Long> winnersSinceCheckpoint = playEventRepository.countWinnersSinceCheckpoint(gameId).stream()
+            .collect(Collectors.toMap(BrandWinnerCount::getBrandId, BrandWinnerCount::getWinners));
+        
+        Map<String, String> restoredBudgets = new LinkedHashMap<>();
+        List<String> dirtyMembers = new ArrayList<>(missingBudgets.size());
+        for (GameBrandBudgetEntity budget : missingBudgets) {
+            long winners = winnersSinceCheckpoint.getOrDefault(budget.getBrandId(), 0L);
+            long remaining = Math.max(0, budget.getRemainingBudget() - winners);
+            restoredBudgets.put(RedisKeys.budgetKey(gameId, budget.getBrandId()), String.valueOf(remaining));
+            dirtyMembers.add(RedisKeys.budgetDirtyMember(gameId, budget.getBrandId()));
+        }
+        
+        if (!redisBudgetStore.restoreBudgets(restoredBudgets)) {
+            log.info("Budgets for game={} were restored concurrently, skipping", gameId);
+            return 0;
+        }
+        
+        // Let the next checkpoint persist the rebuilt values with a fresh checkpointed_at
+        redisBudgetStore.markDirty(dirtyMembers);
+        log.info("Rehydrated budgets for game={}: {}", gameId, restoredBudgets);
+        return restoredBudgets.size();
+    }
+}
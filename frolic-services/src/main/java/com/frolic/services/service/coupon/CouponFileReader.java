@@ -0,0 +1,23 @@
+package com.frolic.services.service.coupon;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for coupon import files
+ * Implementations must hand rows to the consumer one at a time without buffering the file
+ */
+public interface CouponFileReader {
+    
+    /**
+     * Whether this reader handles the given file name
+     */
+    boolean supports(String fileName);
+    
+    /**
+     * Read the file, passing the cell values of each row to the handler in order
+     */
+    void read(Path file, Consumer<List<String>> rowHandler) throws IOException;
+}
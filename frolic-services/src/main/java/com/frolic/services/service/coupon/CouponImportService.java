@@ -0,0 +1,253 @@
+package com.frolic.services.service.coupon;
+
+import com.frolic.core.common.dto.CouponImportDto;
+import com.frolic.core.common.enums.CouponImportStatus;
+import com.frolic.core.common.exception.InvalidRequestException;
+import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.common.exception.TechnicalException;
+import com.frolic.core.common.util.IdGenerator;
+import com.frolic.core.repository.jpa.BrandRepository;
+import com.frolic.core.repository.jpa.CouponBulkInsertRepository.CouponRow;
+import com.frolic.core.repository.jpa.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for bulk coupon imports from CSV or XLSX
+ * - Files are streamed row by row and written in fixed-size batches, so heap use does not grow with file size
+ * - Duplicate codes (in the file or already in the database) are skipped by the unique code index
+ * - Progress is tracked per job and can be polled while the import runs
+ * 
+ * Expected columns: code, value (optional), expires_at (optional, ISO date or date-time), description (optional).
+ * A first row whose first cell is "code" is treated as a header.
+ */
+@Service
+@Slf4j
+public class CouponImportService {
+    
+    private static final int MAX_CODE_LENGTH = 100;
+    private static final long JOB_RETENTION_HOURS = 24;
+    
+    private final CouponRepository couponRepository;
+    private final BrandRepository brandRepository;
+    private final List<CouponFileReader> fileReaders;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate batchTransaction;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    
+    @Value("${frolic.coupons.import.batch-size:5000}")
+    private int batchSize;
+    
+    public CouponImportService(CouponRepository couponRepository,
+                               BrandRepository brandRepository,
+                               List<CouponFileReader> fileReaders,
+                               @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                               AsyncTaskExecutor taskExecutor,
+                               PlatformTransactionManager transactionManager) {
+        this.couponRepository = couponRepository;
+        this.brandRepository = brandRepository;
+        this.fileReaders = fileReaders;
+        this.taskExecutor = taskExecutor;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Accept an import file for a brand and process it in the background
+     */
+    public CouponImportDto startImport(String brandId, MultipartFile file) {
+        if (!brandRepository.existsById(brandId)) {
+            throw new ResourceNotFoundException("Brand", brandId);
+        }
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Import file is empty");
+        }
+        
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "";
+        CouponFileReader reader = fileReaders.stream()
+            .filter(r -> r.supports(fileName))
+            .findFirst()
+            .orElseThrow(() -> new InvalidRequestException("Unsupported import file type, expected .csv or .xlsx: " + fileName));
+        
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("coupon-import-", fileName.substring(fileName.lastIndexOf('.')));
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new TechnicalException("IMPORT_UPLOAD_FAILED", "Failed to store import file", e);
+        }
+        
+        purgeFinishedJobs();
+        ImportJob job = new ImportJob(IdGenerator.generateId(), brandId, fileName);
+        jobs.put(job.jobId, job);
+        
+        log.info("Queued coupon import: jobId={}, brandId={}, file={}, bytes={}", 
+            job.jobId, brandId, fileName, file.getSize());
+        taskExecutor.execute(() -> runImport(job, reader, tempFile));
+        return job.toDto();
+    }
+    
+    /**
+     * Get progress of an import job
+     */
+    public CouponImportDto getImport(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("CouponImport", jobId);
+        }
+        return job.toDto();
+    }
+    
+    private void runImport(ImportJob job, CouponFileReader reader, Path file) {
+        job.status = CouponImportStatus.RUNNING;
+        List<CouponRow> batch = new ArrayList<>(batchSize);
+        
+        try {
+            reader.read(file, cells -> {
+                CouponRow row = toRow(job, cells);
+                if (row == null) {
+                    return;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    flushBatch(job, batch);
+                }
+            });
+            flushBatch(job, batch);
+            
+            job.status = CouponImportStatus.COMPLETED;
+            log.info("Completed coupon import: jobId={}, rows={}, inserted={}, duplicates={}, rejected={}", 
+                job.jobId, job.rowsRead.get(), job.inserted.get(), job.duplicates.get(), job.rejected.get());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = CouponImportStatus.FAILED;
+            log.error("Coupon import failed: jobId={}, rowsRead={}", job.jobId, job.rowsRead.get(), e);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete import temp file: {}", file, e);
+            }
+        }
+    }
+    
+    private void flushBatch(ImportJob job, List<CouponRow> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Integer inserted = batchTransaction.execute(status -> 
+            couponRepository.insertIgnoringDuplicates(job.brandId, batch));
+        int count = inserted != null ? inserted : 0;
+        job.inserted.addAndGet(count);
+        job.duplicates.addAndGet(batch.size() - count);
+        log.debug("Imported coupon batch: jobId={}, size={}, inserted={}", job.jobId, batch.size(), count);
+        batch.clear();
+    }
+    
+    private CouponRow toRow(ImportJob job, List<String> cells) {
+        String code = cell(cells, 0);
+        if (!job.headerChecked) {
+            job.headerChecked = true;
+            if ("code".equalsIgnoreCase(code)) {
+                return null;
+            }
+        }
+        job.rowsRead.incrementAndGet();
+        
+        if (code == null || code.length() > MAX_CODE_LENGTH) {
+            job.rejected.incrementAndGet();
+            return null;
+        }
+        
+        try {
+            String value = cell(cells, 1);
+            String expiresAt = cell(cells, 2);
+            return new CouponRow(
+                code,
+                value != null ? Double.valueOf(value) : null,
+                expiresAt != null ? parseDateTime(expiresAt) : null,
+                cell(cells, 3)
+            );
+        } catch (NumberFormatException | DateTimeParseException e) {
+            job.rejected.incrementAndGet();
+            return null;
+        }
+    }
+    
+    private static String cell(List<String> cells, int index) {
+        if (index >= cells.size()) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static LocalDateTime parseDateTime(String value) {
+        return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+    
+    private void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(cutoff));
+    }
+    
+    /**
+     * Mutable progress of a running import
+     */
+    private static class ImportJob {
+        
+        private final String jobId;
+        private final String brandId;
+        private final String fileName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private volatile CouponImportStatus status = CouponImportStatus.QUEUED;
+        private volatile LocalDateTime completedAt;
+        private volatile String error;
+        private boolean headerChecked;
+        
+        ImportJob(String jobId, String brandId, String fileName) {
+            this.jobId = jobId;
+            this.brandId = brandId;
+            this.fileName = fileName;
+        }
+        
+        CouponImportDto toDto() {
+            return CouponImportDto.builder()
+                .jobId(jobId)
+                .brandId(brandId)
+                .fileName(fileName)
+                .status(status)
+                .rowsRead(rowsRead.get())
+                .inserted(inserted.get())
+                .duplicates(duplicates.get())
+                .rejected(rejected.get())
+                .startedAt(startedAt)
+                .completedAt(completedAt)
+                .error(error)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.frolic.services.service.coupon;
+
+import com.frolic.core.cache.store.RedisCouponPoolStore;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Allocation;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Outcome;
+import com.frolic.core.repository.jpa.CouponRepository;
+import com.frolic.core.repository.jpa.CouponRepository.ReservedCoupon;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service for the Redis-backed coupon pool
+ * - Background refiller claims AVAILABLE coupons in batches (FOR UPDATE SKIP LOCKED) and stages their codes in Redis
+ * - Winners pop a staged code atomically together with the budget decrement
+ * - A pool that runs dry between refills is topped up asynchronously, never on the play's own thread
+ * - A winner's code is marked issued and committed before the play's result is stored or shown, so a later
+ *   failure of the play write leaves it ISSUED
+ * - A sweep returns RESERVED coupons that are neither staged nor recorded by a play to AVAILABLE, i.e. codes
+ *   popped by a play that failed before marking them issued
+ */
+@Service
+@Slf4j
+public class CouponPoolService {
+    
+    private final AtomicCouponAllocator couponAllocator;
+    private final RedisCouponPoolStore couponPoolStore;
+    private final CouponRepository couponRepository;
+    private final GameBrandBudgetRepository budgetRepository;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate poolTransaction;
+    private final Set<String> refilling = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Codes found reserved but unstaged by the previous sweep; only codes seen twice are released,
+     * so a code popped by a play that has not marked it issued yet is never returned
+     */
+    private Set<String> suspectedOrphans = Set.of();
+    
+    @Value("${frolic.coupons.pool.low-watermark:200}")
+    private int lowWatermark;
+    
+    @Value("${frolic.coupons.pool.batch-size:500}")
+    private int batchSize;
+    
+    public CouponPoolService(AtomicCouponAllocator couponAllocator,
+                             RedisCouponPoolStore couponPoolStore,
+                             CouponRepository couponRepository,
+                             GameBrandBudgetRepository budgetRepository,
+                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                             AsyncTaskExecutor taskExecutor,
+                             PlatformTransactionManager transactionManager) {
+        this.couponAllocator = couponAllocator;
+        this.couponPoolStore = couponPoolStore;
+        this.couponRepository = couponRepository;
+        this.budgetRepository = budgetRepository;
+        this.taskExecutor = taskExecutor;
+        // Claims, issues and releases commit on their own so codes are never staged for rows that later roll back
+        this.poolTransaction = new TransactionTemplate(transactionManager);
+        this.poolTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * Top up the pools of all brands that take part in an active game
+     */
+    @Scheduled(fixedDelayString = "${frolic.coupons.pool.refill-interval-ms:2000}")
+    public void refillActivePools() {
+        List<String> brandIds = budgetRepository.findBrandIdsByGameStatus(GameStatus.ACTIVE);
+        for (String brandId : brandIds) {
+            try {
+                refillPool(brandId);
+            } catch (Exception e) {
+                log.error("Failed to refill coupon pool for brand={}", brandId, e);
+            }
+        }
+    }
+    
+    /**
+     * Refill a brand's pool if it has fallen below the low watermark
+     * 
+     * @return number of codes staged
+     */
+    public int refillPool(String brandId) {
+        long poolSize = couponPoolStore.getPoolSize(brandId);
+        if (poolSize >= lowWatermark) {
+            return 0;
+        }
+        return stageBatch(brandId);
+    }
+    
+    /**
+     * Return reserved coupons that were popped but never recorded, found unstaged on two consecutive sweeps
+     */
+    @Scheduled(fixedDelayString = "${frolic.coupons.pool.sweep-interval-ms:300000}",
+               initialDelayString = "${frolic.coupons.pool.sweep-interval-ms:300000}")
+    public void sweepOrphanedReservations() {
+        try {
+            int released = releaseOrphanedReservations();
+            if (released > 0) {
+                log.warn("Returned orphaned coupon reservations to AVAILABLE: count={}", released);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep coupon reservations", e);
+        }
+    }
+    
+    /**
+     * @return number of coupons returned to AVAILABLE
+     */
+    int releaseOrphanedReservations() {
+        Map<String, List<String>> reservedByBrand = couponRepository.findReservedCoupons().stream()
+            .collect(Collectors.groupingBy(ReservedCoupon::getBrandId,
+                Collectors.mapping(ReservedCoupon::getCode, Collectors.toList())));
+        
+        Set<String> unstaged = new HashSet<>();
+        reservedByBrand.forEach((brandId, codes) -> {
+            Set<String> staged = new HashSet<>(couponPoolStore.getStagedCodes(brandId));
+            codes.stream().filter(code -> !staged.contains(code)).forEach(unstaged::add);
+        });
+        
+        List<String> orphans = unstaged.stream().filter(suspectedOrphans::contains).collect(Collectors.toList());
+        suspectedOrphans = unstaged;
+        
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        for (int from = 0; from < orphans.size(); from += batchSize) {
+            List<String> chunk = orphans.subList(from, Math.min(from + batchSize, orphans.size()));
+            Integer updated = poolTransaction.execute(status -> couponRepository.releaseUnissued(chunk, now));
+            released += updated != null ? updated : 0;
+        }
+        return released;
+    }
+    
+    /**
+     * Pop one staged coupon of the given brand, consuming one unit of the game-brand budget
+     * The code stays RESERVED until {@link #markIssued} records it against the winner.
+     * A pool that has run dry between refills is refilled in the background and the play gets no coupon
+     * 
+     * @return the popped coupon code, or empty if there is no budget or no staged coupon
+     */
+    public Optional<String> allocateCoupon(String gameId, String brandId) {
+        Allocation allocation = couponAllocator.allocate(gameId, brandId);
+        
+        if (!allocation.isAllocated()) {
+            if (allocation.outcome() == Outcome.POOL_EMPTY) {
+                log.warn("Coupon pool empty for brand={}, game={}, requesting refill", brandId, gameId);
+                requestRefill(brandId);
+            }
+            return Optional.empty();
+        }
+        return Optional.of(allocation.code());
+    }
+    
+    /**
+     * Pop one staged coupon whose budget unit the caller has already taken, e.g. from partition-owned in-memory budgets
+     * A pool that has run dry between refills is refilled in the background and the play gets no coupon
+     * 
+     * @return the popped coupon code, or empty if there is no staged coupon
+     */
+    public Optional<String> popReservedCoupon(String brandId) {
+        String code = couponPoolStore.popCode(brandId);
+        if (code == null) {
+            log.warn("Coupon pool empty for brand={}, requesting refill", brandId);
+            requestRefill(brandId);
+            return Optional.empty();
+        }
+        return Optional.of(code);
+    }
+    
+    /**
+     * Mark a popped code issued to a user, in a transaction of its own
+     * The exactly-once allocator decides plays inside a Kafka transaction only, with no JPA transaction to join.
+     */
+    public void markIssued(String code, String brandId, String userId) {
+        Integer updated = poolTransaction.execute(status -> couponRepository.markIssued(code, userId, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            log.warn("Issued coupon was not in RESERVED state: code={}, brand={}", code, brandId);
+        }
+    }
+    
+    /**
+     * Refill a brand's pool on the task executor, at most one refill per brand at a time
+     */
+    private void requestRefill(String brandId) {
+        if (!refilling.add(brandId)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    refillPool(brandId);
+                } catch (Exception e) {
+                    log.error("Failed to refill coupon pool for brand={}", brandId, e);
+                } finally {
+                    refilling.remove(brandId);
+                }
+            });
+        } catch (RuntimeException e) {
+            refilling.remove(brandId);
+            log.error("Failed to schedule coupon pool refill for brand={}", brandId, e);
+        }
+    }
+    
+    private int stageBatch(String brandId) {
+        List<String> codes = poolTransaction.execute(status -> couponRepository.claimAvailableCodes(brandId, batchSize));
+        if (codes == null || codes.isEmpty()) {
+            return 0;
+        }
+        
+        couponPoolStore.pushCodes(brandId, codes);
+        log.info("Staged coupons into pool: brand={}, count={}", brandId, codes.size());
+        return codes.size();
+    }
+}
@@ -0,0 +1,95 @@
+package com.frolic.services.service.coupon;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming XLSX reader for coupon imports using POI's SAX event API
+ * Only the first sheet is read; rows are never materialised as a workbook
+ */
+@Component
+public class XlsxCouponFileReader implements CouponFileReader {
+    
+    @Override
+    public boolean supports(String fileName) {
+        return fileName.toLowerCase().endsWith(".xlsx");
+    }
+    
+    @Override
+    public void read(Path file, Consumer<List<String>> rowHandler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                    xssfReader.getStylesTable(), sharedStrings, new RowCollector(rowHandler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Unreadable XLSX file: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Collects the cells of the current row, filling gaps left by empty cells
+     */
+    private static class RowCollector implements SheetContentsHandler {
+        
+        private final Consumer<List<String>> rowHandler;
+        private final List<String> cells = new ArrayList<>();
+        
+        RowCollector(Consumer<List<String>> rowHandler) {
+            this.rowHandler = rowHandler;
+        }
+        
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+        
+        @Override
+        public void endRow(int rowNum) {
+            if (!cells.isEmpty()) {
+                rowHandler.accept(List.copyOf(cells));
+            }
+        }
+        
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.frolic.services.service.play;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.services.consumer.PlayEventConsumer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples how far the reward allocators are behind on play events
+ * - Consumer lag per partition from committed group offsets versus log end offsets
+ * - Producer buffer utilization from the accumulator metrics of the play producer
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaLoadSampler {
+    
+    private static final long ADMIN_TIMEOUT_MS = 2000;
+    
+    private final KafkaAdmin kafkaAdmin;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    
+    private volatile AdminClient adminClient;
+    
+    /**
+     * Point-in-time view of play event backlog
+     */
+    public record LoadSample(
+        Map<Integer, Long> partitionLags,
+        int partitionCount,
+        long totalLag,
+        long committedTotal,
+        double bufferUtilization,
+        long sampledAtMillis
+    ) {
+        
+        /**
+         * Lag of the partition that the given game's plays are keyed to
+         */
+        public long lagForGame(String gameId) {
+            return lagForKeys(List.of(gameId));
+        }
+        
+        /**
+         * Highest lag among the partitions that the given keys map to
+         */
+        public long lagForKeys(Collection<String> keys) {
+            if (partitionCount == 0) {
+                return 0;
+            }
+            long lag = 0;
+            for (String key : keys) {
+                lag = Math.max(lag, partitionLags.getOrDefault(partitionFor(key, partitionCount), 0L));
+            }
+            return lag;
+        }
+    }
+    
+    /**
+     * Partition chosen by Kafka's default partitioner for a play event key
+     */
+    public static int partitionFor(String key, int partitionCount) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitionCount;
+    }
+    
+    /**
+     * Take a new sample; throws if the cluster cannot be reached within the timeout
+     */
+    public LoadSample sample() throws Exception {
+        List<PartitionInfo> partitions = kafkaTemplate.partitionsFor(KafkaTopics.PLAY_EVENTS);
+        
+        Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+        for (PartitionInfo partition : partitions) {
+            latest.put(new TopicPartition(partition.topic(), partition.partition()), OffsetSpec.latest());
+        }
+        
+        AdminClient admin = getAdminClient();
+        Map<TopicPartition, OffsetAndMetadata> committed = admin
+            .listConsumerGroupOffsets(PlayEventConsumer.GROUP_ID)
+            .partitionsToOffsetAndMetadata()
+            .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin
+            .listOffsets(latest)
+            .all()
+            .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        
+        Map<Integer, Long> partitionLags = new HashMap<>();
+        long totalLag = 0;
+        long committedTotal = 0;
+        for (Map.Entry<TopicPartition, ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+            OffsetAndMetadata offset = committed.get(entry.getKey());
+            if (offset == null) {
+                // Nothing committed yet, so lag is unknown rather than the whole log
+                continue;
+            }
+            long lag = Math.max(0, entry.getValue().offset() - offset.offset());
+            partitionLags.put(entry.getKey().partition(), lag);
+            totalLag += lag;
+            committedTotal += offset.offset();
+        }
+        
+        return new LoadSample(
+            partitionLags,
+            partitions.size(),
+            totalLag,
+            committedTotal,
+            bufferUtilization(),
+            System.currentTimeMillis()
+        );
+    }
+    
+    private double bufferUtilization() {
+        double total = 0;
+        double available = 0;
+        for (Map.Entry<MetricName, ? extends Metric> entry : kafkaTemplate.metrics().entrySet()) {
+            String name = entry.getKey().name();
+            if (!"producer-metrics".equals(entry.getKey().group())) {
+                continue;
+            }
+            if ("buffer-total-bytes".equals(name)) {
+                total += ((Number) entry.getValue().metricValue()).doubleValue();
+            } else if ("buffer-available-bytes".equals(name)) {
+                available += ((Number) entry.getValue().metricValue()).doubleValue();
+            }
+        }
+        return total > 0 ? 1.0 - available / total : 0.0;
+    }
+    
+    private AdminClient getAdminClient() {
+        AdminClient client = adminClient;
+        if (client == null) {
+            synchronized (this) {
+                client = adminClient;
+                if (client == null) {
+                    client = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+                    adminClient = client;
+                }
+            }
+        }
+        return client;
+    }
+    
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.frolic.services.service.play;
+
+import com.frolic.core.common.exception.ServiceOverloadedException;
+import com.frolic.core.messaging.producer.PlayKeySpreader;
+import com.frolic.services.service.play.KafkaLoadSampler.LoadSample;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Lag-aware admission control for play ingestion
+ * - Refreshes a load sample of the reward allocator backlog on a fixed interval
+ * - Rejects plays with a Retry-After hint while the backlog or producer buffer is over its limit
+ * 
+ * Rejecting at the edge keeps queued plays inside their result window instead of letting the
+ * backlog grow until every caller times out. Retry-After is derived from the measured drain
+ * rate, so clients come back roughly when the excess has been consumed.
+ * 
+ * Missing or stale samples admit everything: losing Kafka visibility must not stop play.
+ */
+@Service
+@Slf4j
+public class PlayAdmissionService {
+    
+    private static final int STALE_SAMPLE_INTERVALS = 5;
+    
+    private final KafkaLoadSampler loadSampler;
+    private final PlayKeySpreader keySpreader;
+    private final Counter rejectedCounter;
+    
+    @Value("${frolic.admission.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${frolic.admission.per-game:true}")
+    private boolean perGame;
+    
+    @Value("${frolic.admission.max-partition-lag:5000}")
+    private long maxPartitionLag;
+    
+    @Value("${frolic.admission.max-total-lag:50000}")
+    private long maxTotalLag;
+    
+    @Value("${frolic.admission.max-buffer-utilization:0.9}")
+    private double maxBufferUtilization;
+    
+    @Value("${frolic.admission.default-retry-after-seconds:5}")
+    private long defaultRetryAfterSeconds;
+    
+    @Value("${frolic.admission.max-retry-after-seconds:60}")
+    private long maxRetryAfterSeconds;
+    
+    @Value("${frolic.admission.sample-interval-ms:1000}")
+    private long sampleIntervalMs;
+    
+    private volatile LoadSample currentSample;
+    private volatile double drainPerSecond;
+    
+    public PlayAdmissionService(KafkaLoadSampler loadSampler, PlayKeySpreader keySpreader, MeterRegistry meterRegistry) {
+        this.loadSampler = loadSampler;
+        this.keySpreader = keySpreader;
+        this.rejectedCounter = Counter.builder("frolic.admission.rejected")
+            .description("Plays rejected by admission control")
+            .register(meterRegistry);
+        Gauge.builder("frolic.admission.lag", this, s -> s.currentSample == null ? 0 : s.currentSample.totalLag())
+            .description("Reward allocator consumer lag on play events")
+            .register(meterRegistry);
+        Gauge.builder("frolic.admission.buffer.utilization", this,
+                s -> s.currentSample == null ? 0 : s.currentSample.bufferUtilization())
+            .description("Fraction of the play producer buffer in use")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Refresh the load sample and drain rate
+     */
+    @Scheduled(fixedDelayString = "${frolic.admission.sample-interval-ms:1000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            LoadSample sample = loadSampler.sample();
+            LoadSample previous = currentSample;
+            if (previous != null && sample.sampledAtMillis() > previous.sampledAtMillis()) {
+                long consumed = Math.max(0, sample.committedTotal() - previous.committedTotal());
+                drainPerSecond = consumed * 1000.0 / (sample.sampledAtMillis() - previous.sampledAtMillis());
+            }
+            currentSample = sample;
+        } catch (Exception e) {
+            log.warn("Failed to sample play event lag: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Reject the play if downstream processing is over its limits
+     */
+    public void checkAdmission(String gameId) {
+        if (!enabled) {
+            return;
+        }
+        
+        LoadSample sample = currentSample;
+        if (sample == null
+                || System.currentTimeMillis() - sample.sampledAtMillis() > sampleIntervalMs * STALE_SAMPLE_INTERVALS) {
+            return;
+        }
+        
+        if (sample.bufferUtilization() >= maxBufferUtilization) {
+            reject(gameId, "Play intake buffer is full", defaultRetryAfterSeconds);
+        }
+        
+        if (sample.totalLag() > maxTotalLag) {
+            reject(gameId, "Play processing is behind", retryAfterSeconds(sample.totalLag() - maxTotalLag));
+        }
+        
+        if (perGame) {
+            // A hot game spread over sub-keys is as far behind as its slowest partition
+            long gameLag = sample.lagForKeys(keySpreader.keysFor(gameId));
+            if (gameLag > maxPartitionLag) {
+                reject(gameId, "Play processing for this game is behind", retryAfterSeconds(gameLag - maxPartitionLag));
+            }
+        }
+    }
+    
+    private long retryAfterSeconds(long excessLag) {
+        double rate = drainPerSecond;
+        if (rate <= 0) {
+            return defaultRetryAfterSeconds;
+        }
+        long seconds = (long) Math.ceil(excessLag / rate);
+        return Math.max(1, Math.min(maxRetryAfterSeconds, seconds));
+    }
+    
+    private void reject(String gameId, String reason, long retryAfterSeconds) {
+        rejectedCounter.increment();
+        log.debug("Play rejected by admission control: gameId={}, reason={}, retryAfter={}s",
+            gameId, reason, retryAfterSeconds);
+        throw new ServiceOverloadedException(reason + ". Please retry later", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,103 @@
+package com.frolic.services.service.play;
+
+import com.frolic.services.config.MeteredAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structured, sampled log of the play path, written to the {@value #LOGGER_NAME} logger
+ * - Lines are key=value pairs and go through a non-blocking async appender (see logback-spring.xml)
+ * - Winners and failures are always logged; submitted, consumed and loser lines are sampled at
+ *   {@code frolic.logging.play.sample-rate}, or the game's rate from {@code frolic.logging.play.game-sample-rates}
+ * - Sampling hashes the play ID, so a sampled play is logged at every step and on every node
+ */
+@Component
+public class PlayEventLogger {
+    
+    public static final String LOGGER_NAME = "frolic.play";
+    
+    private static final Logger PLAY_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final int SAMPLE_BUCKETS = 10_000;
+    
+    private volatile Map<String, Double> gameSampleRates = Map.of();
+    
+    @Value("${frolic.logging.play.sample-rate:0.01}")
+    private double sampleRate;
+    
+    public PlayEventLogger(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("frolic.logging.play.dropped", this, l -> MeteredAsyncAppender.droppedEvents())
+            .description("Play log events dropped because the async appender queue was full")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Per-game sample rates as gameId=rate entries
+     */
+    @Value("${frolic.logging.play.game-sample-rates:}")
+    void setGameSampleRates(List<String> entries) {
+        Map<String, Double> rates = new HashMap<>();
+        for (String entry : entries) {
+            int separator = entry.indexOf('=');
+            if (separator > 0) {
+                rates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+        }
+        this.gameSampleRates = Map.copyOf(rates);
+    }
+    
+    public void submitted(String playId, String gameId, String userId) {
+        if (isSampled(playId, gameId)) {
+            PLAY_LOG.info("event=submitted playId={} gameId={} userId={}", playId, gameId, userId);
+        }
+    }
+    
+    public void consumed(String playId, String gameId, String userId) {
+        if (isSampled(playId, gameId)) {
+            PLAY_LOG.info("event=consumed playId={} gameId={} userId={}", playId, gameId, userId);
+        }
+    }
+    
+    public void winner(String playId, String gameId, String userId, String brandId) {
+        if (PLAY_LOG.isInfoEnabled()) {
+            PLAY_LOG.info("event=winner playId={} gameId={} userId={} brandId={}", playId, gameId, userId, brandId);
+        }
+    }
+    
+    public void loser(String playId, String gameId, String userId) {
+        if (isSampled(playId, gameId)) {
+            PLAY_LOG.info("event=loser playId={} gameId={} userId={}", playId, gameId, userId);
+        }
+    }
+    
+    /**
+     * Log a play that could not be processed
+     *
+     * @param reason Short kebab-case reason, e.g. dead-lettered
+     * @param cause Exception behind the failure, may be null
+     */
+    public void failed(String playId, String gameId, String reason, Throwable cause) {
+        PLAY_LOG.error("event=failed playId={} gameId={} reason={}", playId, gameId, reason, cause);
+    }
+    
+    boolean isSampled(String playId, String gameId) {
+        if (!PLAY_LOG.isInfoEnabled()) {
+            return false;
+        }
+        double rate = gameId != null ? gameSampleRates.getOrDefault(gameId, sampleRate) : sampleRate;
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0 || playId == null) {
+            return false;
+        }
+        return (playId.hashCode() & Integer.MAX_VALUE) % SAMPLE_BUCKETS < rate * SAMPLE_BUCKETS;
+    }
+}
@@ -6,14 +6,15 @@ import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.common.enums.PlayStatus;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.common.metrics.PlayStage;
+import com.frolic.core.common.metrics.PlayStageMetrics;
 import com.frolic.core.common.util.IdGenerator;
+import com.frolic.core.cache.local.CampaignSnapshot;
+import com.frolic.core.cache.local.GameSnapshot;
+import com.frolic.core.cache.local.GameSnapshotCache;
 import com.frolic.core.cache.store.RedisResultStore;
 import com.frolic.core.messaging.producer.PlayEventProducer;
 import com.frolic.core.common.enums.CampaignStatus;
-import com.frolic.core.repository.entity.CampaignEntity;
-import com.frolic.core.repository.entity.GameEntity;
-import com.frolic.core.repository.jpa.CampaignRepository;
-import com.frolic.core.repository.jpa.GameRepository;
 import com.frolic.services.service.admin.UserService;
 import com.frolic.services.controller.play.request.PlayRequest;
 import com.frolic.services.controller.play.response.PlayResponse;
@@ -32,41 +33,49 @@ import java.time.LocalDateTime;
 public class PlayIngestionService {
     
     private final PlayEventProducer playEventProducer;
-    private final GameRepository gameRepository;
-    private final CampaignRepository campaignRepository;
+    private final GameSnapshotCache gameSnapshotCache;
     private final UserService userService;
     private final RedisResultStore redisResultStore;
+    private final PlayAdmissionService playAdmissionService;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayEventLogger playLog;
     
     /**
      * Submit a play request
      */
     public PlayResponse submitPlay(PlayRequest request) {
+        long startNanos = System.nanoTime();
+        
+        // Shed load before any lookups while the allocators are behind
+        playAdmissionService.checkAdmission(request.getGameId());
+        
         // Validate user exists and is active
         if (!userService.isUserValid(request.getUserId())) {
             throw new InvalidRequestException("User does not exist or is inactive");
         }
         
-        // Validate game exists and is active
-        GameEntity game = gameRepository.findById(request.getGameId())
+        // Validate game exists and is active, from the node's snapshot kept fresh by lifecycle events
+        GameSnapshot game = gameSnapshotCache.getGame(request.getGameId())
             .orElseThrow(() -> new ResourceNotFoundException("Game", request.getGameId()));
         
-        if (game.getStatus() != GameStatus.ACTIVE) {
+        if (game.status() != GameStatus.ACTIVE) {
             throw new InvalidRequestException("Game is not active");
         }
         
         // Validate campaign status - if campaign is completed, games cannot accept plays
-        CampaignEntity campaign = campaignRepository.findById(game.getCampaignId())
-            .orElseThrow(() -> new ResourceNotFoundException("Campaign", game.getCampaignId()));
+        CampaignSnapshot campaign = gameSnapshotCache.getCampaign(game.campaignId())
+            .orElseThrow(() -> new ResourceNotFoundException("Campaign", game.campaignId()));
         
-        if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+        if (campaign.status() != CampaignStatus.ACTIVE) {
             throw new InvalidRequestException("Campaign is inactive. No plays are allowed");
         }
         
         // Check if game time window is valid
         LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(game.getStartTime()) || now.isAfter(game.getEndTime())) {
+        if (now.isBefore(game.startTime()) || now.isAfter(game.endTime())) {
             throw new InvalidRequestException("Game is not currently running");
         }
+        stageMetrics.recordSince(PlayStage.VALIDATION, game.id(), startNanos);
         
         // Generate play ID (using plain UUID to fit VARCHAR(36))
         String playId = IdGenerator.generateId();
@@ -81,10 +90,10 @@ public class PlayIngestionService {
             .metadata(request.getMetadata())
             .build();
         
-        // Publish to Kafka
-        playEventProducer.publishPlayEvent(event);
+        // Publish to Kafka, spread over sub-keys while the game is hot
+        playEventProducer.publishPlayEvent(event, game.keySpread());
         
-        log.info("Play submitted: playId={}, userId={}, gameId={}", playId, request.getUserId(), request.getGameId());
+        playLog.submitted(playId, request.getGameId(), request.getUserId());
         
         return PlayResponse.builder()
             .playId(playId)
@@ -0,0 +1,106 @@
+package com.frolic.services.service.scheduler;
+
+import com.frolic.core.cache.local.GameSnapshot;
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.services.service.coupon.CouponPoolService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Prepares a node for a game shortly before its start time, so its first plays find snapshots, scripts and coupons in place
+ * - Every node: loads the game and campaign snapshots
+ * - Scheduler leader only: loads the Lua scripts into Redis and prefills the coupon pools of the game's brands
+ *
+ * No plays are simulated, so the allocation path is compiled by the game's first real plays.
+ *
+ * Budgets are not staged here: startGame loads them with a single MSET, and a DRAFT game can still be
+ * edited until it starts.
+ */
+@Service
+@Slf4j
+public class GameWarmupService {
+    
+    private final GameSnapshotCache gameSnapshotCache;
+    private final GameBrandBudgetRepository budgetRepository;
+    private final CouponPoolService couponPoolService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final List<RedisScript<?>> scripts;
+    private final SchedulerLeaderElection leaderElection;
+    private final Timer warmupTimer;
+    
+    public GameWarmupService(GameSnapshotCache gameSnapshotCache,
+                             GameBrandBudgetRepository budgetRepository,
+                             CouponPoolService couponPoolService,
+                             StringRedisTemplate stringRedisTemplate,
+                             List<RedisScript<?>> scripts,
+                             SchedulerLeaderElection leaderElection,
+                             MeterRegistry meterRegistry) {
+        this.gameSnapshotCache = gameSnapshotCache;
+        this.budgetRepository = budgetRepository;
+        this.couponPoolService = couponPoolService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.scripts = scripts;
+        this.leaderElection = leaderElection;
+        this.warmupTimer = Timer.builder("frolic.warmup.duration")
+            .description("Time taken to warm a node up for a game")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Warm this node up for a DRAFT game
+     *
+     * @return false if the game no longer exists or is not waiting to start
+     */
+    public boolean warmUp(String gameId) {
+        GameSnapshot game = gameSnapshotCache.getGame(gameId).orElse(null);
+        if (game == null || game.status() != GameStatus.DRAFT) {
+            return false;
+        }
+        
+        Timer.Sample sample = Timer.start();
+        gameSnapshotCache.getCampaign(game.campaignId());
+        
+        List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameId(gameId);
+        if (leaderElection.isLeader()) {
+            loadScripts();
+            prefillCouponPools(budgets);
+        }
+        
+        long elapsedNanos = sample.stop(warmupTimer);
+        log.info("Warmed up for game: gameId={}, brands={}, elapsedMs={}",
+            gameId, budgets.size(), elapsedNanos / 1_000_000);
+        return true;
+    }
+    
+    /**
+     * SCRIPT LOAD every Lua script, so the first EVALSHA of the game does not fall back to EVAL
+     */
+    void loadScripts() {
+        for (RedisScript<?> script : scripts) {
+            byte[] source = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(source));
+        }
+        log.debug("Loaded {} Lua scripts into Redis", scripts.size());
+    }
+    
+    private void prefillCouponPools(List<GameBrandBudgetEntity> budgets) {
+        for (GameBrandBudgetEntity budget : budgets) {
+            try {
+                couponPoolService.refillPool(budget.getBrandId());
+            } catch (Exception e) {
+                log.warn("Failed to prefill coupon pool during warmup: brand={}", budget.getBrandId(), e);
+            }
+        }
+    }
+}
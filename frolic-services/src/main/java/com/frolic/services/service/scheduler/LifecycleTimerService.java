@@ -0,0 +1,347 @@
+package com.frolic.services.service.scheduler;
+
+import com.frolic.core.common.enums.CampaignStatus;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.common.util.TimeUtils;
+import com.frolic.core.repository.entity.CampaignEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import com.frolic.services.service.admin.CampaignService;
+import com.frolic.services.service.admin.GameService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires game and campaign start/end transitions at their scheduled instant
+ * - Every DRAFT or ACTIVE game and campaign has at most one pending timer in a DelayQueue
+ * - Timers are loaded from PostgreSQL at startup and rebuilt from lifecycle events after any change
+ * - Superseded timers stay in the queue and are skipped when they come due
+ * - A fired timer re-reads its entity, so a missed update never fires a transition early
+ *
+ * Every node keeps the timers so failover is immediate, but only the scheduler leader fires them;
+ * a node that becomes leader reloads its timers to pick up anything that came due before it won.
+ * SchedulerService keeps a slow DB sweep as a safety net for anything a timer missed.
+ *
+ * DRAFT games also get a warmup timer {@code frolic.warmup.lead-seconds} before their start, which fires on
+ * every node so each one is ready for the first plays (see GameWarmupService).
+ */
+@Service
+@Slf4j
+public class LifecycleTimerService {
+    
+    private final GameRepository gameRepository;
+    private final CampaignRepository campaignRepository;
+    private final GameService gameService;
+    private final CampaignService campaignService;
+    private final SchedulerLeaderElection leaderElection;
+    private final GameWarmupService gameWarmupService;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Timer fireLagTimer;
+    
+    private final DelayQueue<LifecycleTimer> queue = new DelayQueue<>();
+    private final Map<String, LifecycleTimer> pending = new ConcurrentHashMap<>();
+    
+    @Value("${frolic.scheduler.timers.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${frolic.warmup.enabled:true}")
+    private boolean warmupEnabled;
+    
+    @Value("${frolic.warmup.lead-seconds:30}")
+    private long warmupLeadSeconds;
+    
+    private volatile Thread worker;
+    
+    public LifecycleTimerService(GameRepository gameRepository,
+                                 CampaignRepository campaignRepository,
+                                 GameService gameService,
+                                 CampaignService campaignService,
+                                 SchedulerLeaderElection leaderElection,
+                                 GameWarmupService gameWarmupService,
+                                 @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                 AsyncTaskExecutor taskExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        this.campaignRepository = campaignRepository;
+        this.gameService = gameService;
+        this.campaignService = campaignService;
+        this.leaderElection = leaderElection;
+        this.gameWarmupService = gameWarmupService;
+        this.taskExecutor = taskExecutor;
+        this.fireLagTimer = Timer.builder("frolic.scheduler.timer.lag")
+            .description("Delay between a lifecycle transition's scheduled instant and its firing")
+            .register(meterRegistry);
+        meterRegistry.gauge("frolic.scheduler.timers.pending", pending, Map::size);
+    }
+    
+    /**
+     * Load timers for all pending transitions and start dispatching them
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Lifecycle timers disabled, relying on the scheduler sweep");
+            return;
+        }
+        
+        loadTimers();
+        worker = Thread.ofPlatform().daemon().name("lifecycle-timers").start(this::dispatchLoop);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+    
+    /**
+     * Catch up on transitions that came due while another node was leader
+     */
+    @EventListener
+    public void onLeadershipChange(SchedulerLeadershipEvent event) {
+        if (enabled && event.leader()) {
+            loadTimers();
+        }
+    }
+    
+    /**
+     * Rebuild timers from every DRAFT and ACTIVE game and campaign
+     */
+    public void loadTimers() {
+        gameRepository.findByStatus(GameStatus.DRAFT).forEach(this::scheduleGame);
+        gameRepository.findByStatus(GameStatus.ACTIVE).forEach(this::scheduleGame);
+        campaignRepository.findByStatus(CampaignStatus.DRAFT).forEach(this::scheduleCampaign);
+        campaignRepository.findByStatus(CampaignStatus.ACTIVE).forEach(this::scheduleCampaign);
+        log.info("Loaded lifecycle timers: pending={}", pending.size());
+    }
+    
+    /**
+     * Re-read a game and replace its timer, or drop it if the game no longer needs one
+     */
+    public void rescheduleGame(String gameId) {
+        if (!enabled) {
+            return;
+        }
+        gameRepository.findById(gameId).ifPresentOrElse(
+            this::scheduleGame,
+            () -> {
+                pending.remove(gameKey(gameId));
+                pending.remove(warmupKey(gameId));
+            });
+    }
+    
+    /**
+     * Re-read a campaign and replace its timer, or drop it if the campaign no longer needs one
+     */
+    public void rescheduleCampaign(String campaignId) {
+        if (!enabled) {
+            return;
+        }
+        campaignRepository.findById(campaignId).ifPresentOrElse(
+            this::scheduleCampaign,
+            () -> pending.remove(campaignKey(campaignId)));
+    }
+    
+    /**
+     * Number of timers waiting to fire
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+    
+    /**
+     * Instant the entity's pending timer fires at, or null if it has none
+     */
+    Long pendingFireAt(String key) {
+        LifecycleTimer timer = pending.get(key);
+        return timer == null ? null : timer.fireAtMillis();
+    }
+    
+    /**
+     * Take due timers off the queue and hand them to the task executor
+     */
+    void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                dispatch(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Dispatch every timer that is already due without waiting
+     *
+     * @return number of timers taken off the queue
+     */
+    int dispatchDue() {
+        int dispatched = 0;
+        LifecycleTimer timer;
+        while ((timer = queue.poll()) != null) {
+            dispatch(timer);
+            dispatched++;
+        }
+        return dispatched;
+    }
+    
+    /**
+     * Fire a due timer unless a newer one has replaced it
+     */
+    void dispatch(LifecycleTimer timer) {
+        if (!pending.remove(timer.key(), timer)) {
+            return;
+        }
+        fireLagTimer.record(Math.max(0, System.currentTimeMillis() - timer.fireAtMillis()), TimeUnit.MILLISECONDS);
+        taskExecutor.execute(() -> fire(timer));
+    }
+    
+    private void fire(LifecycleTimer timer) {
+        // Warmup prepares this node only, so every node runs it
+        if (timer.type() != TimerType.WARMUP && !leaderElection.confirmLeadership()) {
+            return;
+        }
+        try {
+            switch (timer.type()) {
+                case GAME -> fireGame(timer.id());
+                case CAMPAIGN -> fireCampaign(timer.id());
+                case WARMUP -> gameWarmupService.warmUp(timer.id());
+            }
+        } catch (Exception e) {
+            log.error("Lifecycle timer failed: key={}", timer.key(), e);
+        }
+    }
+    
+    private void fireGame(String gameId) {
+        GameEntity game = gameRepository.findById(gameId).orElse(null);
+        if (game == null) {
+            return;
+        }
+        
+        LocalDateTime now = TimeUtils.now();
+        if (game.getStatus() == GameStatus.DRAFT && !game.getStartTime().isAfter(now)) {
+            gameService.startGame(gameId);
+            log.info("Timer started game: id={}, name={}", gameId, game.getName());
+        } else if (game.getStatus() == GameStatus.ACTIVE && !game.getEndTime().isAfter(now)) {
+            gameService.stopGame(gameId);
+            log.info("Timer ended game: id={}, name={}", gameId, game.getName());
+        }
+        
+        // Queue the next transition now rather than waiting for the lifecycle event to come back
+        rescheduleGame(gameId);
+    }
+    
+    private void fireCampaign(String campaignId) {
+        CampaignEntity campaign = campaignRepository.findById(campaignId).orElse(null);
+        if (campaign == null) {
+            return;
+        }
+        
+        LocalDateTime now = TimeUtils.now();
+        if (campaign.getStatus() == CampaignStatus.DRAFT && !campaign.getStartDate().isAfter(now)) {
+            campaignService.activateCampaign(campaignId);
+            log.info("Timer started campaign: id={}, name={}", campaignId, campaign.getName());
+        } else if (campaign.getStatus() == CampaignStatus.ACTIVE && !campaign.getEndDate().isAfter(now)) {
+            campaignService.endCampaign(campaignId);
+            log.info("Timer ended campaign: id={}, name={} (also stopped all games)", campaignId, campaign.getName());
+        }
+        
+        rescheduleCampaign(campaignId);
+    }
+    
+    private void scheduleGame(GameEntity game) {
+        LocalDateTime fireAt = switch (game.getStatus()) {
+            case DRAFT -> game.getStartTime();
+            case ACTIVE -> game.getEndTime();
+            default -> null;
+        };
+        schedule(new LifecycleTimer(gameKey(game.getId()), game.getId(), TimerType.GAME, toEpochMillis(fireAt)));
+        
+        Long warmupAt = null;
+        if (warmupEnabled && game.getStatus() == GameStatus.DRAFT && game.getStartTime() != null
+                && game.getStartTime().isAfter(TimeUtils.now())) {
+            warmupAt = toEpochMillis(game.getStartTime().minusSeconds(warmupLeadSeconds));
+        }
+        schedule(new LifecycleTimer(warmupKey(game.getId()), game.getId(), TimerType.WARMUP, warmupAt));
+    }
+    
+    private void scheduleCampaign(CampaignEntity campaign) {
+        LocalDateTime fireAt = switch (campaign.getStatus()) {
+            case DRAFT -> campaign.getStartDate();
+            case ACTIVE -> campaign.getEndDate();
+            default -> null;
+        };
+        schedule(new LifecycleTimer(campaignKey(campaign.getId()), campaign.getId(), TimerType.CAMPAIGN, toEpochMillis(fireAt)));
+    }
+    
+    private void schedule(LifecycleTimer timer) {
+        if (timer.fireAtMillis() == null) {
+            pending.remove(timer.key());
+            return;
+        }
+        LifecycleTimer previous = pending.put(timer.key(), timer);
+        if (timer.equals(previous)) {
+            return;
+        }
+        queue.put(timer);
+        log.debug("Scheduled lifecycle timer: key={}, fireAt={}", timer.key(), timer.fireAtMillis());
+    }
+    
+    private static Long toEpochMillis(LocalDateTime time) {
+        return time == null ? null : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    static String gameKey(String gameId) {
+        return "game:" + gameId;
+    }
+    
+    static String campaignKey(String campaignId) {
+        return "campaign:" + campaignId;
+    }
+    
+    static String warmupKey(String gameId) {
+        return "warmup:game:" + gameId;
+    }
+    
+    enum TimerType {
+        GAME,
+        CAMPAIGN,
+        WARMUP
+    }
+    
+    /**
+     * Pending start or end transition of one game or campaign, or a game's warmup
+     */
+    record LifecycleTimer(String key, String id, TimerType type, Long fireAtMillis) implements Delayed {
+        
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+        
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((LifecycleTimer) other).fireAtMillis);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.frolic.services.service.scheduler;
+
+import com.frolic.core.common.constant.RedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elects a single node to run lifecycle scheduling, using a Redisson lock
+ * - One daemon thread tries the lock every heartbeat; RLock is owned per thread, so every
+ *   acquire, check and release happens on it
+ * - Redisson's watchdog keeps the lock alive while this JVM runs; a crashed leader's lock expires
+ *   after the watchdog timeout and a clean shutdown releases it immediately
+ * - Each term gets a fencing token from a Redis counter, and duties confirm the token is still
+ *   the latest before acting, so a paused ex-leader steps down instead of acting on stale leadership
+ *
+ * Transitions stay guarded by their DRAFT/ACTIVE status checks, which catch the small window between
+ * the fencing check and the write.
+ */
+@Component
+@Slf4j
+public class SchedulerLeaderElection {
+    
+    private final RedissonClient redissonClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter acquiredCounter;
+    private final Counter lostCounter;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("scheduler-leader").factory());
+    
+    @Value("${frolic.scheduler.leader.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${frolic.scheduler.leader.heartbeat-ms:1000}")
+    private long heartbeatMs;
+    
+    private volatile boolean leader;
+    private volatile long fencingToken;
+    
+    public SchedulerLeaderElection(RedissonClient redissonClient,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.eventPublisher = eventPublisher;
+        this.acquiredCounter = Counter.builder("frolic.scheduler.leadership.changes")
+            .description("Scheduler leadership terms gained or lost by this node")
+            .tag("change", "acquired")
+            .register(meterRegistry);
+        this.lostCounter = Counter.builder("frolic.scheduler.leadership.changes")
+            .description("Scheduler leadership terms gained or lost by this node")
+            .tag("change", "lost")
+            .register(meterRegistry);
+        Gauge.builder("frolic.scheduler.leader", this, election -> election.isLeader() ? 1 : 0)
+            .description("1 while this node runs lifecycle scheduling")
+            .register(meterRegistry);
+        Gauge.builder("frolic.scheduler.leader.fencing-token", this, election -> election.fencingToken)
+            .description("Fencing token of this node's latest leadership term")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Start competing for leadership, or take it unconditionally when election is disabled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Scheduler leader election disabled, this node runs all scheduling");
+            becomeLeader(0);
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Release the lock on shutdown so another node takes over without waiting for it to expire
+     */
+    @PreDestroy
+    public void stop() {
+        if (enabled && leader) {
+            try {
+                executor.submit(() -> relinquish("shutting down")).get(heartbeatMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                log.warn("Failed to release scheduler leadership on shutdown, the lock will expire", e);
+            }
+        }
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Whether this node currently believes it is the leader
+     */
+    public boolean isLeader() {
+        return leader;
+    }
+    
+    /**
+     * Confirm leadership before a scheduler duty: this node must be leader and its fencing token
+     * must still be the latest one issued
+     */
+    public boolean confirmLeadership() {
+        if (!leader) {
+            return false;
+        }
+        if (!enabled) {
+            return true;
+        }
+        
+        try {
+            long latest = redissonClient.getAtomicLong(RedisKeys.SCHEDULER_LEADER_EPOCH_KEY).get();
+            if (latest == fencingToken) {
+                return true;
+            }
+            log.warn("Scheduler leadership fenced: token={}, latest={}", fencingToken, latest);
+        } catch (Exception e) {
+            log.warn("Could not confirm scheduler leadership, skipping duty", e);
+            return false;
+        }
+        executor.execute(() -> relinquish("fenced by a newer leader"));
+        return false;
+    }
+    
+    /**
+     * Try to take the lock, or check that it is still held
+     */
+    void heartbeat() {
+        RLock lock = redissonClient.getLock(RedisKeys.SCHEDULER_LEADER_LOCK_KEY);
+        try {
+            if (leader) {
+                if (!lock.isHeldByCurrentThread()) {
+                    stepDown("lock lost");
+                }
+            } else if (lock.tryLock()) {
+                long token = redissonClient.getAtomicLong(RedisKeys.SCHEDULER_LEADER_EPOCH_KEY).incrementAndGet();
+                becomeLeader(token);
+            }
+        } catch (Exception e) {
+            log.warn("Scheduler leader heartbeat failed", e);
+            relinquish("heartbeat failed");
+        }
+    }
+    
+    private void relinquish(String reason) {
+        try {
+            RLock lock = redissonClient.getLock(RedisKeys.SCHEDULER_LEADER_LOCK_KEY);
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release scheduler leader lock, it will expire", e);
+        }
+        stepDown(reason);
+    }
+    
+    private void becomeLeader(long token) {
+        fencingToken = token;
+        leader = true;
+        acquiredCounter.increment();
+        log.info("Acquired scheduler leadership: token={}", token);
+        eventPublisher.publishEvent(new SchedulerLeadershipEvent(true, token));
+    }
+    
+    private void stepDown(String reason) {
+        if (!leader) {
+            return;
+        }
+        leader = false;
+        lostCounter.increment();
+        log.warn("Lost scheduler leadership: token={}, reason={}", fencingToken, reason);
+        eventPublisher.publishEvent(new SchedulerLeadershipEvent(false, fencingToken));
+    }
+}
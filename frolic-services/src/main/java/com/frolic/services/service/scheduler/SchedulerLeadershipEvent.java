@@ -0,0 +1,10 @@
+package com.frolic.services.service.scheduler;
+
+/**
+ * Published when this node gains or loses scheduler leadership
+ *
+ * @param leader       Whether this node is now the leader
+ * @param fencingToken Token of the leadership term gained or lost
+ */
+public record SchedulerLeadershipEvent(boolean leader, long fencingToken) {
+}
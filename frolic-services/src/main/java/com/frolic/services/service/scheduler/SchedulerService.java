@@ -15,11 +15,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 /**
- * Scheduled service for automatic lifecycle management
- * - Starts campaigns at their scheduled start date
- * - Ends campaigns at their scheduled end date
- * - Starts games at their scheduled start time
- * - Ends games at their scheduled end time
+ * Safety-net sweep for automatic lifecycle management
+ * LifecycleTimerService fires transitions at their exact instant; this sweep only catches
+ * anything a timer missed, e.g. a failed transition or a lifecycle event lost while a node was down.
+ * - Starts campaigns whose start date has passed
+ * - Ends campaigns whose end date has passed
+ * - Starts games whose start time has passed
+ * - Ends games whose end time has passed
+ * Only the elected scheduler leader sweeps, so the load does not grow with the fleet.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,13 +33,17 @@ public class SchedulerService {
     private final GameRepository gameRepository;
     private final CampaignService campaignService;
     private final GameService gameService;
+    private final SchedulerLeaderElection leaderElection;
     
     /**
-     * Check and start campaigns every minute
-     * Looks for DRAFT campaigns whose start date has arrived
+     * Start any DRAFT campaigns whose start date has arrived
      */
-    @Scheduled(cron = "0 * * * * *") // Every minute at :00 seconds
+    @Scheduled(fixedDelayString = "${frolic.scheduler.sweep-interval-ms:300000}",
+               initialDelayString = "${frolic.scheduler.sweep-interval-ms:300000}")
     public void autoStartCampaigns() {
+        if (!leaderElection.confirmLeadership()) {
+            return;
+        }
         try {
             LocalDateTime now = LocalDateTime.now();
             
@@ -62,11 +69,14 @@ public class SchedulerService {
     }
     
     /**
-     * Check and end campaigns every minute
-     * Looks for ACTIVE campaigns whose end date has passed
+     * End any ACTIVE campaigns whose end date has passed
      */
-    @Scheduled(cron = "0 * * * * *") // Every minute at :00 seconds
+    @Scheduled(fixedDelayString = "${frolic.scheduler.sweep-interval-ms:300000}",
+               initialDelayString = "${frolic.scheduler.sweep-interval-ms:300000}")
     public void autoEndCampaigns() {
+        if (!leaderElection.confirmLeadership()) {
+            return;
+        }
         try {
             LocalDateTime now = LocalDateTime.now();
             
@@ -93,13 +103,16 @@ public class SchedulerService {
     }
     
     /**
-     * Check and start games every minute
-     * Looks for DRAFT games whose start time has arrived
+     * Start any DRAFT games whose start time has arrived
      */
-    @Scheduled(initialDelay = 3000, fixedRate = 60000) // Every minute at :30 seconds
+    @Scheduled(fixedDelayString = "${frolic.scheduler.sweep-interval-ms:300000}",
+               initialDelayString = "${frolic.scheduler.sweep-interval-ms:300000}")
     public void autoStartGames() {
+        if (!leaderElection.confirmLeadership()) {
+            return;
+        }
         try {
-            log.info("Auto-starting games...");
+            log.debug("Sweeping games ready to start");
             LocalDateTime now = LocalDateTime.now();
             
             // Find DRAFT games whose start time has arrived (filtered at DB level)
@@ -124,13 +137,16 @@ public class SchedulerService {
     }
     
     /**
-     * Check and end games every minute
-     * Looks for ACTIVE games whose end time has passed
+     * End any ACTIVE games whose end time has passed
      */
-    @Scheduled(initialDelay = 3000, fixedRate = 60000) // Every minute at :30 seconds
+    @Scheduled(fixedDelayString = "${frolic.scheduler.sweep-interval-ms:300000}",
+               initialDelayString = "${frolic.scheduler.sweep-interval-ms:300000}")
     public void autoEndGames() {
+        if (!leaderElection.confirmLeadership()) {
+            return;
+        }
         try {
-            log.info("Auto-stopping games...");
+            log.debug("Sweeping games ready to end");
             LocalDateTime now = LocalDateTime.now();
             
             // Find ACTIVE games whose end time has passed (filtered at DB level)
@@ -0,0 +1,88 @@
+package com.frolic.services.service.stats;
+
+import com.frolic.core.common.dto.GameStatsDto;
+import com.frolic.core.engine.stats.PlayStatsAggregator;
+import com.frolic.core.engine.stats.PlayStatsDelta;
+import com.frolic.core.repository.jpa.GameBrandStatsRepository;
+import com.frolic.core.repository.jpa.GamePlayStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service for the per-game statistics read model
+ * - Periodically flushes the in-memory minute rollup as upserts
+ * - Serves dashboard stats from the rollup tables instead of COUNT(*) over play_events
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GameStatsService {
+    
+    private final PlayStatsAggregator playStatsAggregator;
+    private final GamePlayStatsRepository gamePlayStatsRepository;
+    private final GameBrandStatsRepository gameBrandStatsRepository;
+    
+    /**
+     * Flush pending counter increments to PostgreSQL
+     */
+    @Scheduled(fixedDelayString = "${frolic.stats.flush-interval-ms:5000}")
+    @Transactional
+    public void flush() {
+        List<PlayStatsDelta> deltas = playStatsAggregator.drainDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        try {
+            gamePlayStatsRepository.upsertDeltas(deltas);
+            log.debug("Flushed {} play stats buckets", deltas.size());
+        } catch (Exception e) {
+            log.error("Failed to flush play stats, will retry next cycle: buckets={}", deltas.size(), e);
+            playStatsAggregator.restore(deltas);
+        }
+    }
+    
+    /**
+     * Flush whatever is left on shutdown
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+    
+    /**
+     * Get aggregated stats for a game
+     */
+    @Transactional(readOnly = true)
+    public GameStatsDto getGameStats(String gameId) {
+        List<GameStatsDto.MinuteStats> minutes = gamePlayStatsRepository.findByGameIdOrderByBucketStartAsc(gameId).stream()
+            .map(s -> GameStatsDto.MinuteStats.builder()
+                .bucketStart(s.getBucketStart())
+                .plays(s.getPlays())
+                .winners(s.getWinners())
+                .build())
+            .collect(Collectors.toList());
+        
+        Map<String, Long> winnersByBrand = new LinkedHashMap<>();
+        for (GameBrandStatsRepository.BrandWinners row : gameBrandStatsRepository.sumWinnersByBrand(gameId)) {
+            winnersByBrand.put(row.getBrandId(), row.getWinners());
+        }
+        
+        return GameStatsDto.builder()
+            .gameId(gameId)
+            .totalPlays(minutes.stream().mapToLong(GameStatsDto.MinuteStats::getPlays).sum())
+            .totalWinners(minutes.stream().mapToLong(GameStatsDto.MinuteStats::getWinners).sum())
+            .winnersByBrand(winnersByBrand)
+            .minutes(minutes)
+            .build();
+    }
+}
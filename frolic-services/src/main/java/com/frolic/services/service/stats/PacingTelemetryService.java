@@ -0,0 +1,365 @@
+package com.frolic.services.service.stats;
+
+import com.frolic.core.cache.local.GameSnapshot;
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.PacingReportDto;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GamePacingSampleRepository;
+import com.frolic.core.repository.jpa.PacingSampleUpsertRepository.PacingSampleRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Per-game pacing telemetry: how the budget actually burns against the ideal linear curve
+ * - The allocator counts plays and winners of the open slot with striped counters
+ * - At each slot boundary the remaining budget of every tracked game is read from Redis in one MGET,
+ *   and the slot is closed into a fixed-size ring of samples next to the ideal remaining budget
+ * - The latest sample is published as {@code frolic.pacing.*} gauges tagged by game, and the ring is
+ *   served by the admin API
+ * - With {@code frolic.pacing.persistence.enabled} the samples are also upserted into game_pacing_samples
+ *
+ * Plays and winners are this node's share of the slot, while the remaining budget is global. In
+ * partition-affine mode budgets reach Redis on the next checkpoint, so the remaining budget may trail
+ * by up to one checkpoint interval. The first {@code frolic.pacing.max-games} games are tracked,
+ * later ones are not.
+ */
+@Service
+@Slf4j
+public class PacingTelemetryService {
+    
+    private final GameSnapshotCache gameSnapshotCache;
+    private final GameBrandBudgetRepository budgetRepository;
+    private final RedisBudgetStore redisBudgetStore;
+    private final GamePacingSampleRepository pacingSampleRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GamePacing> games = new ConcurrentHashMap<>();
+    private final Queue<PacingSampleRow> pendingRows = new ConcurrentLinkedQueue<>();
+    
+    @Value("${frolic.pacing.max-games:100}")
+    private int maxGames;
+    
+    @Value("${frolic.pacing.ring-size:1440}")
+    private int ringSize;
+    
+    @Value("${frolic.pacing.persistence.enabled:false}")
+    private boolean persistenceEnabled;
+    
+    public PacingTelemetryService(GameSnapshotCache gameSnapshotCache,
+                                  GameBrandBudgetRepository budgetRepository,
+                                  RedisBudgetStore redisBudgetStore,
+                                  GamePacingSampleRepository pacingSampleRepository,
+                                  MeterRegistry meterRegistry) {
+        this.gameSnapshotCache = gameSnapshotCache;
+        this.budgetRepository = budgetRepository;
+        this.redisBudgetStore = redisBudgetStore;
+        this.pacingSampleRepository = pacingSampleRepository;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * Count an allocated play towards the game's open slot
+     */
+    public void recordPlay(String gameId, boolean winner) {
+        GamePacing pacing = pacing(gameId);
+        if (pacing == null) {
+            return;
+        }
+        pacing.plays.increment();
+        if (winner) {
+            pacing.winners.increment();
+        }
+    }
+    
+    /**
+     * Start sampling a game before its first play, so slots without plays are on the curve too
+     */
+    public void track(String gameId) {
+        pacing(gameId);
+    }
+    
+    /**
+     * Close the slots that have ended
+     */
+    @Scheduled(fixedRateString = "${frolic.pacing.sample-interval-ms:1000}")
+    public void sample() {
+        sample(LocalDateTime.now());
+    }
+    
+    void sample(LocalDateTime now) {
+        List<GamePacing> due = new ArrayList<>();
+        List<String> budgetKeys = new ArrayList<>();
+        for (GamePacing pacing : games.values()) {
+            if (pacing.plan == null && !loadPlan(pacing, now)) {
+                continue;
+            }
+            if (pacing.isDue(now)) {
+                due.add(pacing);
+                budgetKeys.addAll(pacing.plan.budgetKeys());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        
+        List<String> values;
+        try {
+            values = redisBudgetStore.getBudgetValues(budgetKeys);
+        } catch (Exception e) {
+            // The slots stay open and are closed together on the next tick
+            log.warn("Failed to read budgets for pacing samples: games={}", due.size(), e);
+            return;
+        }
+        
+        int offset = 0;
+        for (GamePacing pacing : due) {
+            long remaining = 0;
+            for (int i = 0; i < pacing.plan.budgetKeys().size(); i++) {
+                String value = values.get(offset + i);
+                remaining += value != null ? Long.parseLong(value) : 0;
+            }
+            offset += pacing.plan.budgetKeys().size();
+            
+            PacingReportDto.Sample sample = pacing.closeSlot(now, remaining);
+            if (persistenceEnabled) {
+                pendingRows.add(new PacingSampleRow(pacing.gameId, sample.getSlotStart(), sample.getSlotEnd(),
+                    sample.getPlays(), sample.getWinners(), sample.getRemainingBudget(), sample.getIdealRemainingBudget()));
+            }
+        }
+    }
+    
+    /**
+     * Write the samples taken since the last run to PostgreSQL
+     */
+    @Scheduled(fixedDelayString = "${frolic.pacing.persistence.interval-ms:10000}")
+    public void persist() {
+        List<PacingSampleRow> rows = new ArrayList<>();
+        PacingSampleRow row;
+        while ((row = pendingRows.poll()) != null) {
+            rows.add(row);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        try {
+            pacingSampleRepository.upsertSamples(rows);
+            log.debug("Persisted {} pacing samples", rows.size());
+        } catch (Exception e) {
+            log.error("Failed to persist pacing samples, will retry next cycle: samples={}", rows.size(), e);
+            pendingRows.addAll(rows);
+        }
+    }
+    
+    /**
+     * Persist whatever is left on shutdown
+     */
+    @PreDestroy
+    public void persistOnShutdown() {
+        persist();
+    }
+    
+    /**
+     * Samples of a game kept on this node, oldest first
+     */
+    public PacingReportDto getReport(String gameId) {
+        GamePacing pacing = games.get(gameId);
+        if (pacing == null) {
+            throw new ResourceNotFoundException("No pacing telemetry on this node for game " + gameId);
+        }
+        
+        PacingPlan plan = pacing.plan;
+        PacingReportDto.PacingReportDtoBuilder report = PacingReportDto.builder()
+            .gameId(gameId)
+            .samples(pacing.samples());
+        if (plan != null) {
+            report.startTime(plan.startTime())
+                .endTime(plan.endTime())
+                .slotGranularitySeconds(plan.slotSeconds())
+                .totalBudget(plan.totalBudget());
+        }
+        return report.build();
+    }
+    
+    /**
+     * Drop a stopped game's samples and gauges
+     */
+    public void evictGame(String gameId) {
+        GamePacing pacing = games.remove(gameId);
+        if (pacing != null) {
+            pacing.gauges.forEach(meterRegistry::remove);
+        }
+    }
+    
+    private GamePacing pacing(String gameId) {
+        if (gameId == null) {
+            return null;
+        }
+        GamePacing pacing = games.get(gameId);
+        if (pacing != null) {
+            return pacing;
+        }
+        if (games.size() >= maxGames) {
+            return null;
+        }
+        return games.computeIfAbsent(gameId, this::register);
+    }
+    
+    private GamePacing register(String gameId) {
+        GamePacing pacing = new GamePacing(gameId, ringSize);
+        gauge(pacing, "frolic.pacing.remaining-budget", "Remaining budget at the end of the last slot",
+            PacingReportDto.Sample::getRemainingBudget);
+        gauge(pacing, "frolic.pacing.ideal-remaining-budget", "Budget that would remain at the end of the last slot with a linear burn",
+            PacingReportDto.Sample::getIdealRemainingBudget);
+        gauge(pacing, "frolic.pacing.slot-plays", "Plays allocated on this node during the last slot",
+            PacingReportDto.Sample::getPlays);
+        gauge(pacing, "frolic.pacing.slot-winners", "Winners allocated on this node during the last slot",
+            PacingReportDto.Sample::getWinners);
+        return pacing;
+    }
+    
+    private void gauge(GamePacing pacing, String name, String description, ToDoubleFunction<PacingReportDto.Sample> value) {
+        pacing.gauges.add(Gauge.builder(name, pacing, p -> p.latest != null ? value.applyAsDouble(p.latest) : Double.NaN)
+            .description(description)
+            .tag("game", pacing.gameId)
+            .register(meterRegistry));
+    }
+    
+    /**
+     * Resolve a game's schedule and total budget on the first tick after it is tracked
+     * Sampling starts with the slot open at that tick
+     *
+     * @return false if the game cannot be sampled yet
+     */
+    private boolean loadPlan(GamePacing pacing, LocalDateTime now) {
+        GameSnapshot game = gameSnapshotCache.getGame(pacing.gameId).orElse(null);
+        if (game == null || game.status() == GameStatus.ENDED || game.status() == GameStatus.CANCELLED) {
+            evictGame(pacing.gameId);
+            return false;
+        }
+        if (game.status() != GameStatus.ACTIVE || game.startTime() == null || game.endTime() == null) {
+            return false;
+        }
+        
+        List<GameBrandBudgetEntity> budgets = budgetRepository.findByGameId(pacing.gameId);
+        long totalBudget = budgets.stream().mapToLong(GameBrandBudgetEntity::getTotalBudget).sum();
+        List<String> budgetKeys = budgets.stream()
+            .map(b -> RedisKeys.budgetKey(pacing.gameId, b.getBrandId()))
+            .toList();
+        int slotSeconds = game.slotGranularitySeconds() != null && game.slotGranularitySeconds() > 0
+            ? game.slotGranularitySeconds() : 1;
+        
+        pacing.start(new PacingPlan(game.startTime(), game.endTime(), slotSeconds, totalBudget, budgetKeys), now);
+        return true;
+    }
+    
+    /**
+     * Schedule and budget of a sampled game
+     */
+    record PacingPlan(LocalDateTime startTime, LocalDateTime endTime, int slotSeconds, long totalBudget,
+                      List<String> budgetKeys) {
+        
+        long slotIndex(LocalDateTime time) {
+            return Math.max(0, Duration.between(startTime, time).getSeconds() / slotSeconds);
+        }
+        
+        LocalDateTime slotStart(long slot) {
+            LocalDateTime start = startTime.plusSeconds(slot * slotSeconds);
+            return start.isAfter(endTime) ? endTime : start;
+        }
+        
+        long idealRemaining(LocalDateTime time) {
+            long totalMillis = Duration.between(startTime, endTime).toMillis();
+            if (totalMillis <= 0 || !time.isBefore(endTime)) {
+                return 0;
+            }
+            long remainingMillis = Duration.between(time, endTime).toMillis();
+            return Math.round((double) totalBudget * remainingMillis / totalMillis);
+        }
+    }
+    
+    /**
+     * Open slot counters and ring of closed slots for one game
+     */
+    private static final class GamePacing {
+        
+        private final String gameId;
+        private final LongAdder plays = new LongAdder();
+        private final LongAdder winners = new LongAdder();
+        private final List<Meter> gauges = new ArrayList<>();
+        private final PacingReportDto.Sample[] ring;
+        private volatile PacingPlan plan;
+        private volatile PacingReportDto.Sample latest;
+        private long openSlot;
+        private boolean finished;
+        private int next;
+        private int size;
+        
+        private GamePacing(String gameId, int ringSize) {
+            this.gameId = gameId;
+            this.ring = new PacingReportDto.Sample[Math.max(1, ringSize)];
+        }
+        
+        private void start(PacingPlan plan, LocalDateTime now) {
+            this.openSlot = plan.slotIndex(now);
+            this.plan = plan;
+        }
+        
+        private boolean isDue(LocalDateTime now) {
+            return !finished && !now.isBefore(plan.slotStart(openSlot + 1));
+        }
+        
+        /**
+         * Close every slot that ended since the last sample into one sample
+         */
+        private synchronized PacingReportDto.Sample closeSlot(LocalDateTime now, long remainingBudget) {
+            long currentSlot = plan.slotIndex(now);
+            LocalDateTime slotEnd = plan.slotStart(currentSlot);
+            PacingReportDto.Sample sample = PacingReportDto.Sample.builder()
+                .slotStart(plan.slotStart(openSlot))
+                .slotEnd(slotEnd)
+                .plays(plays.sumThenReset())
+                .winners(winners.sumThenReset())
+                .remainingBudget(remainingBudget)
+                .idealRemainingBudget(plan.idealRemaining(slotEnd))
+                .build();
+            
+            ring[next] = sample;
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+            latest = sample;
+            openSlot = currentSlot;
+            finished = !slotEnd.isBefore(plan.endTime());
+            return sample;
+        }
+        
+        private synchronized List<PacingReportDto.Sample> samples() {
+            List<PacingReportDto.Sample> samples = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                samples.add(ring[(next - size + i + ring.length) % ring.length]);
+            }
+            return samples;
+        }
+    }
+}
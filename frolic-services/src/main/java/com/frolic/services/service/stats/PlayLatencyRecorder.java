@@ -0,0 +1,220 @@
+package com.frolic.services.service.stats;
+
+import com.frolic.core.common.dto.PlayLatencyDto;
+import com.frolic.core.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-game end-to-end play latency, measured from the submit timestamp a play carries through the pipeline
+ * - Each leg (decided, stored, delivered) records into a wait-free HdrHistogram Recorder
+ * - Every {@code frolic.metrics.latency.window-ms} the recorders are swapped out, and the finished window
+ *   is what the p50/p99/p999 gauges and the admin endpoint report
+ * - The first {@code frolic.metrics.latency.max-games} games are tracked on their own, later ones share "other"
+ * - A game is dropped when it stops. Results delivered after the stop track it again, so a game whose windows
+ *   stay empty for {@code frolic.metrics.latency.idle-ms} is dropped at rotation as well
+ *
+ * Latencies are in milliseconds and clamped to one hour, so a clock skew between nodes cannot overflow
+ * the histograms.
+ */
+@Service
+public class PlayLatencyRecorder {
+    
+    public static final String METER_NAME = "frolic.play.latency";
+    
+    static final String OTHER_GAME = "other";
+    
+    private static final long HIGHEST_TRACKABLE_MS = TimeUnit.HOURS.toMillis(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+    private static final String[] QUANTILE_TAGS = {"0.5", "0.99", "0.999"};
+    private static final Leg[] LEGS = Leg.values();
+    
+    /**
+     * Point of the pipeline a play's latency is measured to
+     */
+    public enum Leg {
+        DECIDED("decided"),
+        STORED("stored"),
+        DELIVERED("delivered");
+        
+        private final String tag;
+        
+        Leg(String tag) {
+            this.tag = tag;
+        }
+        
+        public String tag() {
+            return tag;
+        }
+    }
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GameLatency> games = new ConcurrentHashMap<>();
+    private final GameLatency otherGames;
+    
+    @Value("${frolic.metrics.latency.max-games:100}")
+    private int maxGames;
+    
+    @Value("${frolic.metrics.latency.window-ms:10000}")
+    private long windowMs;
+    
+    @Value("${frolic.metrics.latency.idle-ms:600000}")
+    private long idleMs;
+    
+    @Value("${frolic.websocket.reel-duration-seconds:10}")
+    private int reelDurationSeconds;
+    
+    public PlayLatencyRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.otherGames = register(OTHER_GAME);
+    }
+    
+    /**
+     * Record the time from a play's submission until now
+     *
+     * @param submittedAtMillis Epoch millis the play was submitted at; nothing is recorded if unknown
+     */
+    public void recordSinceSubmit(String gameId, Leg leg, Long submittedAtMillis) {
+        if (submittedAtMillis == null) {
+            return;
+        }
+        record(gameId, leg, System.currentTimeMillis() - submittedAtMillis);
+    }
+    
+    /**
+     * Record a latency in milliseconds
+     */
+    public void record(String gameId, Leg leg, long millis) {
+        latency(gameId).recorders[leg.ordinal()].recordValue(Math.max(0, Math.min(millis, HIGHEST_TRACKABLE_MS)));
+    }
+    
+    /**
+     * Close the current window and publish it to the gauges and the admin endpoint, dropping idle games
+     */
+    @Scheduled(fixedRateString = "${frolic.metrics.latency.window-ms:10000}")
+    public void rotate() {
+        otherGames.rotate();
+        games.forEach((gameId, latency) -> {
+            latency.rotate();
+            if (idleMs > 0 && latency.idleWindows * windowMs >= idleMs) {
+                evictGame(gameId);
+            }
+        });
+    }
+    
+    /**
+     * Percentiles of a game's last completed window
+     */
+    public PlayLatencyDto getLatency(String gameId) {
+        GameLatency latency = games.get(gameId);
+        if (latency == null) {
+            throw new ResourceNotFoundException("No latency recorded on this node for game " + gameId);
+        }
+        
+        long reelDurationMs = TimeUnit.SECONDS.toMillis(reelDurationSeconds);
+        Map<String, PlayLatencyDto.LegLatency> legs = new LinkedHashMap<>();
+        for (Leg leg : LEGS) {
+            Histogram window = latency.windows[leg.ordinal()];
+            legs.put(leg.tag(), PlayLatencyDto.LegLatency.builder()
+                .count(window.getTotalCount())
+                .p50Ms(window.getValueAtPercentile(PERCENTILES[0]))
+                .p99Ms(window.getValueAtPercentile(PERCENTILES[1]))
+                .p999Ms(window.getValueAtPercentile(PERCENTILES[2]))
+                .maxMs(window.getMaxValue())
+                .withinReelPercent(window.getTotalCount() == 0 ? 100.0 : window.getPercentileAtOrBelowValue(reelDurationMs))
+                .build());
+        }
+        
+        return PlayLatencyDto.builder()
+            .gameId(gameId)
+            .windowMs(windowMs)
+            .reelDurationMs(reelDurationMs)
+            .legs(legs)
+            .build();
+    }
+    
+    /**
+     * Drop a stopped game's histograms and gauges
+     */
+    public void evictGame(String gameId) {
+        GameLatency latency = games.remove(gameId);
+        if (latency != null) {
+            latency.gauges.forEach(meterRegistry::remove);
+        }
+    }
+    
+    private GameLatency latency(String gameId) {
+        if (gameId == null) {
+            return otherGames;
+        }
+        GameLatency latency = games.get(gameId);
+        if (latency != null) {
+            return latency;
+        }
+        if (games.size() >= maxGames) {
+            return otherGames;
+        }
+        return games.computeIfAbsent(gameId, this::register);
+    }
+    
+    private GameLatency register(String gameId) {
+        GameLatency latency = new GameLatency();
+        for (Leg leg : LEGS) {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                double percentile = PERCENTILES[i];
+                latency.gauges.add(Gauge.builder(METER_NAME, latency, l -> l.windows[leg.ordinal()].getValueAtPercentile(percentile))
+                    .description("End-to-end play latency from submit, over the last completed window")
+                    .baseUnit("milliseconds")
+                    .tag("leg", leg.tag())
+                    .tag("game", gameId)
+                    .tag("quantile", QUANTILE_TAGS[i])
+                    .register(meterRegistry));
+            }
+        }
+        return latency;
+    }
+    
+    /**
+     * Live recorders and last completed window of each leg for one game
+     */
+    private static final class GameLatency {
+        
+        private final Recorder[] recorders = new Recorder[LEGS.length];
+        private final List<Meter> gauges = new ArrayList<>();
+        private volatile Histogram[] windows = new Histogram[LEGS.length];
+        private int idleWindows;
+        
+        private GameLatency() {
+            for (int i = 0; i < LEGS.length; i++) {
+                recorders[i] = new Recorder(HIGHEST_TRACKABLE_MS, SIGNIFICANT_DIGITS);
+                windows[i] = new Histogram(HIGHEST_TRACKABLE_MS, SIGNIFICANT_DIGITS);
+            }
+        }
+        
+        private void rotate() {
+            // Readers may still hold the previous windows, so they are replaced rather than recycled
+            Histogram[] next = new Histogram[LEGS.length];
+            long count = 0;
+            for (int i = 0; i < LEGS.length; i++) {
+                next[i] = recorders[i].getIntervalHistogram();
+                count += next[i].getTotalCount();
+            }
+            windows = next;
+            idleWindows = count == 0 ? idleWindows + 1 : 0;
+        }
+    }
+}
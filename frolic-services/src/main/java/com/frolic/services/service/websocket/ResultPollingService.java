@@ -2,6 +2,10 @@ package com.frolic.services.service.websocket;
 
 import com.frolic.core.cache.store.RedisResultStore;
 import com.frolic.core.common.dto.PlayResultDto;
+import com.frolic.core.common.jfr.ResultDeliveryEvent;
+import com.frolic.core.common.metrics.PlayStage;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +26,8 @@ public class ResultPollingService {
     
     private final RedisResultStore redisResultStore;
     private final SimpMessagingTemplate messagingTemplate;
+    private final PlayStageMetrics stageMetrics;
+    private final PlayLatencyRecorder latencyRecorder;
     
     @Value("${frolic.websocket.reel-duration-seconds:10}")
     private int reelDurationSeconds;
@@ -38,13 +44,20 @@ public class ResultPollingService {
             TimeUnit.SECONDS.sleep(reelDurationSeconds);
             
             // Poll for result with retries
+            ResultDeliveryEvent delivery = ResultDeliveryEvent.beginIfRecording();
             PlayResultDto result = pollWithRetries(playId, 5, 1000);
             
             if (result != null) {
                 // Push result to WebSocket topic
                 String destination = "/topic/result/" + playId;
+                long deliveryStart = System.nanoTime();
                 messagingTemplate.convertAndSend(destination, result);
-                log.info("Pushed result to WebSocket: playId={}, winner={}", playId, result.isWinner());
+                stageMetrics.recordSince(PlayStage.WEBSOCKET_DELIVERY, result.getGameId(), deliveryStart);
+                latencyRecorder.recordSinceSubmit(result.getGameId(), PlayLatencyRecorder.Leg.DELIVERED, result.getSubmittedAtMillis());
+                if (delivery != null) {
+                    delivery.complete(playId, result.getGameId(), result.isWinner(), false);
+                }
+                log.debug("Pushed result to WebSocket: playId={}, winner={}", playId, result.isWinner());
             } else {
                 // Send timeout message
                 PlayResultDto timeoutResult = PlayResultDto.builder()
@@ -55,6 +68,9 @@ public class ResultPollingService {
                 
                 String destination = "/topic/result/" + playId;
                 messagingTemplate.convertAndSend(destination, timeoutResult);
+                if (delivery != null) {
+                    delivery.complete(playId, null, false, true);
+                }
                 log.warn("Result timeout: playId={}", playId);
             }
             
@@ -4,10 +4,12 @@ import com.frolic.core.common.exception.BusinessException;
 import com.frolic.core.common.exception.ConcurrencyException;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.common.exception.ServiceOverloadedException;
 import com.frolic.core.common.exception.TechnicalException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.frolic.services.config.GlobalExceptionHandler.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -42,6 +44,21 @@ class GlobalExceptionHandlerTest {
         assertNotNull(body.getTimestamp());
     }
     
+    @Test
+    void testHandleServiceOverloadedException() {
+        ServiceOverloadedException exception =
+            new ServiceOverloadedException("Play processing is behind", 12);
+        
+        ResponseEntity<ErrorResponse> response =
+            exceptionHandler.handleServiceOverloaded(exception);
+        
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("12", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        ErrorResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals("SERVICE_OVERLOADED", body.getErrorCode());
+    }
+    
     @Test
     void testHandleInvalidRequestException() {
         InvalidRequestException exception = 
@@ -0,0 +1,94 @@
+package com.frolic.services.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MeteredAsyncAppender
+ */
+class MeteredAsyncAppenderTest {
+    
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger delivered = new AtomicInteger();
+    
+    private LoggerContext loggerContext;
+    
+    private MeteredAsyncAppender appender;
+    
+    @BeforeEach
+    void setUp() {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        
+        AppenderBase<ILoggingEvent> slowAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.incrementAndGet();
+            }
+        };
+        slowAppender.setContext(loggerContext);
+        slowAppender.start();
+        
+        appender = new MeteredAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setQueueSize(1);
+        appender.addAppender(slowAppender);
+        appender.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+    
+    @Test
+    void testAppend_QueueFull_DropsWithoutBlockingAndCounts() throws InterruptedException {
+        long droppedBefore = MeteredAsyncAppender.droppedEvents();
+        
+        appender.doAppend(event("first", Level.INFO));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event("queued", Level.INFO));
+        appender.doAppend(event("dropped", Level.INFO));
+        
+        assertThat(MeteredAsyncAppender.droppedEvents() - droppedBefore).isEqualTo(1);
+        release.countDown();
+        appender.stop();
+        assertThat(delivered.get()).isEqualTo(2);
+    }
+    
+    @Test
+    void testAppend_DebugEventWithRoomInQueue_IsNotDiscarded() throws InterruptedException {
+        long droppedBefore = MeteredAsyncAppender.droppedEvents();
+        release.countDown();
+        
+        appender.doAppend(event("debug", Level.DEBUG));
+        appender.stop();
+        
+        assertThat(delivered.get()).isEqualTo(1);
+        assertThat(MeteredAsyncAppender.droppedEvents()).isEqualTo(droppedBefore);
+    }
+    
+    private LoggingEvent event(String message, Level level) {
+        return new LoggingEvent(getClass().getName(), loggerContext.getLogger("frolic.play"), level, message, null, null);
+    }
+}
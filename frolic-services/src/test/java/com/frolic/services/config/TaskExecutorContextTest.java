@@ -0,0 +1,128 @@
+package com.frolic.services.config;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.cache.store.RedisCouponPoolStore;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
+import com.frolic.core.repository.jpa.BrandRepository;
+import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.CouponRepository;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import com.frolic.core.repository.jpa.PlayEventRepository;
+import com.frolic.services.service.admin.CampaignService;
+import com.frolic.services.service.admin.GameBulkLifecycleService;
+import com.frolic.services.service.admin.GameService;
+import com.frolic.services.service.budget.BudgetRehydrationService;
+import com.frolic.services.service.coupon.CouponImportService;
+import com.frolic.services.service.coupon.CouponPoolService;
+import com.frolic.services.service.coupon.CsvCouponFileReader;
+import com.frolic.services.service.coupon.XlsxCouponFileReader;
+import com.frolic.services.service.scheduler.GameWarmupService;
+import com.frolic.services.service.scheduler.LifecycleTimerService;
+import com.frolic.services.service.scheduler.SchedulerLeaderElection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Context test for the services that run work on the application task executor
+ * The scheduler from @EnableScheduling is an AsyncTaskExecutor as well, so each of them must ask for the
+ * executor by name or the context fails to start.
+ */
+@SpringBootTest(classes = {
+    TaskExecutorContextTest.Scheduling.class,
+    VirtualThreadConfig.class,
+    CouponImportService.class,
+    CsvCouponFileReader.class,
+    XlsxCouponFileReader.class,
+    BudgetRehydrationService.class,
+    LifecycleTimerService.class,
+    GameBulkLifecycleService.class,
+    CouponPoolService.class
+}, properties = "frolic.scheduler.timers.enabled=false")
+class TaskExecutorContextTest {
+    
+    @MockBean
+    private CouponRepository couponRepository;
+    
+    @MockBean
+    private BrandRepository brandRepository;
+    
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+    
+    @MockBean
+    private GameRepository gameRepository;
+    
+    @MockBean
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @MockBean
+    private PlayEventRepository playEventRepository;
+    
+    @MockBean
+    private RedisBudgetStore redisBudgetStore;
+    
+    @MockBean
+    private CampaignRepository campaignRepository;
+    
+    @MockBean
+    private GameService gameService;
+    
+    @MockBean
+    private CampaignService campaignService;
+    
+    @MockBean
+    private SchedulerLeaderElection leaderElection;
+    
+    @MockBean
+    private GameWarmupService gameWarmupService;
+    
+    @MockBean
+    private GameLifecycleProducer lifecycleProducer;
+    
+    @MockBean
+    private AtomicCouponAllocator couponAllocator;
+    
+    @MockBean
+    private RedisCouponPoolStore couponPoolStore;
+    
+    @Autowired
+    private ApplicationContext context;
+    
+    @Test
+    void testContextLoads_SchedulerPresent_ServicesUseApplicationExecutor() {
+        assertThat(context.getBeansOfType(AsyncTaskExecutor.class)).hasSizeGreaterThan(1);
+        assertThat(context.getBean(CouponImportService.class)).isNotNull();
+        assertThat(context.getBean(BudgetRehydrationService.class)).isNotNull();
+        assertThat(context.getBean(LifecycleTimerService.class)).isNotNull();
+        assertThat(context.getBean(GameBulkLifecycleService.class)).isNotNull();
+        assertThat(context.getBean(CouponPoolService.class)).isNotNull();
+    }
+    
+    @TestConfiguration
+    @EnableScheduling
+    @ImportAutoConfiguration({TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class})
+    static class Scheduling {
+        
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.AllocationResultDto;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.dto.PlayResultDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.services.service.allocation.RewardAllocationService;
+import com.frolic.services.service.play.PlayEventLogger;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExactlyOncePlayEventConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+class ExactlyOncePlayEventConsumerTest {
+    
+    @Mock
+    private RewardAllocationService rewardAllocationService;
+    
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    
+    private ExactlyOncePlayEventConsumer consumer;
+    
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        consumer = new ExactlyOncePlayEventConsumer(rewardAllocationService, kafkaTemplate,
+            new PlayStageMetrics(meterRegistry), new PlayEventLogger(meterRegistry), meterRegistry);
+    }
+    
+    @Test
+    void testConsumePlayEvent_PublishesOutcomeToAllocationResults() {
+        PlayEventDto event = createPlayEvent();
+        AllocationResultDto outcome = new AllocationResultDto(event, PlayResultDto.builder().playId("play-123").build());
+        when(rewardAllocationService.decidePlayEvent(event)).thenReturn(outcome);
+        
+        consumer.consumePlayEvent(event);
+        
+        verify(kafkaTemplate).send(KafkaTopics.ALLOCATION_RESULTS, "game-456", outcome);
+        verify(rewardAllocationService, never()).processPlayEvent(any());
+    }
+    
+    @Test
+    void testConsumePlayEvent_DecisionFails_PropagatesForRollback() {
+        PlayEventDto event = createPlayEvent();
+        when(rewardAllocationService.decidePlayEvent(event)).thenThrow(new RuntimeException("Redis unavailable"));
+        
+        assertThrows(RuntimeException.class, () -> consumer.consumePlayEvent(event));
+        
+        verifyNoInteractions(kafkaTemplate);
+    }
+    
+    private PlayEventDto createPlayEvent() {
+        return PlayEventDto.builder()
+            .playId("play-123")
+            .gameId("game-456")
+            .userId("user-789")
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.common.dto.GameLifecycleEventDto;
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.messaging.producer.PlayKeySpreader;
+import com.frolic.services.service.allocation.PartitionBudgetRegistry;
+import com.frolic.services.service.scheduler.LifecycleTimerService;
+import com.frolic.services.service.stats.PacingTelemetryService;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameLifecycleConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+class GameLifecycleConsumerTest {
+    
+    @Mock
+    private GameSnapshotCache gameSnapshotCache;
+    
+    @Mock
+    private ObjectProvider<PartitionBudgetRegistry> registryProvider;
+    
+    @Mock
+    private PartitionBudgetRegistry partitionBudgetRegistry;
+    
+    @Mock
+    private LifecycleTimerService lifecycleTimerService;
+    
+    @Mock
+    private PlayStageMetrics stageMetrics;
+    
+    @Mock
+    private PlayLatencyRecorder latencyRecorder;
+    
+    @Mock
+    private PacingTelemetryService pacingTelemetry;
+    
+    @Mock
+    private PlayKeySpreader keySpreader;
+    
+    private GameLifecycleConsumer consumer;
+    
+    @BeforeEach
+    void setUp() {
+        consumer = new GameLifecycleConsumer(gameSnapshotCache, registryProvider, lifecycleTimerService, stageMetrics, latencyRecorder,
+            pacingTelemetry, keySpreader);
+    }
+    
+    @Test
+    void testConsumeLifecycleEvent_GamePaused_InvalidatesGame() {
+        consumer.consumeLifecycleEvent(event(GameLifecycleEventType.GAME_PAUSED, "game-1"));
+        
+        verify(gameSnapshotCache).invalidateGame("game-1");
+        verify(gameSnapshotCache, never()).invalidateCampaign(any());
+        verify(lifecycleTimerService).rescheduleGame("game-1");
+        verifyNoInteractions(registryProvider);
+    }
+    
+    @Test
+    void testConsumeLifecycleEvent_GameStarted_ReloadsSnapshot() {
+        consumer.consumeLifecycleEvent(event(GameLifecycleEventType.GAME_STARTED, "game-1"));
+        
+        InOrder inOrder = inOrder(gameSnapshotCache);
+        inOrder.verify(gameSnapshotCache).invalidateGame("game-1");
+        inOrder.verify(gameSnapshotCache).getGame("game-1");
+        verify(pacingTelemetry).track("game-1");
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testConsumeLifecycleEvent_GameStopped_EvictsFromPartitionState() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(partitionBudgetRegistry);
+            return null;
+        }).when(registryProvider).ifAvailable(any());
+        
+        consumer.consumeLifecycleEvent(event(GameLifecycleEventType.GAME_STOPPED, "game-1"));
+        
+        verify(gameSnapshotCache).invalidateGame("game-1");
+        verify(partitionBudgetRegistry).evictGame("game-1");
+        verify(stageMetrics).evictGame("game-1");
+        verify(latencyRecorder).evictGame("game-1");
+        verify(pacingTelemetry).evictGame("game-1");
+        verify(keySpreader).evictGame("game-1");
+    }
+    
+    @Test
+    void testConsumeLifecycleEvent_CampaignEnded_InvalidatesCampaign() {
+        consumer.consumeLifecycleEvent(event(GameLifecycleEventType.CAMPAIGN_ENDED, null));
+        
+        verify(gameSnapshotCache).invalidateCampaign("campaign-1");
+        verify(gameSnapshotCache, never()).invalidateGame(any());
+        verify(lifecycleTimerService).rescheduleCampaign("campaign-1");
+        verify(lifecycleTimerService, never()).rescheduleGame(any());
+    }
+    
+    private GameLifecycleEventDto event(GameLifecycleEventType type, String gameId) {
+        return GameLifecycleEventDto.builder()
+            .type(type)
+            .gameId(gameId)
+            .campaignId("campaign-1")
+            .occurredAtMillis(System.currentTimeMillis())
+            .build();
+    }
+}
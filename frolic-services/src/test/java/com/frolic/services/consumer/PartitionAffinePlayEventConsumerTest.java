@@ -0,0 +1,114 @@
+package com.frolic.services.consumer;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.exception.TechnicalException;
+import com.frolic.core.engine.affinity.PartitionBudgetState;
+import com.frolic.services.service.allocation.PartitionBudgetRegistry;
+import com.frolic.services.service.allocation.RewardAllocationService;
+import com.frolic.services.service.play.PlayEventLogger;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PartitionAffinePlayEventConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+class PartitionAffinePlayEventConsumerTest {
+    
+    @Mock
+    private RewardAllocationService rewardAllocationService;
+    
+    @Mock
+    private PartitionBudgetRegistry partitionBudgetRegistry;
+    
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    
+    private PartitionAffinePlayEventConsumer consumer;
+    
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        consumer = new PartitionAffinePlayEventConsumer(rewardAllocationService, partitionBudgetRegistry,
+            kafkaTemplate, new PlayStageMetrics(meterRegistry), new PlayEventLogger(meterRegistry), meterRegistry);
+    }
+    
+    @Test
+    void testConsumePlayEvent_UsesOwnedPartitionState() {
+        PartitionBudgetState state = new PartitionBudgetState(2, 10);
+        when(partitionBudgetRegistry.acquire(2)).thenReturn(state);
+        PlayEventDto event = createEvent();
+        
+        consumer.consumePlayEvent(event, 2);
+        
+        verify(rewardAllocationService).processOwnedPlayEvent(event, state);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testConsumePlayEvent_ServiceThrows_PublishesToDeadLetterTopic() {
+        doThrow(new RuntimeException("boom")).when(rewardAllocationService).processOwnedPlayEvent(any(), any());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        PlayEventDto event = createEvent();
+        
+        assertDoesNotThrow(() -> consumer.consumePlayEvent(event, 0));
+        
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertEquals(KafkaTopics.PLAY_EVENTS_DLT, captor.getValue().topic());
+        assertEquals("game-1", captor.getValue().key());
+        assertSame(event, captor.getValue().value());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testConsumePlayEvent_DeadLetterSendFails_ThrowsForRedelivery() {
+        doThrow(new RuntimeException("boom")).when(rewardAllocationService).processOwnedPlayEvent(any(), any());
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        
+        assertThrows(TechnicalException.class, () -> consumer.consumePlayEvent(createEvent(), 0));
+    }
+    
+    @Test
+    void testRebalance_HandsOffPlayPartitionsOnly() {
+        consumer.onPartitionsAssigned(Map.of(
+            new TopicPartition(KafkaTopics.PLAY_EVENTS, 1), 0L,
+            new TopicPartition("other-topic", 5), 0L
+        ), null);
+        consumer.onPartitionsRevoked(List.of(new TopicPartition(KafkaTopics.PLAY_EVENTS, 1)));
+        
+        verify(partitionBudgetRegistry).assign(List.of(1));
+        verify(partitionBudgetRegistry).revoke(List.of(1));
+    }
+    
+    private PlayEventDto createEvent() {
+        return PlayEventDto.builder()
+            .playId("play-1")
+            .gameId("game-1")
+            .userId("user-1")
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.frolic.services.consumer;
+
+import com.frolic.services.service.play.KafkaLoadSampler;
+import com.frolic.services.service.play.KafkaLoadSampler.LoadSample;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PlayListenerScaler
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayListenerScalerTest {
+    
+    @Mock
+    private KafkaLoadSampler loadSampler;
+    
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+    
+    @Mock
+    private HikariDataSource dataSource;
+    
+    @Mock
+    private ConcurrentMessageListenerContainer<Object, Object> container;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PlayListenerScaler scaler;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scaler = new PlayListenerScaler(loadSampler, listenerRegistry, dataSource, meterRegistry);
+        ReflectionTestUtils.setField(scaler, "enabled", true);
+        ReflectionTestUtils.setField(scaler, "minConcurrency", 2);
+        ReflectionTestUtils.setField(scaler, "maxConcurrency", 16);
+        ReflectionTestUtils.setField(scaler, "dbPoolHeadroom", 4);
+        ReflectionTestUtils.setField(scaler, "targetUtilization", 0.5);
+        ReflectionTestUtils.setField(scaler, "targetDrainSeconds", 10.0);
+        ReflectionTestUtils.setField(scaler, "scaleDownStableIntervals", 2);
+        lenient().when(dataSource.getMaximumPoolSize()).thenReturn(20);
+        lenient().when(listenerRegistry.getListenerContainer(PlayEventConsumer.LISTENER_ID)).thenReturn(container);
+    }
+    
+    @Test
+    void testMaxAllowed_BoundedByPartitionsAndDbPool() {
+        assertEquals(12, scaler.maxAllowed(12));
+        assertEquals(16, scaler.maxAllowed(32));
+        
+        when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        assertEquals(6, scaler.maxAllowed(32));
+    }
+    
+    @Test
+    void testDesiredConcurrency_FollowsLittlesLaw() {
+        ReflectionTestUtils.setField(scaler, "latencySeconds", 0.01);
+        
+        // 400 plays/s * 10ms / 0.5 utilization = 8 threads
+        assertEquals(8, scaler.desiredConcurrency(400, 0, 16));
+        // Backlog of 1000 drained in 10s adds 100/s * 10ms = 1 thread
+        assertEquals(9, scaler.desiredConcurrency(400, 1000, 16));
+        assertEquals(2, scaler.desiredConcurrency(0, 0, 16));
+        assertEquals(4, scaler.desiredConcurrency(10_000, 0, 4));
+    }
+    
+    @Test
+    void testScale_BacklogGrowing_ScalesUpImmediately() throws Exception {
+        recordProcessing(100, 20);
+        when(container.getConcurrency()).thenReturn(4);
+        when(loadSampler.sample())
+            .thenReturn(sample(0, 0, 0))
+            .thenReturn(sample(2000, 2000, 1000));
+        
+        scaler.scale();
+        recordProcessing(100, 20);
+        scaler.scale();
+        
+        // 2000/s consumed + 2000/s lag growth at 20ms / 0.5 = 160, clamped to 16
+        verify(container).stop();
+        verify(container).setConcurrency(16);
+        verify(container).start();
+        assertEquals(2000.0, meterRegistry.get("frolic.kafka.listener.lag").gauge().value());
+    }
+    
+    @Test
+    void testScale_Idle_ScalesDownOnlyAfterStableIntervals() throws Exception {
+        when(container.getConcurrency()).thenReturn(10);
+        when(loadSampler.sample())
+            .thenReturn(sample(0, 0, 0))
+            .thenReturn(sample(0, 0, 1000))
+            .thenReturn(sample(0, 0, 2000));
+        
+        scaler.scale();
+        scaler.scale();
+        verify(container, never()).setConcurrency(anyInt());
+        
+        scaler.scale();
+        verify(container).setConcurrency(2);
+    }
+    
+    @Test
+    void testScale_SamplerFails_KeepsConcurrency() throws Exception {
+        when(loadSampler.sample()).thenThrow(new IllegalStateException("broker unavailable"));
+        
+        scaler.scale();
+        
+        verify(container, never()).stop();
+    }
+    
+    @Test
+    void testScale_Disabled_DoesNothing() {
+        ReflectionTestUtils.setField(scaler, "enabled", false);
+        
+        scaler.scale();
+        
+        verifyNoInteractions(loadSampler, container);
+    }
+    
+    @Test
+    void testConcurrencyGauge_ReportsContainerConcurrency() {
+        when(container.getConcurrency()).thenReturn(7);
+        
+        assertEquals(7.0, meterRegistry.get("frolic.kafka.listener.concurrency").gauge().value());
+    }
+    
+    private void recordProcessing(int count, long millisEach) {
+        Timer timer = PlayListenerScaler.processingTimer(meterRegistry);
+        for (int i = 0; i < count; i++) {
+            timer.record(millisEach, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private static LoadSample sample(long lag, long committedTotal, long sampledAt) {
+        return new LoadSample(Map.of(0, lag), 32, lag, committedTotal, 0.0, sampledAt);
+    }
+}
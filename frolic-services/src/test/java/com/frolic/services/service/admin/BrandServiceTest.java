@@ -1,6 +1,7 @@
 package com.frolic.services.service.admin;
 
 import com.frolic.core.common.dto.BrandDto;
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.exception.ResourceNotFoundException;
 import com.frolic.core.repository.entity.BrandEntity;
 import com.frolic.core.repository.jpa.BrandRepository;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -17,6 +19,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -32,19 +35,30 @@ class BrandServiceTest {
     private BrandService brandService;
     
     @Test
-    void testGetAllBrands_ReturnsAllBrands() {
-        BrandEntity brand1 = createBrandEntity("brand-1", "Brand 1", true);
-        BrandEntity brand2 = createBrandEntity("brand-2", "Brand 2", false);
+    void testGetAllBrands_ReturnsFirstPage() {
+        BrandDto brand1 = BrandDto.builder().id("brand-1").name("Brand 1").active(true).build();
+        BrandDto brand2 = BrandDto.builder().id("brand-2").name("Brand 2").build();
         
-        when(brandRepository.findAll()).thenReturn(Arrays.asList(brand1, brand2));
+        when(brandRepository.findPageAfter(eq(""), any(Pageable.class))).thenReturn(Arrays.asList(brand1, brand2));
         
-        List<BrandDto> result = brandService.getAllBrands();
+        CursorPageDto<BrandDto> result = brandService.getAllBrands(null, 10);
         
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getId()).isEqualTo("brand-1");
-        assertThat(result.get(1).getId()).isEqualTo("brand-2");
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getId()).isEqualTo("brand-1");
+        assertThat(result.getItems().get(1).getId()).isEqualTo("brand-2");
+        assertThat(result.getNextCursor()).isNull();
+        
+        verify(brandRepository, never()).findAll();
+    }
+    
+    @Test
+    void testGetAllBrands_LimitIsClamped() {
+        when(brandRepository.findPageAfter(eq("brand-9"), any(Pageable.class))).thenReturn(List.of());
+        
+        brandService.getAllBrands("brand-9", 1_000_000);
         
-        verify(brandRepository).findAll();
+        verify(brandRepository).findPageAfter(eq("brand-9"),
+            argThat(p -> p.getPageSize() == CursorPageDto.MAX_LIMIT + 1));
     }
     
     @Test
@@ -1,9 +1,12 @@
 package com.frolic.services.service.admin;
 
 import com.frolic.core.common.dto.CampaignDto;
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.enums.CampaignStatus;
+import com.frolic.core.common.enums.GameLifecycleEventType;
 import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
 import com.frolic.core.repository.entity.CampaignEntity;
 import com.frolic.core.repository.entity.GameEntity;
 import com.frolic.core.repository.jpa.CampaignRepository;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,6 +27,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,34 +45,58 @@ class CampaignServiceTest {
     @Mock
     private GameService gameService;
     
+    @Mock
+    private GameBulkLifecycleService gameBulkLifecycleService;
+    
+    @Mock
+    private GameLifecycleProducer lifecycleProducer;
+    
     private CampaignService campaignService;
     
     @BeforeEach
     void setUp() {
-        campaignService = new CampaignService(campaignRepository, gameRepository, gameService);
+        campaignService = new CampaignService(campaignRepository, gameRepository, gameService, gameBulkLifecycleService, lifecycleProducer);
     }
     
     @Test
-    void testGetAllCampaigns_ReturnsAllCampaigns() {
-        CampaignEntity campaign1 = createCampaignEntity("1", "Campaign 1", CampaignStatus.ACTIVE);
-        CampaignEntity campaign2 = createCampaignEntity("2", "Campaign 2", CampaignStatus.DRAFT);
+    void testGetAllCampaigns_ReturnsFirstPage() {
+        CampaignDto campaign1 = CampaignDto.builder().id("1").name("Campaign 1").build();
+        CampaignDto campaign2 = CampaignDto.builder().id("2").name("Campaign 2").build();
         
-        when(campaignRepository.findAll()).thenReturn(Arrays.asList(campaign1, campaign2));
+        when(campaignRepository.findPageAfter(eq(""), any(Pageable.class)))
+            .thenReturn(Arrays.asList(campaign1, campaign2));
         
-        List<CampaignDto> result = campaignService.getAllCampaigns();
+        CursorPageDto<CampaignDto> result = campaignService.getAllCampaigns(null, 10);
         
-        assertEquals(2, result.size());
-        assertEquals("Campaign 1", result.get(0).getName());
-        assertEquals("Campaign 2", result.get(1).getName());
+        assertEquals(2, result.getItems().size());
+        assertEquals("Campaign 1", result.getItems().get(0).getName());
+        assertEquals("Campaign 2", result.getItems().get(1).getName());
+        assertNull(result.getNextCursor());
+        verify(campaignRepository, never()).findAll();
     }
     
     @Test
     void testGetAllCampaigns_EmptyList() {
-        when(campaignRepository.findAll()).thenReturn(Collections.emptyList());
+        when(campaignRepository.findPageAfter(eq(""), any(Pageable.class))).thenReturn(Collections.emptyList());
+        
+        CursorPageDto<CampaignDto> result = campaignService.getAllCampaigns(null, 10);
         
-        List<CampaignDto> result = campaignService.getAllCampaigns();
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+    
+    @Test
+    void testGetAllCampaigns_MoreRows_ReturnsNextCursor() {
+        CampaignDto campaign1 = CampaignDto.builder().id("1").build();
+        CampaignDto campaign2 = CampaignDto.builder().id("2").build();
         
-        assertTrue(result.isEmpty());
+        when(campaignRepository.findPageAfter(eq("0"), any(Pageable.class)))
+            .thenReturn(Arrays.asList(campaign1, campaign2));
+        
+        CursorPageDto<CampaignDto> result = campaignService.getAllCampaigns("0", 1);
+        
+        assertEquals(1, result.getItems().size());
+        assertEquals("1", result.getNextCursor());
     }
     
     @Test
@@ -215,48 +244,68 @@ class CampaignServiceTest {
         
         assertEquals(CampaignStatus.ACTIVE, result.getStatus());
         verify(campaignRepository).save(any(CampaignEntity.class));
+        verify(lifecycleProducer).publishCampaignEvent(GameLifecycleEventType.CAMPAIGN_ACTIVATED, "123");
     }
     
     @Test
-    void testEndCampaign_StopsAllActiveGames() {
+    void testEndCampaign_StopsAllGamesInBulk() {
         CampaignEntity entity = createCampaignEntity("123", "Test", CampaignStatus.ACTIVE);
         
         GameEntity game1 = createGameEntity("game-1", "123", GameStatus.ACTIVE);
         GameEntity game2 = createGameEntity("game-2", "123", GameStatus.ACTIVE);
         GameEntity game3 = createGameEntity("game-3", "123", GameStatus.ENDED);
+        List<GameEntity> games = Arrays.asList(game1, game2, game3);
         
         CampaignEntity endedEntity = createCampaignEntity("123", "Test", CampaignStatus.ENDED);
         
         when(campaignRepository.findById("123")).thenReturn(Optional.of(entity));
-        when(gameRepository.findByCampaignId("123"))
-            .thenReturn(Arrays.asList(game1, game2, game3));
+        when(gameRepository.findByCampaignId("123")).thenReturn(games);
+        when(gameBulkLifecycleService.stopGames(games)).thenReturn(List.of("game-1", "game-2"));
         when(campaignRepository.save(any(CampaignEntity.class))).thenReturn(endedEntity);
         
         CampaignDto result = campaignService.endCampaign("123");
         
         assertEquals(CampaignStatus.ENDED, result.getStatus());
-        verify(gameService, times(2)).stopGame(anyString()); // Only 2 active games
-        verify(gameService).stopGame("game-1");
-        verify(gameService).stopGame("game-2");
-        verify(gameService, never()).stopGame("game-3"); // Already ended
+        verify(gameBulkLifecycleService).stopGames(games);
+        verify(gameService, never()).stopGame(anyString());
     }
     
     @Test
-    void testEndCampaign_HandlesGameStopErrors() {
+    void testEndCampaign_GameStopFails_PropagatesAndKeepsCampaignActive() {
         CampaignEntity entity = createCampaignEntity("123", "Test", CampaignStatus.ACTIVE);
         GameEntity game = createGameEntity("game-1", "123", GameStatus.ACTIVE);
-        CampaignEntity endedEntity = createCampaignEntity("123", "Test", CampaignStatus.ENDED);
         
         when(campaignRepository.findById("123")).thenReturn(Optional.of(entity));
         when(gameRepository.findByCampaignId("123")).thenReturn(Collections.singletonList(game));
-        when(campaignRepository.save(any(CampaignEntity.class))).thenReturn(endedEntity);
-        doThrow(new RuntimeException("Stop error")).when(gameService).stopGame("game-1");
+        when(gameBulkLifecycleService.stopGames(anyList())).thenThrow(new RuntimeException("Stop error"));
         
-        CampaignDto result = campaignService.endCampaign("123");
+        // The shared transaction is rolled back, so the campaign must not be marked ENDED
+        assertThrows(RuntimeException.class, () -> campaignService.endCampaign("123"));
+        verify(campaignRepository, never()).save(any(CampaignEntity.class));
+        verify(lifecycleProducer, never()).publishCampaignEvent(any(), anyString());
+    }
+    
+    @Test
+    void testStartGames_ExistingCampaign_StartsGamesInBulk() {
+        GameEntity game = createGameEntity("game-1", "123", GameStatus.DRAFT);
         
-        // Campaign should still be ended even if game stop fails
-        assertEquals(CampaignStatus.ENDED, result.getStatus());
-        verify(gameService).stopGame("game-1");
+        when(campaignRepository.existsById("123")).thenReturn(true);
+        when(gameRepository.findByCampaignId("123")).thenReturn(List.of(game));
+        when(gameBulkLifecycleService.startGames(List.of(game))).thenReturn(List.of("game-1"));
+        when(gameService.getGamesByCampaign("123")).thenReturn(List.of());
+        
+        campaignService.startGames("123");
+        
+        verify(gameBulkLifecycleService).startGames(List.of(game));
+        verify(gameService).getGamesByCampaign("123");
+    }
+    
+    @Test
+    void testStartGames_UnknownCampaign_ThrowsResourceNotFoundException() {
+        when(campaignRepository.existsById("missing")).thenReturn(false);
+        
+        assertThrows(ResourceNotFoundException.class, () -> campaignService.startGames("missing"));
+        verifyNoInteractions(gameBulkLifecycleService);
     }
     
     private CampaignEntity createCampaignEntity(String id, String name, CampaignStatus status) {
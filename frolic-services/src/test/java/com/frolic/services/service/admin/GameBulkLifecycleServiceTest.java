@@ -0,0 +1,180 @@
+package com.frolic.services.service.admin;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.enums.GameLifecycleEventType;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameBulkLifecycleService
+ */
+@ExtendWith(MockitoExtension.class)
+class GameBulkLifecycleServiceTest {
+    
+    @Mock
+    private GameRepository gameRepository;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @Mock
+    private RedisBudgetStore redisBudgetStore;
+    
+    @Mock
+    private GameLifecycleProducer lifecycleProducer;
+    
+    private GameBulkLifecycleService bulkLifecycleService;
+    
+    @BeforeEach
+    void setUp() {
+        bulkLifecycleService = new GameBulkLifecycleService(gameRepository, budgetRepository, redisBudgetStore,
+            lifecycleProducer, new TaskExecutorAdapter(Runnable::run));
+        ReflectionTestUtils.setField(bulkLifecycleService, "parallelism", 2);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStartGames_DraftGames_LoadsBudgetsAndActivatesTogether() {
+        GameEntity game1 = game("game-1", GameStatus.DRAFT);
+        GameEntity game2 = game("game-2", GameStatus.DRAFT);
+        GameEntity ended = game("game-3", GameStatus.ENDED);
+        when(budgetRepository.findByGameIdIn(List.of("game-1", "game-2"))).thenReturn(List.of(
+            budget("game-1", "brand-1", 100), budget("game-1", "brand-2", 50), budget("game-2", "brand-1", 20)));
+        when(gameRepository.updateStatus(eq(List.of("game-1", "game-2")), eq(GameStatus.DRAFT), eq(GameStatus.ACTIVE), any(LocalDateTime.class)))
+            .thenReturn(2);
+        
+        List<String> started = bulkLifecycleService.startGames(List.of(game1, game2, ended));
+        
+        assertThat(started).containsExactly("game-1", "game-2");
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisBudgetStore, times(2)).initializeBudgets(captor.capture());
+        Map<String, String> written = new HashMap<>();
+        captor.getAllValues().forEach(written::putAll);
+        assertThat(written).isEqualTo(Map.of(
+            RedisKeys.budgetKey("game-1", "brand-1"), "100",
+            RedisKeys.budgetKey("game-1", "brand-2"), "50",
+            RedisKeys.budgetKey("game-2", "brand-1"), "20"));
+        verify(lifecycleProducer).publishGameEvent(GameLifecycleEventType.GAME_STARTED, "game-1", "campaign-1");
+        verify(lifecycleProducer).publishGameEvent(GameLifecycleEventType.GAME_STARTED, "game-2", "campaign-1");
+        verify(lifecycleProducer, never()).publishGameEvent(any(), eq("game-3"), any());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStopGames_ActiveGames_SyncsClearsAndEndsTogether() {
+        GameEntity game1 = game("game-1", GameStatus.ACTIVE);
+        GameEntity game2 = game("game-2", GameStatus.ACTIVE);
+        when(budgetRepository.findByGameIdIn(List.of("game-1", "game-2"))).thenReturn(List.of(
+            budget("game-1", "brand-1", 100), budget("game-1", "brand-2", 50), budget("game-2", "brand-1", 20)));
+        when(redisBudgetStore.getBudgetValues(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> key.equals(RedisKeys.budgetKey("game-1", "brand-2")) ? null : "7")
+                .collect(Collectors.toList());
+        });
+        
+        List<String> stopped = bulkLifecycleService.stopGames(List.of(game1, game2));
+        
+        assertThat(stopped).containsExactly("game-1", "game-2");
+        ArgumentCaptor<List<BudgetCheckpoint>> checkpoints = ArgumentCaptor.forClass(List.class);
+        verify(budgetRepository).applyCheckpoints(checkpoints.capture(), any(LocalDateTime.class));
+        assertThat(checkpoints.getValue()).containsExactly(
+            new BudgetCheckpoint("game-1", "brand-1", 7),
+            new BudgetCheckpoint("game-2", "brand-1", 7));
+        
+        ArgumentCaptor<List<String>> cleared = ArgumentCaptor.forClass(List.class);
+        verify(redisBudgetStore, times(2)).clearBudgets(cleared.capture());
+        assertThat(cleared.getAllValues().stream().flatMap(List::stream)).containsExactlyInAnyOrder(
+            RedisKeys.budgetKey("game-1", "brand-1"),
+            RedisKeys.budgetKey("game-1", "brand-2"),
+            RedisKeys.budgetKey("game-2", "brand-1"));
+        
+        verify(gameRepository).updateStatus(eq(List.of("game-1", "game-2")), eq(GameStatus.ACTIVE), eq(GameStatus.ENDED), any(LocalDateTime.class));
+        verify(lifecycleProducer).publishGameEvent(GameLifecycleEventType.GAME_STOPPED, "game-1", "campaign-1");
+        verify(lifecycleProducer).publishGameEvent(GameLifecycleEventType.GAME_STOPPED, "game-2", "campaign-1");
+    }
+    
+    @Test
+    void testStopGames_InTransaction_ClearsBudgetsAfterCommit() {
+        GameEntity game = game("game-1", GameStatus.ACTIVE);
+        when(budgetRepository.findByGameIdIn(List.of("game-1"))).thenReturn(List.of(budget("game-1", "brand-1", 100)));
+        when(redisBudgetStore.getBudgetValues(anyList())).thenReturn(List.of("7"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bulkLifecycleService.stopGames(List.of(game));
+            
+            verify(gameRepository).updateStatus(eq(List.of("game-1")), eq(GameStatus.ACTIVE), eq(GameStatus.ENDED), any(LocalDateTime.class));
+            verify(redisBudgetStore, never()).clearBudgets(anyList());
+            
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            
+            verify(redisBudgetStore).clearBudgets(List.of(RedisKeys.budgetKey("game-1", "brand-1")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    void testStopGames_RedisFails_PropagatesBeforeStatusChange() {
+        GameEntity game = game("game-1", GameStatus.ACTIVE);
+        when(budgetRepository.findByGameIdIn(List.of("game-1"))).thenReturn(List.of(budget("game-1", "brand-1", 100)));
+        when(redisBudgetStore.getBudgetValues(anyList())).thenThrow(new RuntimeException("Redis down"));
+        
+        assertThatThrownBy(() -> bulkLifecycleService.stopGames(List.of(game)))
+            .hasRootCauseMessage("Redis down");
+        
+        verify(gameRepository, never()).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(lifecycleProducer);
+    }
+    
+    @Test
+    void testStopGames_NoActiveGames_DoesNothing() {
+        List<String> stopped = bulkLifecycleService.stopGames(List.of(game("game-1", GameStatus.DRAFT)));
+        
+        assertThat(stopped).isEmpty();
+        verifyNoInteractions(budgetRepository, redisBudgetStore, gameRepository, lifecycleProducer);
+    }
+    
+    private GameEntity game(String id, GameStatus status) {
+        GameEntity game = new GameEntity();
+        game.setId(id);
+        game.setCampaignId("campaign-1");
+        game.setStatus(status);
+        return game;
+    }
+    
+    private GameBrandBudgetEntity budget(String gameId, String brandId, int totalBudget) {
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId(gameId);
+        budget.setBrandId(brandId);
+        budget.setTotalBudget(totalBudget);
+        return budget;
+    }
+}
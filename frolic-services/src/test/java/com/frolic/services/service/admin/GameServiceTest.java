@@ -1,12 +1,16 @@
 package com.frolic.services.service.admin;
 
 import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.dto.GameBrandBudgetDto;
 import com.frolic.core.common.dto.GameDto;
+import com.frolic.core.common.enums.GameLifecycleEventType;
 import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.common.enums.ProbabilityType;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.messaging.producer.GameLifecycleProducer;
 import com.frolic.core.repository.entity.CampaignEntity;
 import com.frolic.core.repository.entity.GameBrandBudgetEntity;
 import com.frolic.core.repository.entity.GameEntity;
@@ -19,16 +23,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -52,24 +60,52 @@ class GameServiceTest {
     @Mock
     private BudgetSyncService budgetSyncService;
     
+    @Mock
+    private GameLifecycleProducer lifecycleProducer;
+    
     @InjectMocks
     private GameService gameService;
     
     @Test
-    void testGetAllGames_ReturnsAllGames() {
+    void testGetAllGames_ReturnsFirstPage() {
         GameEntity game1 = createGameEntity("game-1", "Game 1", GameStatus.ACTIVE);
         GameEntity game2 = createGameEntity("game-2", "Game 2", GameStatus.DRAFT);
         
-        when(gameRepository.findAll()).thenReturn(Arrays.asList(game1, game2));
-        when(budgetRepository.findByGameId(anyString())).thenReturn(Collections.emptyList());
+        when(gameRepository.findPageAfter(eq(""), any(Pageable.class))).thenReturn(Arrays.asList(game1, game2));
+        when(budgetRepository.findByGameIdIn(anyList())).thenReturn(Collections.emptyList());
         
-        List<GameDto> result = gameService.getAllGames();
+        CursorPageDto<GameDto> result = gameService.getAllGames(null, 10);
         
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getId()).isEqualTo("game-1");
-        assertThat(result.get(1).getId()).isEqualTo("game-2");
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getId()).isEqualTo("game-1");
+        assertThat(result.getItems().get(1).getId()).isEqualTo("game-2");
+        assertThat(result.getNextCursor()).isNull();
         
-        verify(gameRepository).findAll();
+        verify(gameRepository, never()).findAll();
+        verify(budgetRepository, never()).findByGameId(anyString());
+    }
+    
+    @Test
+    void testGetAllGames_MoreRows_ReturnsNextCursorAndBatchesBudgets() {
+        GameEntity game1 = createGameEntity("game-1", "Game 1", GameStatus.ACTIVE);
+        GameEntity game2 = createGameEntity("game-2", "Game 2", GameStatus.ACTIVE);
+        GameEntity game3 = createGameEntity("game-3", "Game 3", GameStatus.ACTIVE);
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId("game-2");
+        budget.setBrandId("brand-1");
+        budget.setTotalBudget(10);
+        
+        when(gameRepository.findPageAfter(eq("game-0"), any(Pageable.class)))
+            .thenReturn(Arrays.asList(game1, game2, game3));
+        when(budgetRepository.findByGameIdIn(anyList())).thenReturn(List.of(budget));
+        
+        CursorPageDto<GameDto> result = gameService.getAllGames("game-0", 2);
+        
+        assertThat(result.getItems()).extracting(GameDto::getId).containsExactly("game-1", "game-2");
+        assertThat(result.getNextCursor()).isEqualTo("game-2");
+        assertThat(result.getItems().get(0).getBrandBudgets()).isEmpty();
+        assertThat(result.getItems().get(1).getBrandBudgets()).hasSize(1);
+        verify(budgetRepository, times(1)).findByGameIdIn(anyList());
     }
     
     @Test
@@ -105,7 +141,7 @@ class GameServiceTest {
         GameEntity game = createGameEntity("game-1", "Game 1", GameStatus.ACTIVE);
         
         when(gameRepository.findByCampaignId("campaign-1")).thenReturn(Arrays.asList(game));
-        when(budgetRepository.findByGameId("game-1")).thenReturn(Collections.emptyList());
+        when(budgetRepository.findByGameIdIn(List.of("game-1"))).thenReturn(Collections.emptyList());
         
         List<GameDto> result = gameService.getGamesByCampaign("campaign-1");
         
@@ -121,7 +157,7 @@ class GameServiceTest {
         
         when(gameRepository.findByStatusOrderByCreatedAtDesc(GameStatus.ACTIVE))
             .thenReturn(Arrays.asList(game));
-        when(budgetRepository.findByGameId("game-1")).thenReturn(Collections.emptyList());
+        when(budgetRepository.findByGameIdIn(List.of("game-1"))).thenReturn(Collections.emptyList());
         
         List<GameDto> result = gameService.getGamesByStatus(GameStatus.ACTIVE);
         
@@ -155,18 +191,22 @@ class GameServiceTest {
         
         when(campaignRepository.findById("campaign-1")).thenReturn(Optional.of(campaign));
         when(gameRepository.save(any(GameEntity.class))).thenReturn(savedEntity);
-        when(budgetRepository.save(any(GameBrandBudgetEntity.class))).thenReturn(new GameBrandBudgetEntity());
-        when(budgetRepository.findByGameId("game-1")).thenReturn(Collections.emptyList());
+        when(budgetRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         
         GameDto result = gameService.createGame(dto);
         
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo("game-1");
         assertThat(result.getName()).isEqualTo("New Game");
+        assertThat(result.getBrandBudgets()).hasSize(1);
+        assertThat(result.getBrandBudgets().get(0).getGameId()).isEqualTo("game-1");
+        assertThat(result.getBrandBudgets().get(0).getRemainingBudget()).isEqualTo(100);
         
         verify(campaignRepository).findById("campaign-1");
         verify(gameRepository).save(any(GameEntity.class));
-        verify(budgetRepository).save(any(GameBrandBudgetEntity.class));
+        verify(budgetRepository).saveAll(anyList());
+        verify(budgetRepository, never()).save(any(GameBrandBudgetEntity.class));
+        verify(budgetRepository, never()).findByGameId(anyString());
     }
     
     @Test
@@ -187,6 +227,25 @@ class GameServiceTest {
         verify(gameRepository, never()).save(any(GameEntity.class));
     }
     
+    @Test
+    void testCreateGame_NonPositiveKeySpread_ThrowsInvalidRequestException() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        GameDto dto = GameDto.builder()
+            .name("Hot Game")
+            .campaignId("campaign-1")
+            .startTime(now.plusHours(1))
+            .endTime(now.plusHours(10))
+            .keySpread(0)
+            .build();
+        
+        assertThatThrownBy(() -> gameService.createGame(dto))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Key spread must be at least 1");
+        
+        verify(gameRepository, never()).save(any(GameEntity.class));
+    }
+    
     @Test
     void testCreateGame_InvalidCampaignId_ThrowsResourceNotFoundException() {
         LocalDateTime now = LocalDateTime.now();
@@ -292,7 +351,6 @@ class GameServiceTest {
         
         when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
         when(budgetRepository.findByGameId("game-1")).thenReturn(Arrays.asList(budget));
-        doNothing().when(redisBudgetStore).initializeBudget(anyString(), anyString(), anyInt());
         when(gameRepository.save(any(GameEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         GameDto result = gameService.startGame("game-1");
@@ -302,8 +360,9 @@ class GameServiceTest {
         
         verify(gameRepository).findById("game-1");
         verify(budgetRepository, times(2)).findByGameId("game-1");
-        verify(redisBudgetStore).initializeBudget("game-1", "brand-1", 100);
+        verify(redisBudgetStore).initializeBudgets(Map.of(RedisKeys.budgetKey("game-1", "brand-1"), "100"));
         verify(gameRepository).save(any(GameEntity.class));
+        verify(lifecycleProducer).publishGameEvent(GameLifecycleEventType.GAME_STARTED, "game-1", game.getCampaignId());
     }
     
     @Test
@@ -316,7 +375,8 @@ class GameServiceTest {
             .isInstanceOf(InvalidRequestException.class)
             .hasMessageContaining("Can only start games in DRAFT status");
         
-        verify(redisBudgetStore, never()).initializeBudget(anyString(), anyString(), anyInt());
+        verify(redisBudgetStore, never()).initializeBudgets(any());
+        verifyNoInteractions(lifecycleProducer);
     }
     
     @Test
@@ -327,7 +387,6 @@ class GameServiceTest {
         when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
         when(budgetRepository.findByGameId("game-1")).thenReturn(Arrays.asList(budget));
         doNothing().when(budgetSyncService).syncBudgetsFromRedisToPostgres(anyString());
-        doNothing().when(redisBudgetStore).clearBudget(anyString(), anyString());
         when(gameRepository.save(any(GameEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         GameDto result = gameService.stopGame("game-1");
@@ -337,8 +396,9 @@ class GameServiceTest {
         
         verify(gameRepository).findById("game-1");
         verify(budgetSyncService).syncBudgetsFromRedisToPostgres("game-1");
-        verify(redisBudgetStore).clearBudget("game-1", "brand-1");
+        verify(redisBudgetStore).clearBudgets(List.of(RedisKeys.budgetKey("game-1", "brand-1")));
         verify(gameRepository).save(any(GameEntity.class));
+        verify(lifecycleProducer).publishGameEvent(GameLifecycleEventType.GAME_STOPPED, "game-1", game.getCampaignId());
     }
     
     @Test
@@ -1,5 +1,6 @@
 package com.frolic.services.service.admin;
 
+import com.frolic.core.common.dto.CursorPageDto;
 import com.frolic.core.common.dto.UserDto;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -18,6 +20,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,19 +36,22 @@ class UserServiceTest {
     private UserService userService;
     
     @Test
-    void testGetAllUsers_ReturnsAllUsers() {
-        UserEntity user1 = createUserEntity("user-1", "user1@test.com", "User 1");
-        UserEntity user2 = createUserEntity("user-2", "user2@test.com", "User 2");
+    void testGetAllUsers_ReturnsPageWithNextCursor() {
+        UserDto user1 = UserDto.builder().id("user-1").email("user1@test.com").build();
+        UserDto user2 = UserDto.builder().id("user-2").email("user2@test.com").build();
+        UserDto user3 = UserDto.builder().id("user-3").email("user3@test.com").build();
         
-        when(userRepository.findAll()).thenReturn(Arrays.asList(user1, user2));
+        when(userRepository.findPageAfter(eq("user-0"), any(Pageable.class)))
+            .thenReturn(Arrays.asList(user1, user2, user3));
         
-        List<UserDto> result = userService.getAllUsers();
+        CursorPageDto<UserDto> result = userService.getAllUsers("user-0", 2);
         
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getId()).isEqualTo("user-1");
-        assertThat(result.get(1).getId()).isEqualTo("user-2");
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getId()).isEqualTo("user-1");
+        assertThat(result.getItems().get(1).getId()).isEqualTo("user-2");
+        assertThat(result.getNextCursor()).isEqualTo("user-2");
         
-        verify(userRepository).findAll();
+        verify(userRepository, never()).findAll();
     }
     
     @Test
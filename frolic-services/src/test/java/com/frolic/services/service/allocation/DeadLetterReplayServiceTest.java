@@ -0,0 +1,181 @@
+package com.frolic.services.service.allocation;
+
+import com.frolic.core.common.constant.KafkaTopics;
+import com.frolic.core.common.dto.DeadLetterReplayDto;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.exception.InvalidRequestException;
+import com.frolic.core.common.exception.TechnicalException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DeadLetterReplayService
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+    
+    private static final TopicPartition DLT_0 = new TopicPartition(KafkaTopics.PLAY_EVENTS_DLT, 0);
+    
+    @Mock
+    private ConsumerFactory<Object, Object> consumerFactory;
+    
+    @Mock
+    private Consumer<Object, Object> consumer;
+    
+    @Mock
+    private RewardAllocationService rewardAllocationService;
+    
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    
+    private DeadLetterReplayService replayService;
+    
+    @BeforeEach
+    void setUp() {
+        replayService = new DeadLetterReplayService(consumerFactory, rewardAllocationService, kafkaTemplate);
+        ReflectionTestUtils.setField(replayService, "allocationMode", "redis");
+        lenient().when(consumerFactory.createConsumer(eq(DeadLetterReplayService.REPLAY_GROUP_ID), isNull(), isNull(), any()))
+            .thenReturn(consumer);
+        lenient().when(consumer.partitionsFor(KafkaTopics.PLAY_EVENTS_DLT))
+            .thenReturn(List.of(new PartitionInfo(KafkaTopics.PLAY_EVENTS_DLT, 0, null, null, null)));
+    }
+    
+    @Test
+    void testReplay_ProcessesEventsAndCommitsOffsets() {
+        PlayEventDto first = createEvent("play-1");
+        PlayEventDto second = createEvent("play-2");
+        when(consumer.poll(any())).thenReturn(records(record(0, first), record(1, second))).thenReturn(ConsumerRecords.empty());
+        when(rewardAllocationService.processPlayEvent(any())).thenReturn(true);
+        
+        DeadLetterReplayDto result = replayService.replay(10);
+        
+        assertEquals(2, result.getReplayed());
+        verify(rewardAllocationService).processPlayEvent(first);
+        verify(rewardAllocationService).processPlayEvent(second);
+        verify(consumer).commitSync(Map.of(DLT_0, new OffsetAndMetadata(2)));
+        verify(consumer).close();
+    }
+    
+    @Test
+    void testReplay_StopsAtLimit() {
+        when(consumer.poll(any())).thenReturn(records(record(0, createEvent("play-1")), record(1, createEvent("play-2"))));
+        when(rewardAllocationService.processPlayEvent(any())).thenReturn(true);
+        
+        DeadLetterReplayDto result = replayService.replay(1);
+        
+        assertEquals(1, result.getReplayed());
+        verify(consumer).commitSync(Map.of(DLT_0, new OffsetAndMetadata(1)));
+    }
+    
+    @Test
+    void testReplay_AlreadyProcessed_CountedAsSkipped() {
+        PlayEventDto event = createEvent("play-1");
+        when(consumer.poll(any())).thenReturn(records(record(0, event))).thenReturn(ConsumerRecords.empty());
+        when(rewardAllocationService.processPlayEvent(event)).thenReturn(false);
+        
+        DeadLetterReplayDto result = replayService.replay(10);
+        
+        assertEquals(0, result.getReplayed());
+        assertEquals(1, result.getSkipped());
+        verify(consumer).commitSync(Map.of(DLT_0, new OffsetAndMetadata(1)));
+    }
+    
+    @Test
+    void testReplay_FailsAgain_ReturnsEventToDlt() {
+        PlayEventDto event = createEvent("play-1");
+        when(consumer.poll(any())).thenReturn(records(record(0, event))).thenReturn(ConsumerRecords.empty());
+        doThrow(new IllegalStateException("still down")).when(rewardAllocationService).processPlayEvent(event);
+        when(kafkaTemplate.send(KafkaTopics.PLAY_EVENTS_DLT, "game-1", event)).thenReturn(CompletableFuture.completedFuture(null));
+        
+        DeadLetterReplayDto result = replayService.replay(10);
+        
+        assertEquals(1, result.getFailed());
+        verify(kafkaTemplate).send(KafkaTopics.PLAY_EVENTS_DLT, "game-1", event);
+        verify(consumer).commitSync(Map.of(DLT_0, new OffsetAndMetadata(1)));
+    }
+    
+    @Test
+    void testReplay_ReturnToDltFails_StopsWithOffsetUncommitted() {
+        PlayEventDto first = createEvent("play-1");
+        PlayEventDto second = createEvent("play-2");
+        when(consumer.poll(any())).thenReturn(records(record(0, first), record(1, second)));
+        lenient().doThrow(new IllegalStateException("still down")).when(rewardAllocationService).processPlayEvent(second);
+        when(kafkaTemplate.send(KafkaTopics.PLAY_EVENTS_DLT, "game-1", second))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        
+        assertThrows(TechnicalException.class, () -> replayService.replay(10));
+        
+        verify(consumer).commitSync(Map.of(DLT_0, new OffsetAndMetadata(1)));
+        verify(consumer).close();
+    }
+    
+    @Test
+    void testReplay_UnreadableRecord_Skipped() {
+        when(consumer.poll(any())).thenReturn(records(record(0, "garbage"))).thenReturn(ConsumerRecords.empty());
+        
+        DeadLetterReplayDto result = replayService.replay(10);
+        
+        assertEquals(1, result.getSkipped());
+        verifyNoInteractions(rewardAllocationService);
+    }
+    
+    @Test
+    void testReplay_AffineMode_RepublishesToMainTopic() {
+        ReflectionTestUtils.setField(replayService, "allocationMode", "partition-affine");
+        PlayEventDto event = createEvent("play-1");
+        when(consumer.poll(any())).thenReturn(records(record(0, event))).thenReturn(ConsumerRecords.empty());
+        when(kafkaTemplate.send(KafkaTopics.PLAY_EVENTS, "game-1", event)).thenReturn(CompletableFuture.completedFuture(null));
+        
+        DeadLetterReplayDto result = replayService.replay(10);
+        
+        assertEquals(1, result.getReplayed());
+        verifyNoInteractions(rewardAllocationService);
+    }
+    
+    @Test
+    void testReplay_NonPositiveLimit_Throws() {
+        assertThrows(InvalidRequestException.class, () -> replayService.replay(0));
+        verifyNoInteractions(consumerFactory);
+    }
+    
+    private static ConsumerRecord<Object, Object> record(long offset, Object value) {
+        return new ConsumerRecord<>(KafkaTopics.PLAY_EVENTS_DLT, 0, offset, "game-1", value);
+    }
+    
+    @SafeVarargs
+    private static ConsumerRecords<Object, Object> records(ConsumerRecord<Object, Object>... records) {
+        return new ConsumerRecords<>(Map.of(DLT_0, List.of(records)));
+    }
+    
+    private static PlayEventDto createEvent(String playId) {
+        return PlayEventDto.builder()
+            .playId(playId)
+            .gameId("game-1")
+            .userId("user-1")
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.frolic.services.service.allocation;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.engine.affinity.GameBudgetState;
+import com.frolic.core.engine.affinity.PartitionBudgetState;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PartitionBudgetRegistry
+ */
+@ExtendWith(MockitoExtension.class)
+class PartitionBudgetRegistryTest {
+    
+    @Mock
+    private RedisBudgetStore redisBudgetStore;
+    
+    private PartitionBudgetRegistry registry;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new PartitionBudgetRegistry(redisBudgetStore);
+        ReflectionTestUtils.setField(registry, "dedupeWindow", 100);
+    }
+    
+    @Test
+    void testAcquire_ReturnsSameStateForPartition() {
+        registry.assign(List.of(1, 2));
+        
+        assertSame(registry.acquire(1), registry.acquire(1));
+        assertEquals(2, registry.getOwnedPartitionCount());
+    }
+    
+    @Test
+    void testCheckpoint_WritesPendingBudgets() {
+        PartitionBudgetState state = registry.acquire(0);
+        state.recordBudget("game-1", "brand-1", 7);
+        when(redisBudgetStore.writeOwnedBudgets(anyList())).thenReturn(List.of());
+        
+        registry.checkpoint();
+        
+        verify(redisBudgetStore).writeOwnedBudgets(List.of(new BudgetCheckpoint("game-1", "brand-1", 7)));
+    }
+    
+    @Test
+    void testCheckpoint_NothingPending_SkipsRedis() {
+        registry.acquire(0);
+        
+        registry.checkpoint();
+        
+        verifyNoInteractions(redisBudgetStore);
+    }
+    
+    @Test
+    void testCheckpoint_MissingKey_MarksGameStopped() {
+        PartitionBudgetState state = registry.acquire(0);
+        state.putGame("game-1", new GameBudgetState(List.of(), new int[0]));
+        state.recordBudget("game-1", "brand-1", 7);
+        when(redisBudgetStore.writeOwnedBudgets(anyList()))
+            .thenReturn(List.of(new BudgetCheckpoint("game-1", "brand-1", 7)));
+        
+        registry.checkpoint();
+        
+        assertNull(state.getGame("game-1"));
+    }
+    
+    @Test
+    void testCheckpoint_WriteFails_RequeuesForNextCycle() {
+        PartitionBudgetState state = registry.acquire(0);
+        state.recordBudget("game-1", "brand-1", 7);
+        when(redisBudgetStore.writeOwnedBudgets(anyList())).thenThrow(new RuntimeException("Redis down"));
+        
+        registry.checkpoint();
+        
+        assertEquals(List.of(new BudgetCheckpoint("game-1", "brand-1", 7)), state.drainPendingCheckpoints());
+    }
+    
+    @Test
+    void testRevoke_FlushesAndReleasesPartition() {
+        PartitionBudgetState state = registry.acquire(4);
+        state.recordBudget("game-1", "brand-1", 3);
+        when(redisBudgetStore.writeOwnedBudgets(anyList())).thenReturn(List.of());
+        
+        registry.revoke(List.of(4));
+        
+        verify(redisBudgetStore).writeOwnedBudgets(List.of(new BudgetCheckpoint("game-1", "brand-1", 3)));
+        assertEquals(0, registry.getOwnedPartitionCount());
+        assertNotSame(state, registry.acquire(4));
+    }
+}
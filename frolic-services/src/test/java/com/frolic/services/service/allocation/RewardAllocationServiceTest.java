@@ -1,27 +1,42 @@
 package com.frolic.services.service.allocation;
 
+import com.frolic.core.cache.local.GameSnapshotCache;
 import com.frolic.core.cache.store.RedisResultStore;
+import com.frolic.core.common.dto.AllocationResultDto;
 import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.dto.PlayResultDto;
 import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.common.util.TimeUtils;
+import com.frolic.core.engine.affinity.PartitionBudgetState;
 import com.frolic.core.engine.concurrency.AtomicBudgetDecrementer;
 import com.frolic.core.engine.concurrency.IdempotencyHandler;
 import com.frolic.core.engine.probability.ProbabilityCalculator;
+import com.frolic.core.engine.stats.PlayStatsAggregator;
 import com.frolic.core.repository.entity.GameBrandBudgetEntity;
 import com.frolic.core.repository.entity.GameEntity;
 import com.frolic.core.repository.entity.PlayEventEntity;
+import com.frolic.core.repository.jpa.CampaignRepository;
 import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
 import com.frolic.core.repository.jpa.GameRepository;
 import com.frolic.core.repository.jpa.PlayEventRepository;
+import com.frolic.services.service.coupon.CouponPoolService;
+import com.frolic.services.service.play.PlayEventLogger;
+import com.frolic.services.service.stats.PacingTelemetryService;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,24 +64,58 @@ class RewardAllocationServiceTest {
     @Mock
     private GameBrandBudgetRepository gameBrandBudgetRepository;
     
+    @Mock
+    private CampaignRepository campaignRepository;
+    
     @Mock
     private PlayEventRepository playEventRepository;
     
     @Mock
     private RedisResultStore redisResultStore;
     
+    @Mock
+    private PlayStatsAggregator playStatsAggregator;
+    
+    @Mock
+    private CouponPoolService couponPoolService;
+    
+    @Mock
+    private PacingTelemetryService pacingTelemetry;
+    
+    @Mock
+    private PlayEventLogger playLog;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private PlayLatencyRecorder latencyRecorder;
+    
+    private GameSnapshotCache gameSnapshotCache;
+    
     private RewardAllocationService rewardAllocationService;
     
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PlayStageMetrics stageMetrics = new PlayStageMetrics(meterRegistry);
+        ReflectionTestUtils.setField(stageMetrics, "maxTaggedGames", 10);
+        latencyRecorder = new PlayLatencyRecorder(meterRegistry);
+        ReflectionTestUtils.setField(latencyRecorder, "maxGames", 10);
+        gameSnapshotCache = new GameSnapshotCache(gameRepository, campaignRepository, gameBrandBudgetRepository);
+        ReflectionTestUtils.setField(gameSnapshotCache, "ttlMs", 30_000L);
         rewardAllocationService = new RewardAllocationService(
             idempotencyHandler,
             probabilityCalculator,
             budgetDecrementer,
-            gameRepository,
             gameBrandBudgetRepository,
             playEventRepository,
-            redisResultStore
+            redisResultStore,
+            playStatsAggregator,
+            couponPoolService,
+            gameSnapshotCache,
+            stageMetrics,
+            latencyRecorder,
+            pacingTelemetry,
+            playLog
         );
     }
     
@@ -132,20 +181,43 @@ class RewardAllocationServiceTest {
         when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
         when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt()))
             .thenReturn(1); // Win
-        when(budgetDecrementer.decrementBudget("game-456", "brand-1", 1))
-            .thenReturn(true);
+        when(couponPoolService.allocateCoupon("game-456", "brand-1"))
+            .thenReturn(Optional.of("CODE-1"));
         
         rewardAllocationService.processPlayEvent(event);
         
-        verify(budgetDecrementer).decrementBudget("game-456", "brand-1", 1);
+        verify(couponPoolService).allocateCoupon("game-456", "brand-1");
+        verify(couponPoolService).markIssued("CODE-1", "brand-1", "user-789");
         verify(redisResultStore).storeResult(argThat(result -> 
-            result.isWinner() && result.getPlayId().equals("play-123")
+            result.isWinner() && result.getPlayId().equals("play-123") && "CODE-1".equals(result.getCouponId())
         ));
         verify(playEventRepository).save(argThat(playEntity -> 
             playEntity.isWinner() && playEntity.getStatus() == PlayStatus.WINNER
         ));
     }
     
+    @Test
+    void testProcessPlayEvent_WinAllocation_TimesEveryStageForGame() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456"))
+            .thenReturn(Collections.singletonList(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.allocateCoupon("game-456", "brand-1")).thenReturn(Optional.of("CODE-1"));
+        
+        rewardAllocationService.processPlayEvent(event);
+        
+        for (String stage : List.of("idempotency", "budget-read", "decrement", "coupon-issue", "result-store", "db-persist")) {
+            assertEquals(1, meterRegistry.get(PlayStageMetrics.METER_NAME)
+                .tags("stage", stage, "game", "game-456").timer().count(), stage);
+        }
+    }
+    
     @Test
     void testProcessPlayEvent_LoseAllocation_CreatesLoserResult() {
         PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
@@ -162,13 +234,13 @@ class RewardAllocationServiceTest {
         
         rewardAllocationService.processPlayEvent(event);
         
-        verify(budgetDecrementer, never()).decrementBudget(anyString(), anyString(), anyInt());
+        verify(couponPoolService, never()).allocateCoupon(anyString(), anyString());
         verify(redisResultStore).storeResult(argThat(result -> !result.isWinner()));
         verify(playEventRepository).save(argThat(playEntity -> !playEntity.isWinner()));
     }
     
     @Test
-    void testProcessPlayEvent_BudgetDecrementFails_CreatesLoserResult() {
+    void testProcessPlayEvent_CouponIssueFails_CreatesLoserResult() {
         PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
         GameEntity game = createGame("game-456", "campaign-123");
         GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
@@ -180,8 +252,8 @@ class RewardAllocationServiceTest {
         when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
         when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt()))
             .thenReturn(1);
-        when(budgetDecrementer.decrementBudget("game-456", "brand-1", 1))
-            .thenReturn(false); // Failed to decrement (race condition)
+        when(couponPoolService.allocateCoupon("game-456", "brand-1"))
+            .thenReturn(Optional.empty()); // Budget race or no coupon inventory
         
         rewardAllocationService.processPlayEvent(event);
         
@@ -205,17 +277,13 @@ class RewardAllocationServiceTest {
         when(budgetDecrementer.getCurrentBudget("game-456", "brand-2")).thenReturn(100);
         when(probabilityCalculator.calculateAllocation(eq(150), any(), any(), anyInt()))
             .thenReturn(1); // Total budget is 150
-        when(budgetDecrementer.decrementBudget(anyString(), anyString(), eq(1)))
-            .thenReturn(true);
+        when(couponPoolService.allocateCoupon(eq("game-456"), anyString()))
+            .thenReturn(Optional.of("CODE-1"));
         
         rewardAllocationService.processPlayEvent(event);
         
-        // Should decrement from one of the brands
-        verify(budgetDecrementer, times(1)).decrementBudget(
-            eq("game-456"), 
-            anyString(), 
-            eq(1)
-        );
+        // Should issue from one of the brands
+        verify(couponPoolService, times(1)).allocateCoupon(eq("game-456"), anyString());
         verify(redisResultStore).storeResult(argThat(result -> result.isWinner()));
     }
     
@@ -232,8 +300,8 @@ class RewardAllocationServiceTest {
         when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
         when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt()))
             .thenReturn(1);
-        when(budgetDecrementer.decrementBudget("game-456", "brand-1", 1))
-            .thenReturn(true);
+        when(couponPoolService.allocateCoupon("game-456", "brand-1"))
+            .thenReturn(Optional.of("CODE-1"));
         
         rewardAllocationService.processPlayEvent(event);
         
@@ -246,7 +314,379 @@ class RewardAllocationServiceTest {
         assertEquals("user-789", savedEntity.getUserId());
         assertTrue(savedEntity.isWinner());
         assertEquals(PlayStatus.WINNER, savedEntity.getStatus());
-        assertNotNull(savedEntity.getCouponId());
+        assertEquals("CODE-1", savedEntity.getCouponId());
+    }
+    
+    @Test
+    void testProcessPlayEvent_CarriesSubmitAndAllocateTimesToResult() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        event.setTimestamp(LocalDateTime.now().minusSeconds(2));
+        GameEntity game = createGame("game-456", "campaign-123");
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456"))
+            .thenReturn(Collections.singletonList(createBrandBudget("game-456", "brand-1", 100)));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(0);
+        
+        rewardAllocationService.processPlayEvent(event);
+        
+        ArgumentCaptor<PlayResultDto> captor = ArgumentCaptor.forClass(PlayResultDto.class);
+        verify(redisResultStore).storeResult(captor.capture());
+        PlayResultDto result = captor.getValue();
+        assertEquals(TimeUtils.toEpochMillis(event.getTimestamp()), result.getSubmittedAtMillis());
+        assertTrue(result.getAllocatedAtMillis() >= result.getSubmittedAtMillis() + 2000);
+        
+        latencyRecorder.rotate();
+        assertTrue(latencyRecorder.getLatency("game-456").getLegs().get("stored").getP50Ms() >= 2000);
+    }
+    
+    @Test
+    void testProcessPlayEvent_RecordsOutcomeInStatsRollup() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456"))
+            .thenReturn(Collections.singletonList(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt()))
+            .thenReturn(1);
+        when(couponPoolService.allocateCoupon("game-456", "brand-1"))
+            .thenReturn(Optional.of("CODE-1"));
+        
+        rewardAllocationService.processPlayEvent(event);
+        
+        verify(playStatsAggregator).recordPlay("game-456", event.getTimestamp(), true, "brand-1");
+        verify(pacingTelemetry).recordPlay("game-456", true);
+        verify(playLog).winner("play-123", "game-456", "user-789", "brand-1");
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_LoadsBudgetsOnceAndDecidesInMemory() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(2);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.popReservedCoupon("brand-1"))
+            .thenReturn(Optional.of("CODE-1"))
+            .thenReturn(Optional.of("CODE-2"));
+        
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-1", "game-456", "user-789"), partition);
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-2", "game-456", "user-789"), partition);
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-3", "game-456", "user-789"), partition);
+        
+        verify(gameRepository, times(1)).findById("game-456");
+        verify(budgetDecrementer, times(1)).getCurrentBudget("game-456", "brand-1");
+        verifyNoInteractions(idempotencyHandler);
+        verify(couponPoolService, never()).allocateCoupon(anyString(), anyString());
+        verify(couponPoolService, times(2)).popReservedCoupon("brand-1");
+        verify(redisResultStore, times(2)).storeResult(argThat(result -> result.isWinner()));
+        verify(redisResultStore, times(1)).storeResult(argThat(result -> !result.isWinner()));
+        assertEquals(0, partition.drainPendingCheckpoints().get(0).remainingBudget());
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_GameRescheduled_UsesNewSchedule() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        LocalDateTime originalEnd = game.getEndTime();
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(5);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(0);
+        
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-1", "game-456", "user-789"), partition);
+        game.setEndTime(originalEnd.plusHours(2));
+        gameSnapshotCache.invalidateGame("game-456");
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-2", "game-456", "user-789"), partition);
+        
+        verify(probabilityCalculator).calculateAllocation(eq(5), any(), eq(originalEnd), eq(60));
+        verify(probabilityCalculator).calculateAllocation(eq(5), any(), eq(originalEnd.plusHours(2)), eq(60));
+        verify(budgetDecrementer, times(1)).getCurrentBudget("game-456", "brand-1");
+    }
+    
+    @Test
+    void testProcessPlayEvent_Fails_ClearsProcessedMarkAndRethrows() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenThrow(new IllegalStateException("DB unavailable"));
+        
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processPlayEvent(event));
+        
+        verify(idempotencyHandler).clearProcessed("play-123");
+    }
+    
+    @Test
+    void testProcessPlayEvent_WinnerRecordFails_KeepsProcessedMark() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(Collections.singletonList(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.allocateCoupon("game-456", "brand-1")).thenReturn(Optional.of("CODE-1"));
+        when(playEventRepository.save(any())).thenThrow(new IllegalStateException("DB unavailable"));
+        
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processPlayEvent(event));
+        
+        // The coupon is spent, so a retry must not allocate the play a second time but record the kept result
+        verify(idempotencyHandler, never()).clearProcessed(anyString());
+        verify(idempotencyHandler).keepDecided(argThat(result -> result.isWinner() && "CODE-1".equals(result.getCouponId())));
+    }
+    
+    @Test
+    void testProcessPlayEvent_RedeliveredWinnerNotRecorded_RecordsKeptResult() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        PlayResultDto kept = PlayResultDto.builder()
+            .playId("play-123")
+            .gameId("game-456")
+            .userId("user-789")
+            .winner(true)
+            .couponId("CODE-1")
+            .brandId("brand-1")
+            .build();
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(false);
+        when(idempotencyHandler.getDecided("play-123")).thenReturn(kept);
+        when(playEventRepository.existsById("play-123")).thenReturn(false);
+        
+        assertTrue(rewardAllocationService.processPlayEvent(event));
+        
+        verify(redisResultStore).storeResult(kept);
+        verify(playEventRepository).save(argThat(playEntity -> playEntity.isWinner() && "CODE-1".equals(playEntity.getCouponId())));
+        verifyNoInteractions(couponPoolService, probabilityCalculator);
+    }
+    
+    @Test
+    void testProcessPlayEvent_RedeliveredWinnerAlreadyRecorded_Skips() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        PlayResultDto kept = PlayResultDto.builder().playId("play-123").winner(true).couponId("CODE-1").build();
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(false);
+        when(idempotencyHandler.getDecided("play-123")).thenReturn(kept);
+        when(playEventRepository.existsById("play-123")).thenReturn(true);
+        
+        assertFalse(rewardAllocationService.processPlayEvent(event));
+        
+        verify(redisResultStore, never()).storeResult(any());
+        verify(playEventRepository, never()).save(any());
+    }
+    
+    @Test
+    void testProcessPlayEvent_LoserRecordFails_ClearsProcessedMark() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(idempotencyHandler.tryMarkAsProcessed("play-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(Collections.singletonList(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(0);
+        doThrow(new IllegalStateException("Redis unavailable")).when(redisResultStore).storeResult(any());
+        
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processPlayEvent(event));
+        
+        verify(idempotencyHandler).clearProcessed("play-123");
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_Fails_ForgetsPlayAndRethrows() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        
+        when(gameRepository.findById("game-456")).thenThrow(new IllegalStateException("DB unavailable"));
+        
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processOwnedPlayEvent(event, partition));
+        
+        assertTrue(partition.markProcessed("play-123"));
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_WinnerRecordFails_KeepsBudgetTakenAndPlayProcessed() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(5);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.popReservedCoupon("brand-1")).thenReturn(Optional.of("CODE-1"));
+        when(playEventRepository.save(any())).thenThrow(new IllegalStateException("DB unavailable"));
+        
+        PlayEventDto event = createPlayEvent("play-1", "game-456", "user-789");
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processOwnedPlayEvent(event, partition));
+        
+        assertFalse(partition.markProcessed("play-1"));
+        assertEquals("CODE-1", partition.getDecided("play-1").getCouponId());
+        assertEquals(4, partition.getGame("game-456").totalRemaining());
+        assertEquals(4, partition.drainPendingCheckpoints().get(0).remainingBudget());
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_WinnerRecordFailsThenRedelivered_RecordsKeptResult() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(5);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.popReservedCoupon("brand-1")).thenReturn(Optional.of("CODE-1"));
+        when(playEventRepository.save(any())).thenThrow(new IllegalStateException("DB unavailable")).thenReturn(null);
+        when(playEventRepository.existsById("play-1")).thenReturn(false);
+        
+        PlayEventDto event = createPlayEvent("play-1", "game-456", "user-789");
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processOwnedPlayEvent(event, partition));
+        assertTrue(rewardAllocationService.processOwnedPlayEvent(event, partition));
+        
+        verify(couponPoolService, times(1)).popReservedCoupon("brand-1");
+        verify(playEventRepository, times(2)).save(argThat(playEntity -> "CODE-1".equals(playEntity.getCouponId())));
+        assertEquals(4, partition.getGame("game-456").totalRemaining());
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_CouponIssueThrows_ReturnsBudgetUnitAndForgetsPlay() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(5);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.popReservedCoupon("brand-1")).thenThrow(new IllegalStateException("Redis unavailable"));
+        
+        PlayEventDto event = createPlayEvent("play-1", "game-456", "user-789");
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processOwnedPlayEvent(event, partition));
+        
+        assertTrue(partition.markProcessed("play-1"));
+        assertEquals(5, partition.getGame("game-456").totalRemaining());
+        assertTrue(partition.drainPendingCheckpoints().isEmpty());
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_MarkIssuedThrows_ReturnsBudgetUnitAndForgetsPlay() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(5);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.popReservedCoupon("brand-1")).thenReturn(Optional.of("CODE-1"));
+        doThrow(new IllegalStateException("DB unavailable")).when(couponPoolService).markIssued("CODE-1", "brand-1", "user-789");
+        
+        PlayEventDto event = createPlayEvent("play-1", "game-456", "user-789");
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processOwnedPlayEvent(event, partition));
+        
+        assertTrue(partition.markProcessed("play-1"));
+        assertEquals(5, partition.getGame("game-456").totalRemaining());
+        assertTrue(partition.drainPendingCheckpoints().isEmpty());
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_Redelivered_Skips() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        partition.markProcessed("play-123");
+        
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-123", "game-456", "user-789"), partition);
+        
+        verify(gameRepository, never()).findById(anyString());
+        verify(redisResultStore, never()).storeResult(any());
+    }
+    
+    @Test
+    void testProcessOwnedPlayEvent_PoolEmpty_ReturnsBudgetUnit() {
+        PartitionBudgetState partition = new PartitionBudgetState(0, 100);
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(5);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.popReservedCoupon("brand-1")).thenReturn(Optional.empty());
+        
+        rewardAllocationService.processOwnedPlayEvent(createPlayEvent("play-1", "game-456", "user-789"), partition);
+        
+        verify(redisResultStore).storeResult(argThat(result -> !result.isWinner()));
+        assertTrue(partition.drainPendingCheckpoints().isEmpty());
+        assertEquals(5, partition.getGame("game-456").totalRemaining());
+    }
+    
+    @Test
+    void testDecidePlayEvent_Win_IssuesCouponWithoutRecording() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        GameEntity game = createGame("game-456", "campaign-123");
+        GameBrandBudgetEntity budget = createBrandBudget("game-456", "brand-1", 100);
+        
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-456")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-456", "brand-1")).thenReturn(50);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponPoolService.allocateCoupon("game-456", "brand-1")).thenReturn(Optional.of("CODE-1"));
+        
+        AllocationResultDto outcome = rewardAllocationService.decidePlayEvent(event);
+        
+        assertSame(event, outcome.getPlay());
+        assertTrue(outcome.getResult().isWinner());
+        assertEquals("CODE-1", outcome.getResult().getCouponId());
+        assertEquals("brand-1", outcome.getResult().getBrandId());
+        verifyNoInteractions(idempotencyHandler, redisResultStore, playEventRepository, playStatsAggregator);
+    }
+    
+    @Test
+    void testRecordAllocationResult_NewPlay_RecordsOutcome() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        PlayResultDto result = PlayResultDto.builder()
+            .playId("play-123")
+            .gameId("game-456")
+            .userId("user-789")
+            .winner(true)
+            .couponId("CODE-1")
+            .brandId("brand-1")
+            .build();
+        
+        when(playEventRepository.existsById("play-123")).thenReturn(false);
+        
+        rewardAllocationService.recordAllocationResult(new AllocationResultDto(event, result));
+        
+        verify(redisResultStore).storeResult(result);
+        verify(playEventRepository).save(argThat(playEntity -> 
+            playEntity.isWinner() && "CODE-1".equals(playEntity.getCouponId()) && "brand-1".equals(playEntity.getBrandId())
+        ));
+        verify(playStatsAggregator).recordPlay("game-456", event.getTimestamp(), true, "brand-1");
+    }
+    
+    @Test
+    void testRecordAllocationResult_AlreadyRecorded_Skips() {
+        PlayEventDto event = createPlayEvent("play-123", "game-456", "user-789");
+        PlayResultDto result = PlayResultDto.builder().playId("play-123").winner(false).build();
+        
+        when(playEventRepository.existsById("play-123")).thenReturn(true);
+        
+        rewardAllocationService.recordAllocationResult(new AllocationResultDto(event, result));
+        
+        verify(redisResultStore, never()).storeResult(any());
+        verify(playEventRepository, never()).save(any());
+        verifyNoInteractions(playStatsAggregator);
     }
     
     private PlayEventDto createPlayEvent(String playId, String gameId, String userId) {
@@ -0,0 +1,231 @@
+package com.frolic.services.service.allocation;
+
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.cache.store.RedisCouponPoolStore;
+import com.frolic.core.cache.store.RedisResultStore;
+import com.frolic.core.common.dto.AllocationResultDto;
+import com.frolic.core.common.dto.PlayEventDto;
+import com.frolic.core.common.enums.PlayStatus;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.core.engine.concurrency.AtomicBudgetDecrementer;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Allocation;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Outcome;
+import com.frolic.core.engine.concurrency.IdempotencyHandler;
+import com.frolic.core.engine.probability.ProbabilityCalculator;
+import com.frolic.core.engine.stats.PlayStatsAggregator;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.CouponRepository;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import com.frolic.core.repository.jpa.PlayEventRepository;
+import com.frolic.services.service.coupon.CouponPoolService;
+import com.frolic.services.service.play.PlayEventLogger;
+import com.frolic.services.service.stats.PacingTelemetryService;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.TransactionRequiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RewardAllocationService issuing coupons through a real CouponPoolService and transaction manager
+ * The coupon repository behaves like a JPA @Modifying query: it fails unless a transaction is active.
+ */
+@ExtendWith(MockitoExtension.class)
+class RewardAllocationTransactionTest {
+    
+    @Mock
+    private IdempotencyHandler idempotencyHandler;
+    
+    @Mock
+    private ProbabilityCalculator probabilityCalculator;
+    
+    @Mock
+    private AtomicBudgetDecrementer budgetDecrementer;
+    
+    @Mock
+    private AtomicCouponAllocator couponAllocator;
+    
+    @Mock
+    private RedisCouponPoolStore couponPoolStore;
+    
+    @Mock
+    private CouponRepository couponRepository;
+    
+    @Mock
+    private GameRepository gameRepository;
+    
+    @Mock
+    private CampaignRepository campaignRepository;
+    
+    @Mock
+    private GameBrandBudgetRepository gameBrandBudgetRepository;
+    
+    @Mock
+    private PlayEventRepository playEventRepository;
+    
+    @Mock
+    private RedisResultStore redisResultStore;
+    
+    @Mock
+    private PlayStatsAggregator playStatsAggregator;
+    
+    @Mock
+    private PacingTelemetryService pacingTelemetry;
+    
+    @Mock
+    private PlayEventLogger playLog;
+    
+    private RecordingTransactionManager transactionManager;
+    
+    private RewardAllocationService rewardAllocationService;
+    
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        transactionManager = new RecordingTransactionManager();
+        CouponPoolService couponPoolService = new CouponPoolService(couponAllocator, couponPoolStore, couponRepository,
+            gameBrandBudgetRepository, new TaskExecutorAdapter(Runnable::run), transactionManager);
+        GameSnapshotCache gameSnapshotCache = new GameSnapshotCache(gameRepository, campaignRepository, gameBrandBudgetRepository);
+        ReflectionTestUtils.setField(gameSnapshotCache, "ttlMs", 30_000L);
+        rewardAllocationService = new RewardAllocationService(
+            idempotencyHandler,
+            probabilityCalculator,
+            budgetDecrementer,
+            gameBrandBudgetRepository,
+            playEventRepository,
+            redisResultStore,
+            playStatsAggregator,
+            couponPoolService,
+            gameSnapshotCache,
+            new PlayStageMetrics(meterRegistry),
+            new PlayLatencyRecorder(meterRegistry),
+            pacingTelemetry,
+            playLog
+        );
+        
+        lenient().when(couponRepository.markIssued(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new TransactionRequiredException("Executing an update/delete query");
+            }
+            return 1;
+        });
+    }
+    
+    @Test
+    void testDecidePlayEvent_WinOutsideTransaction_IssuesCouponInItsOwn() {
+        stubWinningGame();
+        
+        AllocationResultDto outcome = rewardAllocationService.decidePlayEvent(createPlayEvent("play-1"));
+        
+        assertTrue(outcome.getResult().isWinner());
+        assertEquals("CODE-1", outcome.getResult().getCouponId());
+        verify(couponRepository).markIssued(eq("CODE-1"), eq("user-1"), any());
+        assertEquals(1, transactionManager.commits);
+        assertEquals(0, transactionManager.rollbacks);
+    }
+    
+    @Test
+    void testProcessPlayEvent_Win_CommitsIssueBeforeStoringResult() {
+        stubWinningGame();
+        when(idempotencyHandler.tryMarkAsProcessed("play-1")).thenReturn(true);
+        doAnswer(invocation -> {
+            assertEquals(1, transactionManager.commits);
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(redisResultStore).storeResult(any());
+        
+        rewardAllocationService.processPlayEvent(createPlayEvent("play-1"));
+        
+        verify(redisResultStore).storeResult(argThat(result -> "CODE-1".equals(result.getCouponId())));
+    }
+    
+    @Test
+    void testProcessPlayEvent_WinnerSaveFails_CouponStaysIssued() {
+        stubWinningGame();
+        when(idempotencyHandler.tryMarkAsProcessed("play-1")).thenReturn(true);
+        when(playEventRepository.save(any())).thenThrow(new IllegalStateException("DB unavailable"));
+        
+        assertThrows(IllegalStateException.class, () -> rewardAllocationService.processPlayEvent(createPlayEvent("play-1")));
+        
+        assertEquals(1, transactionManager.commits);
+        assertEquals(0, transactionManager.rollbacks);
+    }
+    
+    private void stubWinningGame() {
+        GameEntity game = new GameEntity();
+        game.setId("game-1");
+        game.setCampaignId("campaign-1");
+        game.setStartTime(LocalDateTime.now().minusHours(1));
+        game.setEndTime(LocalDateTime.now().plusHours(1));
+        game.setSlotGranularitySeconds(60);
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId("game-1");
+        budget.setBrandId("brand-1");
+        budget.setTotalBudget(100);
+        
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        when(gameBrandBudgetRepository.findByGameId("game-1")).thenReturn(List.of(budget));
+        when(budgetDecrementer.getCurrentBudget("game-1", "brand-1")).thenReturn(50);
+        when(probabilityCalculator.calculateAllocation(anyInt(), any(), any(), anyInt())).thenReturn(1);
+        when(couponAllocator.allocate("game-1", "brand-1")).thenReturn(new Allocation(Outcome.ALLOCATED, "CODE-1"));
+    }
+    
+    private PlayEventDto createPlayEvent(String playId) {
+        return PlayEventDto.builder()
+            .playId(playId)
+            .gameId("game-1")
+            .userId("user-1")
+            .status(PlayStatus.QUEUED)
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+    
+    /**
+     * Transaction manager without a resource, counting the transactions it completes
+     */
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        
+        private int commits;
+        private int rollbacks;
+        
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+        
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+        
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+        }
+        
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
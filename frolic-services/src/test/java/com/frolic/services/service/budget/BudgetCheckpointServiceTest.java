@@ -0,0 +1,97 @@
+package com.frolic.services.service.budget;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.repository.jpa.BudgetCheckpointRepository.BudgetCheckpoint;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BudgetCheckpointService
+ */
+@ExtendWith(MockitoExtension.class)
+class BudgetCheckpointServiceTest {
+    
+    @Mock
+    private RedisBudgetStore redisBudgetStore;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @InjectMocks
+    private BudgetCheckpointService budgetCheckpointService;
+    
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisBudgetStore.popDirtyBudgets(anyLong())).thenReturn(Collections.emptyList());
+    }
+    
+    @Test
+    void testCheckpoint_NothingChanged_DoesNotTouchDatabase() {
+        budgetCheckpointService.checkpoint();
+        
+        verify(redisBudgetStore, never()).getBudgetValues(anyList());
+        verify(budgetRepository, never()).applyCheckpoints(anyList(), any());
+    }
+    
+    @Test
+    void testCheckpoint_WritesChangedPairsInOneStatement() {
+        when(redisBudgetStore.popDirtyBudgets(anyLong()))
+            .thenReturn(List.of("game-1:brand-1", "game-1:brand-2", "game-2:brand-1"));
+        when(redisBudgetStore.getBudgetValues(List.of(
+            RedisKeys.budgetKey("game-1", "brand-1"),
+            RedisKeys.budgetKey("game-1", "brand-2"),
+            RedisKeys.budgetKey("game-2", "brand-1")
+        ))).thenReturn(Arrays.asList("40", "0", null));
+        
+        budgetCheckpointService.checkpoint();
+        
+        verify(budgetRepository, times(1)).applyCheckpoints(eq(List.of(
+            new BudgetCheckpoint("game-1", "brand-1", 40),
+            new BudgetCheckpoint("game-1", "brand-2", 0)
+        )), any());
+        verify(redisBudgetStore, never()).markDirty(anyList());
+    }
+    
+    @Test
+    void testCheckpoint_DrainsDirtySetAcrossPops() {
+        List<String> firstPop = IntStream.range(0, 1000).mapToObj(i -> "game-" + i + ":brand-1").collect(Collectors.toList());
+        when(redisBudgetStore.popDirtyBudgets(anyLong()))
+            .thenReturn(firstPop)
+            .thenReturn(List.of("game-x:brand-1"));
+        when(redisBudgetStore.getBudgetValues(anyList()))
+            .thenAnswer(invocation -> new ArrayList<>(Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), "1")));
+        
+        budgetCheckpointService.checkpoint();
+        
+        verify(redisBudgetStore, times(2)).popDirtyBudgets(anyLong());
+        verify(budgetRepository, times(1)).applyCheckpoints(argThat(list -> list.size() == 1001), any());
+    }
+    
+    @Test
+    void testCheckpoint_DatabaseFailure_ReflagsPairs() {
+        List<String> members = List.of("game-1:brand-1");
+        when(redisBudgetStore.popDirtyBudgets(anyLong())).thenReturn(members);
+        when(redisBudgetStore.getBudgetValues(anyList())).thenReturn(List.of("5"));
+        when(budgetRepository.applyCheckpoints(anyList(), any())).thenThrow(new RuntimeException("db down"));
+        
+        budgetCheckpointService.checkpoint();
+        
+        verify(redisBudgetStore).markDirty(members);
+    }
+}
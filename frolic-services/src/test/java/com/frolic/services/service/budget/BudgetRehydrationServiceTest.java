@@ -0,0 +1,154 @@
+package com.frolic.services.service.budget;
+
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import com.frolic.core.repository.jpa.PlayEventRepository;
+import com.frolic.core.repository.jpa.PlayEventRepository.BrandWinnerCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BudgetRehydrationService
+ */
+@ExtendWith(MockitoExtension.class)
+class BudgetRehydrationServiceTest {
+    
+    @Mock
+    private GameRepository gameRepository;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @Mock
+    private PlayEventRepository playEventRepository;
+    
+    @Mock
+    private RedisBudgetStore redisBudgetStore;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private BudgetRehydrationService rehydrationService;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rehydrationService = new BudgetRehydrationService(
+            gameRepository, budgetRepository, playEventRepository, redisBudgetStore,
+            new TaskExecutorAdapter(Runnable::run), meterRegistry);
+    }
+    
+    @Test
+    void testRehydrate_NoActiveGames_DoesNothing() {
+        when(gameRepository.findByStatus(GameStatus.ACTIVE)).thenReturn(Collections.emptyList());
+        
+        int restored = rehydrationService.rehydrateMissingBudgets();
+        
+        assertThat(restored).isZero();
+        verifyNoInteractions(redisBudgetStore);
+    }
+    
+    @Test
+    void testRehydrate_AllKeysPresent_DoesNotRebuild() {
+        when(gameRepository.findByStatus(GameStatus.ACTIVE)).thenReturn(List.of(game("game-1")));
+        when(budgetRepository.findByGameIdIn(List.of("game-1"))).thenReturn(List.of(budget("game-1", "brand-1", 50)));
+        when(redisBudgetStore.getBudgetValues(anyList())).thenReturn(List.of("42"));
+        
+        int restored = rehydrationService.rehydrateMissingBudgets();
+        
+        assertThat(restored).isZero();
+        verify(playEventRepository, never()).countWinnersSinceCheckpoint(anyString());
+        verify(redisBudgetStore, never()).restoreBudgets(anyMap());
+    }
+    
+    @Test
+    void testRehydrate_MissingKeys_RestoresCheckpointMinusWinners() {
+        when(gameRepository.findByStatus(GameStatus.ACTIVE)).thenReturn(List.of(game("game-1"), game("game-2")));
+        when(budgetRepository.findByGameIdIn(List.of("game-1", "game-2"))).thenReturn(List.of(
+            budget("game-1", "brand-1", 50),
+            budget("game-1", "brand-2", 3),
+            budget("game-2", "brand-1", 10)
+        ));
+        when(redisBudgetStore.getBudgetValues(anyList())).thenReturn(Arrays.asList(null, null, "10"));
+        when(playEventRepository.countWinnersSinceCheckpoint("game-1"))
+            .thenReturn(List.of(winners("brand-1", 8), winners("brand-2", 5)));
+        when(redisBudgetStore.restoreBudgets(anyMap())).thenReturn(true);
+        
+        int restored = rehydrationService.rehydrateMissingBudgets();
+        
+        assertThat(restored).isEqualTo(2);
+        verify(redisBudgetStore, times(1)).restoreBudgets(Map.of(
+            RedisKeys.budgetKey("game-1", "brand-1"), "42",
+            RedisKeys.budgetKey("game-1", "brand-2"), "0"
+        ));
+        verify(redisBudgetStore).markDirty(List.of(
+            RedisKeys.budgetDirtyMember("game-1", "brand-1"),
+            RedisKeys.budgetDirtyMember("game-1", "brand-2")
+        ));
+        verify(playEventRepository, never()).countWinnersSinceCheckpoint("game-2");
+        assertThat(meterRegistry.get("frolic.budget.rehydration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("frolic.budget.rehydration.keys").counter().count()).isEqualTo(2.0);
+    }
+    
+    @Test
+    void testRehydrate_KeysRestoredConcurrently_SkipsDirtyFlag() {
+        when(gameRepository.findByStatus(GameStatus.ACTIVE)).thenReturn(List.of(game("game-1")));
+        when(budgetRepository.findByGameIdIn(List.of("game-1"))).thenReturn(List.of(budget("game-1", "brand-1", 50)));
+        when(redisBudgetStore.getBudgetValues(anyList())).thenReturn(Arrays.asList((String) null));
+        when(playEventRepository.countWinnersSinceCheckpoint("game-1")).thenReturn(Collections.emptyList());
+        when(redisBudgetStore.restoreBudgets(anyMap())).thenReturn(false);
+        
+        int restored = rehydrationService.rehydrateMissingBudgets();
+        
+        assertThat(restored).isZero();
+        verify(redisBudgetStore, never()).markDirty(anyList());
+    }
+    
+    private GameEntity game(String id) {
+        GameEntity game = new GameEntity();
+        game.setId(id);
+        game.setStatus(GameStatus.ACTIVE);
+        return game;
+    }
+    
+    private GameBrandBudgetEntity budget(String gameId, String brandId, int remaining) {
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId(gameId);
+        budget.setBrandId(brandId);
+        budget.setTotalBudget(100);
+        budget.setRemainingBudget(remaining);
+        return budget;
+    }
+    
+    private BrandWinnerCount winners(String brandId, long count) {
+        return new BrandWinnerCount() {
+            @Override
+            public String getBrandId() {
+                return brandId;
+            }
+            
+            @Override
+            public Long getWinners() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+package com.frolic.services.service.coupon;
+
+import com.frolic.core.common.dto.CouponImportDto;
+import com.frolic.core.common.enums.CouponImportStatus;
+import com.frolic.core.common.exception.InvalidRequestException;
+import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.repository.jpa.BrandRepository;
+import com.frolic.core.repository.jpa.CouponBulkInsertRepository.CouponRow;
+import com.frolic.core.repository.jpa.CouponRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CouponImportService
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponImportServiceTest {
+    
+    @Mock
+    private CouponRepository couponRepository;
+    
+    @Mock
+    private BrandRepository brandRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private CouponImportService couponImportService;
+    
+    private final List<List<CouponRow>> insertedBatches = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        couponImportService = new CouponImportService(
+            couponRepository,
+            brandRepository,
+            List.of(new CsvCouponFileReader(), new XlsxCouponFileReader()),
+            new TaskExecutorAdapter(Runnable::run),
+            transactionManager
+        );
+        ReflectionTestUtils.setField(couponImportService, "batchSize", 2);
+        lenient().when(brandRepository.existsById("brand-1")).thenReturn(true);
+    }
+    
+    @Test
+    void testStartImport_Csv_StreamsRowsInBatchesAndReportsProgress() {
+        // Second batch contains one code already in the database
+        when(couponRepository.insertIgnoringDuplicates(eq("brand-1"), anyList())).thenAnswer(invocation -> {
+            List<CouponRow> rows = invocation.getArgument(1);
+            insertedBatches.add(List.copyOf(rows));
+            return insertedBatches.size() == 2 ? rows.size() - 1 : rows.size();
+        });
+        String csv = """
+            code,value,expires_at,description
+            A-1,10.5,2030-01-01,"Ten, off"
+            A-2,,,
+            
+            A-3,5,2030-01-01T10:00:00,
+            ,1,,
+            A-4,abc,,
+            A-5
+            """;
+        MockMultipartFile file = new MockMultipartFile("file", "codes.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        
+        CouponImportDto started = couponImportService.startImport("brand-1", file);
+        CouponImportDto result = couponImportService.getImport(started.getJobId());
+        
+        assertThat(result.getStatus()).isEqualTo(CouponImportStatus.COMPLETED);
+        assertThat(result.getRowsRead()).isEqualTo(6);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getCompletedAt()).isNotNull();
+        
+        assertThat(insertedBatches).hasSize(2);
+        CouponRow first = insertedBatches.get(0).get(0);
+        assertThat(first.code()).isEqualTo("A-1");
+        assertThat(first.value()).isEqualTo(10.5);
+        assertThat(first.expiresAt()).isEqualTo(LocalDateTime.of(2030, 1, 1, 0, 0));
+        assertThat(first.description()).isEqualTo("Ten, off");
+        assertThat(insertedBatches.get(1)).extracting(CouponRow::code).containsExactly("A-3", "A-5");
+    }
+    
+    @Test
+    void testStartImport_Xlsx_ReadsFirstSheet() throws Exception {
+        when(couponRepository.insertIgnoringDuplicates(eq("brand-1"), anyList())).thenAnswer(invocation -> {
+            List<CouponRow> rows = invocation.getArgument(1);
+            insertedBatches.add(List.copyOf(rows));
+            return rows.size();
+        });
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("coupons");
+            sheet.createRow(0).createCell(0).setCellValue("code");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("X-1");
+            row.createCell(1).setCellValue(25);
+            sheet.createRow(2).createCell(0).setCellValue("X-2");
+            workbook.write(out);
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "codes.xlsx", null, out.toByteArray());
+        
+        CouponImportDto started = couponImportService.startImport("brand-1", file);
+        CouponImportDto result = couponImportService.getImport(started.getJobId());
+        
+        assertThat(result.getStatus()).isEqualTo(CouponImportStatus.COMPLETED);
+        assertThat(result.getRowsRead()).isEqualTo(2);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(insertedBatches.get(0)).extracting(CouponRow::code).containsExactly("X-1", "X-2");
+        assertThat(insertedBatches.get(0).get(0).value()).isEqualTo(25.0);
+    }
+    
+    @Test
+    void testStartImport_DatabaseError_MarksJobFailed() {
+        when(couponRepository.insertIgnoringDuplicates(eq("brand-1"), anyList()))
+            .thenThrow(new RuntimeException("connection lost"));
+        MockMultipartFile file = new MockMultipartFile("file", "codes.csv", "text/csv", "A-1\n".getBytes());
+        
+        CouponImportDto started = couponImportService.startImport("brand-1", file);
+        CouponImportDto result = couponImportService.getImport(started.getJobId());
+        
+        assertThat(result.getStatus()).isEqualTo(CouponImportStatus.FAILED);
+        assertThat(result.getError()).isEqualTo("connection lost");
+    }
+    
+    @Test
+    void testStartImport_UnsupportedFileType_ThrowsException() {
+        MockMultipartFile file = new MockMultipartFile("file", "codes.xls", null, new byte[]{1});
+        
+        assertThatThrownBy(() -> couponImportService.startImport("brand-1", file))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+    
+    @Test
+    void testStartImport_UnknownBrand_ThrowsException() {
+        MockMultipartFile file = new MockMultipartFile("file", "codes.csv", null, "A-1".getBytes());
+        
+        assertThatThrownBy(() -> couponImportService.startImport("brand-404", file))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verify(couponRepository, never()).insertIgnoringDuplicates(anyString(), anyList());
+    }
+    
+    @Test
+    void testGetImport_UnknownJob_ThrowsException() {
+        assertThatThrownBy(() -> couponImportService.getImport("missing"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
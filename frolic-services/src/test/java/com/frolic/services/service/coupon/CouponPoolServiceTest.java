@@ -0,0 +1,220 @@
+package com.frolic.services.service.coupon;
+
+import com.frolic.core.cache.store.RedisCouponPoolStore;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Allocation;
+import com.frolic.core.engine.concurrency.AtomicCouponAllocator.Outcome;
+import com.frolic.core.repository.jpa.CouponRepository;
+import com.frolic.core.repository.jpa.CouponRepository.ReservedCoupon;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CouponPoolService
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponPoolServiceTest {
+    
+    @Mock
+    private AtomicCouponAllocator couponAllocator;
+    
+    @Mock
+    private RedisCouponPoolStore couponPoolStore;
+    
+    @Mock
+    private CouponRepository couponRepository;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private CouponPoolService couponPoolService;
+    
+    @BeforeEach
+    void setUp() {
+        couponPoolService = new CouponPoolService(couponAllocator, couponPoolStore, couponRepository, budgetRepository,
+            new TaskExecutorAdapter(Runnable::run), transactionManager);
+        ReflectionTestUtils.setField(couponPoolService, "lowWatermark", 10);
+        ReflectionTestUtils.setField(couponPoolService, "batchSize", 50);
+    }
+    
+    @Test
+    void testRefillPool_AboveWatermark_DoesNotClaim() {
+        when(couponPoolStore.getPoolSize("brand-1")).thenReturn(10L);
+        
+        int staged = couponPoolService.refillPool("brand-1");
+        
+        assertThat(staged).isZero();
+        verify(couponRepository, never()).claimAvailableCodes(anyString(), anyInt());
+    }
+    
+    @Test
+    void testRefillPool_BelowWatermark_ClaimsBatchAndStagesCodes() {
+        when(couponPoolStore.getPoolSize("brand-1")).thenReturn(3L);
+        when(couponRepository.claimAvailableCodes("brand-1", 50)).thenReturn(List.of("A", "B"));
+        
+        int staged = couponPoolService.refillPool("brand-1");
+        
+        assertThat(staged).isEqualTo(2);
+        verify(couponPoolStore).pushCodes("brand-1", List.of("A", "B"));
+        verify(transactionManager).commit(any());
+    }
+    
+    @Test
+    void testRefillPool_NoInventory_StagesNothing() {
+        when(couponPoolStore.getPoolSize("brand-1")).thenReturn(0L);
+        when(couponRepository.claimAvailableCodes("brand-1", 50)).thenReturn(List.of());
+        
+        int staged = couponPoolService.refillPool("brand-1");
+        
+        assertThat(staged).isZero();
+        verify(couponPoolStore, never()).pushCodes(anyString(), anyList());
+    }
+    
+    @Test
+    void testRefillActivePools_RefillsEachBrandOfActiveGames() {
+        when(budgetRepository.findBrandIdsByGameStatus(GameStatus.ACTIVE)).thenReturn(List.of("brand-1", "brand-2"));
+        when(couponPoolStore.getPoolSize("brand-1")).thenThrow(new RuntimeException("Redis down"));
+        when(couponPoolStore.getPoolSize("brand-2")).thenReturn(100L);
+        
+        couponPoolService.refillActivePools();
+        
+        verify(couponPoolStore).getPoolSize("brand-2");
+    }
+    
+    @Test
+    void testAllocateCoupon_Allocated_LeavesCouponReserved() {
+        when(couponAllocator.allocate("game-1", "brand-1")).thenReturn(new Allocation(Outcome.ALLOCATED, "CODE-1"));
+        
+        Optional<String> code = couponPoolService.allocateCoupon("game-1", "brand-1");
+        
+        assertThat(code).contains("CODE-1");
+        verifyNoInteractions(couponRepository);
+    }
+    
+    @Test
+    void testMarkIssued_MarksCouponIssuedInOwnTransaction() {
+        when(couponRepository.markIssued(eq("CODE-1"), eq("user-1"), any())).thenReturn(1);
+        
+        couponPoolService.markIssued("CODE-1", "brand-1", "user-1");
+        
+        verify(couponRepository).markIssued(eq("CODE-1"), eq("user-1"), any());
+        verify(transactionManager).commit(any());
+    }
+    
+    @Test
+    void testAllocateCoupon_NoBudget_ReturnsEmpty() {
+        when(couponAllocator.allocate("game-1", "brand-1")).thenReturn(new Allocation(Outcome.NO_BUDGET, null));
+        
+        Optional<String> code = couponPoolService.allocateCoupon("game-1", "brand-1");
+        
+        assertThat(code).isEmpty();
+        verify(couponRepository, never()).markIssued(anyString(), anyString(), any());
+    }
+    
+    @Test
+    void testAllocateCoupon_PoolEmpty_ReturnsEmptyAndRefillsInBackground() {
+        when(couponAllocator.allocate("game-1", "brand-1")).thenReturn(new Allocation(Outcome.POOL_EMPTY, null));
+        when(couponPoolStore.getPoolSize("brand-1")).thenReturn(0L);
+        when(couponRepository.claimAvailableCodes("brand-1", 50)).thenReturn(List.of("CODE-9"));
+        
+        Optional<String> code = couponPoolService.allocateCoupon("game-1", "brand-1");
+        
+        assertThat(code).isEmpty();
+        verify(couponPoolStore).pushCodes("brand-1", List.of("CODE-9"));
+        verify(couponAllocator, times(1)).allocate("game-1", "brand-1");
+        verify(couponRepository, never()).markIssued(anyString(), anyString(), any());
+    }
+    
+    @Test
+    void testAllocateCoupon_PoolEmptyWhileRefilling_RequestsOneRefill() {
+        List<Runnable> submitted = new ArrayList<>();
+        couponPoolService = new CouponPoolService(couponAllocator, couponPoolStore, couponRepository, budgetRepository,
+            new TaskExecutorAdapter(submitted::add), transactionManager);
+        when(couponAllocator.allocate("game-1", "brand-1")).thenReturn(new Allocation(Outcome.POOL_EMPTY, null));
+        
+        couponPoolService.allocateCoupon("game-1", "brand-1");
+        couponPoolService.allocateCoupon("game-1", "brand-1");
+        
+        assertThat(submitted).hasSize(1);
+        verifyNoInteractions(couponRepository);
+    }
+    
+    @Test
+    void testPopReservedCoupon_PopsWithoutTouchingBudget() {
+        when(couponPoolStore.popCode("brand-1")).thenReturn("CODE-3");
+        
+        Optional<String> code = couponPoolService.popReservedCoupon("brand-1");
+        
+        assertThat(code).contains("CODE-3");
+        verifyNoInteractions(couponAllocator);
+    }
+    
+    @Test
+    void testPopReservedCoupon_PoolEmpty_ReturnsEmptyAndRefillsInBackground() {
+        when(couponPoolStore.popCode("brand-1")).thenReturn(null);
+        when(couponPoolStore.getPoolSize("brand-1")).thenReturn(0L);
+        when(couponRepository.claimAvailableCodes("brand-1", 50)).thenReturn(List.of());
+        
+        assertThat(couponPoolService.popReservedCoupon("brand-1")).isEmpty();
+        verify(couponRepository).claimAvailableCodes("brand-1", 50);
+        verify(couponRepository, never()).markIssued(anyString(), anyString(), any());
+    }
+    
+    @Test
+    void testReleaseOrphanedReservations_UnstagedOnTwoSweeps_Released() {
+        when(couponRepository.findReservedCoupons()).thenReturn(List.of(
+            reserved("brand-1", "STAGED"), reserved("brand-1", "POPPED")));
+        when(couponPoolStore.getStagedCodes("brand-1")).thenReturn(List.of("STAGED"));
+        when(couponRepository.releaseUnissued(eq(List.of("POPPED")), any())).thenReturn(1);
+        
+        assertThat(couponPoolService.releaseOrphanedReservations()).isZero();
+        verify(couponRepository, never()).releaseUnissued(anyCollection(), any());
+        
+        assertThat(couponPoolService.releaseOrphanedReservations()).isEqualTo(1);
+        verify(couponRepository).releaseUnissued(eq(List.of("POPPED")), any());
+    }
+    
+    @Test
+    void testReleaseOrphanedReservations_StagedAgainBeforeSecondSweep_Kept() {
+        when(couponRepository.findReservedCoupons()).thenReturn(List.of(reserved("brand-1", "CODE-1")));
+        when(couponPoolStore.getStagedCodes("brand-1")).thenReturn(List.of()).thenReturn(List.of("CODE-1"));
+        
+        couponPoolService.releaseOrphanedReservations();
+        couponPoolService.releaseOrphanedReservations();
+        
+        verify(couponRepository, never()).releaseUnissued(anyCollection(), any());
+    }
+    
+    private static ReservedCoupon reserved(String brandId, String code) {
+        return new ReservedCoupon() {
+            @Override
+            public String getBrandId() {
+                return brandId;
+            }
+            
+            @Override
+            public String getCode() {
+                return code;
+            }
+        };
+    }
+}
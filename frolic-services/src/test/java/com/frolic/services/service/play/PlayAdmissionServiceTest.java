@@ -0,0 +1,179 @@
+package com.frolic.services.service.play;
+
+import com.frolic.core.common.exception.ServiceOverloadedException;
+import com.frolic.core.messaging.producer.PlayKeySpreader;
+import com.frolic.services.service.play.KafkaLoadSampler.LoadSample;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PlayAdmissionService
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayAdmissionServiceTest {
+    
+    private static final int PARTITIONS = 4;
+    
+    @Mock
+    private KafkaLoadSampler loadSampler;
+    
+    @Mock
+    private PlayKeySpreader keySpreader;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PlayAdmissionService admissionService;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionService = new PlayAdmissionService(loadSampler, keySpreader, meterRegistry);
+        lenient().when(keySpreader.keysFor(anyString())).thenAnswer(inv -> List.of(inv.getArgument(0, String.class)));
+        ReflectionTestUtils.setField(admissionService, "enabled", true);
+        ReflectionTestUtils.setField(admissionService, "perGame", true);
+        ReflectionTestUtils.setField(admissionService, "maxPartitionLag", 100L);
+        ReflectionTestUtils.setField(admissionService, "maxTotalLag", 1000L);
+        ReflectionTestUtils.setField(admissionService, "maxBufferUtilization", 0.9);
+        ReflectionTestUtils.setField(admissionService, "defaultRetryAfterSeconds", 5L);
+        ReflectionTestUtils.setField(admissionService, "maxRetryAfterSeconds", 60L);
+        ReflectionTestUtils.setField(admissionService, "sampleIntervalMs", 1000L);
+    }
+    
+    @Test
+    void testCheckAdmission_NoSample_Admits() {
+        assertDoesNotThrow(() -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_UnderLimits_Admits() throws Exception {
+        when(loadSampler.sample()).thenReturn(sample(Map.of(0, 10L, 1, 10L), 0, 0.1, now()));
+        admissionService.refresh();
+        
+        assertDoesNotThrow(() -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_GamePartitionBehind_RejectsWithDefaultRetryAfter() throws Exception {
+        int partition = KafkaLoadSampler.partitionFor("game-1", PARTITIONS);
+        when(loadSampler.sample()).thenReturn(sample(Map.of(partition, 500L), 0, 0.1, now()));
+        admissionService.refresh();
+        
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class,
+            () -> admissionService.checkAdmission("game-1"));
+        
+        assertEquals(5, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("frolic.admission.rejected").count());
+    }
+    
+    @Test
+    void testCheckAdmission_OtherPartitionBehind_AdmitsGame() throws Exception {
+        int partition = KafkaLoadSampler.partitionFor("game-1", PARTITIONS);
+        int other = (partition + 1) % PARTITIONS;
+        when(loadSampler.sample()).thenReturn(sample(Map.of(partition, 0L, other, 500L), 0, 0.1, now()));
+        admissionService.refresh();
+        
+        assertDoesNotThrow(() -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_SpreadGameSubKeyBehind_Rejects() throws Exception {
+        int partition = KafkaLoadSampler.partitionFor("game-1", PARTITIONS);
+        String subKey = IntStream.range(1, 64)
+            .mapToObj(i -> PlayKeySpreader.subKey("game-1", i))
+            .filter(key -> KafkaLoadSampler.partitionFor(key, PARTITIONS) != partition)
+            .findFirst()
+            .orElseThrow();
+        when(keySpreader.keysFor("game-1")).thenReturn(List.of("game-1", subKey));
+        when(loadSampler.sample()).thenReturn(sample(
+            Map.of(partition, 0L, KafkaLoadSampler.partitionFor(subKey, PARTITIONS), 500L), 0, 0.1, now()));
+        admissionService.refresh();
+        
+        assertThrows(ServiceOverloadedException.class, () -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_PerGameDisabled_UsesTotalLagOnly() throws Exception {
+        ReflectionTestUtils.setField(admissionService, "perGame", false);
+        int partition = KafkaLoadSampler.partitionFor("game-1", PARTITIONS);
+        when(loadSampler.sample()).thenReturn(sample(Map.of(partition, 500L), 0, 0.1, now()));
+        admissionService.refresh();
+        
+        assertDoesNotThrow(() -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_TotalLag_RetryAfterFromDrainRate() throws Exception {
+        long start = now();
+        when(loadSampler.sample())
+            .thenReturn(sample(Map.of(0, 50L), 0, 0.1, start - 1000))
+            .thenReturn(sample(Map.of(0, 50L, 1, 50L, 2, 50L, 3, 2850L), 100, 0.1, start));
+        admissionService.refresh();
+        admissionService.refresh();
+        
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class,
+            () -> admissionService.checkAdmission("game-1"));
+        
+        // 2000 over the limit at 100 plays/second
+        assertEquals(20, ex.getRetryAfterSeconds());
+    }
+    
+    @Test
+    void testCheckAdmission_BufferSaturated_Rejects() throws Exception {
+        when(loadSampler.sample()).thenReturn(sample(Map.of(), 0, 0.95, now()));
+        admissionService.refresh();
+        
+        assertThrows(ServiceOverloadedException.class, () -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_StaleSample_Admits() throws Exception {
+        when(loadSampler.sample()).thenReturn(sample(Map.of(0, 5000L, 1, 5000L), 0, 0.95, now() - 10_000));
+        admissionService.refresh();
+        
+        assertDoesNotThrow(() -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testRefresh_SamplerFails_KeepsPreviousSample() throws Exception {
+        int partition = KafkaLoadSampler.partitionFor("game-1", PARTITIONS);
+        when(loadSampler.sample())
+            .thenReturn(sample(Map.of(partition, 500L), 0, 0.1, now()))
+            .thenThrow(new IllegalStateException("broker unavailable"));
+        admissionService.refresh();
+        admissionService.refresh();
+        
+        assertThrows(ServiceOverloadedException.class, () -> admissionService.checkAdmission("game-1"));
+    }
+    
+    @Test
+    void testCheckAdmission_Disabled_NeverSamples() throws Exception {
+        ReflectionTestUtils.setField(admissionService, "enabled", false);
+        
+        admissionService.refresh();
+        admissionService.checkAdmission("game-1");
+        
+        verify(loadSampler, never()).sample();
+    }
+    
+    private static LoadSample sample(Map<Integer, Long> lags, long committedTotal, double buffer, long sampledAt) {
+        long total = lags.values().stream().mapToLong(Long::longValue).sum();
+        return new LoadSample(new HashMap<>(lags), PARTITIONS, total, committedTotal, buffer, sampledAt);
+    }
+    
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+}
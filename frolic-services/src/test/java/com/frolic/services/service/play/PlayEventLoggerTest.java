@@ -0,0 +1,81 @@
+package com.frolic.services.service.play;
+
+import com.frolic.services.config.MeteredAsyncAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PlayEventLogger
+ */
+class PlayEventLoggerTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private PlayEventLogger playLog;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        playLog = new PlayEventLogger(meterRegistry);
+    }
+    
+    @Test
+    void testIsSampled_RateZero_NeverSamples() {
+        ReflectionTestUtils.setField(playLog, "sampleRate", 0.0);
+        
+        assertThat(playLog.isSampled("play-1", "game-1")).isFalse();
+    }
+    
+    @Test
+    void testIsSampled_RateOne_AlwaysSamples() {
+        ReflectionTestUtils.setField(playLog, "sampleRate", 1.0);
+        
+        assertThat(playLog.isSampled("play-1", "game-1")).isTrue();
+        assertThat(playLog.isSampled(null, null)).isTrue();
+    }
+    
+    @Test
+    void testIsSampled_GameOverride_TakesPrecedence() {
+        ReflectionTestUtils.setField(playLog, "sampleRate", 0.0);
+        playLog.setGameSampleRates(List.of("game-1=1.0", " game-2 = 0 ", "malformed"));
+        
+        assertThat(playLog.isSampled("play-1", "game-1")).isTrue();
+        assertThat(playLog.isSampled("play-1", "game-2")).isFalse();
+        assertThat(playLog.isSampled("play-1", "game-3")).isFalse();
+    }
+    
+    @Test
+    void testIsSampled_PartialRate_SamplesThatShareOfPlays() {
+        ReflectionTestUtils.setField(playLog, "sampleRate", 0.1);
+        
+        long sampled = IntStream.range(0, 20_000)
+            .filter(i -> playLog.isSampled(UUID.randomUUID().toString(), "game-1"))
+            .count();
+        
+        assertThat(sampled).isBetween(1_600L, 2_400L);
+    }
+    
+    @Test
+    void testIsSampled_SamePlay_SameDecision() {
+        ReflectionTestUtils.setField(playLog, "sampleRate", 0.5);
+        
+        for (int i = 0; i < 100; i++) {
+            String playId = UUID.randomUUID().toString();
+            assertThat(playLog.isSampled(playId, "game-1")).isEqualTo(playLog.isSampled(playId, "game-1"));
+        }
+    }
+    
+    @Test
+    void testConstructor_RegistersDroppedCounter() {
+        assertThat(meterRegistry.get("frolic.logging.play.dropped").functionCounter().count())
+            .isEqualTo(MeteredAsyncAppender.droppedEvents());
+    }
+}
@@ -1,5 +1,6 @@
 package com.frolic.services.service.play;
 
+import com.frolic.core.cache.local.GameSnapshotCache;
 import com.frolic.core.cache.store.RedisResultStore;
 import com.frolic.core.common.dto.PlayResultDto;
 import com.frolic.core.common.enums.CampaignStatus;
@@ -7,14 +8,18 @@ import com.frolic.core.common.enums.GameStatus;
 import com.frolic.core.common.enums.PlayStatus;
 import com.frolic.core.common.exception.InvalidRequestException;
 import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.common.exception.ServiceOverloadedException;
+import com.frolic.core.common.metrics.PlayStageMetrics;
 import com.frolic.core.messaging.producer.PlayEventProducer;
 import com.frolic.core.repository.entity.CampaignEntity;
 import com.frolic.core.repository.entity.GameEntity;
 import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
 import com.frolic.core.repository.jpa.GameRepository;
 import com.frolic.services.controller.play.request.PlayRequest;
 import com.frolic.services.controller.play.response.PlayResponse;
 import com.frolic.services.service.admin.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +31,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,22 +49,33 @@ class PlayIngestionServiceTest {
     @Mock
     private CampaignRepository campaignRepository;
     
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
     @Mock
     private UserService userService;
     
     @Mock
     private RedisResultStore redisResultStore;
     
+    @Mock
+    private PlayAdmissionService playAdmissionService;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
     private PlayIngestionService playIngestionService;
     
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         playIngestionService = new PlayIngestionService(
             playEventProducer,
-            gameRepository,
-            campaignRepository,
+            new GameSnapshotCache(gameRepository, campaignRepository, budgetRepository),
             userService,
-            redisResultStore
+            redisResultStore,
+            playAdmissionService,
+            new PlayStageMetrics(meterRegistry),
+            new PlayEventLogger(meterRegistry)
         );
     }
     
@@ -90,8 +107,9 @@ class PlayIngestionServiceTest {
         assertEquals("game-456", response.getGameId());
         assertEquals("user-123", response.getUserId());
         assertEquals(PlayStatus.QUEUED, response.getStatus());
+        assertEquals(1, meterRegistry.get(PlayStageMetrics.METER_NAME).tag("stage", "validation").timer().count());
         
-        verify(playEventProducer, times(1)).publishPlayEvent(any());
+        verify(playEventProducer, times(1)).publishPlayEvent(any(), any());
     }
     
     @Test
@@ -106,7 +124,24 @@ class PlayIngestionServiceTest {
             playIngestionService.submitPlay(request)
         );
         
-        verify(playEventProducer, never()).publishPlayEvent(any());
+        verify(playEventProducer, never()).publishPlayEvent(any(), any());
+    }
+    
+    @Test
+    void testSubmitPlay_AdmissionRejected_ThrowsBeforeLookups() {
+        PlayRequest request = new PlayRequest();
+        request.setUserId("user-123");
+        request.setGameId("game-456");
+        
+        doThrow(new ServiceOverloadedException("Play processing is behind", 7))
+            .when(playAdmissionService).checkAdmission("game-456");
+        
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class, () ->
+            playIngestionService.submitPlay(request)
+        );
+        
+        assertEquals(7, ex.getRetryAfterSeconds());
+        verifyNoInteractions(userService, gameRepository, playEventProducer);
     }
     
     @Test
@@ -122,7 +157,7 @@ class PlayIngestionServiceTest {
             playIngestionService.submitPlay(request)
         );
         
-        verify(playEventProducer, never()).publishPlayEvent(any());
+        verify(playEventProducer, never()).publishPlayEvent(any(), any());
     }
     
     @Test
@@ -142,7 +177,7 @@ class PlayIngestionServiceTest {
             playIngestionService.submitPlay(request)
         );
         
-        verify(playEventProducer, never()).publishPlayEvent(any());
+        verify(playEventProducer, never()).publishPlayEvent(any(), any());
     }
     
     @Test
@@ -170,7 +205,7 @@ class PlayIngestionServiceTest {
             playIngestionService.submitPlay(request)
         );
         
-        verify(playEventProducer, never()).publishPlayEvent(any());
+        verify(playEventProducer, never()).publishPlayEvent(any(), any());
     }
     
     @Test
@@ -320,6 +355,33 @@ class PlayIngestionServiceTest {
         
         assertNotNull(response);
         assertEquals(PlayStatus.QUEUED, response.getStatus());
-        verify(playEventProducer).publishPlayEvent(any());
+        verify(playEventProducer).publishPlayEvent(any(), any());
+    }
+    
+    @Test
+    void testSubmitPlay_GameKeySpread_PassedToProducer() {
+        PlayRequest request = new PlayRequest();
+        request.setUserId("user-123");
+        request.setGameId("game-456");
+        
+        GameEntity game = new GameEntity();
+        game.setId("game-456");
+        game.setCampaignId("campaign-789");
+        game.setStatus(GameStatus.ACTIVE);
+        game.setStartTime(LocalDateTime.now().minusHours(1));
+        game.setEndTime(LocalDateTime.now().plusHours(1));
+        game.setKeySpread(4);
+        
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId("campaign-789");
+        campaign.setStatus(CampaignStatus.ACTIVE);
+        
+        when(userService.isUserValid("user-123")).thenReturn(true);
+        when(gameRepository.findById("game-456")).thenReturn(Optional.of(game));
+        when(campaignRepository.findById("campaign-789")).thenReturn(Optional.of(campaign));
+        
+        playIngestionService.submitPlay(request);
+        
+        verify(playEventProducer).publishPlayEvent(any(), eq(4));
     }
 }
@@ -0,0 +1,137 @@
+package com.frolic.services.service.scheduler;
+
+import com.frolic.core.cache.local.GameSnapshot;
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.services.service.coupon.CouponPoolService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameWarmupService
+ */
+@ExtendWith(MockitoExtension.class)
+class GameWarmupServiceTest {
+    
+    @Mock
+    private GameSnapshotCache gameSnapshotCache;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @Mock
+    private CouponPoolService couponPoolService;
+    
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private GameWarmupService warmupService;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        List<RedisScript<?>> scripts = List.of(
+            RedisScript.of("return 1", Long.class),
+            RedisScript.of("return 'ok'", String.class));
+        warmupService = new GameWarmupService(gameSnapshotCache, budgetRepository, couponPoolService,
+            stringRedisTemplate, scripts, leaderElection, meterRegistry);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWarmUp_Leader_LoadsScriptsAndPrefillsPools() {
+        stubDraftGame();
+        when(leaderElection.isLeader()).thenReturn(true);
+        
+        boolean warmed = warmupService.warmUp("game-1");
+        
+        assertThat(warmed).isTrue();
+        verify(gameSnapshotCache).getCampaign("campaign-1");
+        verify(stringRedisTemplate, times(2)).execute(any(RedisCallback.class));
+        verify(couponPoolService).refillPool("brand-1");
+        verify(couponPoolService).refillPool("brand-2");
+        assertThat(meterRegistry.get("frolic.warmup.duration").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void testWarmUp_Follower_OnlyWarmsLocalState() {
+        stubDraftGame();
+        when(leaderElection.isLeader()).thenReturn(false);
+        
+        boolean warmed = warmupService.warmUp("game-1");
+        
+        assertThat(warmed).isTrue();
+        verify(gameSnapshotCache).getCampaign("campaign-1");
+        verifyNoInteractions(stringRedisTemplate, couponPoolService);
+    }
+    
+    @Test
+    void testWarmUp_PoolRefillFails_ContinuesWithOtherBrands() {
+        stubDraftGame();
+        when(leaderElection.isLeader()).thenReturn(true);
+        when(couponPoolService.refillPool("brand-1")).thenThrow(new RuntimeException("Redis down"));
+        
+        assertThat(warmupService.warmUp("game-1")).isTrue();
+        
+        verify(couponPoolService).refillPool("brand-2");
+    }
+    
+    @Test
+    void testWarmUp_GameAlreadyActive_Skipped() {
+        when(gameSnapshotCache.getGame("game-1")).thenReturn(Optional.of(snapshot(GameStatus.ACTIVE)));
+        
+        assertThat(warmupService.warmUp("game-1")).isFalse();
+        
+        verifyNoInteractions(budgetRepository, couponPoolService, stringRedisTemplate);
+    }
+    
+    @Test
+    void testWarmUp_GameMissing_Skipped() {
+        when(gameSnapshotCache.getGame(anyString())).thenReturn(Optional.empty());
+        
+        assertThat(warmupService.warmUp("game-1")).isFalse();
+        verifyNoInteractions(leaderElection);
+    }
+    
+    private void stubDraftGame() {
+        GameSnapshot game = snapshot(GameStatus.DRAFT);
+        when(gameSnapshotCache.getGame("game-1")).thenReturn(Optional.of(game));
+        when(budgetRepository.findByGameId("game-1")).thenReturn(List.of(budget("brand-1", 100), budget("brand-2", 50)));
+    }
+    
+    private GameSnapshot snapshot(GameStatus status) {
+        return new GameSnapshot("game-1", "campaign-1", status, LocalDateTime.now().plusSeconds(30),
+            LocalDateTime.now().plusHours(1), 1, 1, List.of("brand-1", "brand-2"));
+    }
+    
+    private GameBrandBudgetEntity budget(String brandId, int totalBudget) {
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId("game-1");
+        budget.setBrandId(brandId);
+        budget.setTotalBudget(totalBudget);
+        return budget;
+    }
+}
@@ -0,0 +1,260 @@
+package com.frolic.services.service.scheduler;
+
+import com.frolic.core.common.enums.CampaignStatus;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.repository.entity.CampaignEntity;
+import com.frolic.core.repository.entity.GameEntity;
+import com.frolic.core.repository.jpa.CampaignRepository;
+import com.frolic.core.repository.jpa.GameRepository;
+import com.frolic.services.service.admin.CampaignService;
+import com.frolic.services.service.admin.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LifecycleTimerService
+ */
+@ExtendWith(MockitoExtension.class)
+class LifecycleTimerServiceTest {
+    
+    @Mock
+    private GameRepository gameRepository;
+    
+    @Mock
+    private CampaignRepository campaignRepository;
+    
+    @Mock
+    private GameService gameService;
+    
+    @Mock
+    private CampaignService campaignService;
+    
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+    
+    @Mock
+    private GameWarmupService gameWarmupService;
+    
+    private LifecycleTimerService timerService;
+    
+    @BeforeEach
+    void setUp() {
+        timerService = new LifecycleTimerService(gameRepository, campaignRepository, gameService,
+            campaignService, leaderElection, gameWarmupService, new TaskExecutorAdapter(Runnable::run), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(timerService, "enabled", true);
+        ReflectionTestUtils.setField(timerService, "warmupLeadSeconds", 30L);
+        lenient().when(leaderElection.confirmLeadership()).thenReturn(true);
+    }
+    
+    @Test
+    void testLoadTimers_DraftAndActiveGames_ScheduledAtStartAndEnd() {
+        GameEntity draft = game("game-1", GameStatus.DRAFT, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+        GameEntity active = game("game-2", GameStatus.ACTIVE, LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(3));
+        when(gameRepository.findByStatus(GameStatus.DRAFT)).thenReturn(List.of(draft));
+        when(gameRepository.findByStatus(GameStatus.ACTIVE)).thenReturn(List.of(active));
+        
+        timerService.loadTimers();
+        
+        assertThat(timerService.pendingCount()).isEqualTo(2);
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.gameKey("game-1"))).isEqualTo(millis(draft.getStartTime()));
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.gameKey("game-2"))).isEqualTo(millis(active.getEndTime()));
+        assertThat(timerService.dispatchDue()).isZero();
+    }
+    
+    @Test
+    void testDispatchDue_DraftGameDue_StartsGameAndSchedulesEnd() {
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().minusSeconds(1), LocalDateTime.now().plusHours(1));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        when(gameService.startGame("game-1")).thenAnswer(invocation -> {
+            game.setStatus(GameStatus.ACTIVE);
+            return null;
+        });
+        
+        timerService.rescheduleGame("game-1");
+        timerService.dispatchDue();
+        
+        verify(gameService).startGame("game-1");
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.gameKey("game-1"))).isEqualTo(millis(game.getEndTime()));
+    }
+    
+    @Test
+    void testDispatchDue_ActiveGamePastEnd_StopsGameAndDropsTimer() {
+        GameEntity game = game("game-1", GameStatus.ACTIVE, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusSeconds(1));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        when(gameService.stopGame("game-1")).thenAnswer(invocation -> {
+            game.setStatus(GameStatus.ENDED);
+            return null;
+        });
+        
+        timerService.rescheduleGame("game-1");
+        timerService.dispatchDue();
+        
+        verify(gameService).stopGame("game-1");
+        assertThat(timerService.pendingCount()).isZero();
+    }
+    
+    @Test
+    void testRescheduleGame_StartMovedLater_StaleTimerSkipped() {
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().minusSeconds(1), LocalDateTime.now().plusHours(2));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        
+        timerService.rescheduleGame("game-1");
+        game.setStartTime(LocalDateTime.now().plusHours(1));
+        timerService.rescheduleGame("game-1");
+        
+        assertThat(timerService.dispatchDue()).isEqualTo(1);
+        verify(gameService, never()).startGame(anyString());
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.gameKey("game-1"))).isEqualTo(millis(game.getStartTime()));
+    }
+    
+    @Test
+    void testRescheduleGame_GameDeleted_DropsTimer() {
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game)).thenReturn(Optional.empty());
+        
+        timerService.rescheduleGame("game-1");
+        timerService.rescheduleGame("game-1");
+        
+        assertThat(timerService.pendingCount()).isZero();
+    }
+    
+    @Test
+    void testDispatchDue_ActiveCampaignPastEnd_EndsCampaign() {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId("campaign-1");
+        campaign.setName("Campaign 1");
+        campaign.setStatus(CampaignStatus.ACTIVE);
+        campaign.setStartDate(LocalDateTime.now().minusDays(1));
+        campaign.setEndDate(LocalDateTime.now().minusSeconds(1));
+        when(campaignRepository.findById("campaign-1")).thenReturn(Optional.of(campaign));
+        when(campaignService.endCampaign("campaign-1")).thenAnswer(invocation -> {
+            campaign.setStatus(CampaignStatus.ENDED);
+            return null;
+        });
+        
+        timerService.rescheduleCampaign("campaign-1");
+        timerService.dispatchDue();
+        
+        verify(campaignService).endCampaign("campaign-1");
+        assertThat(timerService.pendingCount()).isZero();
+    }
+    
+    @Test
+    void testDispatchDue_TransitionFails_LeavesItToSweep() {
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().minusSeconds(1), LocalDateTime.now().plusHours(1));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        when(gameService.startGame("game-1")).thenThrow(new RuntimeException("Redis down"));
+        
+        timerService.rescheduleGame("game-1");
+        
+        assertThatCode(() -> timerService.dispatchDue()).doesNotThrowAnyException();
+        assertThat(timerService.pendingCount()).isZero();
+    }
+    
+    @Test
+    void testDispatchDue_NotLeader_LeavesTransitionToLeader() {
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().minusSeconds(1), LocalDateTime.now().plusHours(1));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        when(leaderElection.confirmLeadership()).thenReturn(false);
+        
+        timerService.rescheduleGame("game-1");
+        timerService.dispatchDue();
+        
+        verify(gameService, never()).startGame(anyString());
+        assertThat(timerService.pendingCount()).isZero();
+    }
+    
+    @Test
+    void testOnLeadershipChange_BecameLeader_ReloadsTimers() {
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+        when(gameRepository.findByStatus(GameStatus.DRAFT)).thenReturn(List.of(game));
+        
+        timerService.onLeadershipChange(new SchedulerLeadershipEvent(false, 3));
+        assertThat(timerService.pendingCount()).isZero();
+        
+        timerService.onLeadershipChange(new SchedulerLeadershipEvent(true, 4));
+        assertThat(timerService.pendingCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void testRescheduleGame_WarmupEnabled_SchedulesWarmupBeforeStart() {
+        ReflectionTestUtils.setField(timerService, "warmupEnabled", true);
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        
+        timerService.rescheduleGame("game-1");
+        
+        assertThat(timerService.pendingCount()).isEqualTo(2);
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.warmupKey("game-1")))
+            .isEqualTo(millis(game.getStartTime().minusSeconds(30)));
+    }
+    
+    @Test
+    void testDispatchDue_WarmupDue_WarmsUpWithoutLeadershipCheck() {
+        ReflectionTestUtils.setField(timerService, "warmupEnabled", true);
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().plusSeconds(10), LocalDateTime.now().plusHours(1));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        
+        timerService.rescheduleGame("game-1");
+        
+        assertThat(timerService.dispatchDue()).isEqualTo(1);
+        verify(gameWarmupService).warmUp("game-1");
+        verify(leaderElection, never()).confirmLeadership();
+        verify(gameService, never()).startGame(anyString());
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.gameKey("game-1"))).isEqualTo(millis(game.getStartTime()));
+    }
+    
+    @Test
+    void testRescheduleGame_GameStarted_DropsWarmup() {
+        ReflectionTestUtils.setField(timerService, "warmupEnabled", true);
+        GameEntity game = game("game-1", GameStatus.DRAFT, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+        when(gameRepository.findById("game-1")).thenReturn(Optional.of(game));
+        
+        timerService.rescheduleGame("game-1");
+        game.setStatus(GameStatus.ACTIVE);
+        timerService.rescheduleGame("game-1");
+        
+        assertThat(timerService.pendingFireAt(LifecycleTimerService.warmupKey("game-1"))).isNull();
+        assertThat(timerService.dispatchDue()).isZero();
+        verifyNoInteractions(gameWarmupService);
+    }
+    
+    @Test
+    void testRescheduleGame_Disabled_DoesNothing() {
+        ReflectionTestUtils.setField(timerService, "enabled", false);
+        
+        timerService.rescheduleGame("game-1");
+        
+        verifyNoInteractions(gameRepository);
+        assertThat(timerService.pendingCount()).isZero();
+    }
+    
+    private GameEntity game(String id, GameStatus status, LocalDateTime startTime, LocalDateTime endTime) {
+        GameEntity game = new GameEntity();
+        game.setId(id);
+        game.setName("Game " + id);
+        game.setStatus(status);
+        game.setStartTime(startTime);
+        game.setEndTime(endTime);
+        return game;
+    }
+    
+    private long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
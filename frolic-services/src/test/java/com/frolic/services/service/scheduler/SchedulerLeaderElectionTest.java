@@ -0,0 +1,144 @@
+package com.frolic.services.service.scheduler;
+
+import com.frolic.core.common.constant.RedisKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SchedulerLeaderElection
+ */
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaderElectionTest {
+    
+    @Mock
+    private RedissonClient redissonClient;
+    
+    @Mock
+    private RLock lock;
+    
+    @Mock
+    private RAtomicLong epoch;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private SchedulerLeaderElection election;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        election = new SchedulerLeaderElection(redissonClient, eventPublisher, meterRegistry);
+        ReflectionTestUtils.setField(election, "enabled", true);
+        ReflectionTestUtils.setField(election, "heartbeatMs", 1000L);
+        lenient().when(redissonClient.getLock(RedisKeys.SCHEDULER_LEADER_LOCK_KEY)).thenReturn(lock);
+        lenient().when(redissonClient.getAtomicLong(RedisKeys.SCHEDULER_LEADER_EPOCH_KEY)).thenReturn(epoch);
+    }
+    
+    @Test
+    void testHeartbeat_LockFree_BecomesLeaderWithNewToken() {
+        when(lock.tryLock()).thenReturn(true);
+        when(epoch.incrementAndGet()).thenReturn(7L);
+        
+        election.heartbeat();
+        
+        assertThat(election.isLeader()).isTrue();
+        verify(eventPublisher).publishEvent(new SchedulerLeadershipEvent(true, 7));
+        assertThat(meterRegistry.get("frolic.scheduler.leader").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("frolic.scheduler.leader.fencing-token").gauge().value()).isEqualTo(7.0);
+        assertThat(meterRegistry.get("frolic.scheduler.leadership.changes").tag("change", "acquired").counter().count())
+            .isEqualTo(1.0);
+    }
+    
+    @Test
+    void testHeartbeat_LockHeldElsewhere_StaysFollower() {
+        when(lock.tryLock()).thenReturn(false);
+        
+        election.heartbeat();
+        
+        assertThat(election.isLeader()).isFalse();
+        assertThat(election.confirmLeadership()).isFalse();
+        verifyNoInteractions(epoch, eventPublisher);
+    }
+    
+    @Test
+    void testHeartbeat_LeaderLosesLock_StepsDown() {
+        becomeLeader(7L);
+        when(lock.isHeldByCurrentThread()).thenReturn(false);
+        
+        election.heartbeat();
+        
+        assertThat(election.isLeader()).isFalse();
+        verify(eventPublisher).publishEvent(new SchedulerLeadershipEvent(false, 7));
+        assertThat(meterRegistry.get("frolic.scheduler.leadership.changes").tag("change", "lost").counter().count())
+            .isEqualTo(1.0);
+    }
+    
+    @Test
+    void testHeartbeat_LeaderStillHoldsLock_StaysLeader() {
+        becomeLeader(7L);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        
+        election.heartbeat();
+        
+        assertThat(election.isLeader()).isTrue();
+        verify(lock, times(1)).tryLock();
+    }
+    
+    @Test
+    void testHeartbeat_RedisFails_StepsDown() {
+        becomeLeader(7L);
+        when(lock.isHeldByCurrentThread()).thenThrow(new RuntimeException("Redis unavailable"));
+        
+        election.heartbeat();
+        
+        assertThat(election.isLeader()).isFalse();
+    }
+    
+    @Test
+    void testConfirmLeadership_LatestToken_Confirmed() {
+        becomeLeader(7L);
+        when(epoch.get()).thenReturn(7L);
+        
+        assertThat(election.confirmLeadership()).isTrue();
+    }
+    
+    @Test
+    void testConfirmLeadership_NewerLeaderElected_Fenced() {
+        becomeLeader(7L);
+        when(epoch.get()).thenReturn(8L);
+        
+        assertThat(election.confirmLeadership()).isFalse();
+    }
+    
+    @Test
+    void testStart_ElectionDisabled_LeadsWithoutRedis() {
+        ReflectionTestUtils.setField(election, "enabled", false);
+        
+        election.start();
+        
+        assertThat(election.isLeader()).isTrue();
+        assertThat(election.confirmLeadership()).isTrue();
+        verifyNoInteractions(redissonClient);
+    }
+    
+    private void becomeLeader(long token) {
+        when(lock.tryLock()).thenReturn(true);
+        when(epoch.incrementAndGet()).thenReturn(token);
+        election.heartbeat();
+        assertThat(election.isLeader()).isTrue();
+    }
+}
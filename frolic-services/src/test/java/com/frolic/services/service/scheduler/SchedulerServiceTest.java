@@ -6,6 +6,7 @@ import com.frolic.core.repository.jpa.CampaignRepository;
 import com.frolic.core.repository.jpa.GameRepository;
 import com.frolic.services.service.admin.CampaignService;
 import com.frolic.services.service.admin.GameService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -39,9 +40,17 @@ class SchedulerServiceTest {
     @Mock
     private GameService gameService;
     
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+    
     @InjectMocks
     private SchedulerService schedulerService;
     
+    @BeforeEach
+    void setUp() {
+        lenient().when(leaderElection.confirmLeadership()).thenReturn(true);
+    }
+    
     @Test
     void testAutoStartCampaigns_WithCampaignsReadyToStart_StartsThem() {
         CampaignEntity campaign1 = createCampaignEntity("campaign-1", "Campaign 1");
@@ -230,6 +239,18 @@ class SchedulerServiceTest {
         );
     }
     
+    @Test
+    void testSweeps_NotLeader_SkipDatabase() {
+        when(leaderElection.confirmLeadership()).thenReturn(false);
+        
+        schedulerService.autoStartCampaigns();
+        schedulerService.autoEndCampaigns();
+        schedulerService.autoStartGames();
+        schedulerService.autoEndGames();
+        
+        verifyNoInteractions(campaignRepository, gameRepository, campaignService, gameService);
+    }
+    
     private CampaignEntity createCampaignEntity(String id, String name) {
         CampaignEntity entity = new CampaignEntity();
         entity.setId(id);
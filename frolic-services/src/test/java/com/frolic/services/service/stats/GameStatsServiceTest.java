@@ -0,0 +1,96 @@
+package com.frolic.services.service.stats;
+
+import com.frolic.core.common.dto.GameStatsDto;
+import com.frolic.core.engine.stats.PlayStatsAggregator;
+import com.frolic.core.engine.stats.PlayStatsDelta;
+import com.frolic.core.repository.entity.GamePlayStatsEntity;
+import com.frolic.core.repository.jpa.GameBrandStatsRepository;
+import com.frolic.core.repository.jpa.GamePlayStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameStatsService
+ */
+@ExtendWith(MockitoExtension.class)
+class GameStatsServiceTest {
+    
+    @Mock
+    private PlayStatsAggregator playStatsAggregator;
+    
+    @Mock
+    private GamePlayStatsRepository gamePlayStatsRepository;
+    
+    @Mock
+    private GameBrandStatsRepository gameBrandStatsRepository;
+    
+    @InjectMocks
+    private GameStatsService gameStatsService;
+    
+    @Test
+    void testFlush_NoDeltas_SkipsDatabase() {
+        when(playStatsAggregator.drainDeltas()).thenReturn(Collections.emptyList());
+        
+        gameStatsService.flush();
+        
+        verify(gamePlayStatsRepository, never()).upsertDeltas(anyList());
+    }
+    
+    @Test
+    void testFlush_WithDeltas_UpsertsBatch() {
+        List<PlayStatsDelta> deltas = List.of(
+            new PlayStatsDelta("game-1", null, LocalDateTime.now(), 10, 1));
+        when(playStatsAggregator.drainDeltas()).thenReturn(deltas);
+        
+        gameStatsService.flush();
+        
+        verify(gamePlayStatsRepository).upsertDeltas(deltas);
+        verify(playStatsAggregator, never()).restore(anyList());
+    }
+    
+    @Test
+    void testFlush_UpsertFails_RestoresDeltas() {
+        List<PlayStatsDelta> deltas = List.of(
+            new PlayStatsDelta("game-1", null, LocalDateTime.now(), 10, 1));
+        when(playStatsAggregator.drainDeltas()).thenReturn(deltas);
+        doThrow(new RuntimeException("DB down")).when(gamePlayStatsRepository).upsertDeltas(deltas);
+        
+        gameStatsService.flush();
+        
+        verify(playStatsAggregator).restore(deltas);
+    }
+    
+    @Test
+    void testGetGameStats_AggregatesRollupRows() {
+        LocalDateTime minute = LocalDateTime.of(2025, 1, 1, 12, 0);
+        GamePlayStatsEntity first = new GamePlayStatsEntity("game-1", minute, 100, 3, minute);
+        GamePlayStatsEntity second = new GamePlayStatsEntity("game-1", minute.plusMinutes(1), 50, 2, minute);
+        GameBrandStatsRepository.BrandWinners brandWinners = mock(GameBrandStatsRepository.BrandWinners.class);
+        when(brandWinners.getBrandId()).thenReturn("brand-1");
+        when(brandWinners.getWinners()).thenReturn(5L);
+        
+        when(gamePlayStatsRepository.findByGameIdOrderByBucketStartAsc("game-1"))
+            .thenReturn(Arrays.asList(first, second));
+        when(gameBrandStatsRepository.sumWinnersByBrand("game-1"))
+            .thenReturn(Collections.singletonList(brandWinners));
+        
+        GameStatsDto stats = gameStatsService.getGameStats("game-1");
+        
+        assertThat(stats.getTotalPlays()).isEqualTo(150);
+        assertThat(stats.getTotalWinners()).isEqualTo(5);
+        assertThat(stats.getMinutes()).hasSize(2);
+        assertThat(stats.getWinnersByBrand()).containsEntry("brand-1", 5L);
+    }
+}
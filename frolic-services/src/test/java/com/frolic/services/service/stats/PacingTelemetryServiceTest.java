@@ -0,0 +1,233 @@
+package com.frolic.services.service.stats;
+
+import com.frolic.core.cache.local.GameSnapshot;
+import com.frolic.core.cache.local.GameSnapshotCache;
+import com.frolic.core.cache.store.RedisBudgetStore;
+import com.frolic.core.common.constant.RedisKeys;
+import com.frolic.core.common.dto.PacingReportDto;
+import com.frolic.core.common.enums.GameStatus;
+import com.frolic.core.common.exception.ResourceNotFoundException;
+import com.frolic.core.repository.entity.GameBrandBudgetEntity;
+import com.frolic.core.repository.jpa.GameBrandBudgetRepository;
+import com.frolic.core.repository.jpa.GamePacingSampleRepository;
+import com.frolic.core.repository.jpa.PacingSampleUpsertRepository.PacingSampleRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PacingTelemetryService
+ */
+@ExtendWith(MockitoExtension.class)
+class PacingTelemetryServiceTest {
+    
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime END = START.plusSeconds(100);
+    
+    @Mock
+    private GameSnapshotCache gameSnapshotCache;
+    
+    @Mock
+    private GameBrandBudgetRepository budgetRepository;
+    
+    @Mock
+    private RedisBudgetStore redisBudgetStore;
+    
+    @Mock
+    private GamePacingSampleRepository pacingSampleRepository;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private PacingTelemetryService pacingTelemetry;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pacingTelemetry = new PacingTelemetryService(gameSnapshotCache, budgetRepository, redisBudgetStore,
+            pacingSampleRepository, meterRegistry);
+        ReflectionTestUtils.setField(pacingTelemetry, "maxGames", 2);
+        ReflectionTestUtils.setField(pacingTelemetry, "ringSize", 3);
+    }
+    
+    @Test
+    void testSample_SlotEnded_RecordsRemainingAgainstIdeal() {
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        pacingTelemetry.sample(START.plusSeconds(5));
+        pacingTelemetry.recordPlay("game-1", true);
+        pacingTelemetry.recordPlay("game-1", false);
+        pacingTelemetry.recordPlay("game-1", false);
+        when(redisBudgetStore.getBudgetValues(budgetKeys("game-1"))).thenReturn(Arrays.asList("400", "350"));
+        
+        pacingTelemetry.sample(START.plusSeconds(10));
+        
+        PacingReportDto.Sample sample = pacingTelemetry.getReport("game-1").getSamples().get(0);
+        assertThat(sample.getSlotStart()).isEqualTo(START);
+        assertThat(sample.getSlotEnd()).isEqualTo(START.plusSeconds(10));
+        assertThat(sample.getPlays()).isEqualTo(3);
+        assertThat(sample.getWinners()).isEqualTo(1);
+        assertThat(sample.getRemainingBudget()).isEqualTo(750);
+        assertThat(sample.getIdealRemainingBudget()).isEqualTo(900);
+        assertThat(meterRegistry.get("frolic.pacing.remaining-budget").tag("game", "game-1").gauge().value()).isEqualTo(750.0);
+        assertThat(meterRegistry.get("frolic.pacing.slot-plays").tag("game", "game-1").gauge().value()).isEqualTo(3.0);
+    }
+    
+    @Test
+    void testSample_SlotStillOpen_DoesNotReadBudgets() {
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        
+        pacingTelemetry.sample(START.plusSeconds(3));
+        pacingTelemetry.sample(START.plusSeconds(9));
+        
+        verify(redisBudgetStore, never()).getBudgetValues(anyList());
+        assertThat(pacingTelemetry.getReport("game-1").getSamples()).isEmpty();
+    }
+    
+    @Test
+    void testSample_TickMissedSlots_MergesThemAndStopsAtEnd() {
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        pacingTelemetry.sample(START.plusSeconds(75));
+        pacingTelemetry.recordPlay("game-1", false);
+        when(redisBudgetStore.getBudgetValues(budgetKeys("game-1"))).thenReturn(Arrays.asList("10", null));
+        
+        pacingTelemetry.sample(END.plusSeconds(30));
+        pacingTelemetry.sample(END.plusSeconds(60));
+        
+        List<PacingReportDto.Sample> samples = pacingTelemetry.getReport("game-1").getSamples();
+        assertThat(samples).hasSize(1);
+        assertThat(samples.get(0).getSlotStart()).isEqualTo(START.plusSeconds(70));
+        assertThat(samples.get(0).getSlotEnd()).isEqualTo(END);
+        assertThat(samples.get(0).getRemainingBudget()).isEqualTo(10);
+        assertThat(samples.get(0).getIdealRemainingBudget()).isZero();
+        verify(redisBudgetStore, times(1)).getBudgetValues(anyList());
+    }
+    
+    @Test
+    void testSample_RingFull_KeepsMostRecentSamples() {
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        when(redisBudgetStore.getBudgetValues(budgetKeys("game-1"))).thenReturn(Arrays.asList("500", "500"));
+        
+        for (int second = 0; second <= 50; second += 10) {
+            pacingTelemetry.sample(START.plusSeconds(second));
+        }
+        
+        assertThat(pacingTelemetry.getReport("game-1").getSamples())
+            .extracting(PacingReportDto.Sample::getSlotStart)
+            .containsExactly(START.plusSeconds(20), START.plusSeconds(30), START.plusSeconds(40));
+    }
+    
+    @Test
+    void testTrack_GameLimitReached_IgnoresGame() {
+        pacingTelemetry.track("game-1");
+        pacingTelemetry.track("game-2");
+        pacingTelemetry.recordPlay("game-3", true);
+        
+        assertThatThrownBy(() -> pacingTelemetry.getReport("game-3"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+    
+    @Test
+    void testSample_GameEnded_StopsTracking() {
+        GameSnapshot ended = new GameSnapshot("game-1", "campaign-1", GameStatus.ENDED, START, END, 10, null, List.of("brand-1"));
+        when(gameSnapshotCache.getGame("game-1")).thenReturn(Optional.of(ended));
+        pacingTelemetry.track("game-1");
+        
+        pacingTelemetry.sample(START.plusSeconds(20));
+        
+        assertThatThrownBy(() -> pacingTelemetry.getReport("game-1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(meterRegistry.find("frolic.pacing.remaining-budget").gauges()).isEmpty();
+    }
+    
+    @Test
+    void testEvictGame_RemovesGauges() {
+        pacingTelemetry.track("game-1");
+        
+        pacingTelemetry.evictGame("game-1");
+        
+        assertThat(meterRegistry.find("frolic.pacing.remaining-budget").tag("game", "game-1").gauges()).isEmpty();
+    }
+    
+    @Test
+    void testPersist_Enabled_UpsertsSamples() {
+        ReflectionTestUtils.setField(pacingTelemetry, "persistenceEnabled", true);
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        when(redisBudgetStore.getBudgetValues(budgetKeys("game-1"))).thenReturn(Arrays.asList("400", "400"));
+        pacingTelemetry.sample(START);
+        pacingTelemetry.sample(START.plusSeconds(10));
+        
+        pacingTelemetry.persist();
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PacingSampleRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pacingSampleRepository).upsertSamples(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+            new PacingSampleRow("game-1", START, START.plusSeconds(10), 0, 0, 800, 900));
+    }
+    
+    @Test
+    void testPersist_Failure_RetriesNextCycle() {
+        ReflectionTestUtils.setField(pacingTelemetry, "persistenceEnabled", true);
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        when(redisBudgetStore.getBudgetValues(budgetKeys("game-1"))).thenReturn(Arrays.asList("400", "400"));
+        pacingTelemetry.sample(START);
+        pacingTelemetry.sample(START.plusSeconds(10));
+        doThrow(new RuntimeException("db down")).doNothing().when(pacingSampleRepository).upsertSamples(anyList());
+        
+        pacingTelemetry.persist();
+        pacingTelemetry.persist();
+        
+        verify(pacingSampleRepository, times(2)).upsertSamples(argThat(rows -> rows.size() == 1));
+    }
+    
+    @Test
+    void testPersist_Disabled_SkipsDatabase() {
+        stubGame("game-1");
+        pacingTelemetry.track("game-1");
+        when(redisBudgetStore.getBudgetValues(budgetKeys("game-1"))).thenReturn(Arrays.asList("400", "400"));
+        pacingTelemetry.sample(START);
+        pacingTelemetry.sample(START.plusSeconds(10));
+        
+        pacingTelemetry.persist();
+        
+        verifyNoInteractions(pacingSampleRepository);
+    }
+    
+    private void stubGame(String gameId) {
+        GameSnapshot game = new GameSnapshot(gameId, "campaign-1", GameStatus.ACTIVE, START, END, 10, null,
+            List.of("brand-1", "brand-2"));
+        when(gameSnapshotCache.getGame(gameId)).thenReturn(Optional.of(game));
+        when(budgetRepository.findByGameId(gameId)).thenReturn(List.of(budget(gameId, "brand-1"), budget(gameId, "brand-2")));
+    }
+    
+    private GameBrandBudgetEntity budget(String gameId, String brandId) {
+        GameBrandBudgetEntity budget = new GameBrandBudgetEntity();
+        budget.setGameId(gameId);
+        budget.setBrandId(brandId);
+        budget.setTotalBudget(500);
+        return budget;
+    }
+    
+    private List<String> budgetKeys(String gameId) {
+        return List.of(RedisKeys.budgetKey(gameId, "brand-1"), RedisKeys.budgetKey(gameId, "brand-2"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.frolic.services.service.stats;
+
+import com.frolic.core.common.dto.PlayLatencyDto;
+import com.frolic.core.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PlayLatencyRecorder
+ */
+class PlayLatencyRecorderTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private PlayLatencyRecorder latencyRecorder;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        latencyRecorder = new PlayLatencyRecorder(meterRegistry);
+        ReflectionTestUtils.setField(latencyRecorder, "maxGames", 2);
+        ReflectionTestUtils.setField(latencyRecorder, "windowMs", 10000L);
+        ReflectionTestUtils.setField(latencyRecorder, "reelDurationSeconds", 10);
+    }
+    
+    @Test
+    void testGetLatency_AfterRotate_ReportsWindowPercentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DELIVERED, i * 12L);
+        }
+        
+        latencyRecorder.rotate();
+        PlayLatencyDto.LegLatency delivered = latencyRecorder.getLatency("game-1").getLegs().get("delivered");
+        
+        assertThat(delivered.getCount()).isEqualTo(1000);
+        assertThat(delivered.getP50Ms()).isCloseTo(6000L, withinPercentage(2));
+        assertThat(delivered.getP99Ms()).isCloseTo(11880L, withinPercentage(2));
+        assertThat(delivered.getP999Ms()).isCloseTo(11988L, withinPercentage(2));
+        assertThat(delivered.getWithinReelPercent()).isCloseTo(83.3, within(1.0));
+    }
+    
+    @Test
+    void testGetLatency_BeforeRotate_ReportsPreviousWindow() {
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.STORED, 500);
+        
+        assertThat(latencyRecorder.getLatency("game-1").getLegs().get("stored").getCount()).isZero();
+        
+        latencyRecorder.rotate();
+        latencyRecorder.rotate();
+        assertThat(latencyRecorder.getLatency("game-1").getLegs().get("stored").getCount()).isZero();
+    }
+    
+    @Test
+    void testRotate_PublishesQuantileGauges() {
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DECIDED, 40);
+        
+        latencyRecorder.rotate();
+        
+        double p99 = meterRegistry.get(PlayLatencyRecorder.METER_NAME)
+            .tags("leg", "decided", "game", "game-1", "quantile", "0.99").gauge().value();
+        assertThat(p99).isCloseTo(40.0, within(1.0));
+    }
+    
+    @Test
+    void testRecord_GameLimitReached_FallsBackToOther() {
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.STORED, 10);
+        latencyRecorder.record("game-2", PlayLatencyRecorder.Leg.STORED, 10);
+        latencyRecorder.record("game-3", PlayLatencyRecorder.Leg.STORED, 10);
+        
+        assertThatThrownBy(() -> latencyRecorder.getLatency("game-3"))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(meterRegistry.find(PlayLatencyRecorder.METER_NAME).tag("game", PlayLatencyRecorder.OTHER_GAME).gauges())
+            .isNotEmpty();
+    }
+    
+    @Test
+    void testRecordSinceSubmit_UnknownSubmitTime_RecordsNothing() {
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DELIVERED, 10);
+        latencyRecorder.recordSinceSubmit("game-1", PlayLatencyRecorder.Leg.DELIVERED, null);
+        
+        latencyRecorder.rotate();
+        
+        assertThat(latencyRecorder.getLatency("game-1").getLegs().get("delivered").getCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void testEvictGame_RemovesGaugesAndHistograms() {
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DELIVERED, 10);
+        
+        latencyRecorder.evictGame("game-1");
+        
+        assertThat(meterRegistry.find(PlayLatencyRecorder.METER_NAME).tag("game", "game-1").gauges()).isEmpty();
+        assertThatThrownBy(() -> latencyRecorder.getLatency("game-1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+    
+    @Test
+    void testRecord_AfterEvict_IdleGameDroppedAtRotation() {
+        ReflectionTestUtils.setField(latencyRecorder, "idleMs", 20000L);
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DECIDED, 10);
+        latencyRecorder.evictGame("game-1");
+        
+        // A result delivered after the stop tracks the game again
+        latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DELIVERED, 10000);
+        latencyRecorder.rotate();
+        latencyRecorder.rotate();
+        latencyRecorder.rotate();
+        
+        assertThat(meterRegistry.find(PlayLatencyRecorder.METER_NAME).tag("game", "game-1").gauges()).isEmpty();
+        assertThatThrownBy(() -> latencyRecorder.getLatency("game-1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+    
+    @Test
+    void testRotate_GameStillRecording_KeepsIt() {
+        ReflectionTestUtils.setField(latencyRecorder, "idleMs", 20000L);
+        for (int i = 0; i < 3; i++) {
+            latencyRecorder.record("game-1", PlayLatencyRecorder.Leg.DECIDED, 10);
+            latencyRecorder.rotate();
+        }
+        
+        assertThat(latencyRecorder.getLatency("game-1").getLegs().get("decided").getCount()).isEqualTo(1);
+    }
+}
@@ -2,6 +2,8 @@ package com.frolic.services.service.websocket;
 
 import com.frolic.core.cache.store.RedisResultStore;
 import com.frolic.core.common.dto.PlayResultDto;
+import com.frolic.core.common.metrics.PlayStageMetrics;
+import com.frolic.services.service.stats.PlayLatencyRecorder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +31,12 @@ class ResultPollingServiceTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
     
+    @Mock
+    private PlayStageMetrics stageMetrics;
+    
+    @Mock
+    private PlayLatencyRecorder latencyRecorder;
+    
     @InjectMocks
     private ResultPollingService resultPollingService;
     
@@ -64,6 +72,7 @@ class ResultPollingServiceTest {
         assertThat(destinationCaptor.getValue()).isEqualTo("/topic/result/" + playId);
         assertThat(resultCaptor.getValue().getPlayId()).isEqualTo(playId);
         assertThat(resultCaptor.getValue().isWinner()).isTrue();
+        verify(latencyRecorder).recordSinceSubmit(null, PlayLatencyRecorder.Leg.DELIVERED, null);
     }
     
     @Test